@@ -0,0 +1,50 @@
+package pl.zimowski.karty.benchmarks;
+
+import java.util.Random;
+
+import pl.zimowski.karty.HandEngine;
+
+/**
+ * Deterministic sources of hands shared by the benchmarks. Every benchmark
+ * works off a fixed seed so that consecutive runs (and releases) measure
+ * exactly the same work.
+ *
+ * @author Adam Zimowski
+ */
+final class BenchmarkHands {
+
+	static final long SEED = 0x6b61727479L;
+
+	private BenchmarkHands() {
+	}
+
+	/**
+	 * @param aCount number of masks to generate
+	 * @param aCards number of cards in each mask
+	 * @return random hand masks, each containing exactly aCards cards
+	 */
+	static long[] randomMasks(int aCount, int aCards) {
+		Random rand = new Random(SEED ^ aCards);
+		long[] masks = new long[aCount];
+		for(int i = 0; i < aCount; i++) {
+			long mask = 0L;
+			while(HandEngine.BitCount(mask) < aCards)
+				mask |= HandEngine.lookupMaskByIndex(rand.nextInt(HandEngine.NUMBER_OF_CARDS));
+			masks[i] = mask;
+		}
+		return masks;
+	}
+
+	/**
+	 * @param aCount number of strings to generate
+	 * @param aCards number of cards in each string
+	 * @return random hands in a text form understood by parseHand
+	 */
+	static String[] randomStrings(int aCount, int aCards) {
+		long[] masks = randomMasks(aCount, aCards);
+		String[] hands = new String[aCount];
+		for(int i = 0; i < aCount; i++)
+			hands[i] = HandEngine.MaskToString(masks[i]);
+		return hands;
+	}
+}
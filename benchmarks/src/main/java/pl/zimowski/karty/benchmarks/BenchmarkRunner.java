@@ -0,0 +1,55 @@
+package pl.zimowski.karty.benchmarks;
+
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmarks jar. Accepts regular JMH command line
+ * options, but unless told otherwise always attaches the GC profiler (so
+ * allocation rate is reported next to ops/s) and writes results as JSON to
+ * a time stamped file, so that runs can be archived and compared release
+ * over release:
+ *
+ * <pre>
+ * java -jar target/benchmarks.jar                   # everything
+ * java -jar target/benchmarks.jar Evaluate -p cards=7
+ * java -jar target/benchmarks.jar -rff baseline.json
+ * </pre>
+ *
+ * @author Adam Zimowski
+ */
+public class BenchmarkRunner {
+
+	public static void main(String[] args) throws Exception {
+
+		CommandLineOptions cmd = new CommandLineOptions(args);
+
+		if(cmd.shouldHelp() || cmd.shouldList() || cmd.shouldListProfilers() ||
+				cmd.shouldListResultFormats() || cmd.shouldListWithParams()) {
+			org.openjdk.jmh.Main.main(args);
+			return;
+		}
+
+		ChainedOptionsBuilder options = new OptionsBuilder().parent(cmd);
+
+		if(cmd.getProfilers().isEmpty())
+			options.addProfiler(GCProfiler.class);
+
+		if(!cmd.getResultFormat().hasValue())
+			options.resultFormat(ResultFormatType.JSON);
+
+		if(!cmd.getResult().hasValue()) {
+			String stamp = new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date());
+			options.result("karty-jmh-" + stamp + ".json");
+		}
+
+		new Runner(options.build()).run();
+	}
+}
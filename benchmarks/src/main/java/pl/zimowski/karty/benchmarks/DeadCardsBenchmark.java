@@ -0,0 +1,73 @@
+package pl.zimowski.karty.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import pl.zimowski.karty.HandEngine;
+
+/**
+ * Enumeration cost as more and more cards are dead, up to nine pockets and
+ * a flop (21 cards). One operation is one complete enumeration of
+ * C(52 - dead, n) hands; divide the average time by that count for the cost
+ * of a single hand, which should stay flat as live cards shrink instead of
+ * growing with the number of rejected candidates.
+ *
+ * @author Adam Zimowski
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class DeadCardsBenchmark {
+
+	// pockets of nine players followed by a flop, dealt off the top
+	static final String DEAL = "As Ks Qd Qh Tc 9c 8s 8d 7h 6h 5c 5d 4s 3s 2h 2d Jc Js 9h 6d 3c";
+
+	@Param({"0", "4", "12", "21"})
+	int dead;
+
+	long deadmask;
+
+	@Setup
+	public void setup() {
+		String[] cards = DEAL.split(" ");
+		for(int i = 0; i < dead; i++)
+			deadmask |= HandEngine.parseHand(cards[i]);
+	}
+
+	@Benchmark
+	public void boardsForEachHand(Blackhole bh) {
+		HandEngine.forEachHand(0L, deadmask, 5, bh::consume);
+	}
+
+	@Benchmark
+	public void boardsHandIteratorEx(Blackhole bh) {
+		for(long mask : HandEngine.Hands(0L, deadmask, 5))
+			bh.consume(mask);
+	}
+
+	@Benchmark
+	public void pocketsForEachHand(Blackhole bh) {
+		HandEngine.forEachHand(0L, deadmask, 2, bh::consume);
+	}
+
+	@Benchmark
+	public void pocketsHandIteratorEx(Blackhole bh) {
+		for(long mask : HandEngine.Hands(0L, deadmask, 2))
+			bh.consume(mask);
+	}
+}
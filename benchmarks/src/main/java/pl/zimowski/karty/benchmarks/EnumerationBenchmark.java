@@ -0,0 +1,222 @@
+package pl.zimowski.karty.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import pl.zimowski.karty.HandEngine;
+import pl.zimowski.karty.HandIndex;
+import pl.zimowski.karty.IndexedHandIterator;
+import pl.zimowski.karty.PartialHand;
+
+/**
+ * Cost of walking the hand space, with and without the iterator
+ * abstraction. One operation is one complete enumeration, so ops/s is the
+ * number of full passes per second (multiply by C(n,k) for hands per
+ * second). Ported from the former wall clock BenchmarkTest.
+ *
+ * @author Adam Zimowski
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class EnumerationBenchmark {
+
+	// As Ks pocket, Qs Jh 2c flop
+	static final long POCKET = HandEngine.parseHand("As Ks");
+	static final long FLOP = HandEngine.parseHand("Qs Jh 2c");
+
+	@Benchmark
+	public void fiveCardHandIterator(Blackhole bh) {
+		for(long mask : HandEngine.Hands(5))
+			bh.consume(mask);
+	}
+
+	@Benchmark
+	public void fiveCardForEachHand(Blackhole bh) {
+		HandEngine.forEachHand(5, bh::consume);
+	}
+
+	@Benchmark
+	public void fiveCardInlined(Blackhole bh) {
+		long[] table = HandEngine._cardMasksTable;
+		for(int i1 = HandEngine.NUMBER_OF_CARDS - 1; i1 >= 0; i1--) {
+			long card1 = table[i1];
+			for(int i2 = i1 - 1; i2 >= 0; i2--) {
+				long n2 = card1 | table[i2];
+				for(int i3 = i2 - 1; i3 >= 0; i3--) {
+					long n3 = n2 | table[i3];
+					for(int i4 = i3 - 1; i4 >= 0; i4--) {
+						long n4 = n3 | table[i4];
+						for(int i5 = i4 - 1; i5 >= 0; i5--)
+							bh.consume(n4 | table[i5]);
+					}
+				}
+			}
+		}
+	}
+
+	@Benchmark
+	@Warmup(iterations = 1, time = 10)
+	@Measurement(iterations = 3, time = 10)
+	@Fork(1)
+	public void sevenCardHandIterator(Blackhole bh) {
+		for(long mask : HandEngine.Hands(7))
+			bh.consume(mask);
+	}
+
+	@Benchmark
+	@Warmup(iterations = 1, time = 10)
+	@Measurement(iterations = 3, time = 10)
+	@Fork(1)
+	public void sevenCardForEachHand(Blackhole bh) {
+		HandEngine.forEachHand(7, bh::consume);
+	}
+
+	@Benchmark
+	@Warmup(iterations = 1, time = 10)
+	@Measurement(iterations = 3, time = 10)
+	@Fork(1)
+	public void sevenCardIndexedIterator(Blackhole bh) {
+		IndexedHandIterator hands = new HandIndex(0L, 0L, 7).iterator();
+		while(hands.hasNext())
+			bh.consume(hands.nextLong());
+	}
+
+	@Benchmark
+	@Warmup(iterations = 1, time = 10)
+	@Measurement(iterations = 3, time = 10)
+	@Fork(1)
+	public void sevenCardInlined(Blackhole bh) {
+		long[] table = HandEngine._cardMasksTable;
+		for(int i1 = HandEngine.NUMBER_OF_CARDS - 1; i1 >= 0; i1--) {
+			long card1 = table[i1];
+			for(int i2 = i1 - 1; i2 >= 0; i2--) {
+				long n2 = card1 | table[i2];
+				for(int i3 = i2 - 1; i3 >= 0; i3--) {
+					long n3 = n2 | table[i3];
+					for(int i4 = i3 - 1; i4 >= 0; i4--) {
+						long n4 = n3 | table[i4];
+						for(int i5 = i4 - 1; i5 >= 0; i5--) {
+							long n5 = n4 | table[i5];
+							for(int i6 = i5 - 1; i6 >= 0; i6--) {
+								long n6 = n5 | table[i6];
+								for(int i7 = i6 - 1; i7 >= 0; i7--)
+									bh.consume(n6 | table[i7]);
+							}
+						}
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * All 5 card boards around known pocket cards; C(50,5) hands.
+	 */
+	@Benchmark
+	public void boardsHandIteratorEx(Blackhole bh) {
+		for(long mask : HandEngine.Hands(0L, POCKET, 5))
+			bh.consume(mask);
+	}
+
+	@Benchmark
+	public void boardsIndexedIterator(Blackhole bh) {
+		IndexedHandIterator hands = new HandIndex(0L, POCKET, 5).iterator();
+		while(hands.hasNext())
+			bh.consume(hands.nextLong());
+	}
+
+	@Benchmark
+	public void boardsForEachHand(Blackhole bh) {
+		HandEngine.forEachHand(0L, POCKET, 5, bh::consume);
+	}
+
+	@Benchmark
+	public void boardsRevolvingDoor(Blackhole bh) {
+		HandEngine.forEachHandRevolving(0L, POCKET, 5, (mask, in, out) -> bh.consume(mask));
+	}
+
+	/**
+	 * Values of all seven card hands made of the pocket and a board, each
+	 * evaluated from its mask.
+	 */
+	@Benchmark
+	public void boardsEvaluate(Blackhole bh) {
+		HandEngine.forEachHand(POCKET, 0L, 7, mask -> bh.consume(HandEngine.Evaluate(mask, 7)));
+	}
+
+	/**
+	 * Same hands as {@link #boardsEvaluate(Blackhole)} in revolving door
+	 * order, evaluation state follows each swapped card.
+	 */
+	@Benchmark
+	public void boardsEvaluateRevolvingDoor(Blackhole bh) {
+		final PartialHand[] hand = new PartialHand[1];
+		HandEngine.forEachHandRevolving(POCKET, 0L, 7, (mask, in, out) -> {
+			if(in < 0)
+				hand[0] = new PartialHand(mask);
+			else
+				hand[0].replace(out, in);
+			bh.consume(hand[0].evaluate());
+		});
+	}
+
+	@Benchmark
+	public void boardsHandStream(Blackhole bh) {
+		HandEngine.handStream(0L, POCKET, 5).forEach(bh::consume);
+	}
+
+	/**
+	 * Sum of board values, the kind of reduction the hand stream is meant
+	 * for; compare sequential against parallel to see how it scales.
+	 */
+	@Benchmark
+	public long boardsEvaluateStream() {
+		return HandEngine.handStream(0L, POCKET, 5).map(mask -> HandEngine.Evaluate(mask, 5)).sum();
+	}
+
+	@Benchmark
+	public long boardsEvaluateParallelStream() {
+		return HandEngine.handStream(0L, POCKET, 5).parallel().map(mask -> HandEngine.Evaluate(mask, 5)).sum();
+	}
+
+	/**
+	 * All turn and river completions of a flop; C(47,2) hands.
+	 */
+	@Benchmark
+	public void runoutsHandIteratorEx(Blackhole bh) {
+		for(long mask : HandEngine.Hands(FLOP, POCKET, 5))
+			bh.consume(mask);
+	}
+
+	@Benchmark
+	public void runoutsIndexedIterator(Blackhole bh) {
+		IndexedHandIterator hands = new HandIndex(FLOP, POCKET, 5).iterator();
+		while(hands.hasNext())
+			bh.consume(hands.nextLong());
+	}
+
+	@Benchmark
+	public void runoutsForEachHand(Blackhole bh) {
+		HandEngine.forEachHand(FLOP, POCKET, 5, bh::consume);
+	}
+
+	@Benchmark
+	public void fiveCardEvaluate(Blackhole bh) {
+		for(long mask : HandEngine.Hands(5))
+			bh.consume(HandEngine.Evaluate(mask, 5));
+	}
+}
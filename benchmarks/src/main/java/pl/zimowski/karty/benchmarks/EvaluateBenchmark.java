@@ -0,0 +1,156 @@
+package pl.zimowski.karty.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import pl.zimowski.karty.HandEngine;
+import pl.zimowski.karty.HandEvaluator;
+
+/**
+ * Raw evaluator throughput: {@link HandEngine#Evaluate(long, int)} and the
+ * {@link HandEvaluator#lookup() lookup} evaluator over a fixed set of random
+ * 5, 6 and 7 card hands. One operation is one evaluation.
+ * <p>
+ * Batches go through the vector evaluator only on JDK 17 or later with it
+ * asked for and the module added to the forks, and at the preferred vector
+ * size unless told otherwise, e.g. 256 bits (AVX2) on an AVX-512 machine:
+ * <pre>
+ * java -jar target/benchmarks.jar Evaluate.*Batch -jvmArgsAppend "-Dkarty.vector=true --add-modules=jdk.incubator.vector -XX:UseAVX=2"
+ * </pre>
+ *
+ * @author Adam Zimowski
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class EvaluateBenchmark {
+
+	static final int HANDS = 4096;
+
+	@Param({"5", "6", "7"})
+	int cards;
+
+	long[] masks;
+
+	HandEvaluator lookup;
+
+	int[] values;
+
+	/** masks split into suits, for the structure of arrays batch */
+	int[] clubs, diamonds, hearts, spades;
+
+	/**
+	 * 4 MB scratch memory, lines of which are read between evaluations the
+	 * way other work of a real job would, so evaluator tables are evicted
+	 * from L1/L2 and every table the evaluator touches costs a miss.
+	 */
+	int[] noise;
+
+	@Setup
+	public void setup() {
+		masks = BenchmarkHands.randomMasks(HANDS, cards);
+		lookup = HandEvaluator.lookup();
+		noise = new int[1 << 20];
+
+		values = new int[HANDS];
+		clubs = new int[HANDS];
+		diamonds = new int[HANDS];
+		hearts = new int[HANDS];
+		spades = new int[HANDS];
+		for(int i = 0; i < HANDS; i++) {
+			clubs[i] = (int)(masks[i] >>> HandEngine.CLUB_OFFSET) & 0x1fff;
+			diamonds[i] = (int)(masks[i] >>> HandEngine.DIAMOND_OFFSET) & 0x1fff;
+			hearts[i] = (int)(masks[i] >>> HandEngine.HEART_OFFSET) & 0x1fff;
+			spades[i] = (int)(masks[i] >>> HandEngine.SPADE_OFFSET) & 0x1fff;
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(HANDS)
+	public void evaluate(Blackhole bh) {
+		for(long mask : masks)
+			bh.consume(HandEngine.Evaluate(mask, cards));
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(HANDS)
+	public void evaluateType(Blackhole bh) {
+		for(long mask : masks)
+			bh.consume(HandEngine.EvaluateType(mask, cards));
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(HANDS)
+	public void evaluateLookup(Blackhole bh) {
+		for(long mask : masks)
+			bh.consume(lookup.evaluate(mask, cards));
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(HANDS)
+	public int[] evaluateBatch() {
+		HandEngine.evaluateBatch(masks, values, HANDS);
+		return values;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(HANDS)
+	public int[] evaluateBatchSuits() {
+		HandEngine.evaluateBatch(clubs, diamonds, hearts, spades, values, HANDS);
+		return values;
+	}
+
+	/**
+	 * Evaluations with cache pressure, compare with {@link #noise} alone.
+	 */
+	@Benchmark
+	@OperationsPerInvocation(HANDS)
+	public void evaluateNoisy(Blackhole bh) {
+		for(int i = 0; i < HANDS; i++) {
+			bh.consume(HandEngine.Evaluate(masks[i], cards));
+			bh.consume(touch(i));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(HANDS)
+	public void evaluateTypeNoisy(Blackhole bh) {
+		for(int i = 0; i < HANDS; i++) {
+			bh.consume(HandEngine.EvaluateType(masks[i], cards));
+			bh.consume(touch(i));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(HANDS)
+	public void noise(Blackhole bh) {
+		for(int i = 0; i < HANDS; i++)
+			bh.consume(touch(i));
+	}
+
+	/**
+	 * Reads 16 cache lines scattered over the scratch memory.
+	 */
+	private int touch(int aSeed) {
+		int sum = 0;
+		for(int k = 0, at = aSeed * 0x9e3779b9; k < 16; k++, at += 0x9e3779b9)
+			sum += noise[(at >>> 12) & (noise.length - 16)];
+		return sum;
+	}
+}
@@ -0,0 +1,111 @@
+package pl.zimowski.karty.benchmarks;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import pl.zimowski.karty.HandEngine;
+import pl.zimowski.karty.io.HandBatch;
+import pl.zimowski.karty.io.HandFileProcessor;
+import pl.zimowski.karty.io.MappedHandReader;
+
+/**
+ * Bulk processing of a {@code pocket|board|} hand file of seven card hands,
+ * which sits in the page cache so the numbers show the cost on top of the
+ * disk. One operation is one line.
+ *
+ * @author Adam Zimowski
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class HandFileBenchmark {
+
+	static final int LINES = 1 << 20;
+
+	Path input, output;
+
+	@Setup
+	public void setup() throws IOException {
+		input = Files.createTempFile("hands", ".txt");
+		output = Files.createTempFile("results", ".txt");
+		long[] pockets = BenchmarkHands.randomMasks(LINES, 2);
+		long[] hands = BenchmarkHands.randomMasks(LINES, 7);
+		try(BufferedWriter out = Files.newBufferedWriter(input, StandardCharsets.US_ASCII)) {
+			for(int i = 0; i < LINES; i++) {
+				long pocket = hands[i] & pockets[i];
+				while(HandEngine.BitCount(pocket) < 2)
+					pocket |= Long.lowestOneBit(hands[i] & ~pocket);
+				out.write(HandEngine.MaskToString(pocket));
+				out.write('|');
+				out.write(HandEngine.MaskToString(hands[i] & ~pocket));
+				out.write("|\n");
+			}
+		}
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		Files.delete(input);
+		Files.delete(output);
+	}
+
+	/**
+	 * Parsing alone, records are not used.
+	 */
+	@Benchmark
+	@OperationsPerInvocation(LINES)
+	public void read(Blackhole bh) throws IOException {
+		HandBatch batch = new HandBatch(4096);
+		try(MappedHandReader reader = new MappedHandReader(input)) {
+			while(reader.read(batch))
+				bh.consume(batch.getBoard(0));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(LINES)
+	public long evaluate() throws IOException {
+		return HandFileProcessor.process(input, output, HandFileProcessor.EVALUATE, 0);
+	}
+
+	/**
+	 * Same output as {@link #evaluate()} built line by line with strings,
+	 * the way it is done without the bulk reader.
+	 */
+	@Benchmark
+	@OperationsPerInvocation(LINES)
+	public void evaluateStrings() throws IOException {
+		try(BufferedReader in = Files.newBufferedReader(input, StandardCharsets.US_ASCII);
+				BufferedWriter out = Files.newBufferedWriter(output, StandardCharsets.US_ASCII)) {
+			long line = 0;
+			for(String text = in.readLine(); text != null; text = in.readLine()) {
+				String[] fields = text.split("\\|");
+				int value = HandEngine.Evaluate(HandEngine.parseHand(fields[0], fields[1], null));
+				out.write(++line + "\t" + value + "\t" +
+						HandEngine.HandTypes.values()[HandEngine.computeHandType(value)] + "\n");
+			}
+		}
+	}
+}
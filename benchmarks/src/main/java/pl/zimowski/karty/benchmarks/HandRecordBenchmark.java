@@ -0,0 +1,143 @@
+package pl.zimowski.karty.benchmarks;
+
+import java.io.IOException;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pl.zimowski.karty.HandEngine;
+import pl.zimowski.karty.io.HandRecordFile;
+import pl.zimowski.karty.io.HandRecordFormat;
+import pl.zimowski.karty.io.HandRecordFormat.Column;
+import pl.zimowski.karty.io.HandRecordWriter;
+
+/**
+ * Scanning a binary hand record file of seven card hands, which sits in the
+ * page cache; compare with {@link HandFileBenchmark#read} for the same
+ * records as text. One operation is one record.
+ *
+ * @author Adam Zimowski
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class HandRecordBenchmark {
+
+	static final int RECORDS = HandFileBenchmark.LINES;
+
+	Path masks, ranks;
+	HandRecordFile maskFile, rankFile;
+
+	@Setup
+	public void setup() throws IOException {
+		masks = Files.createTempFile("hands", ".bin");
+		ranks = Files.createTempFile("hands", ".bin");
+		long[] pockets = BenchmarkHands.randomMasks(RECORDS, 2);
+		long[] hands = BenchmarkHands.randomMasks(RECORDS, 7);
+		try(HandRecordWriter maskWriter = new HandRecordWriter(masks, new HandRecordFormat(
+					HandRecordFormat.MASKS, HandRecordFormat.MASKS, HandRecordFormat.ABSENT, true));
+				HandRecordWriter rankWriter = new HandRecordWriter(ranks, new HandRecordFormat(
+					2, 5, HandRecordFormat.ABSENT, false))) {
+			for(int i = 0; i < RECORDS; i++) {
+				long pocket = hands[i] & pockets[i];
+				while(HandEngine.BitCount(pocket) < 2)
+					pocket |= Long.lowestOneBit(hands[i] & ~pocket);
+				while(HandEngine.BitCount(pocket) > 2)
+					pocket &= pocket - 1;
+				maskWriter.write(pocket, hands[i] & ~pocket, 0L);
+				rankWriter.write(pocket, hands[i] & ~pocket, 0L);
+			}
+		}
+		maskFile = HandRecordFile.open(masks);
+		rankFile = HandRecordFile.open(ranks);
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		maskFile = rankFile = null;
+		Files.delete(masks);
+		Files.delete(ranks);
+	}
+
+	/**
+	 * Pocket and board masks through the buffer views.
+	 */
+	@Benchmark
+	@OperationsPerInvocation(RECORDS)
+	public long scanMasks() {
+		long cards = 0;
+		for(int b = 0; b < maskFile.getBlocks(); b++) {
+			LongBuffer pockets = maskFile.getMasks(b, Column.POCKET);
+			LongBuffer boards = maskFile.getMasks(b, Column.BOARD);
+			for(int i = 0, n = pockets.limit(); i < n; i++)
+				cards ^= pockets.get(i) | boards.get(i);
+		}
+		return cards;
+	}
+
+	/**
+	 * Precomputed values, e.g. to count hand types.
+	 */
+	@Benchmark
+	@OperationsPerInvocation(RECORDS)
+	public long scanValues() {
+		long sum = 0;
+		for(int b = 0; b < maskFile.getBlocks(); b++) {
+			IntBuffer values = maskFile.getValues(b);
+			for(int i = 0, n = values.limit(); i < n; i++)
+				sum += values.get(i);
+		}
+		return sum;
+	}
+
+	/**
+	 * Evaluating masks as they are scanned, the way a job would without
+	 * stored values.
+	 */
+	@Benchmark
+	@OperationsPerInvocation(RECORDS)
+	public long scanEvaluate() {
+		long sum = 0;
+		for(int b = 0; b < maskFile.getBlocks(); b++) {
+			LongBuffer pockets = maskFile.getMasks(b, Column.POCKET);
+			LongBuffer boards = maskFile.getMasks(b, Column.BOARD);
+			for(int i = 0, n = pockets.limit(); i < n; i++)
+				sum += HandEngine.Evaluate(pockets.get(i) | boards.get(i));
+		}
+		return sum;
+	}
+
+	/**
+	 * Ranks only, half the bytes of masks.
+	 */
+	@Benchmark
+	@OperationsPerInvocation(RECORDS)
+	public long scanRanks() {
+		long sum = 0;
+		for(int b = 0; b < rankFile.getBlocks(); b++) {
+			IntBuffer pockets = rankFile.getRanks(b, Column.POCKET);
+			IntBuffer boards = rankFile.getRanks(b, Column.BOARD);
+			for(int i = 0, n = pockets.limit(); i < n; i++)
+				sum += pockets.get(i) ^ boards.get(i);
+		}
+		return sum;
+	}
+}
@@ -0,0 +1,213 @@
+package pl.zimowski.karty.benchmarks;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import pl.zimowski.karty.HandEngine;
+import pl.zimowski.karty.HandRange;
+import pl.zimowski.karty.RangeEquity;
+import pl.zimowski.karty.ShowdownTally;
+
+/**
+ * Exhaustive analysis calls, one complete calculation per operation. These
+ * are the calls which dominate capacity of the services built on top of the
+ * engine, so each spot is representative of a real query rather than a
+ * micro case.
+ *
+ * @author Adam Zimowski
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class OddsBenchmark {
+
+	static final long POCKET = HandEngine.parseHand("As Ks");
+	static final long FLOP = HandEngine.parseHand("Qs Jh 2c");
+	static final long TURN = HandEngine.parseHand("Qs Jh 2c 7d");
+	static final long RIVER = HandEngine.parseHand("Qs Jh 2c 7d 9s");
+	static final long MONOTONE_FLOP = HandEngine.parseHand("Qs Js 2s");
+
+	/** the 1081 pockets possible on the river */
+	static final long[] RIVER_POCKETS = pockets(RIVER);
+
+	final long[] wins = new long[3];
+	final long[] ties = new long[3];
+	final long[] losses = new long[3];
+	final long[] totalHands = new long[1];
+
+	final double[] player = new double[9];
+	final double[] opponent = new double[9];
+
+	final double[] ppot = new double[1];
+	final double[] npot = new double[1];
+
+	final HandRange[] ranges = {HandRange.parse("QQ+, AKs, ATo+"), HandRange.parse("22+, AJs+, KQs")};
+
+	@Benchmark
+	public long[] handOddsPreflopHeadsUp() {
+		HandEngine.HandOdds(new String[] {"As Ks", "Qd Qh"}, "", "",
+				wins, ties, losses, totalHands);
+		return wins;
+	}
+
+	/**
+	 * Same spot as {@link #handOddsPreflopHeadsUp()}, spread over all
+	 * available cores.
+	 */
+	@Benchmark
+	public long[] handOddsPreflopHeadsUpParallel() {
+		HandEngine.HandOddsParallel(new String[] {"As Ks", "Qd Qh"}, "", "",
+				wins, ties, losses, totalHands, 0);
+		return wins;
+	}
+
+	/**
+	 * Same spot as {@link #handOddsPreflopHeadsUp()}, evaluating only boards
+	 * which are canonical under the diamond/heart swap the pockets allow.
+	 */
+	@Benchmark
+	public long[] handOddsPreflopHeadsUpWeighted() {
+		HandEngine.HandOddsWeighted(new String[] {"As Ks", "Qd Qh"}, "", "",
+				wins, ties, losses, totalHands);
+		return wins;
+	}
+
+	@Benchmark
+	public long[] handOddsFlopThreeWay() {
+		HandEngine.HandOdds(new String[] {"As Ks", "Qd Qh", "Tc 9c"}, "Qs Jh 2c", "",
+				wins, ties, losses, totalHands);
+		return wins;
+	}
+
+	/**
+	 * Exact range against range equity on the flop (70 against 94 combos).
+	 */
+	@Benchmark
+	public double[] rangeEquityFlop() {
+		return RangeEquity.exact(ranges, FLOP, 0L);
+	}
+
+	@Benchmark
+	public double[] handPlayerOpponentOddsFlop() {
+		HandEngine.HandPlayerOpponentOdds(POCKET, FLOP, player, opponent);
+		return player;
+	}
+
+	/**
+	 * Rainbow flop around an unpaired pocket leaves no suit symmetry, this
+	 * is the cost of looking for it.
+	 */
+	@Benchmark
+	public double[] handPlayerOpponentOddsFlopWeighted() {
+		HandEngine.HandPlayerOpponentOddsWeighted(POCKET, FLOP, player, opponent);
+		return player;
+	}
+
+	@Benchmark
+	public void handPotentialFlop(Blackhole bh) {
+		HandEngine.HandPotential(POCKET, FLOP, ppot, npot);
+		bh.consume(ppot[0]);
+		bh.consume(npot[0]);
+	}
+
+	@Benchmark
+	public void handPotentialMonotoneFlop(Blackhole bh) {
+		HandEngine.HandPotential(POCKET, MONOTONE_FLOP, ppot, npot);
+		bh.consume(ppot[0]);
+		bh.consume(npot[0]);
+	}
+
+	/**
+	 * Same spot as {@link #handPotentialMonotoneFlop(Blackhole)}; clubs,
+	 * diamonds and hearts are interchangeable.
+	 */
+	@Benchmark
+	public void handPotentialMonotoneFlopWeighted(Blackhole bh) {
+		HandEngine.HandPotentialWeighted(POCKET, MONOTONE_FLOP, ppot, npot);
+		bh.consume(ppot[0]);
+		bh.consume(npot[0]);
+	}
+
+	@Benchmark
+	public void handPotentialTurn(Blackhole bh) {
+		HandEngine.HandPotential(POCKET, TURN, ppot, npot);
+		bh.consume(ppot[0]);
+		bh.consume(npot[0]);
+	}
+
+	@Benchmark
+	public double hsFlop() {
+		return HandEngine.getHS(POCKET, FLOP, 2);
+	}
+
+	@Benchmark
+	public double hsRiver() {
+		return HandEngine.getHS(POCKET, RIVER, 2);
+	}
+
+	/**
+	 * Same as {@link #hsRiver()}, through a {@link ShowdownTally} built for
+	 * this one pocket.
+	 */
+	@Benchmark
+	public double hsRiverTally() {
+		return new ShowdownTally(RIVER).getHS(POCKET, 2);
+	}
+
+	/**
+	 * Hand strength of every pocket on the river, one at a time.
+	 */
+	@Benchmark
+	public void hsRiverEveryPocket(Blackhole bh) {
+		for(long pocket : RIVER_POCKETS)
+			bh.consume(HandEngine.getHS(pocket, RIVER, 2));
+	}
+
+	/**
+	 * Same as {@link #hsRiverEveryPocket(Blackhole)}, all pockets answered
+	 * by one {@link ShowdownTally}.
+	 */
+	@Benchmark
+	public void hsRiverEveryPocketTally(Blackhole bh) {
+		ShowdownTally tally = new ShowdownTally(RIVER);
+		for(long pocket : RIVER_POCKETS)
+			bh.consume(tally.getHS(pocket, 2));
+	}
+
+	@Benchmark
+	public double ehsFlop() {
+		return HandEngine.getEHS(POCKET, FLOP, 2);
+	}
+
+	@Benchmark
+	public double ehsTurn() {
+		return HandEngine.getEHS(POCKET, TURN, 2);
+	}
+
+	private static long[] pockets(long aDead) {
+		long[] pockets = new long[1326];
+		int n = 0;
+		for(int b = 1; b < 52; b++) {
+			for(int a = 0; a < b; a++) {
+				long pocket = 1L << a | 1L << b;
+				if((pocket & aDead) == 0)
+					pockets[n++] = pocket;
+			}
+		}
+		return Arrays.copyOf(pockets, n);
+	}
+}
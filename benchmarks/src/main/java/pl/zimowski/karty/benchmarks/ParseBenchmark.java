@@ -0,0 +1,105 @@
+package pl.zimowski.karty.benchmarks;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import pl.zimowski.karty.CardParser;
+import pl.zimowski.karty.HandEngine;
+
+/**
+ * Text to mask conversion. One operation is one parsed hand.
+ *
+ * @author Adam Zimowski
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ParseBenchmark {
+
+	static final int HANDS = 1024;
+
+	@Param({"2", "7"})
+	int cards;
+
+	String[] hands;
+
+	/** all hands in one block of text, one per line */
+	char[] chars;
+	ByteBuffer bytes;
+
+	/** where each hand starts in the block, plus end of the last one */
+	int[] offsets;
+
+	@Setup
+	public void setup() {
+		hands = BenchmarkHands.randomStrings(HANDS, cards);
+
+		StringBuilder text = new StringBuilder();
+		offsets = new int[HANDS + 1];
+		for(int i = 0; i < HANDS; i++) {
+			offsets[i] = text.length();
+			text.append(hands[i]).append('\n');
+		}
+		offsets[HANDS] = text.length();
+		chars = text.toString().toCharArray();
+		bytes = ByteBuffer.allocateDirect(chars.length);
+		bytes.put(text.toString().getBytes(StandardCharsets.US_ASCII));
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(HANDS)
+	public void parseHand(Blackhole bh) {
+		for(String hand : hands)
+			bh.consume(HandEngine.parseHand(hand));
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(HANDS)
+	public void cardParserString(Blackhole bh) {
+		for(String hand : hands)
+			bh.consume(CardParser.parse(hand));
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(HANDS)
+	public void cardParserCharArray(Blackhole bh) {
+		for(int i = 0; i < HANDS; i++)
+			bh.consume(CardParser.parse(chars, offsets[i], offsets[i + 1] - 1));
+	}
+
+	/**
+	 * Hands read in place from an off heap buffer, as they arrive in a
+	 * request body.
+	 */
+	@Benchmark
+	@OperationsPerInvocation(HANDS)
+	public void cardParserByteBuffer(Blackhole bh) {
+		for(int i = 0; i < HANDS; i++)
+			bh.consume(CardParser.parse(bytes, offsets[i], offsets[i + 1] - 1));
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(HANDS)
+	public void evaluateString(Blackhole bh) {
+		for(String hand : hands)
+			bh.consume(HandEngine.Evaluate(hand));
+	}
+}
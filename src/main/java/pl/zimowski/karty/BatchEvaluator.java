@@ -0,0 +1,119 @@
+package pl.zimowski.karty;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Evaluates many independent hands at once, with the same values as
+ * {@link HandEngine#Evaluate(long, int)}. Hands come either as masks or as
+ * four arrays of 13 bit rank masks, one per suit (structure of arrays).
+ * <p>
+ * The scalar evaluator below runs everywhere. It counts cards with
+ * {@link Long#bitCount(long)}, a single instruction, rather than the byte
+ * table of {@link HandEngine#BitCount(long)}; even so it is only about as
+ * fast as a loop over {@link HandEngine#Evaluate(long, int)}. When built with JDK 17 or
+ * later, the multi-release jar also carries {@code VectorBatchEvaluator}
+ * under {@code META-INF/versions/17}, which evaluates as many hands as fit
+ * into a vector register lane by lane with the incubating
+ * {@code jdk.incubator.vector} API. As on JDK 17 it is still slower than
+ * the scalar evaluator, it is only looked up, reflectively, when asked for
+ * with {@code -Dkarty.vector=true}, and used if the runtime can link it,
+ * which takes JDK 17 or later started with
+ * {@code --add-modules jdk.incubator.vector}; otherwise batches are evaluated
+ * by the scalar evaluator.
+ *
+ * @author Adam Zimowski
+ */
+abstract class BatchEvaluator {
+
+	private static final Logger log = LoggerFactory.getLogger(BatchEvaluator.class);
+
+	static final int SUIT_MASK = 0x1fff;
+
+	static final BatchEvaluator SCALAR = new BatchEvaluator() {
+
+		@Override
+		void evaluate(long[] aMasks, int[] aValues, int aCount) {
+			for(int i = 0; i < aCount; i++)
+				aValues[i] = HandEngine.Evaluate(aMasks[i], Long.bitCount(aMasks[i]));
+		}
+
+		@Override
+		void evaluate(int[] aClubs, int[] aDiamonds, int[] aHearts, int[] aSpades, int[] aValues, int aCount) {
+			for(int i = 0; i < aCount; i++) {
+				long mask = mask(aClubs[i], aDiamonds[i], aHearts[i], aSpades[i]);
+				aValues[i] = HandEngine.Evaluate(mask, Long.bitCount(mask));
+			}
+		}
+
+		@Override
+		public String toString() {
+			return "scalar";
+		}
+	};
+
+	/**
+	 * @param aMasks hand masks of 1 to 7 cards
+	 * @param aValues receives hand values
+	 * @param aCount number of hands, from the start of both arrays
+	 */
+	abstract void evaluate(long[] aMasks, int[] aValues, int aCount);
+
+	/**
+	 * @param aClubs rank masks of clubs
+	 * @param aDiamonds rank masks of diamonds
+	 * @param aHearts rank masks of hearts
+	 * @param aSpades rank masks of spades
+	 * @param aValues receives hand values
+	 * @param aCount number of hands, from the start of all arrays
+	 */
+	abstract void evaluate(int[] aClubs, int[] aDiamonds, int[] aHearts, int[] aSpades, int[] aValues, int aCount);
+
+	/**
+	 * @return vector evaluator if asked for and the runtime supports it,
+	 * 	scalar otherwise
+	 */
+	static BatchEvaluator getInstance() {
+		return Holder.INSTANCE;
+	}
+
+	/**
+	 * @return hand mask out of rank masks of each suit
+	 */
+	static long mask(int aClubs, int aDiamonds, int aHearts, int aSpades) {
+		return (aClubs & (long)SUIT_MASK) << HandEngine.CLUB_OFFSET
+				| (aDiamonds & (long)SUIT_MASK) << HandEngine.DIAMOND_OFFSET
+				| (aHearts & (long)SUIT_MASK) << HandEngine.HEART_OFFSET
+				| (aSpades & (long)SUIT_MASK) << HandEngine.SPADE_OFFSET;
+	}
+
+	private static final class Holder {
+
+		static final BatchEvaluator INSTANCE = load();
+
+		private static BatchEvaluator load() {
+
+			if(!Boolean.parseBoolean(System.getProperty("karty.vector", "false")))
+				return SCALAR;
+
+			try {
+				BatchEvaluator vector = (BatchEvaluator)Class.forName("pl.zimowski.karty.VectorBatchEvaluator")
+						.getDeclaredConstructor().newInstance();
+				// a straight flush and a full house, to make sure it links and agrees
+				long[] masks = { 0x1fL | 1L << 20, 0x7L << 13 | 0x3L << 26 | 1L << 40 };
+				int[] values = new int[masks.length];
+				vector.evaluate(masks, values, masks.length);
+				for(int i = 0; i < masks.length; i++) {
+					if(values[i] != HandEngine.Evaluate(masks[i]))
+						throw new IllegalStateException("vector evaluator disagrees on " + HandEngine.MaskToString(masks[i]));
+				}
+				log.debug("batches evaluated by {}", vector);
+				return vector;
+			}
+			catch(ReflectiveOperationException | LinkageError | RuntimeException e) {
+				log.debug("vector evaluator not available, batches evaluated by scalar evaluator: {}", e.toString());
+				return SCALAR;
+			}
+		}
+	}
+}
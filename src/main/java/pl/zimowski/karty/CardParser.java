@@ -0,0 +1,305 @@
+package pl.zimowski.karty;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Single pass, allocation free conversion of card text into a hand mask. The
+ * text is a sequence of cards, each a rank ({@code 2}-{@code 9}, {@code T} or
+ * {@code 10}, {@code J}, {@code Q}, {@code K}, {@code A}) followed by a suit
+ * ({@code c}, {@code d}, {@code h}, {@code s}), case insensitive, optionally
+ * separated by spaces; this is the same format {@link HandEngine#parseHand(String)}
+ * has always accepted.
+ * <p>
+ * Cards are validated while the mask is built, so nothing is parsed twice
+ * and nothing is thrown. A hand mask never uses the sign bit, which leaves
+ * negative results free to report errors: {@link #isError(long)} tells them
+ * apart, {@link #errorCode(long)} says what went wrong and
+ * {@link #errorOffset(long)} where. Text may come as any {@link CharSequence},
+ * a {@code char[]} slice or an ASCII {@code byte[]} or {@link ByteBuffer}
+ * slice, so request bodies can be parsed in place without building strings
+ * first.
+ *
+ * @author Adam Zimowski
+ */
+public final class CardParser {
+
+	/** character which is not a rank where a card should start */
+	public static final int BAD_RANK = 1;
+
+	/** rank is not followed by a suit */
+	public static final int BAD_SUIT = 2;
+
+	/** same card appears more than once */
+	public static final int DUPLICATE_CARD = 3;
+
+	/** text holds no cards at all */
+	public static final int NO_CARDS = 4;
+
+	private static final int CODE_BITS = 3;
+
+	/** rank of the first character of a card, -1 if none */
+	private static final byte[] RANKS = new byte[128];
+
+	/** suit of the second character of a card, -1 if none */
+	private static final byte[] SUITS = new byte[128];
+
+	/** marks '1', a rank only when followed by '0' */
+	private static final int ONE = 13;
+
+	static {
+		for(int c = 0; c < RANKS.length; c++) {
+			RANKS[c] = -1;
+			SUITS[c] = -1;
+		}
+		String ranks = "23456789TJQKA";
+		for(int rank = 0; rank < ranks.length(); rank++) {
+			RANKS[ranks.charAt(rank)] = (byte)rank;
+			RANKS[Character.toLowerCase(ranks.charAt(rank))] = (byte)rank;
+		}
+		RANKS['1'] = ONE;
+		String suits = "CDHS";
+		for(int suit = 0; suit < suits.length(); suit++) {
+			SUITS[suits.charAt(suit)] = (byte)suit;
+			SUITS[Character.toLowerCase(suits.charAt(suit))] = (byte)suit;
+		}
+	}
+
+	private CardParser() {
+	}
+
+	/**
+	 * @param aText cards
+	 * @return hand mask, or a negative error if text is not a valid hand
+	 * @throws NullPointerException if text is null
+	 */
+	public static long parse(CharSequence aText) {
+		return parse(aText, 0, aText.length());
+	}
+
+	/**
+	 * @param aText text holding cards
+	 * @param aFrom index of the first character, inclusive
+	 * @param aTo index past the last character, exclusive
+	 * @return hand mask, or a negative error if the slice is not a valid hand
+	 * @throws IndexOutOfBoundsException if slice does not fit in the text
+	 */
+	public static long parse(CharSequence aText, int aFrom, int aTo) {
+
+		if(aFrom < 0 || aFrom > aTo || aTo > aText.length())
+			throw new IndexOutOfBoundsException();
+
+		long mask = 0L;
+		int i = aFrom;
+		while(i < aTo) {
+			int c = aText.charAt(i);
+			if(c == ' ') {
+				i++;
+				continue;
+			}
+			int start = i++;
+			int rank = c < 128 ? RANKS[c] : -1;
+			if(rank == ONE) {
+				if(i == aTo || aText.charAt(i) != '0')
+					return error(BAD_RANK, start);
+				rank = Rank.Ten.ordinal();
+				i++;
+			}
+			else if(rank < 0)
+				return error(BAD_RANK, start);
+			if(i == aTo)
+				return error(BAD_SUIT, i);
+			c = aText.charAt(i);
+			int suit = c < 128 ? SUITS[c] : -1;
+			if(suit < 0)
+				return error(BAD_SUIT, i);
+			i++;
+			long card = 1L << (rank + suit * 13);
+			if((mask & card) != 0)
+				return error(DUPLICATE_CARD, start);
+			mask |= card;
+		}
+		return mask == 0 ? error(NO_CARDS, aFrom) : mask;
+	}
+
+	/**
+	 * @param aText text holding cards
+	 * @param aFrom index of the first character, inclusive
+	 * @param aTo index past the last character, exclusive
+	 * @return hand mask, or a negative error if the slice is not a valid hand
+	 * @throws IndexOutOfBoundsException if slice does not fit in the array
+	 */
+	public static long parse(char[] aText, int aFrom, int aTo) {
+
+		if(aFrom < 0 || aFrom > aTo || aTo > aText.length)
+			throw new IndexOutOfBoundsException();
+
+		long mask = 0L;
+		int i = aFrom;
+		while(i < aTo) {
+			int c = aText[i];
+			if(c == ' ') {
+				i++;
+				continue;
+			}
+			int start = i++;
+			int rank = c < 128 ? RANKS[c] : -1;
+			if(rank == ONE) {
+				if(i == aTo || aText[i] != '0')
+					return error(BAD_RANK, start);
+				rank = Rank.Ten.ordinal();
+				i++;
+			}
+			else if(rank < 0)
+				return error(BAD_RANK, start);
+			if(i == aTo)
+				return error(BAD_SUIT, i);
+			c = aText[i];
+			int suit = c < 128 ? SUITS[c] : -1;
+			if(suit < 0)
+				return error(BAD_SUIT, i);
+			i++;
+			long card = 1L << (rank + suit * 13);
+			if((mask & card) != 0)
+				return error(DUPLICATE_CARD, start);
+			mask |= card;
+		}
+		return mask == 0 ? error(NO_CARDS, aFrom) : mask;
+	}
+
+	/**
+	 * Parses ASCII text.
+	 *
+	 * @param aText text holding cards
+	 * @param aFrom index of the first byte, inclusive
+	 * @param aTo index past the last byte, exclusive
+	 * @return hand mask, or a negative error if the slice is not a valid hand
+	 * @throws IndexOutOfBoundsException if slice does not fit in the array
+	 */
+	public static long parse(byte[] aText, int aFrom, int aTo) {
+
+		if(aFrom < 0 || aFrom > aTo || aTo > aText.length)
+			throw new IndexOutOfBoundsException();
+
+		long mask = 0L;
+		int i = aFrom;
+		while(i < aTo) {
+			int c = aText[i] & 0xFF;
+			if(c == ' ') {
+				i++;
+				continue;
+			}
+			int start = i++;
+			int rank = c < 128 ? RANKS[c] : -1;
+			if(rank == ONE) {
+				if(i == aTo || aText[i] != '0')
+					return error(BAD_RANK, start);
+				rank = Rank.Ten.ordinal();
+				i++;
+			}
+			else if(rank < 0)
+				return error(BAD_RANK, start);
+			if(i == aTo)
+				return error(BAD_SUIT, i);
+			c = aText[i] & 0xFF;
+			int suit = c < 128 ? SUITS[c] : -1;
+			if(suit < 0)
+				return error(BAD_SUIT, i);
+			i++;
+			long card = 1L << (rank + suit * 13);
+			if((mask & card) != 0)
+				return error(DUPLICATE_CARD, start);
+			mask |= card;
+		}
+		return mask == 0 ? error(NO_CARDS, aFrom) : mask;
+	}
+
+	/**
+	 * Parses ASCII text between position and limit of a buffer. Position of
+	 * the buffer does not change.
+	 *
+	 * @param aText buffer holding cards
+	 * @return hand mask, or a negative error if the text is not a valid hand;
+	 * 	error offset is an absolute buffer index
+	 */
+	public static long parse(ByteBuffer aText) {
+		return parse(aText, aText.position(), aText.limit());
+	}
+
+	/**
+	 * Parses ASCII text at absolute indexes of a buffer. Position of the
+	 * buffer does not change.
+	 *
+	 * @param aText buffer holding cards
+	 * @param aFrom index of the first byte, inclusive
+	 * @param aTo index past the last byte, exclusive
+	 * @return hand mask, or a negative error if the slice is not a valid hand
+	 * @throws IndexOutOfBoundsException if slice does not fit in the buffer
+	 */
+	public static long parse(ByteBuffer aText, int aFrom, int aTo) {
+
+		if(aFrom < 0 || aFrom > aTo || aTo > aText.limit())
+			throw new IndexOutOfBoundsException();
+
+		long mask = 0L;
+		int i = aFrom;
+		while(i < aTo) {
+			int c = aText.get(i) & 0xFF;
+			if(c == ' ') {
+				i++;
+				continue;
+			}
+			int start = i++;
+			int rank = c < 128 ? RANKS[c] : -1;
+			if(rank == ONE) {
+				if(i == aTo || aText.get(i) != '0')
+					return error(BAD_RANK, start);
+				rank = Rank.Ten.ordinal();
+				i++;
+			}
+			else if(rank < 0)
+				return error(BAD_RANK, start);
+			if(i == aTo)
+				return error(BAD_SUIT, i);
+			c = aText.get(i) & 0xFF;
+			int suit = c < 128 ? SUITS[c] : -1;
+			if(suit < 0)
+				return error(BAD_SUIT, i);
+			i++;
+			long card = 1L << (rank + suit * 13);
+			if((mask & card) != 0)
+				return error(DUPLICATE_CARD, start);
+			mask |= card;
+		}
+		return mask == 0 ? error(NO_CARDS, aFrom) : mask;
+	}
+
+	/**
+	 * @param aResult value returned by one of the parse methods
+	 * @return true if parsing failed
+	 */
+	public static boolean isError(long aResult) {
+		return aResult < 0;
+	}
+
+	/**
+	 * @param aResult error returned by one of the parse methods
+	 * @return one of {@link #BAD_RANK}, {@link #BAD_SUIT},
+	 * 	{@link #DUPLICATE_CARD} or {@link #NO_CARDS}; 0 if result is a mask
+	 */
+	public static int errorCode(long aResult) {
+		return aResult < 0 ? (int)(~aResult & ((1 << CODE_BITS) - 1)) : 0;
+	}
+
+	/**
+	 * @param aResult error returned by one of the parse methods
+	 * @return index of the character where parsing failed (start of the
+	 * 	duplicated card for {@link #DUPLICATE_CARD}); -1 if result is a mask
+	 */
+	public static int errorOffset(long aResult) {
+		return aResult < 0 ? (int)(~aResult >>> CODE_BITS) : -1;
+	}
+
+	private static long error(int aCode, int aOffset) {
+		return ~((long)aOffset << CODE_BITS | aCode);
+	}
+}
@@ -0,0 +1,53 @@
+package pl.zimowski.karty;
+
+/**
+ * Source of randomness used for dealing cards. Implementations are not
+ * required to be thread safe; concurrent users are expected to
+ * {@link #split()} off a generator of their own.
+ *
+ * @author Adam Zimowski
+ */
+public interface CardRandom {
+
+	/**
+	 * @param bound upper bound (exclusive), must be positive
+	 * @return uniformly distributed value between zero (inclusive) and
+	 * 	bound (exclusive)
+	 */
+	int nextInt(int bound);
+
+	/**
+	 * Creates a new generator whose stream is statistically independent of
+	 * this one; this generator advances as a result. Splitting is
+	 * deterministic, so a tree of generators split from a seeded root always
+	 * replays the same streams.
+	 *
+	 * @return new generator
+	 */
+	CardRandom split();
+
+	/**
+	 * @return generator backed by {@link java.util.SplittableRandom} with a
+	 * 	random seed
+	 */
+	static CardRandom splittable() {
+		return new SplittableCardRandom();
+	}
+
+	/**
+	 * @param seed initial seed
+	 * @return reproducible generator backed by
+	 * 	{@link java.util.SplittableRandom}
+	 */
+	static CardRandom splittable(long seed) {
+		return new SplittableCardRandom(seed);
+	}
+
+	/**
+	 * @param seed initial seed
+	 * @return reproducible xoroshiro128++ generator
+	 */
+	static CardRandom xoroshiro(long seed) {
+		return new XoroshiroCardRandom(seed);
+	}
+}
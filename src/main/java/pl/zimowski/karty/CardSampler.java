@@ -0,0 +1,76 @@
+package pl.zimowski.karty;
+
+/**
+ * Deals random cards out of the live part of a deck (all cards which are not
+ * dead) with a partial Fisher-Yates shuffle. Every card costs exactly one
+ * random number, no matter how many cards are dead, as opposed to drawing
+ * from the full deck and retrying on dead cards.
+ * <p>
+ * The sampler keeps (and permutes) its own copy of live cards, so a single
+ * instance must not be shared between threads.
+ *
+ * @author Adam Zimowski
+ */
+public final class CardSampler {
+
+	private final int[] live = new int[HandEngine.NUMBER_OF_CARDS];
+
+	/** number of live cards, at the start of {@link #live} */
+	private int count;
+
+	/**
+	 * @param aDead cards which must never be dealt
+	 */
+	public CardSampler(long aDead) {
+		reset(aDead);
+	}
+
+	/**
+	 * Makes every card which is not dead live again, in place, so that one
+	 * sampler serves many deals whose dead cards differ. Deals after a reset
+	 * are the same as those of a new sampler with the same dead cards.
+	 *
+	 * @param aDead cards which must never be dealt
+	 */
+	public void reset(long aDead) {
+		int n = 0;
+		for(int card = 0; card < HandEngine.NUMBER_OF_CARDS; card++) {
+			if((aDead & HandEngine._cardMasksTable[card]) == 0)
+				live[n++] = card;
+		}
+		count = n;
+	}
+
+	/**
+	 * @return number of cards available for dealing
+	 */
+	public int getLiveCount() {
+		return count;
+	}
+
+	/**
+	 * Deals a uniformly random set of distinct live cards.
+	 *
+	 * @param aCards number of cards to deal
+	 * @param aRand source of randomness
+	 * @return mask of dealt cards
+	 * @throws ArgumentOutOfRangeException if there are not enough live cards
+	 */
+	public long sample(int aCards, CardRandom aRand) {
+
+		if(aCards < 0 || aCards > count)
+			throw new ArgumentOutOfRangeException("cards");
+
+		final int[] deck = live;
+		final int size = count;
+		long mask = 0L;
+		for(int i = 0; i < aCards; i++) {
+			int j = i + aRand.nextInt(size - i);
+			int card = deck[j];
+			deck[j] = deck[i];
+			deck[i] = card;
+			mask |= HandEngine._cardMasksTable[card];
+		}
+		return mask;
+	}
+}
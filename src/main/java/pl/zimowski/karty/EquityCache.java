@@ -0,0 +1,229 @@
+package pl.zimowski.karty;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded, least recently used cache in front of the expensive analytics of
+ * {@link HandEngine}: {@link HandEngine#HandOdds(long[], long, long, long[], long[], long[], long[]) HandOdds},
+ * {@link HandEngine#HandPlayerOpponentOdds(long, long, double[], double[]) HandPlayerOpponentOdds},
+ * {@link HandEngine#HandPotential(long, long, double[], double[]) HandPotential},
+ * {@link HandEngine#getHS(long, long, int) getHS} and
+ * {@link HandEngine#getEHS(long, long, int) getEHS}. Spots are keyed on
+ * their {@link SuitIsomorphism suit isomorphic} canonical form, so spots
+ * which only differ by a permutation of suits are computed once.
+ * <p>
+ * The cache is thread safe. Results are computed outside of the lock, so two
+ * threads asking for the same new spot at the same time may both compute it.
+ *
+ * @author Adam Zimowski
+ */
+public final class EquityCache {
+
+	private enum Query {
+		HandOdds, HandPlayerOpponentOdds, HandPotential, HS, EHS
+	}
+
+	private final int maxSize;
+
+	private final Map<Key, Object> entries;
+
+	private final AtomicLong hits = new AtomicLong();
+
+	private final AtomicLong misses = new AtomicLong();
+
+	/**
+	 * @param aMaxSize maximum number of cached spots; least recently used
+	 * 	spots are evicted beyond it
+	 */
+	public EquityCache(int aMaxSize) {
+		if(aMaxSize < 1)
+			throw new IllegalArgumentException("cache size must be positive");
+		maxSize = aMaxSize;
+		entries = new LinkedHashMap<Key, Object>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, Object> eldest) {
+				return size() > maxSize;
+			}
+		};
+	}
+
+	/**
+	 * Cached {@link HandEngine#HandOdds(long[], long, long, long[], long[], long[], long[])}.
+	 */
+	public void HandOdds(long[] pocketmasks, long boardmask, long deadmask,
+			long[] wins, long[] ties, long[] losses, long[] totalHands) {
+
+		long[] masks = Arrays.copyOf(pocketmasks, pocketmasks.length + 2);
+		masks[pocketmasks.length] = boardmask;
+		masks[pocketmasks.length + 1] = deadmask;
+		Key key = new Key(Query.HandOdds, 0, masks);
+
+		long[][] result = (long[][])get(key);
+		if(result == null) {
+			int n = pocketmasks.length;
+			result = new long[][] { new long[n], new long[n], new long[n], new long[1] };
+			HandEngine.HandOdds(pocketmasks, boardmask, deadmask, result[0], result[1], result[2], result[3]);
+			put(key, result);
+		}
+
+		System.arraycopy(result[0], 0, wins, 0, pocketmasks.length);
+		System.arraycopy(result[1], 0, ties, 0, pocketmasks.length);
+		System.arraycopy(result[2], 0, losses, 0, pocketmasks.length);
+		totalHands[0] = result[3][0];
+	}
+
+	/**
+	 * Cached {@link HandEngine#HandPlayerOpponentOdds(long, long, double[], double[])}.
+	 */
+	public void HandPlayerOpponentOdds(long ourcards, long board, double[] player, double[] opponent) {
+
+		Key key = new Key(Query.HandPlayerOpponentOdds, 0, ourcards, board);
+		double[][] result = (double[][])get(key);
+		if(result == null) {
+			int types = HandEngine.HandTypes.values().length;
+			result = new double[][] { new double[types], new double[types] };
+			HandEngine.HandPlayerOpponentOdds(ourcards, board, result[0], result[1]);
+			put(key, result);
+		}
+
+		// a hit does not go through the engine's argument checks, so the
+		// caller's arrays may be of any size
+		System.arraycopy(result[0], 0, player, 0, Math.min(player.length, result[0].length));
+		System.arraycopy(result[1], 0, opponent, 0, Math.min(opponent.length, result[1].length));
+	}
+
+	/**
+	 * Cached {@link HandEngine#HandPotential(long, long, double[], double[])}.
+	 */
+	public void HandPotential(long pocket, long board, double[] ppot, double[] npot) {
+
+		Key key = new Key(Query.HandPotential, 0, pocket, board);
+		double[] result = (double[])get(key);
+		if(result == null) {
+			double[] p = new double[1], n = new double[1];
+			HandEngine.HandPotential(pocket, board, p, n);
+			result = new double[] { p[0], n[0] };
+			put(key, result);
+		}
+
+		ppot[0] = result[0];
+		npot[0] = result[1];
+	}
+
+	/**
+	 * Cached {@link HandEngine#getHS(long, long, int)}.
+	 */
+	public double getHS(long aPlayer, long aBoard, int aPlayerCount) {
+
+		Key key = new Key(Query.HS, aPlayerCount, aPlayer, aBoard);
+		Double result = (Double)get(key);
+		if(result == null) {
+			result = HandEngine.getHS(aPlayer, aBoard, aPlayerCount);
+			put(key, result);
+		}
+		return result;
+	}
+
+	/**
+	 * Cached {@link HandEngine#getEHS(long, long, int)}.
+	 */
+	public double getEHS(long aPlayer, long aBoard, int aPlayerCount) {
+
+		Key key = new Key(Query.EHS, aPlayerCount, aPlayer, aBoard);
+		Double result = (Double)get(key);
+		if(result == null) {
+			result = HandEngine.getEHS(aPlayer, aBoard, aPlayerCount);
+			put(key, result);
+		}
+		return result;
+	}
+
+	/**
+	 * @return number of queries answered from the cache
+	 */
+	public long getHits() {
+		return hits.get();
+	}
+
+	/**
+	 * @return number of queries which had to be computed
+	 */
+	public long getMisses() {
+		return misses.get();
+	}
+
+	/**
+	 * @return number of cached spots
+	 */
+	public int size() {
+		synchronized(entries) {
+			return entries.size();
+		}
+	}
+
+	/**
+	 * @return maximum number of cached spots
+	 */
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * Evicts all spots; counters are kept.
+	 */
+	public void clear() {
+		synchronized(entries) {
+			entries.clear();
+		}
+	}
+
+	private Object get(Key aKey) {
+		Object result;
+		synchronized(entries) {
+			result = entries.get(aKey);
+		}
+		(result == null ? misses : hits).incrementAndGet();
+		return result;
+	}
+
+	private void put(Key aKey, Object aResult) {
+		synchronized(entries) {
+			entries.put(aKey, aResult);
+		}
+	}
+
+	/**
+	 * Query type, its extra argument and canonical masks of the spot.
+	 */
+	private static final class Key {
+
+		private final Query query;
+		private final int argument;
+		private final long[] masks;
+		private final int hash;
+
+		Key(Query aQuery, int aArgument, long... aMasks) {
+			query = aQuery;
+			argument = aArgument;
+			masks = SuitIsomorphism.canonicalize(aMasks);
+			hash = 31 * (31 * query.ordinal() + argument) + Arrays.hashCode(masks);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if(!(obj instanceof Key))
+				return false;
+			Key other = (Key)obj;
+			return query == other.query && argument == other.argument && Arrays.equals(masks, other.masks);
+		}
+	}
+}
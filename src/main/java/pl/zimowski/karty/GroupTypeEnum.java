@@ -0,0 +1,17 @@
+package pl.zimowski.karty;
+
+/**
+ * Pocket card groupings, Group1 is best, None is worst. Similar to, and for
+ * most hands identical with, Sklansky groupings.
+ */
+public enum GroupTypeEnum {
+    Group1,
+    Group2,
+    Group3,
+    Group4,
+    Group5,
+    Group6,
+    Group7,
+    Group8,
+    None;  /* Not in any group */
+}
@@ -0,0 +1,21 @@
+package pl.zimowski.karty;
+
+/**
+ * Receives each hand of a minimal change enumeration together with the card
+ * that came in and the card that went out since the previous hand.
+ *
+ * @author Adam Zimowski
+ * @see HandEngine#forEachHandRevolving(long, long, int, HandChangeConsumer)
+ */
+@FunctionalInterface
+public interface HandChangeConsumer {
+
+	/**
+	 * @param hand hand mask
+	 * @param cardIn index of the card added to the previous hand, -1 for the
+	 * 	first hand
+	 * @param cardOut index of the card removed from the previous hand, -1
+	 * 	for the first hand
+	 */
+	void accept(long hand, int cardIn, int cardOut);
+}
@@ -1,28 +1,30 @@
 package pl.zimowski.karty;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Random;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
 
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import pl.zimowski.karty.tables.BitAndStrTable;
 import pl.zimowski.karty.tables.BitCountTable;
 import pl.zimowski.karty.tables.BitsTable;
 import pl.zimowski.karty.tables.CardMasksTable;
 import pl.zimowski.karty.tables.CardTable;
 import pl.zimowski.karty.tables.OpponentOddsTable;
 import pl.zimowski.karty.tables.PlayerOddsTable;
-import pl.zimowski.karty.tables.Pocket169Table;
+import pl.zimowski.karty.tables.PocketClassTable;
+import pl.zimowski.karty.tables.PocketGroupTable;
 import pl.zimowski.karty.tables.RankCharTable;
+import pl.zimowski.karty.tables.RankMaskTable;
 import pl.zimowski.karty.tables.RankTable;
-import pl.zimowski.karty.tables.StraightTable;
 import pl.zimowski.karty.tables.SuitCharTable;
 import pl.zimowski.karty.tables.SuitTable;
-import pl.zimowski.karty.tables.TopCardTable;
-import pl.zimowski.karty.tables.TopFiveCardsTable;
-import pl.zimowski.karty.tables.TwoCardTable;
 
 public class HandEngine {
 
@@ -62,6 +64,8 @@ public class HandEngine {
 
 	private static final int THIRD_CARD_SHIFT = 8;
 
+	private static final int THIRD_CARD_MASK = 0x00000F00;
+
 	private static final int FOURTH_CARD_SHIFT = 4;
 
 	private static final int FIFTH_CARD_SHIFT = 0;
@@ -77,17 +81,11 @@ public class HandEngine {
 	// Bit count table from snippets.org
 	private static final byte[] _bitCountTable = BitCountTable.TABLE;
 
-	private static final short[] _bitsAndStrTable = BitAndStrTable.TABLE;
-
 	// A table representing the bit count for a 13 bit integer.
 	public static final short[] _bitsTable = BitsTable.TABLE;
 
-	// This table returns a straights starting card (0 if not a straight)
-	private static final short[] _straightTable = StraightTable.TABLE;
-
-	private static final int[] _topFiveCardsTable = TopFiveCardsTable.TABLE;
-
-	private static final short[] _topCardTable = TopCardTable.TABLE;
+	// Bit count, straight, top card and top five cards of a 13 bit rank mask
+	private static final int[] _rankMaskTable = RankMaskTable.TABLE;
 
 	/**
 	 * This table is equivalent to 1UL left shifted by the index. The lookup is
@@ -110,26 +108,27 @@ public class HandEngine {
 	// Converts card number into the card suit text string
 	private static final char[] _suitCharTable = SuitCharTable.TABLE;
 
-	/**
-	 * 1326 ulong cards masks for all hold cards.
-	 * FROM:HandIterator.cs
+	/*
+	 * TwoCardTable (1326 masks of all hold cards), PocketClassTable and
+	 * PocketGroupTable (169 unique holdem combination of every pocket by its
+	 * index, and group of every combination) and the precalculated preflop
+	 * odds tables are used straight from their table classes, so they are
+	 * only loaded by code which needs them.
 	 */
-	static final long[] _twoCardTable = TwoCardTable.TABLE;
 
 	/**
-	 * The 1326 possible pocket cards ordered by the 169 unique holdem
-	 * combinations. The index is equivalent to the number value of
-	 * Hand.PocketPairType.
-	 * FROM:HandIterator.cs
+	 * Enum constants by ordinal, for lookups by pocket index. The holder is
+	 * loaded on first lookup; class initialization publishes the arrays
+	 * safely to every thread.
 	 */
-	private static final long[][] _pocket169Table = Pocket169Table.TABLE;
-
-	// quick lookup by mask to return enumerated type
-	private static Map<Long, PocketHand169Enum> _pocketDictionary = new HashMap<Long, PocketHand169Enum>();
-
-	private static final double[][] _preCalcPlayerOddsTable = PlayerOddsTable.TABLE;
+	private static final class PocketTypes {
+		static final PocketHand169Enum[] POCKET_169 = PocketHand169Enum.values();
+		static final GroupTypeEnum[] GROUPS = GroupTypeEnum.values();
+	}
 
-	private static double[][] _preCalcOppOddsTable = OpponentOddsTable.TABLE;
+	// precomputed strength and potential of spots, by number of board
+	// cards; replaced as a whole, so readers need no locking
+	private static volatile PotentialTable[] _potentialTables = new PotentialTable[6];
 
 	/**
 	 * As a utility class, no instances are allowed therefore constructor is
@@ -149,33 +148,7 @@ public class HandEngine {
 
 		if(StringUtils.isEmpty(aHand)) return false;
 
-        long handmask = 0L;
-        int cards = 0;
-        int card = 0;
-
-        if(log.isTraceEnabled()) log.trace("hand: " + aHand);
-
-        try {
-        	IntegerRef index = new IntegerRef(0);
-            for(card = nextCard(aHand, index);
-            	card >= 0;
-            	card = nextCard(aHand, index)) {
-
-            	if(log.isTraceEnabled()) log.trace("index: " + index);
-
-            	if ((handmask & (1L << card)) != 0)
-                    return false;
-                handmask |= (1L << card);
-                cards++;
-            }
-
-            return card == -1 && cards > 0 && index.get() >= aHand.length();
-        }
-        catch(Exception e) {
-        	log.error(e.getMessage());
-        }
-
-        return false;
+		return !CardParser.isError(CardParser.parse(aHand));
 	}
 
 	/**
@@ -194,7 +167,10 @@ public class HandEngine {
 		if(StringUtils.isEmpty(aBoard))
 			throw new IllegalArgumentException("board");
 
-		return validateHand(aPocket + " " + aBoard);
+		long pocket = parseCards(aPocket);
+		long board = parseCards(aBoard);
+		return !CardParser.isError(pocket) && !CardParser.isError(board)
+				&& (pocket & board) == 0 && (pocket | board) != 0;
 	}
 
 	/**
@@ -222,21 +198,13 @@ public class HandEngine {
         if(StringUtils.isEmpty(aHand))
         	throw new IllegalArgumentException("hand");
 
+        long handmask = CardParser.parse(aHand);
+
         // Hand contains either invalid strings or duplicate entries
-        if(!HandEngine.validateHand(aHand))
+        if(CardParser.isError(handmask))
         	throw new IllegalArgumentException("Bad hand definition: [" + aHand + "]");
 
-		IntegerRef index = new IntegerRef(0);
-        long handmask = 0L;
-
-        // Parse the hand
-        if(aCards != null) aCards.set(0);
-        for(int card = nextCard(aHand, index); card >= 0;
-        	card = nextCard(aHand, index)) {
-
-            handmask |= (1L << card);
-            if(aCards != null) aCards.increment();
-        }
+        if(aCards != null) aCards.set(BitCount(handmask));
         return handmask;
 	}
 
@@ -258,10 +226,29 @@ public class HandEngine {
 		if(StringUtils.isEmpty(aPocket))
 			throw new IllegalArgumentException("pocket");
 
-		StringBuilder hand = new StringBuilder(aPocket);
-		if(StringUtils.isNotEmpty(aBoard)) hand.append(" " + aBoard);
+		if(StringUtils.isEmpty(aBoard))
+			return parseHand(aPocket, aCards);
+
+		long pocket = parseCards(aPocket);
+		long board = parseCards(aBoard);
+		if(CardParser.isError(pocket) || CardParser.isError(board)
+				|| (pocket & board) != 0 || (pocket | board) == 0)
+			throw new IllegalArgumentException("Bad hand definition: [" + aPocket + " " + aBoard + "]");
+
+		if(aCards != null) aCards.set(BitCount(pocket | board));
+		return pocket | board;
+	}
 
-		return parseHand(hand.toString(), aCards);
+	/**
+	 * Part of a hand which is validated together with another part, so
+	 * being blank is not an error by itself.
+	 *
+	 * @param aCards cards
+	 * @return hand mask, possibly empty, or a negative {@link CardParser} error
+	 */
+	private static long parseCards(String aCards) {
+		long mask = CardParser.parse(aCards);
+		return CardParser.errorCode(mask) == CardParser.NO_CARDS ? 0L : mask;
 	}
 
 	/**
@@ -304,8 +291,6 @@ public class HandEngine {
 		if(aCardIterator == null)
 			throw new IllegalArgumentException("itrator");
 
-		if(log.isTraceEnabled()) log.trace("index: " + aCardIterator);
-
         // Remove whitespace
 		while (aCardIterator.get() < aCards.length() &&
 				aCards.charAt(aCardIterator.get()) == ' ') {
@@ -318,7 +303,6 @@ public class HandEngine {
         // Parse cards
         if(aCardIterator.get() < aCards.length()) {
         	char charAt = aCards.charAt(aCardIterator.increment());
-        	if(log.isTraceEnabled()) log.trace("switch val: " + charAt);
         	switch(charAt) {
                 case '1':
                     try {
@@ -382,8 +366,6 @@ public class HandEngine {
         }
         else { return -2; }
 
-        if(log.isTraceEnabled()) log.trace("rank: " + rank);
-
         if(aCardIterator.get() < aCards.length()) {
             switch (aCards.charAt(aCardIterator.increment())) {
                 case 'H':
@@ -408,8 +390,6 @@ public class HandEngine {
         }
         else { return -2; }
 
-        if(log.isTraceEnabled()) log.trace("suit: " + suit);
-
         return rank + (suit * 13);
 	}
 
@@ -771,18 +751,18 @@ public class HandEngine {
         int sh = (int)((mask >> (HEART_OFFSET)) & 0x1fffL);
 
         int ranks = sc | sd | sh | ss;
-        int rankinfo = _bitsAndStrTable[ranks];
-        int n_dups = cards - (rankinfo >> 2);
+        int rankinfo = _rankMaskTable[ranks];
+        int n_dups = cards - ((rankinfo >> RankMaskTable.COUNT_SHIFT) & CARD_MASK);
 
-        if ((rankinfo & 0x01) != 0) {
-            if ((rankinfo & 0x02) != 0)
+        if ((rankinfo & RankMaskTable.FIVE_FLAG) != 0) {
+            if ((rankinfo & RankMaskTable.STRAIGHT_FLAG) != 0)
                 is_st_or_fl = HandTypes.Straight;
 
-            int t = _bitsAndStrTable[ss] | _bitsAndStrTable[sc] | _bitsAndStrTable[sd] | _bitsAndStrTable[sh];
+            int t = _rankMaskTable[ss] | _rankMaskTable[sc] | _rankMaskTable[sd] | _rankMaskTable[sh];
 
-            if ((t & 0x01) != 0)
+            if ((t & RankMaskTable.FIVE_FLAG) != 0)
             {
-                if ((t & 0x02) != 0)
+                if ((t & RankMaskTable.STRAIGHT_FLAG) != 0)
                     return HandTypes.StraightFlush;
                 else
                     is_st_or_fl = HandTypes.Flush;
@@ -891,52 +871,28 @@ public class HandEngine {
         int ss = (int)((cards >> (SPADE_OFFSET)) & 0x1fffL);
 
         int ranks = sc | sd | sh | ss;
-        int n_ranks = _bitsTable[ranks];
+        int rankinfo = _rankMaskTable[ranks];
+        int n_ranks = (rankinfo >> RankMaskTable.COUNT_SHIFT) & CARD_MASK;
         int n_dups = numberOfCards - n_ranks;
 
         // Check for straight, flush, or straight flush, and return if we can
         // determine immediately that this is the best possible hand
         if(n_ranks >= 5) {
-            if(_bitsTable[ss] >= 5) {
-                if(_straightTable[ss] != 0) {
+            int si = _rankMaskTable[ss], ci = _rankMaskTable[sc],
+                di = _rankMaskTable[sd], hi = _rankMaskTable[sh];
+            if(((si | ci | di | hi) & RankMaskTable.FIVE_FLAG) != 0) {
+                // only one suit can hold five of seven cards
+                int suitinfo = (si & RankMaskTable.FIVE_FLAG) != 0 ? si :
+                    (ci & RankMaskTable.FIVE_FLAG) != 0 ? ci :
+                    (di & RankMaskTable.FIVE_FLAG) != 0 ? di : hi;
+                if((suitinfo & RankMaskTable.STRAIGHT_FLAG) != 0) {
                     return HANDTYPE_VALUE_STRAIGHTFLUSH +
-                    	(_straightTable[ss] << TOP_CARD_SHIFT);
+                        (straightTop(suitinfo) << TOP_CARD_SHIFT);
                 }
-                else
-                    retval = HANDTYPE_VALUE_FLUSH + _topFiveCardsTable[ss];
+                retval = HANDTYPE_VALUE_FLUSH + (suitinfo & RankMaskTable.TOP_FIVE_MASK);
             }
-            else if(_bitsTable[sc] >= 5) {
-                if(_straightTable[sc] != 0) {
-                    return HANDTYPE_VALUE_STRAIGHTFLUSH +
-                    	(_straightTable[sc] << TOP_CARD_SHIFT);
-                }
-                else
-                    retval = HANDTYPE_VALUE_FLUSH + _topFiveCardsTable[sc];
-            }
-            else if(_bitsTable[sd] >= 5)
-            {
-                if(_straightTable[sd] != 0) {
-                    return HANDTYPE_VALUE_STRAIGHTFLUSH +
-                    	(_straightTable[sd] << TOP_CARD_SHIFT);
-                }
-                else
-                    retval = HANDTYPE_VALUE_FLUSH + _topFiveCardsTable[sd];
-            }
-            else if(_bitsTable[sh] >= 5)
-            {
-                if(_straightTable[sh] != 0) {
-                    return HANDTYPE_VALUE_STRAIGHTFLUSH +
-                    	(_straightTable[sh] << TOP_CARD_SHIFT);
-                }
-                else
-                    retval = HANDTYPE_VALUE_FLUSH + _topFiveCardsTable[sh];
-            }
-            else
-            {
-                int st = _straightTable[ranks];
-                if(st != 0)
-                    retval = HANDTYPE_VALUE_STRAIGHT + (st << TOP_CARD_SHIFT);
-            };
+            else if((rankinfo & RankMaskTable.STRAIGHT_FLAG) != 0)
+                retval = HANDTYPE_VALUE_STRAIGHT + (straightTop(rankinfo) << TOP_CARD_SHIFT);
 
             /*
                Another win -- if there can't be a FH/Quads (n_dups < 3),
@@ -958,7 +914,7 @@ public class HandEngine {
         {
             case 0:
                 /* It's a no-pair hand */
-                return HANDTYPE_VALUE_HIGHCARD + _topFiveCardsTable[ranks];
+                return HANDTYPE_VALUE_HIGHCARD + (rankinfo & RankMaskTable.TOP_FIVE_MASK);
             case 1:
                 {
                     /* It's a one-pair hand */
@@ -966,11 +922,11 @@ public class HandEngine {
 
                     two_mask = ranks ^ (sc ^ sd ^ sh ^ ss);
 
-                    retval = HANDTYPE_VALUE_PAIR + (_topCardTable[two_mask] << TOP_CARD_SHIFT);
+                    retval = HANDTYPE_VALUE_PAIR + (topCard(two_mask) << TOP_CARD_SHIFT);
                     t = ranks ^ two_mask;  /* Only one bit set in two_mask */
                     /* Get the top five cards in what is left, drop all but the top three
                      * cards, and shift them by one to get the three desired kickers */
-                    kickers = (_topFiveCardsTable[t] >> CARD_WIDTH) & ~FIFTH_CARD_MASK;
+                    kickers = (topFiveCards(t) >> CARD_WIDTH) & ~FIFTH_CARD_MASK;
                     retval += kickers;
                     return retval;
                 }
@@ -982,22 +938,20 @@ public class HandEngine {
                 {
                     int t = ranks ^ two_mask; /* Exactly two bits set in two_mask */
                     retval = HANDTYPE_VALUE_TWOPAIR
-                        + (_topFiveCardsTable[two_mask]
+                        + (topFiveCards(two_mask)
                         & (TOP_CARD_MASK | SECOND_CARD_MASK))
-                        + (_topCardTable[t] << THIRD_CARD_SHIFT);
+                        + (topCard(t) << THIRD_CARD_SHIFT);
 
                     return retval;
                 }
                 else
                 {
-                    int t, second;
+                    int t;
                     three_mask = ((sc & sd) | (sh & ss)) & ((sc & sh) | (sd & ss));
-                    retval = HANDTYPE_VALUE_TRIPS + (_topCardTable[three_mask] << TOP_CARD_SHIFT);
+                    retval = HANDTYPE_VALUE_TRIPS + (topCard(three_mask) << TOP_CARD_SHIFT);
                     t = ranks ^ three_mask; /* Only one bit set in three_mask */
-                    second = _topCardTable[t];
-                    retval += (second << SECOND_CARD_SHIFT);
-                    t ^= (1 << second);
-                    retval += _topCardTable[t] << THIRD_CARD_SHIFT;
+                    /* the two kickers are the top two of the top five */
+                    retval += (topFiveCards(t) >> CARD_WIDTH) & (SECOND_CARD_MASK | THIRD_CARD_MASK);
                     return retval;
                 }
 
@@ -1006,10 +960,10 @@ public class HandEngine {
                 four_mask = sh & sd & sc & ss;
                 if(four_mask != 0)
                 {
-                    int tc = _topCardTable[four_mask];
+                    int tc = topCard(four_mask);
                     retval = HANDTYPE_VALUE_FOUR_OF_A_KIND
                         + (tc << TOP_CARD_SHIFT)
-                        + ((_topCardTable[ranks ^ (1 << tc)]) << SECOND_CARD_SHIFT);
+                        + ((topCard(ranks ^ (1 << tc))) << SECOND_CARD_SHIFT);
                     return retval;
                 };
 
@@ -1020,17 +974,18 @@ public class HandEngine {
                    already eliminated quads, we can use this shortcut */
 
                 two_mask = ranks ^ (sc ^ sd ^ sh ^ ss);
-                if(_bitsTable[two_mask] != n_dups)
+                int twoinfo = _rankMaskTable[two_mask];
+                if(((twoinfo >> RankMaskTable.COUNT_SHIFT) & CARD_MASK) != n_dups)
                 {
                     /* Must be some trips then, which really means there is a
                        full house since n_dups >= 3 */
                     int tc, t;
                     three_mask = ((sc & sd) | (sh & ss)) & ((sc & sh) | (sd & ss));
                     retval = HANDTYPE_VALUE_FULLHOUSE;
-                    tc = _topCardTable[three_mask];
+                    tc = topCard(three_mask);
                     retval += (tc << TOP_CARD_SHIFT);
                     t = (two_mask | three_mask) ^ (1 << tc);
-                    retval += _topCardTable[t] << SECOND_CARD_SHIFT;
+                    retval += topCard(t) << SECOND_CARD_SHIFT;
                     return retval;
                 };
 
@@ -1042,16 +997,74 @@ public class HandEngine {
                     int top, second;
 
                     retval = HANDTYPE_VALUE_TWOPAIR;
-                    top = _topCardTable[two_mask];
+                    top = (twoinfo >> RankMaskTable.TOP_CARD_SHIFT) & CARD_MASK;
                     retval += (top << TOP_CARD_SHIFT);
-                    second = _topCardTable[two_mask ^ (1 << top)];
+                    second = topCard(two_mask ^ (1 << top));
                     retval += (second << SECOND_CARD_SHIFT);
-                    retval += (_topCardTable[ranks ^ (1 << top) ^ (1 << second)]) << THIRD_CARD_SHIFT;
+                    retval += (topCard(ranks ^ (1 << top) ^ (1 << second))) << THIRD_CARD_SHIFT;
                     return retval;
                 }
         }
 	}
 
+	/**
+	 * Evaluates many independent hands at once, e.g. every opponent holding
+	 * on a river, with the same values as {@link #Evaluate(long, int)}. This
+	 * is a convenience, not a faster path: by default hands are evaluated one
+	 * by one, at about the speed of calling {@link #Evaluate(long, int)} in a
+	 * loop. The vector evaluator (JDK 17 or later, module
+	 * {@code jdk.incubator.vector} added and {@code -Dkarty.vector=true}) is
+	 * still slower than that, see {@code BatchEvaluator}.
+	 *
+	 * @param masks hand masks of 1 to 7 cards
+	 * @param out receives hand value of each mask
+	 * @param n number of hands, from the start of both arrays
+	 * @throws ArgumentOutOfRangeException if n does not fit either array, or
+	 * 	a hand has less than 1 or more than 7 cards
+	 */
+	public static void evaluateBatch(long[] masks, int[] out, int n) {
+
+		if(n < 0 || n > masks.length || n > out.length)
+			throw new ArgumentOutOfRangeException("n");
+
+		BatchEvaluator.getInstance().evaluate(masks, out, n);
+	}
+
+	/**
+	 * Same as {@link #evaluateBatch(long[], int[], int)}, with hands split
+	 * into 13 bit rank masks of each suit (bits of a suit in a hand mask),
+	 * which vectors load as they are.
+	 *
+	 * @param clubs rank masks of clubs
+	 * @param diamonds rank masks of diamonds
+	 * @param hearts rank masks of hearts
+	 * @param spades rank masks of spades
+	 * @param out receives hand value of each hand
+	 * @param n number of hands, from the start of all arrays
+	 * @throws ArgumentOutOfRangeException if n does not fit any of the
+	 * 	arrays, or a hand has less than 1 or more than 7 cards
+	 */
+	public static void evaluateBatch(int[] clubs, int[] diamonds, int[] hearts, int[] spades, int[] out, int n) {
+
+		if(n < 0 || n > clubs.length || n > diamonds.length || n > hearts.length ||
+				n > spades.length || n > out.length)
+			throw new ArgumentOutOfRangeException("n");
+
+		BatchEvaluator.getInstance().evaluate(clubs, diamonds, hearts, spades, out, n);
+	}
+
+	private static int topCard(int aRankMask) {
+		return (_rankMaskTable[aRankMask] >> RankMaskTable.TOP_CARD_SHIFT) & CARD_MASK;
+	}
+
+	private static int topFiveCards(int aRankMask) {
+		return _rankMaskTable[aRankMask] & RankMaskTable.TOP_FIVE_MASK;
+	}
+
+	private static int straightTop(int aRankInfo) {
+		return (aRankInfo >> RankMaskTable.STRAIGHT_SHIFT) & CARD_MASK;
+	}
+
 	/**
 	 * @return positive value if first hand is better, zero if two hands are
 	 * 	equivalent, negative value if second hand is better
@@ -1069,19 +1082,49 @@ public class HandEngine {
     		throw new ArgumentOutOfRangeException(
     				"mask must contain exactly 2 cards");
 
-    	// Fill in dictionary
-    	if(_pocketDictionary.size() == 0) {
-            for(int i = 0; i < _pocket169Table.length; i++) {
-                for(long tmask : _pocket169Table[i]) {
-                    _pocketDictionary.put(tmask, PocketHand169Enum.values()[i]);
-                }
-            }
-        }
+    	return PocketTypes.POCKET_169[PocketClassTable.TABLE[pocketIndex(mask)] & 0xff];
+    }
+
+    /**
+     * Returns pocket grouping of given pocket cards. It is similar to, and may
+     * be used just like, Sklansky groupings.
+     *
+     * @param mask pocket cards
+     * @return group of the pocket
+     * @throws ArgumentOutOfRangeException if mask does not contain exactly
+     * 	2 cards
+     */
+    public static GroupTypeEnum GroupType(long mask) {
 
-    	if(_pocketDictionary.containsKey(mask))
-            return _pocketDictionary.get(mask);
+    	if(BitCount(mask) != 2)
+    		throw new ArgumentOutOfRangeException(
+    				"mask must contain exactly 2 cards");
 
-        return PocketHand169Enum.None;
+    	return PocketTypes.GROUPS[PocketGroupTable.TABLE[PocketClassTable.TABLE[pocketIndex(mask)] & 0xff]];
+    }
+
+    /**
+     * Dense index of a pocket: colexicographic rank of its two cards, so
+     * pockets of cards below n take indices below n * (n - 1) / 2.
+     *
+     * @param mask pocket cards
+     * @return index of the pocket, 0 to 1325
+     * @throws ArgumentOutOfRangeException if mask does not contain exactly
+     * 	2 cards
+     */
+    public static int PocketIndex(long mask) {
+
+    	if(BitCount(mask) != 2)
+    		throw new ArgumentOutOfRangeException(
+    				"mask must contain exactly 2 cards");
+
+    	return pocketIndex(mask);
+    }
+
+    private static int pocketIndex(long aPocket) {
+    	int low = Long.numberOfTrailingZeros(aPocket);
+    	int high = 63 - Long.numberOfLeadingZeros(aPocket);
+    	return high * (high - 1) / 2 + low;
     }
 
     /**
@@ -1122,27 +1165,371 @@ public class HandEngine {
     }
 
     /**
-     * Returns a random hand with the specified number of cards and constrained
-     * to not contain any of the passed dead cards.
+     * Primitive counterpart of {@link #Hands(int)}; the returned iterator does
+     * not box masks as long as {@link PrimitiveIterator.OfLong#nextLong()} is
+     * used.
      *
-     * @param dead Mask for the cards that must not be returned.
-     * @param ncards The number of cards to return in this hand.
-     * @param rand An instance of the Random class.
-     * @return A randomly chosen hand containing the number of cards requested.
-     * FROM:HandIterator.cs
+     * @param numberOfCards the number of cards in the hand
+     * 	(must be between 0 and 7)
+     * @return iterator over all possible hands
+     */
+    public static PrimitiveIterator.OfLong handIterator(int numberOfCards) {
+    	return new HandIterator(numberOfCards);
+    }
+
+    /**
+     * Primitive counterpart of {@link #Hands(long, long, int)}; the returned
+     * iterator does not box masks as long as
+     * {@link PrimitiveIterator.OfLong#nextLong()} is used.
+     *
+     * @param shared Cards that must be in the hand.
+     * @param dead Cards that must not be in the hand.
+     * @param numberOfCards The total number of cards in the hand, including shared.
+     * @return iterator over all possible hands
      */
-    static long GetRandomHand(long dead, int ncards, Random rand) {
+    public static PrimitiveIterator.OfLong handIterator(
+    		long shared, long dead, int numberOfCards) {
+    	return new HandIteratorEx(shared, dead, numberOfCards);
+    }
 
-        long mask = 0L, card;
+    /**
+     * Stream of all possible ncard hands.
+     *
+     * @param numberOfCards the number of cards in the hand
+     * 	(must be between 0 and 7)
+     * @return sequential stream of hand masks
+     * @see #handStream(long, long, int)
+     */
+    public static LongStream handStream(int numberOfCards) {
+    	return handStream(0L, 0L, numberOfCards);
+    }
 
-        for(int i = 0; i < ncards; i++) {
-            do {
-                card = _cardMasksTable[rand.nextInt(52)];
-            } while (((dead | mask) & card) != 0);
-            mask |= card;
-        }
+    /**
+     * Stream of all possible ncard hands which contain all shared cards and
+     * none of the dead cards. The stream is backed by a {@link HandSpliterator}
+     * which splits by combinatorial index and knows its exact size, so when
+     * made {@link LongStream#parallel() parallel} the work is divided evenly
+     * between threads.
+     *
+     * @param shared Cards that must be in the hand.
+     * @param dead Cards that must not be in the hand.
+     * @param numberOfCards The total number of cards in the hand, including shared.
+     * @return sequential stream of hand masks, in ascending order
+     * @throws ArgumentOutOfRangeException if number of cards is not between
+     * 	0 and 7 or is smaller than the number of shared cards
+     */
+    public static LongStream handStream(long shared, long dead, int numberOfCards) {
+    	return StreamSupport.longStream(
+    			new HandSpliterator(new HandIndex(shared, dead, numberOfCards)), false);
+    }
+
+    /**
+     * Calls back with every possible ncard hand. Unlike {@link #Hands(int)}
+     * no object is created per hand, which makes this the preferred way of
+     * walking large spaces (there are 133,784,560 seven card hands).
+     *
+     * @param numberOfCards the number of cards in the hand
+     * 	(must be between 0 and 7)
+     * @param action receives each hand mask
+     */
+    public static void forEachHand(int numberOfCards, LongConsumer action) {
+    	forEachHand(0L, 0L, numberOfCards, action);
+    }
+
+    /**
+     * Calls back with every possible ncard hand which contains all shared
+     * cards and none of the dead cards. Live cards are first compacted into a
+     * dense array, so that plain nested loops over it (in the same order as
+     * {@link #Hands(long, long, int)}) generate only valid hands and cost
+     * scales with the number of live cards rather than with the deck. Hands
+     * are passed on as primitives, so no object is created per hand.
+     *
+     * @param shared Cards that must be in the hand.
+     * @param dead Cards that must not be in the hand.
+     * @param numberOfCards The total number of cards in the hand, including shared.
+     * @param action receives each hand mask
+     * @throws ArgumentOutOfRangeException if number of cards is not between
+     * 	0 and 7 or is smaller than the number of shared cards
+     */
+    public static void forEachHand(long shared, long dead, int numberOfCards, LongConsumer action) {
+
+    	if(action == null)
+    		throw new IllegalArgumentException("action");
+
+    	int ncards = numberOfCards - BitCount(shared);
+    	if(numberOfCards < 0 || numberOfCards > 7 || ncards < 0)
+    		throw new ArgumentOutOfRangeException("numberOfCards");
+
+    	if(ncards == 0) {
+    		action.accept(shared);
+    		return;
+    	}
+
+    	// only live cards take part, so no candidate is ever rejected
+    	final long[] live = liveMasks(dead | shared);
+
+    	int i1, i2, i3, i4, i5, i6, i7;
+    	long n1, n2, n3, n4, n5, n6;
+
+    	switch(ncards) {
+    		case 1:
+    			for(i1 = live.length - 1; i1 >= 0; i1--)
+    				action.accept(live[i1] | shared);
+    			return;
+    		case 2:
+    			for(i1 = live.length - 1; i1 >= 1; i1--) {
+    				n1 = live[i1] | shared;
+    				for(i2 = i1 - 1; i2 >= 0; i2--)
+    					action.accept(n1 | live[i2]);
+    			}
+    			return;
+    		case 3:
+    			for(i1 = live.length - 1; i1 >= 2; i1--) {
+    				n1 = live[i1] | shared;
+    				for(i2 = i1 - 1; i2 >= 1; i2--) {
+    					n2 = n1 | live[i2];
+    					for(i3 = i2 - 1; i3 >= 0; i3--)
+    						action.accept(n2 | live[i3]);
+    				}
+    			}
+    			return;
+    		case 4:
+    			for(i1 = live.length - 1; i1 >= 3; i1--) {
+    				n1 = live[i1] | shared;
+    				for(i2 = i1 - 1; i2 >= 2; i2--) {
+    					n2 = n1 | live[i2];
+    					for(i3 = i2 - 1; i3 >= 1; i3--) {
+    						n3 = n2 | live[i3];
+    						for(i4 = i3 - 1; i4 >= 0; i4--)
+    							action.accept(n3 | live[i4]);
+    					}
+    				}
+    			}
+    			return;
+    		case 5:
+    			for(i1 = live.length - 1; i1 >= 4; i1--) {
+    				n1 = live[i1] | shared;
+    				for(i2 = i1 - 1; i2 >= 3; i2--) {
+    					n2 = n1 | live[i2];
+    					for(i3 = i2 - 1; i3 >= 2; i3--) {
+    						n3 = n2 | live[i3];
+    						for(i4 = i3 - 1; i4 >= 1; i4--) {
+    							n4 = n3 | live[i4];
+    							for(i5 = i4 - 1; i5 >= 0; i5--)
+    								action.accept(n4 | live[i5]);
+    						}
+    					}
+    				}
+    			}
+    			return;
+    		case 6:
+    			for(i1 = live.length - 1; i1 >= 5; i1--) {
+    				n1 = live[i1] | shared;
+    				for(i2 = i1 - 1; i2 >= 4; i2--) {
+    					n2 = n1 | live[i2];
+    					for(i3 = i2 - 1; i3 >= 3; i3--) {
+    						n3 = n2 | live[i3];
+    						for(i4 = i3 - 1; i4 >= 2; i4--) {
+    							n4 = n3 | live[i4];
+    							for(i5 = i4 - 1; i5 >= 1; i5--) {
+    								n5 = n4 | live[i5];
+    								for(i6 = i5 - 1; i6 >= 0; i6--)
+    									action.accept(n5 | live[i6]);
+    							}
+    						}
+    					}
+    				}
+    			}
+    			return;
+    		case 7:
+    			for(i1 = live.length - 1; i1 >= 6; i1--) {
+    				n1 = live[i1] | shared;
+    				for(i2 = i1 - 1; i2 >= 5; i2--) {
+    					n2 = n1 | live[i2];
+    					for(i3 = i2 - 1; i3 >= 4; i3--) {
+    						n3 = n2 | live[i3];
+    						for(i4 = i3 - 1; i4 >= 3; i4--) {
+    							n4 = n3 | live[i4];
+    							for(i5 = i4 - 1; i5 >= 2; i5--) {
+    								n5 = n4 | live[i5];
+    								for(i6 = i5 - 1; i6 >= 1; i6--) {
+    									n6 = n5 | live[i6];
+    									for(i7 = i6 - 1; i7 >= 0; i7--)
+    										action.accept(n6 | live[i7]);
+    								}
+    							}
+    						}
+    					}
+    				}
+    			}
+    			return;
+    		default:
+    			throw new ArgumentOutOfRangeException("numberOfCards");
+    	}
+    }
+
+    /**
+     * Calls back with every possible ncard hand which contains all shared
+     * cards and none of the dead cards, in revolving door order (Knuth,
+     * TAOCP 7.2.1.3, Algorithm R): each hand differs from the previous one
+     * by exactly one card swapped out for another. The swap is passed along
+     * with the hand, so state kept per card (rank counts, suit masks, see
+     * {@link PartialHand#replace(int, int)}) can follow the enumeration at
+     * constant cost per hand instead of being rebuilt from the mask.
+     *
+     * @param shared Cards that must be in the hand.
+     * @param dead Cards that must not be in the hand.
+     * @param numberOfCards The total number of cards in the hand, including shared.
+     * @param action receives each hand mask with the card that came in and
+     * 	the card that went out, both -1 for the first hand
+     * @throws ArgumentOutOfRangeException if number of cards is not between
+     * 	0 and 7 or is smaller than the number of shared cards
+     */
+    public static void forEachHandRevolving(long shared, long dead, int numberOfCards,
+    		HandChangeConsumer action) {
+
+    	if(action == null)
+    		throw new IllegalArgumentException("action");
+
+    	final int t = numberOfCards - BitCount(shared);
+    	if(numberOfCards < 0 || numberOfCards > 7 || t < 0)
+    		throw new ArgumentOutOfRangeException("numberOfCards");
+
+    	final int[] live = liveCards(dead | shared);
+    	final int n = live.length;
+    	if(t > n)
+    		return;
+
+    	// c[1..t] are positions in live of dealt cards, ascending; c[t+1] is a sentinel
+    	final int[] c = new int[t + 2];
+    	long hand = shared;
+    	for(int j = 1; j <= t; j++) {
+    		c[j] = j - 1;
+    		hand |= _cardMasksTable[live[j - 1]];
+    	}
+    	c[t + 1] = n;
+    	action.accept(hand, -1, -1);
+
+    	if(t == 0 || t == n)
+    		return;
+
+    	final boolean odd = (t & 1) != 0;
+    	int in = 0, out = 0, j;
+
+    	while(true) {
+    		// R3, easy case moves the lowest card
+    		if(odd) {
+    			if(c[1] + 1 < c[2]) {
+    				out = c[1]++;
+    				in = c[1];
+    				hand ^= _cardMasksTable[live[out]] | _cardMasksTable[live[in]];
+    				action.accept(hand, live[in], live[out]);
+    				continue;
+    			}
+    			j = 2;
+    		}
+    		else {
+    			if(c[1] > 0) {
+    				out = c[1]--;
+    				in = c[1];
+    				hand ^= _cardMasksTable[live[out]] | _cardMasksTable[live[in]];
+    				action.accept(hand, live[in], live[out]);
+    				continue;
+    			}
+    			j = 2;
+    			// R5 first, c[1] is already at the bottom
+    			if(c[2] + 1 < c[3]) {
+    				out = 0;
+    				c[1] = c[2];
+    				in = ++c[2];
+    				hand ^= _cardMasksTable[live[out]] | _cardMasksTable[live[in]];
+    				action.accept(hand, live[in], live[out]);
+    				continue;
+    			}
+    			j = 3;
+    		}
+
+    		boolean moved = false;
+    		while(j <= t) {
+    			// R4, try to decrease c[j] (here c[j] = c[j-1] + 1)
+    			if(c[j] >= j) {
+    				out = c[j];
+    				in = j - 2;
+    				c[j] = c[j - 1];
+    				c[j - 1] = in;
+    				moved = true;
+    				break;
+    			}
+    			j++;
+    			if(j > t)
+    				break;
+    			// R5, try to increase c[j] (here c[j-1] = j - 2)
+    			if(c[j] + 1 < c[j + 1]) {
+    				out = j - 2;
+    				c[j - 1] = c[j];
+    				in = ++c[j];
+    				moved = true;
+    				break;
+    			}
+    			j++;
+    		}
+    		if(!moved)
+    			return;
+
+    		hand ^= _cardMasksTable[live[out]] | _cardMasksTable[live[in]];
+    		action.accept(hand, live[in], live[out]);
+    	}
+    }
 
-        return mask;
+    /**
+     * Calls back with one hand out of every set of hands that are the same
+     * up to a permutation of suits, together with the size of the set. Only
+     * permutations which leave each pocket, the shared cards and the dead
+     * cards unchanged are taken into account, so the spot around the hand
+     * looks the same for all hands of a set and any result computed for the
+     * canonical hand holds for all of them. Weights add up to the number of
+     * hands {@link #forEachHand(long, long, int, LongConsumer)} would visit.
+     * <p>
+     * The fewer suits the known cards break, the fewer hands are visited;
+     * heads up AsAh against KsKh leaves a quarter of the boards, a flop
+     * three of one suit around a pocket of the same suit a sixth of the
+     * turns and rivers. If known cards break all suits every hand is visited
+     * with weight 1.
+     *
+     * @param shared Cards that must be in the hand.
+     * @param dead Cards that must not be in the hand.
+     * @param pockets Pockets of the players, each of which must not be in
+     * 	the hand either; may be empty.
+     * @param numberOfCards The total number of cards in the hand, including shared.
+     * @param action receives each canonical hand mask and its weight
+     * @throws ArgumentOutOfRangeException if number of cards is not between
+     * 	0 and 7 or is smaller than the number of shared cards
+     */
+    public static void forEachCanonicalHand(long shared, long dead, long[] pockets, int numberOfCards,
+    		WeightedHandConsumer action) {
+
+    	if(action == null)
+    		throw new IllegalArgumentException("action");
+
+    	long[] known = new long[pockets.length + 2];
+    	known[0] = shared;
+    	known[1] = dead;
+    	for(int i = 0; i < pockets.length; i++) {
+    		known[i + 2] = pockets[i];
+    		dead |= pockets[i];
+    	}
+
+    	final int[][] group = SuitPermutations.stabilizer(known);
+    	if(group.length == 1) {
+    		forEachHand(shared, dead, numberOfCards, hand -> action.accept(hand, 1));
+    		return;
+    	}
+
+    	forEachHand(shared, dead, numberOfCards, hand -> {
+    		int weight = SuitPermutations.weight(hand, group);
+    		if(weight > 0)
+    			action.accept(hand, weight);
+    	});
     }
 
     /**
@@ -1168,6 +1555,29 @@ public class HandEngine {
     	};
     }
 
+    /**
+     * Reproducible variant of {@link #RandomHands(long, long, int, int)}.
+     * Every iterator is seeded the same, so iterating twice yields the same
+     * sequence of hands.
+     *
+     * @param shared Cards that must be in the hand.
+     * @param dead Cards that must not be in the hand.
+     * @param ncards The total number of cards in the hand, including shared.
+     * @param trials The total number of random hands to return.
+     * @param seed seed of the random stream
+     * @return A random hand mask meeting the input specifications.
+     */
+    public static Iterable<Long> RandomHands(
+    	final long shared, final long dead, final int ncards, final int trials, final long seed) {
+
+    	return new Iterable<Long>() {
+    		@Override
+            public RandomHandIterator iterator() {
+    			return new RandomHandIterator(shared, dead, ncards, trials, CardRandom.splittable(seed));
+    		}
+    	};
+    }
+
     /**
      * Iterates through random hands with ncards number of cards. This iterator
      * will return the number of masks specifed in trials. Masks can be
@@ -1218,17 +1628,334 @@ public class HandEngine {
 	public static void HandOdds(String[] pockets, String board, String dead,
 			long[] wins, long[] ties, long[] losses, long[] totalHands) {
 
+		long[] boardAndDead = new long[2];
+		long[] pocketmasks = parseOddsArguments(pockets, board, dead, boardAndDead);
+
+		HandOdds(pocketmasks, boardAndDead[0], boardAndDead[1],
+				wins, ties, losses, totalHands);
+	}
+
+	/**
+	 * Same as {@link #HandOdds(String[], String, String, long[], long[], long[], long[])}
+	 * but works off already parsed and validated masks.
+	 *
+	 * @param pocketmasks pocket cards, one mask for each player
+	 * @param boardmask the board cards
+	 * @param deadmask the dead cards (may, but does not need to include
+	 * 	pocket cards)
+	 * @param wins An array of win tallies, one for each player
+	 * @param ties An array of tie tallies, one for each player
+	 * @param losses An array of losses tallies, one for each player
+	 * @param totalHands The total number of hands enumarated
+	 */
+	public static void HandOdds(final long[] pocketmasks, long boardmask, long deadmask,
+			final long[] wins, final long[] ties, final long[] losses, final long[] totalHands) {
+
+		final long[] pockethands = new long[pocketmasks.length];
+
+		totalHands[0] = 0;
+		for(int i = 0; i < pocketmasks.length; i++) {
+			wins[i] = ties[i] = losses[i] = 0;
+			deadmask |= pocketmasks[i];
+		}
+
+        // Iterate through all board possiblities that doesn't include any pocket cards.
+        forEachHand(boardmask, deadmask, 5, boardhand -> {
+        	tallyHandOdds(pocketmasks, pockethands, boardhand, wins, ties, losses);
+            totalHands[0]++;
+        });
+	}
+
+	/**
+	 * Same as {@link #HandOdds(String[], String, String, long[], long[], long[], long[])}
+	 * but evaluates only one board out of every set of boards which are the
+	 * same up to a permutation of suits the pockets, board and dead cards
+	 * leave unchanged, and counts it as many times as the set has boards
+	 * (see {@link #forEachCanonicalHand(long, long, long[], int, WeightedHandConsumer)}).
+	 * Tallies are identical, evaluations are fewer by up to the number of
+	 * such permutations (as much as 6 times heads up preflop).
+	 *
+	 * @param pockets Array of pocket hand string, one for each player
+	 * @param board the board cards
+	 * @param dead the dead cards
+	 * @param wins An array of win tallies, one for each player
+	 * @param ties An array of tie tallies, one for each player
+	 * @param losses An array of losses tallies, one for each player
+	 * @param totalHands The total number of hands enumarated
+	 */
+	public static void HandOddsWeighted(String[] pockets, String board, String dead,
+			long[] wins, long[] ties, long[] losses, long[] totalHands) {
+
+		long[] boardAndDead = new long[2];
+		long[] pocketmasks = parseOddsArguments(pockets, board, dead, boardAndDead);
+
+		HandOddsWeighted(pocketmasks, boardAndDead[0], boardAndDead[1],
+				wins, ties, losses, totalHands);
+	}
+
+	/**
+	 * Same as {@link #HandOddsWeighted(String[], String, String, long[], long[], long[], long[])}
+	 * but works off already parsed and validated masks.
+	 *
+	 * @param pocketmasks pocket cards, one mask for each player
+	 * @param boardmask the board cards
+	 * @param deadmask the dead cards
+	 * @param wins An array of win tallies, one for each player
+	 * @param ties An array of tie tallies, one for each player
+	 * @param losses An array of losses tallies, one for each player
+	 * @param totalHands The total number of hands enumarated
+	 */
+	public static void HandOddsWeighted(final long[] pocketmasks, long boardmask, long deadmask,
+			final long[] wins, final long[] ties, final long[] losses, final long[] totalHands) {
+
+		final long[] pockethands = new long[pocketmasks.length];
+
+		totalHands[0] = 0;
+		for(int i = 0; i < pocketmasks.length; i++)
+			wins[i] = ties[i] = losses[i] = 0;
+
+		forEachCanonicalHand(boardmask, deadmask, pocketmasks, 5, (boardhand, weight) -> {
+			tallyHandOdds(pocketmasks, pockethands, boardhand, wins, ties, losses, weight);
+			totalHands[0] += weight;
+		});
+	}
+
+	/**
+	 * Same as {@link #HandOdds(long[], long, long, long[], long[], long[], long[])}
+	 * but enumerates only a range of boards, as numbered by a {@link HandIndex}
+	 * of five card boards with board cards shared and pocket and dead cards
+	 * dead. Tallies of ranges which together cover the index sum up to the
+	 * tallies of the full enumeration, so the work can be cut into equal
+	 * parts (see {@link HandIndex#start(int, int)}) and spread across
+	 * threads, processes or machines.
+	 *
+	 * @param pocketmasks pocket cards, one mask for each player
+	 * @param boardmask the board cards
+	 * @param deadmask the dead cards
+	 * @param fromIndex index of the first board, inclusive
+	 * @param toIndex index past the last board, exclusive
+	 * @param wins An array of win tallies, one for each player
+	 * @param ties An array of tie tallies, one for each player
+	 * @param losses An array of losses tallies, one for each player
+	 * @param totalHands The total number of hands enumarated
+	 * @throws ArgumentOutOfRangeException if range does not fit in the index
+	 */
+	public static void HandOdds(final long[] pocketmasks, long boardmask, long deadmask,
+			long fromIndex, long toIndex,
+			final long[] wins, final long[] ties, final long[] losses, final long[] totalHands) {
+
+		final long[] pockethands = new long[pocketmasks.length];
+
+		totalHands[0] = 0;
+		for(int i = 0; i < pocketmasks.length; i++) {
+			wins[i] = ties[i] = losses[i] = 0;
+			deadmask |= pocketmasks[i];
+		}
+
+		IndexedHandIterator boards = new HandIndex(boardmask, deadmask, 5).iterator(fromIndex, toIndex);
+		while(boards.hasNext()) {
+			tallyHandOdds(pocketmasks, pockethands, boards.nextLong(), wins, ties, losses);
+			totalHands[0]++;
+		}
+	}
+
+	/**
+	 * Parallel version of {@link #HandOdds(String[], String, String, long[], long[], long[], long[])}.
+	 * Boards are numbered by a {@link HandIndex} and the index is halved into
+	 * equal ranges, each range is evaluated as a fork/join task with
+	 * its own tallies and tallies are summed on the way back. Since results
+	 * are plain integer counts, they match the serial version exactly.
+	 *
+	 * @param pockets Array of pocket hand string, one for each player
+	 * @param board the board cards
+	 * @param dead the dead cards
+	 * @param wins An array of win tallies, one for each player
+	 * @param ties An array of tie tallies, one for each player
+	 * @param losses An array of losses tallies, one for each player
+	 * @param totalHands The total number of hands enumarated
+	 * @param parallelism number of worker threads; zero or less runs in the
+	 * 	common fork/join pool
+	 */
+	public static void HandOddsParallel(String[] pockets, String board, String dead,
+			long[] wins, long[] ties, long[] losses, long[] totalHands, int parallelism) {
+
+		long[] boardAndDead = new long[2];
+		long[] pocketmasks = parseOddsArguments(pockets, board, dead, boardAndDead);
+
+		HandOddsParallel(pocketmasks, boardAndDead[0], boardAndDead[1],
+				wins, ties, losses, totalHands, parallelism);
+	}
+
+	/**
+	 * Same as {@link #HandOddsParallel(String[], String, String, long[], long[], long[], long[], int)}
+	 * but works off already parsed and validated masks.
+	 *
+	 * @param pocketmasks pocket cards, one mask for each player
+	 * @param boardmask the board cards
+	 * @param deadmask the dead cards
+	 * @param wins An array of win tallies, one for each player
+	 * @param ties An array of tie tallies, one for each player
+	 * @param losses An array of losses tallies, one for each player
+	 * @param totalHands The total number of hands enumarated
+	 * @param parallelism number of worker threads; zero or less runs in the
+	 * 	common fork/join pool
+	 */
+	public static void HandOddsParallel(long[] pocketmasks, long boardmask, long deadmask,
+			long[] wins, long[] ties, long[] losses, long[] totalHands, int parallelism) {
+
+		for(long pocket : pocketmasks) deadmask |= pocket;
+
+		HandOddsTask task = new HandOddsTask(pocketmasks, boardmask, deadmask);
+
+		if(parallelism > 0) {
+			ForkJoinPool pool = new ForkJoinPool(parallelism);
+			try {
+				pool.invoke(task);
+			}
+			finally {
+				pool.shutdown();
+			}
+		}
+		else
+			ForkJoinPool.commonPool().invoke(task);
+
+		for(int i = 0; i < pocketmasks.length; i++) {
+			wins[i] = task.wins[i];
+			ties[i] = task.ties[i];
+			losses[i] = task.losses[i];
+		}
+		totalHands[0] = task.total;
+	}
+
+	/**
+	 * Sampling counterpart of {@link #HandOdds(String[], String, String, long[], long[], long[], long[])}
+	 * for spots where exhaustive enumeration is too slow (many players, early
+	 * streets). Boards are dealt at random until the standard error of every
+	 * player's equity is within tolerance or the trial/time budget is spent.
+	 *
+	 * @param pockets Array of pocket hand string, one for each player
+	 * @param board the board cards
+	 * @param dead the dead cards
+	 * @param tolerance target standard error of each player's equity; zero
+	 * 	or less to ignore
+	 * @param maxTrials maximum number of boards to deal; zero or less to
+	 * 	ignore
+	 * @param maxMillis maximum time to spend; zero or less to ignore
+	 * @param threads number of worker threads
+	 * @return equity estimate of each player with its confidence interval
+	 * @see MonteCarloOdds
+	 */
+	public static MonteCarloOdds HandOddsMonteCarlo(String[] pockets, String board, String dead,
+			double tolerance, long maxTrials, long maxMillis, int threads) {
+
+		long[] boardAndDead = new long[2];
+		long[] pocketmasks = parseOddsArguments(pockets, board, dead, boardAndDead);
+
+		return MonteCarloOdds.estimate(pocketmasks, boardAndDead[0], boardAndDead[1],
+				tolerance, maxTrials, maxMillis, threads);
+	}
+
+	/**
+	 * Reproducible variant of
+	 * {@link #HandOddsMonteCarlo(String[], String, String, double, long, long, int)}.
+	 * The same seed, stopping rule and number of threads always produce the
+	 * same estimate, unless the estimate is cut short by the time budget.
+	 *
+	 * @param pockets Array of pocket hand string, one for each player
+	 * @param board the board cards
+	 * @param dead the dead cards
+	 * @param tolerance target standard error of each player's equity; zero
+	 * 	or less to ignore
+	 * @param maxTrials maximum number of boards to deal; zero or less to
+	 * 	ignore
+	 * @param maxMillis maximum time to spend; zero or less to ignore
+	 * @param threads number of worker threads
+	 * @param seed seed of the random stream
+	 * @return equity estimate of each player with its confidence interval
+	 */
+	public static MonteCarloOdds HandOddsMonteCarlo(String[] pockets, String board, String dead,
+			double tolerance, long maxTrials, long maxMillis, int threads, long seed) {
+
+		long[] boardAndDead = new long[2];
+		long[] pocketmasks = parseOddsArguments(pockets, board, dead, boardAndDead);
+
+		return MonteCarloOdds.estimate(pocketmasks, boardAndDead[0], boardAndDead[1],
+				tolerance, maxTrials, maxMillis, threads, CardRandom.splittable(seed));
+	}
+
+	/**
+	 * Evaluates all pockets against a complete board and tallies the outcome
+	 * for each player.
+	 *
+	 * @param pocketmasks pocket cards, one mask for each player
+	 * @param pockethands scratch space for hand values, one for each player
+	 * @param boardhand complete (5 card) board
+	 * @param wins An array of win tallies, one for each player
+	 * @param ties An array of tie tallies, one for each player
+	 * @param losses An array of losses tallies, one for each player
+	 */
+	static void tallyHandOdds(long[] pocketmasks, long[] pockethands, long boardhand,
+			long[] wins, long[] ties, long[] losses) {
+		tallyHandOdds(pocketmasks, pockethands, boardhand, wins, ties, losses, 1);
+	}
+
+	/**
+	 * Same as {@link #tallyHandOdds(long[], long[], long, long[], long[], long[])}
+	 * but the board counts as many times as its weight.
+	 */
+	static void tallyHandOdds(long[] pocketmasks, long[] pockethands, long boardhand,
+			long[] wins, long[] ties, long[] losses, long weight) {
+
+        // Evaluate all hands and determine the best hand
+        long bestpocket = Evaluate(pocketmasks[0] | boardhand, 7);
+        pockethands[0] = bestpocket;
+        int bestcount = 1;
+        for(int i = 1; i < pocketmasks.length; i++) {
+            pockethands[i] = Evaluate(pocketmasks[i] | boardhand, 7);
+            if(pockethands[i] > bestpocket) {
+                bestpocket = pockethands[i];
+                bestcount = 1;
+            }
+            else if (pockethands[i] == bestpocket) {
+                bestcount++;
+            }
+        }
+
+        // Calculate wins/ties/loses for each pocket + board combination.
+        for(int i = 0; i < pocketmasks.length; i++) {
+            if(pockethands[i] == bestpocket) {
+                if(bestcount > 1)
+                    ties[i] += weight;
+                else
+                    wins[i] += weight;
+            }
+            else if (pockethands[i] < bestpocket) {
+                losses[i] += weight;
+            }
+        }
+	}
+
+	/**
+	 * Parses and validates the arguments of the string based HandOdds
+	 * functions.
+	 *
+	 * @param pockets Array of pocket hand string, one for each player
+	 * @param board the board cards
+	 * @param dead the dead cards
+	 * @param boardAndDead receives board mask (index 0) and dead cards mask
+	 * 	(index 1)
+	 * @return pocket masks, one for each player
+	 * @throws IllegalArgumentException if any of the arguments is invalid
+	 */
+	private static long[] parseOddsArguments(String[] pockets, String board, String dead,
+			long[] boardAndDead) {
+
         long[] pocketmasks = new long[pockets.length];
-        long[] pockethands = new long[pockets.length];
 
         IntegerRef count = new IntegerRef(0);
-        int bestcount;
 
-        long boardmask = 0L, deadcards_mask = 0L;
-        long deadcards = HandEngine.parseHand(dead, count);
-
-        totalHands[0] = 0;
-        deadcards_mask |= deadcards;
+        long boardmask = 0L;
+        long deadcards = StringUtils.isEmpty(dead) ? 0L : HandEngine.parseHand(dead, count);
 
         // Read pocket cards
         for (int i = 0; i < pockets.length; i++)
@@ -1239,13 +1966,11 @@ public class HandEngine {
             	// Must have 2 cards in each pocket card set.
                 throw new IllegalArgumentException("There must be two pocket cards.");
             }
-            deadcards_mask |= pocketmasks[i];
-            wins[i] = ties[i] = losses[i] = 0;
         }
 
         // Read board cards
         count.set(0);
-        boardmask = HandEngine.parseHand("", board, count);
+        if(StringUtils.isNotEmpty(board)) boardmask = HandEngine.parseHand(board, count);
 
         // The board must have zero or more cards but no more than a total of 5
         if(!(count.get() >= 0 && count.get() <= 5))
@@ -1269,39 +1994,10 @@ public class HandEngine {
             	throw new IllegalArgumentException("Duplicate between cards pocket and dead cards");
         }
 
-        // Iterate through all board possiblities that doesn't include any pocket cards.
-        for(long boardhand : Hands(boardmask, deadcards_mask, 5))
-        {
-            // Evaluate all hands and determine the best hand
-            long bestpocket = Evaluate(pocketmasks[0] | boardhand, 7);
-            pockethands[0] = bestpocket;
-            bestcount = 1;
-            for(int i = 1; i < pockets.length; i++) {
-                pockethands[i] = Evaluate(pocketmasks[i] | boardhand, 7);
-                if(pockethands[i] > bestpocket) {
-                    bestpocket = pockethands[i];
-                    bestcount = 1;
-                }
-                else if (pockethands[i] == bestpocket) {
-                    bestcount++;
-                }
-            }
+        boardAndDead[0] = boardmask;
+        boardAndDead[1] = deadcards;
 
-            // Calculate wins/ties/loses for each pocket + board combination.
-            for(int i = 0; i < pockets.length; i++) {
-                if(pockethands[i] == bestpocket) {
-                    if(bestcount > 1)
-                        ties[i]++;
-                    else
-                        wins[i]++;
-                }
-                else if (pockethands[i] < bestpocket) {
-                    losses[i]++;
-                }
-            }
-
-            totalHands[0]++;
-        }
+        return pocketmasks;
 	}
 
 	/**
@@ -1335,8 +2031,9 @@ public class HandEngine {
 	 */
 	public static long OutsMask(long player, long board, long[] opponents) {
 
-		long retval = 0L, dead = 0L;
-        int ncards = HandEngine.BitCount(player | board);
+		final long[] retval = new long[1];
+		long dead = 0L;
+        final int ncards = HandEngine.BitCount(player | board);
 
         // Must have two cards for a legit set of pocket cards
         assert(HandEngine.BitCount(player) == 2);
@@ -1358,7 +2055,7 @@ public class HandEngine {
             int playerOrigTopCard = HandEngine.extractTopRankedCard(playerOrigHandVal);
             //_log.debug("playerOrigHandVal: " + playerOrigHandVal + " playerOrigHandType: " + playerOrigHandType + " playerOrigTopCard: " + playerOrigTopCard);
 
-            for(long card : HandEngine.Hands(0L, dead | board | player, 1)) {
+            forEachHand(0L, dead | board | player, 1, card -> {
             	// _log.debug("card: " + card);
                 boolean bWinFlag = true;
                 //int[] ncards1 = new int[]{ncards[0]+1};
@@ -1378,8 +2075,8 @@ public class HandEngine {
                         break;
                 }
                 if (bWinFlag)
-                    retval |= card;
-            }
+                    retval[0] |= card;
+            });
         }
         else
         {
@@ -1389,16 +2086,16 @@ public class HandEngine {
             int playerOrigTopCard = HandEngine.extractTopRankedCard(playerOrigHandVal);
 
             // Look ahead one card
-            for(long card : HandEngine.Hands(0L, dead | board | player, 1)) {
+            forEachHand(0L, dead | board | player, 1, card -> {
                 int playerNewHandVal = HandEngine.Evaluate(player | board | card, ncards+1);
                 int playerONewHandType = HandEngine.computeHandType(playerNewHandVal);
                 int playerNewTopCard = HandEngine.extractTopRankedCard(playerNewHandVal);
                 if (playerONewHandType > playerOrigHandType || (playerONewHandType == playerOrigHandType && playerNewTopCard > playerOrigTopCard))
-                    retval |= card;
-            }
+                    retval[0] |= card;
+            });
         }
 
-        return retval;
+        return retval[0];
 	}
 
 	/**
@@ -1489,7 +2186,6 @@ public class HandEngine {
 	 * @param aHandsEv Returned number of evaluated hands
 	 */
 	public static void HandPlayerOpponentOdds(long ourcards, long board, /*ref*/ double[] player, /*ref*/ double[] opponent, long[] aHandsEv) {
-        int ourbest, oppbest;
         int count = 0;
         //int cards = Hand.BitCount(ourcards | board);
         int boardcount = HandEngine.BitCount(board);
@@ -1505,9 +2201,9 @@ public class HandEngine {
         // Use precalcuated results for pocket cards
         if(boardcount == 0) {
             int index = HandEngine.PocketHand169Type(ourcards).getValue();
-            double[] p = HandEngine._preCalcPlayerOddsTable[index];
+            double[] p = PlayerOddsTable.TABLE[index];
             for(int x=0; x<p.length; ++x) player[x] = p[x];
-            double[] o = HandEngine._preCalcOppOddsTable[index];
+            double[] o = OpponentOddsTable.TABLE[index];
             for(int x=0; x<o.length; ++x) opponent[x] = o[x];
             return;
         }
@@ -1517,24 +2213,124 @@ public class HandEngine {
             player[i] = opponent[i] = 0.0;
         }
 
-        // Calculate results
-        for(long oppcards : Hands(0L, ourcards | board, 2)) {
-            for(long handmask : Hands(board, ourcards | oppcards, 5)) {
-                ourbest = Evaluate(ourcards | handmask, 7);
-                oppbest = Evaluate(oppcards | handmask, 7);
-                if(ourbest > oppbest) {
-                    player[computeHandType(ourbest)] += 1.0;
-                    count++;
+        // Calculate results; pocket and board are split by suit only once
+        final int[] live = liveCards(ourcards | board);
+        final int[] rest = new int[live.length - 2];
+        final PartialHand ours = new PartialHand(ourcards | board);
+        final PartialHand opps = new PartialHand(board);
+        final int missing = 5 - boardcount;
+
+        for(int i = 1; i < live.length; i++) {
+            for(int j = 0; j < i; j++) {
+                int n = 0;
+                for(int k = 0; k < live.length; k++) {
+                    if(k != i && k != j) rest[n++] = live[k];
                 }
-                else if(ourbest == oppbest) {
-                    player[computeHandType(ourbest)] += 0.5;
-                    opponent[computeHandType(oppbest)] += 0.5;
-                    count++;
+                opps.add(live[i]).add(live[j]);
+                count += tallyShowdowns(ours, opps, rest, 0, missing, player, opponent);
+                opps.remove(live[i]).remove(live[j]);
+            }
+        }
+
+        if(aHandsEv == null) {
+	        for(int i = 0; i < 9; i++) {
+	            player[i] = player[i] / count;
+	            opponent[i] = opponent[i] / count;
+	        }
+        }
+        else
+        	aHandsEv[0] = count;
+	}
+
+	/**
+	 * Same as {@link #HandPlayerOpponentOdds(long, long, double[], double[])}
+	 * but plays out only one of every set of opponent pockets and board
+	 * completions which are the same up to a permutation of suits, and
+	 * counts it as many times as the set has members. Results are identical.
+	 *
+	 * @param ourcards Pocket mask for the hand.
+	 * @param board Board mask for hand
+	 * @param player Player odds as doubles, must be size 9
+	 * @param opponent Opponent odds as doubles, must be size 9
+	 */
+	public static void HandPlayerOpponentOddsWeighted(long ourcards, long board,
+			/*ref*/ double[] player, /*ref*/ double[] opponent) {
+		HandPlayerOpponentOddsWeighted(ourcards, board, player, opponent, null);
+	}
+
+	/**
+	 * Same as {@link #HandPlayerOpponentOdds(long, long, double[], double[], long[])}
+	 * but plays out only one of every set of opponent pockets and board
+	 * completions which are the same up to a permutation of suits our pocket
+	 * and the board leave unchanged, and counts it as many times as the set
+	 * has members. Results (and the number of evaluated hands reported) are
+	 * identical.
+	 *
+	 * @param ourcards Pocket mask for the hand.
+	 * @param board Board mask for hand
+	 * @param player Player odds as doubles, must be size 9
+	 * @param opponent Opponent odds as doubles, must be size 9
+	 * @param aHandsEv Returned number of evaluated hands
+	 */
+	public static void HandPlayerOpponentOddsWeighted(long ourcards, long board,
+			/*ref*/ double[] player, /*ref*/ double[] opponent, long[] aHandsEv) {
+
+        int boardcount = HandEngine.BitCount(board);
+
+        // precalculated results and preconditions are those of the original
+        if(boardcount == 0 || HandEngine.BitCount(ourcards) != 2 || boardcount > 5 ||
+        		player.length != opponent.length || player.length != 9) {
+        	HandPlayerOpponentOdds(ourcards, board, player, opponent, aHandsEv);
+        	return;
+        }
+
+        for(int i = 0; i < player.length; i++) {
+            player[i] = opponent[i] = 0.0;
+        }
+
+        final int[] live = liveCards(ourcards | board);
+        final int[] rest = new int[live.length - 2];
+        final PartialHand ours = new PartialHand(ourcards | board);
+        final PartialHand opps = new PartialHand(board);
+        final int missing = 5 - boardcount;
+        final int[][] group = SuitPermutations.stabilizer(ourcards, board);
+        final Map<Integer, int[]> completions = new HashMap<>();
+        final double[] playerOnce = new double[9], opponentOnce = new double[9];
+        int count = 0;
+
+        for(int i = 1; i < live.length; i++) {
+            for(int j = 0; j < i; j++) {
+            	long oppcards = _cardMasksTable[live[i]] | _cardMasksTable[live[j]];
+            	int weight = SuitPermutations.weight(oppcards, group);
+            	if(weight == 0) continue;
+
+                int[][] subgroup = SuitPermutations.stabilizer(group, oppcards);
+                opps.add(live[i]).add(live[j]);
+                if(subgroup.length > 1 && missing <= 2) {
+                	count += weight * tallyShowdowns(ours, opps, live, i, j,
+                			completions(completions, live, missing, subgroup), weight, player, opponent);
                 }
                 else {
-                    opponent[computeHandType(oppbest)] += 1.0;
-                    count++;
+                	int n = 0;
+                	for(int k = 0; k < live.length; k++) {
+                		if(k != i && k != j) rest[n++] = live[k];
+                	}
+                	if(subgroup.length > 1) {
+                		count += weight * tallyShowdowns(ours, opps, rest, 0, missing, 0L,
+                				subgroup, weight, player, opponent);
+                	}
+                	else {
+                		// nothing left to fold, play out every completion once
+                		Arrays.fill(playerOnce, 0.0);
+                		Arrays.fill(opponentOnce, 0.0);
+                		count += weight * tallyShowdowns(ours, opps, rest, 0, missing, playerOnce, opponentOnce);
+                		for(int k = 0; k < 9; k++) {
+                			player[k] += weight * playerOnce[k];
+                			opponent[k] += weight * opponentOnce[k];
+                		}
+                	}
                 }
+                opps.remove(live[i]).remove(live[j]);
             }
         }
 
@@ -1548,6 +2344,212 @@ public class HandEngine {
         	aHandsEv[0] = count;
 	}
 
+	/**
+	 * Weighted counterpart of {@link #tallyShowdowns(PartialHand, PartialHand, int[], int, int, double[], double[])}
+	 * for boards missing at most two cards: plays out only the given
+	 * canonical completions and tallies each one as many times as its
+	 * weight, times the weight of the opponent's pocket.
+	 *
+	 * @param ours our pocket and the board
+	 * @param opps opponent's pocket and the board
+	 * @param live cards not in our hand or on the board
+	 * @param skip1 index into live of opponent's first card
+	 * @param skip2 index into live of opponent's second card
+	 * @param completions canonical completions, see
+	 * 	{@link #canonicalCompletions(int[], int, int[][])}, null if board is
+	 * 	complete
+	 * @param weight weight of opponent's pocket
+	 * @param player player tallies by hand type
+	 * @param opponent opponent tallies by hand type
+	 * @return number of board completions stood for
+	 */
+	private static int tallyShowdowns(PartialHand ours, PartialHand opps, int[] live, int skip1, int skip2,
+			int[] completions, int weight, double[] player, double[] opponent) {
+
+		if(completions == null) {
+			tallyShowdown(ours.evaluate(), opps.evaluate(), weight, player, opponent);
+			return 1;
+		}
+
+		int count = 0;
+		for(int c : completions) {
+			int i = c & 0xff, j = (c >>> 8) & 0xff, w = c >>> 16;
+			if(i == skip1 || i == skip2 || j == skip1 || j == skip2) continue;
+			if(i == j)
+				tallyShowdown(ours.evaluateWith(live[i]), opps.evaluateWith(live[i]), weight * w, player, opponent);
+			else
+				tallyShowdown(ours.evaluateWith(live[i], live[j]), opps.evaluateWith(live[i], live[j]),
+						weight * w, player, opponent);
+			count += w;
+		}
+		return count;
+	}
+
+	/**
+	 * @param cache completions computed so far, by group
+	 * @param live cards to complete the board with
+	 * @param cards number of cards to complete the board with
+	 * @param group permutations leaving all known cards unchanged
+	 * @return canonical completions under the group, null if there is
+	 * 	nothing to complete
+	 */
+	private static int[] completions(Map<Integer, int[]> cache, int[] live, int cards, int[][] group) {
+		if(cards == 0)
+			return null;
+		return cache.computeIfAbsent(SuitPermutations.signature(group),
+				signature -> canonicalCompletions(live, cards, group));
+	}
+
+	/**
+	 * Weighted counterpart of {@link #tallyShowdowns(PartialHand, PartialHand, int[], int, int, double[], double[])}:
+	 * plays out only canonical board completions under the given group and
+	 * tallies each one as many times as its orbit has members, times the
+	 * weight of the opponent's pocket.
+	 *
+	 * @param ours our pocket and the board
+	 * @param opps opponent's pocket and the board
+	 * @param cards cards left to complete the board with
+	 * @param from index of first card in cards to use
+	 * @param missing number of cards missing on the board
+	 * @param dealt cards already added to complete the board
+	 * @param group permutations leaving both hands unchanged
+	 * @param weight weight of opponent's pocket
+	 * @param player player tallies by hand type
+	 * @param opponent opponent tallies by hand type
+	 * @return number of board completions stood for
+	 */
+	private static int tallyShowdowns(PartialHand ours, PartialHand opps, int[] cards, int from, int missing,
+			long dealt, int[][] group, int weight, double[] player, double[] opponent) {
+
+		final long[] table = _cardMasksTable;
+		int count = 0, w;
+		switch(missing) {
+			case 0:
+				if((w = SuitPermutations.weight(dealt, group)) > 0)
+					tallyShowdown(ours.evaluate(), opps.evaluate(), weight * w, player, opponent);
+				return w;
+			case 1:
+				for(int i = from; i < cards.length; i++) {
+					if((w = SuitPermutations.weight(dealt | table[cards[i]], group)) == 0) continue;
+					tallyShowdown(ours.evaluateWith(cards[i]), opps.evaluateWith(cards[i]),
+							weight * w, player, opponent);
+					count += w;
+				}
+				return count;
+			case 2:
+				for(int i = from; i < cards.length; i++) {
+					for(int j = i + 1; j < cards.length; j++) {
+						if((w = SuitPermutations.weight(dealt | table[cards[i]] | table[cards[j]], group)) == 0)
+							continue;
+						tallyShowdown(ours.evaluateWith(cards[i], cards[j]),
+								opps.evaluateWith(cards[i], cards[j]), weight * w, player, opponent);
+						count += w;
+					}
+				}
+				return count;
+			default:
+				for(int i = from; i < cards.length; i++) {
+					ours.add(cards[i]);
+					opps.add(cards[i]);
+					count += tallyShowdowns(ours, opps, cards, i + 1, missing - 1, dealt | table[cards[i]],
+							group, weight, player, opponent);
+					ours.remove(cards[i]);
+					opps.remove(cards[i]);
+				}
+				return count;
+		}
+	}
+
+	/**
+	 * Plays out our hand against opponent's hand over every completion of
+	 * the board with the given number of cards and tallies results by hand
+	 * type, the way {@link #HandPlayerOpponentOdds(long, long, double[], double[], long[])}
+	 * reports them.
+	 *
+	 * @param ours our pocket and the board
+	 * @param opps opponent's pocket and the board
+	 * @param cards cards left to complete the board with
+	 * @param from index of first card in cards to use
+	 * @param missing number of cards missing on the board
+	 * @param player player tallies by hand type
+	 * @param opponent opponent tallies by hand type
+	 * @return number of showdowns tallied
+	 */
+	private static int tallyShowdowns(PartialHand ours, PartialHand opps, int[] cards, int from, int missing,
+			double[] player, double[] opponent) {
+
+		int count = 0;
+		switch(missing) {
+			case 0:
+				tallyShowdown(ours.evaluate(), opps.evaluate(), player, opponent);
+				return 1;
+			case 1:
+				for(int i = from; i < cards.length; i++, count++)
+					tallyShowdown(ours.evaluateWith(cards[i]), opps.evaluateWith(cards[i]), player, opponent);
+				return count;
+			case 2:
+				for(int i = from; i < cards.length; i++) {
+					for(int j = i + 1; j < cards.length; j++, count++) {
+						tallyShowdown(ours.evaluateWith(cards[i], cards[j]),
+								opps.evaluateWith(cards[i], cards[j]), player, opponent);
+					}
+				}
+				return count;
+			default:
+				for(int i = from; i < cards.length; i++) {
+					ours.add(cards[i]);
+					opps.add(cards[i]);
+					count += tallyShowdowns(ours, opps, cards, i + 1, missing - 1, player, opponent);
+					ours.remove(cards[i]);
+					opps.remove(cards[i]);
+				}
+				return count;
+		}
+	}
+
+	private static void tallyShowdown(int ourbest, int oppbest, int weight, double[] player, double[] opponent) {
+        if(ourbest > oppbest)
+            player[computeHandType(ourbest)] += weight;
+        else if(ourbest == oppbest) {
+            player[computeHandType(ourbest)] += 0.5 * weight;
+            opponent[computeHandType(oppbest)] += 0.5 * weight;
+        }
+        else
+            opponent[computeHandType(oppbest)] += weight;
+	}
+
+	private static void tallyShowdown(int ourbest, int oppbest, double[] player, double[] opponent) {
+		tallyShowdown(ourbest, oppbest, 1, player, opponent);
+	}
+
+	/**
+	 * @param dead cards to leave out
+	 * @return indexes of all cards that are not dead, in ascending order
+	 */
+	static int[] liveCards(long dead) {
+		int[] live = new int[NUMBER_OF_CARDS - BitCount(dead)];
+		int n = 0;
+		for(int card = 0; card < NUMBER_OF_CARDS; card++) {
+			if((dead & _cardMasksTable[card]) == 0)
+				live[n++] = card;
+		}
+		return live;
+	}
+
+	/**
+	 * @param dead cards to leave out
+	 * @return masks of all cards that are not dead, in ascending order
+	 */
+	static long[] liveMasks(long dead) {
+		long[] live = new long[NUMBER_OF_CARDS - BitCount(dead)];
+		int n = 0;
+		for(int card = 0; card < NUMBER_OF_CARDS; card++) {
+			if((dead & _cardMasksTable[card]) == 0)
+				live[n++] = _cardMasksTable[card];
+		}
+		return live;
+	}
+
 	/**
 	 * Convinience function which calls {@link #HandPlayerOpponentOdds(long, long, double[], double[])}
 	 * but parser pocket cards and board cards arguments first.
@@ -1568,35 +2570,221 @@ public class HandEngine {
 	}
 
 	/**
-	 * Internal function used by HandPotential.
+	 * Internal function used by HandPotential. Plays our hand against every
+	 * opponent's pocket over every completion of the board (up to 7 cards).
+	 * Opponent's final hand depends only on the cards of the pocket and the
+	 * completion together, so every set of those cards is evaluated once and
+	 * shared by all of its splits into a pocket and a completion; our hand
+	 * is evaluated once per completion. On the flop that is 178365 opponent
+	 * evaluations instead of 1081 * 990.
 	 *
-	 * @param ourcards
-	 * @param board
-	 * @param oppcards
-	 * @param index
-	 * @param HP
+	 * @param ours our pocket and the board
+	 * @param opps the board
+	 * @param live cards not in our hand or on the board
+	 * @param now current ahead/tied/behind state against every opponent's
+	 * 	pocket, by {@link #livePair(int, int)} of its cards
+	 * @param HP tally of current state by showdown state to update
 	 */
-	private static void HandPotentialOpp(long ourcards, long board, long oppcards, int index, /*ref*/ int[][] HP) {
+	private static void HandPotentialShowdowns(PartialHand ours, PartialHand opps, int[] live, int[] now,
+			/*ref*/ int[][] HP) {
+
+        // HP flattened; showdown state is signum(ourbest - oppbest) + 1,
+        // which is 2 ahead, 1 tied and 0 behind
+        final int[] tally = new int[9];
+        final int[] row = new int[now.length];
+        for(int p = 0; p < now.length; p++)
+        	row[p] = now[p] * 3 + 1;
+
+        final int n = live.length;
+        switch(7 - ours.getCardCount()) {
+        	case 0:
+        		// nothing to come, showdown is the current state
+        		for(int p = 0; p < now.length; p++)
+        			tally[row[p] - 1 + now[p]]++;
+        		break;
+        	case 1: {
+        		final int[] ourbest = new int[n];
+        		for(int r = 0; r < n; r++)
+        			ourbest[r] = ours.evaluateWith(live[r]);
+        		for(int a = 0; a < n; a++) {
+        			opps.add(live[a]);
+        			for(int b = a + 1; b < n; b++) {
+        				final int ab = row[livePair(a, b)];
+        				for(int c = b + 1; c < n; c++) {
+        					int oppbest = opps.evaluateWith(live[b], live[c]);
+        					tally[ab + Integer.signum(ourbest[c] - oppbest)]++;
+        					tally[row[livePair(a, c)] + Integer.signum(ourbest[b] - oppbest)]++;
+        					tally[row[livePair(b, c)] + Integer.signum(ourbest[a] - oppbest)]++;
+        				}
+        			}
+        			opps.remove(live[a]);
+        		}
+        		break;
+        	}
+        	default: {
+        		final int[] ourbest = new int[now.length];
+        		for(int j = 1; j < n; j++) {
+        			for(int i = 0; i < j; i++)
+        				ourbest[livePair(i, j)] = ours.evaluateWith(live[i], live[j]);
+        		}
+        		for(int a = 0; a < n; a++) {
+        			opps.add(live[a]);
+        			for(int b = a + 1; b < n; b++) {
+        				opps.add(live[b]);
+        				final int ab = livePair(a, b);
+        				for(int c = b + 1; c < n; c++) {
+        					final int ac = livePair(a, c), bc = livePair(b, c);
+        					for(int d = c + 1; d < n; d++) {
+        						final int ad = livePair(a, d), bd = livePair(b, d), cd = livePair(c, d);
+        						int oppbest = opps.evaluateWith(live[c], live[d]);
+        						tally[row[ab] + Integer.signum(ourbest[cd] - oppbest)]++;
+        						tally[row[ac] + Integer.signum(ourbest[bd] - oppbest)]++;
+        						tally[row[ad] + Integer.signum(ourbest[bc] - oppbest)]++;
+        						tally[row[bc] + Integer.signum(ourbest[ad] - oppbest)]++;
+        						tally[row[bd] + Integer.signum(ourbest[ac] - oppbest)]++;
+        						tally[row[cd] + Integer.signum(ourbest[ab] - oppbest)]++;
+        					}
+        				}
+        				opps.remove(live[b]);
+        			}
+        			opps.remove(live[a]);
+        		}
+        	}
+        }
+
+        for(int i = 0; i < 3; i++) {
+        	for(int j = 0; j < 3; j++)
+        		HP[i][j] += tally[i * 3 + j];
+        }
+	}
+
+	/**
+	 * @return index of a pair of live cards, i < j
+	 */
+	private static int livePair(int i, int j) {
+		return j * (j - 1) / 2 + i;
+	}
+
+	/**
+	 * Internal function used by HandPotentialWeighted. Plays our hand against
+	 * opponent's over every completion of the board (up to 7 cards) with
+	 * cards other than the two skipped ones.
+	 *
+	 * @param ours our pocket and the board
+	 * @param opps opponent's pocket and the board
+	 * @param live cards not in our hand or on the board
+	 * @param skip1 index into live of opponent's first card
+	 * @param skip2 index into live of opponent's second card
+	 * @param tally ahead/tied/behind tally to update
+	 */
+	private static void HandPotentialOpp(PartialHand ours, PartialHand opps, int[] live, int skip1, int skip2,
+			/*ref*/ int[] tally) {
 
 		final int ahead = 2;
         final int tied = 1;
         final int behind = 0;
-        //long dead_cards = ourcards | board | oppcards;
-        int ourbest, oppbest;
 
-        for(long handmask : HandEngine.Hands(0L, ourcards | board | oppcards, 7 - HandEngine.BitCount(ourcards | board)))
-        {
-            ourbest = Evaluate(ourcards | board | handmask, 7);
-            oppbest = Evaluate(oppcards | board | handmask, 7);
-            if (ourbest > oppbest)
-                (HP[index][ahead])++;
-            else if (ourbest == oppbest)
-                (HP[index][tied])++;
-            else
-                (HP[index][behind])++;
+        switch(7 - ours.getCardCount()) {
+        	case 0:
+        		tally[compareShowdown(ours.evaluate(), opps.evaluate(), ahead, tied, behind)]++;
+        		break;
+        	case 1:
+        		for(int i = 0; i < live.length; i++) {
+        			if(i == skip1 || i == skip2) continue;
+        			tally[compareShowdown(ours.evaluateWith(live[i]), opps.evaluateWith(live[i]),
+        					ahead, tied, behind)]++;
+        		}
+        		break;
+        	default:
+        		for(int i = 0; i < live.length; i++) {
+        			if(i == skip1 || i == skip2) continue;
+        			for(int j = i + 1; j < live.length; j++) {
+        				if(j == skip1 || j == skip2) continue;
+        				tally[compareShowdown(ours.evaluateWith(live[i], live[j]),
+        						opps.evaluateWith(live[i], live[j]), ahead, tied, behind)]++;
+        			}
+        		}
         }
 	}
 
+	/**
+	 * Weighted counterpart of {@link #HandPotentialOpp(PartialHand, PartialHand, int[], int, int, int[])}:
+	 * plays out only the given canonical board completions and tallies each
+	 * one as many times as its weight, times the weight of the opponent's
+	 * pocket.
+	 *
+	 * @param ours our pocket and the board
+	 * @param opps opponent's pocket and the board
+	 * @param live cards not in our hand or on the board
+	 * @param skip1 index into live of opponent's first card
+	 * @param skip2 index into live of opponent's second card
+	 * @param completions canonical completions, see
+	 * 	{@link #canonicalCompletions(int[], int, int[][])}
+	 * @param weight weight of opponent's pocket
+	 * @param tally ahead/tied/behind tally to update
+	 */
+	private static void HandPotentialOpp(PartialHand ours, PartialHand opps, int[] live, int skip1, int skip2,
+			int[] completions, int weight, /*ref*/ int[] tally) {
+
+		final int ahead = 2;
+        final int tied = 1;
+        final int behind = 0;
+
+        switch(7 - ours.getCardCount()) {
+        	case 0:
+        		tally[compareShowdown(ours.evaluate(), opps.evaluate(), ahead, tied, behind)] += weight;
+        		break;
+        	case 1:
+        		for(int c : completions) {
+        			int i = c & 0xff;
+        			if(i == skip1 || i == skip2) continue;
+        			tally[compareShowdown(ours.evaluateWith(live[i]), opps.evaluateWith(live[i]),
+        					ahead, tied, behind)] += weight * (c >>> 16);
+        		}
+        		break;
+        	default:
+        		for(int c : completions) {
+        			int i = c & 0xff, j = (c >>> 8) & 0xff;
+        			if(i == skip1 || i == skip2 || j == skip1 || j == skip2) continue;
+        			tally[compareShowdown(ours.evaluateWith(live[i], live[j]),
+        					opps.evaluateWith(live[i], live[j]), ahead, tied, behind)] += weight * (c >>> 16);
+        		}
+        }
+	}
+
+	/**
+	 * Completions of a board by one or two live cards which are canonical
+	 * under a group of suit permutations. Each one is packed into an int as
+	 * index into live of the first card (low byte), of the second card (next
+	 * byte, same as the first for one card) and weight (upper half).
+	 *
+	 * @param live cards to complete the board with
+	 * @param cards number of cards to complete the board with, 1 or 2
+	 * @param group permutations leaving all known cards unchanged
+	 * @return packed completions
+	 */
+	private static int[] canonicalCompletions(int[] live, int cards, int[][] group) {
+		final long[] table = _cardMasksTable;
+		int[] completions = new int[cards == 1 ? live.length : live.length * (live.length - 1) / 2];
+		int n = 0, w;
+		for(int i = 0; i < live.length; i++) {
+			if(cards == 1) {
+				if((w = SuitPermutations.weight(table[live[i]], group)) > 0)
+					completions[n++] = i | i << 8 | w << 16;
+				continue;
+			}
+			for(int j = i + 1; j < live.length; j++) {
+				if((w = SuitPermutations.weight(table[live[i]] | table[live[j]], group)) > 0)
+					completions[n++] = i | j << 8 | w << 16;
+			}
+		}
+		return Arrays.copyOf(completions, n);
+	}
+
+	private static int compareShowdown(int ourbest, int oppbest, int ahead, int tied, int behind) {
+		return ourbest > oppbest ? ahead : (ourbest == oppbest ? tied : behind);
+	}
+
 	/**
 	 * Returns the positive and negative potential of the current hand. This
 	 * funciton is described in Aaron Davidson's masters thesis
@@ -1613,14 +2801,22 @@ public class HandEngine {
         final int tied = 1;
         final int behind = 0;
 
-        int[][] HP = new int[3][3];
-        int[] HPTotal = new int[3];
+        final int[][] HP = new int[3][3];
+        final int[] HPTotal = new int[3];
         int cards = HandEngine.BitCount(pocket | board);
         double mult = (cards == 5 ? 990.0 : 45.0);
 
         if (cards < 5 || cards > 7)
             throw new ArgumentOutOfRangeException();
 
+        PotentialTable table = potentialTable(board);
+        int state = table == null ? -1 : table.find(pocket, board);
+        if(state >= 0) {
+        	ppot[0] = table.getPPot(state);
+        	npot[0] = table.getNPot(state);
+        	return;
+        }
+
         // Initialize
         for (int i = 0; i < 3; i++) {
             HPTotal[i] = 0;
@@ -1629,28 +2825,148 @@ public class HandEngine {
             }
         }
 
+        HandPotentialTally(pocket, board, /*ref*/ HPTotal, /*ref*/ HP);
+
+        double den1 = (mult * (HPTotal[behind] + (HPTotal[tied] / 2.0)));
+        double den2 = (mult * (HPTotal[ahead] + (HPTotal[tied] / 2.0)));
+        if (den1 > 0)
+            ppot[0] = (HP[behind][ahead] + (HP[behind][tied] / 2) + (HP[tied][ahead] / 2)) / den1;
+        else
+            ppot[0] = 0;
+        if (den2 > 0)
+            npot[0] = (HP[ahead][behind] + (HP[ahead][tied] / 2) + (HP[tied][behind] / 2)) / den2;
+        else
+            npot[0] = 0;
+	}
+
+	/**
+	 * Makes {@link #HandPotential(long, long, double[], double[]) HandPotential},
+	 * {@link #getHS(long, long, int) getHS} and {@link #getEHS(long, long, int) getEHS}
+	 * read spots with as many board cards as the table was generated for out
+	 * of the table, rather than compute them. Spots the table does not have
+	 * are still computed. A table replaces the one used so far for the same
+	 * number of board cards.
+	 *
+	 * @param table table to read spots from
+	 */
+	public static synchronized void usePotentialTable(PotentialTable table) {
+		PotentialTable[] tables = _potentialTables.clone();
+		tables[table.getBoardCards()] = table;
+		_potentialTables = tables;
+	}
+
+	/**
+	 * Stops reading spots out of potential tables, see
+	 * {@link #usePotentialTable(PotentialTable)}.
+	 */
+	public static synchronized void clearPotentialTables() {
+		_potentialTables = new PotentialTable[_potentialTables.length];
+	}
+
+	/**
+	 * @return potential table for the board, null if none
+	 */
+	private static PotentialTable potentialTable(long board) {
+		PotentialTable[] tables = _potentialTables;
+		int cards = BitCount(board);
+		return cards < tables.length ? tables[cards] : null;
+	}
+
+	/**
+	 * Internal function used by HandPotential and {@link PotentialTableGenerator}.
+	 * Plays our hand against every opponent's pocket on the board as it is
+	 * and over every completion of the board.
+	 *
+	 * @param pocket Hold Cards
+	 * @param board Community cards
+	 * @param HPTotal opponent's pockets we are behind, tied with and ahead
+	 * 	of now, to update
+	 * @param HP the same by showdown state, to update
+	 */
+	static void HandPotentialTally(long pocket, long board, /*ref*/ int[] HPTotal, /*ref*/ int[][] HP) {
+
+		final int ahead = 2;
+        final int tied = 1;
+        final int behind = 0;
+
         // Rank our hand
-        int ourrank = Evaluate(pocket | board, BitCount(pocket | board));
-
-        // Mark known cards as dead.
-        long dead_cards = pocket | board;
-
-        // Iterate through all possible opponent pocket cards
-        for(long oppPocket : Hands(0L, dead_cards, 2)) {
-            // Note Current State
-            int opprank = Evaluate(oppPocket | board, BitCount(oppPocket | board));
-            if(ourrank > opprank) {
-                HandPotentialOpp(pocket, board, oppPocket, ahead, /*ref*/ HP);
-                HPTotal[ahead]++;
-            }
-            else if (ourrank == opprank) {
-                HandPotentialOpp(pocket, board, oppPocket, tied, /*ref*/ HP);
-                HPTotal[tied]++;
-            }
-            else {
-                HandPotentialOpp(pocket, board, oppPocket, behind, /*ref*/ HP);
-                HPTotal[behind]++;
-            }
+        final PartialHand ours = new PartialHand(pocket | board);
+        final PartialHand opps = new PartialHand(board);
+        final int ourrank = ours.evaluate();
+
+        // Known cards are dead, iterate through all possible opponent
+        // pocket cards out of the rest
+        final int[] live = liveCards(pocket | board);
+        final int[] now = new int[live.length * (live.length - 1) / 2];
+        for(int j = 1; j < live.length; j++) {
+        	for(int i = 0; i < j; i++) {
+                // Note Current State
+                int index = compareShowdown(ourrank, opps.evaluateWith(live[i], live[j]), ahead, tied, behind);
+                now[livePair(i, j)] = index;
+                HPTotal[index]++;
+        	}
+        }
+        HandPotentialShowdowns(ours, opps, live, now, /*ref*/ HP);
+	}
+
+	/**
+	 * Same as {@link #HandPotential(long, long, double[], double[])} but
+	 * plays out only one of every set of opponent pockets and board
+	 * completions which are the same up to a permutation of suits the pocket
+	 * and the board leave unchanged, counting it as many times as the set
+	 * has members. Results are identical.
+	 *
+	 * @param pocket Hold Cards
+	 * @param board Community cards
+	 * @param ppot Positive Potential
+	 * @param npot Negative Potential
+	 */
+	public static void HandPotentialWeighted(long pocket, long board, /*out*/ double[] ppot, /*out*/ double[] npot) {
+
+		final int ahead = 2;
+        final int tied = 1;
+        final int behind = 0;
+
+        final int[][] HP = new int[3][3];
+        final int[] HPTotal = new int[3];
+        int cards = HandEngine.BitCount(pocket | board);
+        double mult = (cards == 5 ? 990.0 : 45.0);
+
+        if (cards < 5 || cards > 7)
+            throw new ArgumentOutOfRangeException();
+
+        final PartialHand ours = new PartialHand(pocket | board);
+        final PartialHand opps = new PartialHand(board);
+        final int ourrank = ours.evaluate();
+        final int[][] group = SuitPermutations.stabilizer(pocket, board);
+        final int missing = 7 - cards;
+        final Map<Integer, int[]> completions = new HashMap<>();
+        final int[] once = new int[3];
+
+        final int[] live = liveCards(pocket | board);
+        for(int i = 0; i < live.length; i++) {
+        	for(int j = i + 1; j < live.length; j++) {
+        		long oppcards = _cardMasksTable[live[i]] | _cardMasksTable[live[j]];
+        		int weight = SuitPermutations.weight(oppcards, group);
+        		if(weight == 0) continue;
+
+                int index = compareShowdown(ourrank, opps.evaluateWith(live[i], live[j]), ahead, tied, behind);
+                opps.add(live[i]).add(live[j]);
+                int[][] subgroup = SuitPermutations.stabilizer(group, oppcards);
+                if(subgroup.length > 1) {
+                	HandPotentialOpp(ours, opps, live, i, j, completions(completions, live, missing, subgroup),
+                			weight, /*ref*/ HP[index]);
+                }
+                else {
+                	// nothing left to fold, play out every completion once
+                	once[ahead] = once[tied] = once[behind] = 0;
+                	HandPotentialOpp(ours, opps, live, i, j, /*ref*/ once);
+                	for(int k = 0; k < 3; k++)
+                		HP[index][k] += weight * once[k];
+                }
+                opps.remove(live[i]).remove(live[j]);
+                HPTotal[index] += weight;
+        	}
         }
 
         double den1 = (mult * (HPTotal[behind] + (HPTotal[tied] / 2.0)));
@@ -1667,7 +2983,9 @@ public class HandEngine {
 
 	/**
 	 * Returns hand strength (HS) given a player's hand, board cards and
-	 * total number of players at the table (including this player).
+	 * total number of players at the table (including this player). When
+	 * strength of many pockets on the same board is needed, a
+	 * {@link ShowdownTally} of the board answers them much faster.
 	 *
 	 * @param aPlayer
 	 * @param aBoard
@@ -1676,20 +2994,26 @@ public class HandEngine {
 	 */
 	public static double getHS(long aPlayer, long aBoard, int aPlayerCount) {
 
-		int boardCount = HandEngine.BitCount(aBoard);
-		int playerBest = Evaluate(aPlayer | aBoard, 2+boardCount);
-		int wins, ties; wins = ties = 0;
-		int count = 0;
-        for(long oppcards : Hands(0L, aPlayer | aBoard, 2)) {
-        	int oppBest = Evaluate(oppcards | aBoard, 2+boardCount);
+		PotentialTable table = potentialTable(aBoard);
+		int state = table == null ? -1 : table.find(aPlayer, aBoard);
+		if(state >= 0)
+			return table.getHS(state, aPlayerCount);
+
+		final int cards = 2 + HandEngine.BitCount(aBoard);
+		final int playerBest = Evaluate(aPlayer | aBoard, cards);
+		final int wins = 0, ties = 1, total = 2;
+		final int[] tally = new int[3];
+        forEachHand(0L, aPlayer | aBoard, 2, oppcards -> {
+        	int oppBest = Evaluate(oppcards | aBoard, cards);
         	if(playerBest > oppBest)
-        		wins++;
+        		tally[wins]++;
         	else if(playerBest == oppBest)
-        		ties++;
+        		tally[ties]++;
 
-        	count++;
-        }
-		double hs = (wins + (ties * 0.5D)) / count;
+        	tally[total]++;
+        });
+		int count = tally[total];
+		double hs = (tally[wins] + (tally[ties] * 0.5D)) / count;
 		if(aPlayerCount > 2) hs = Math.pow(hs, aPlayerCount);
 
 		if(log.isTraceEnabled())
@@ -1716,6 +3040,11 @@ public class HandEngine {
 	 */
 	public static double getEHS(long aPlayer, long aBoard, int aPlayerCount) {
 
+		PotentialTable table = potentialTable(aBoard);
+		int state = table == null ? -1 : table.find(aPlayer, aBoard);
+		if(state >= 0)
+			return table.getEHS(state, aPlayerCount);
+
         double hs = HandEngine.getHS(aPlayer, aBoard, aPlayerCount);
 		double[] positivePot = new double[1];
 		double[] negativePot = new double[1];
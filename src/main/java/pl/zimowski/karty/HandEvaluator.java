@@ -0,0 +1,42 @@
+package pl.zimowski.karty;
+
+/**
+ * Turns a hand mask into a hand value. Every implementation produces the
+ * same values as {@link HandEngine#Evaluate(long, int)} (hand type in the
+ * high bits, kickers below), so they are freely interchangeable and values
+ * of different evaluators can be compared against each other.
+ *
+ * @author Adam Zimowski
+ */
+@FunctionalInterface
+public interface HandEvaluator {
+
+	/**
+	 * The bit twiddling evaluator of {@link HandEngine}. Needs no memory
+	 * beyond the engine's own small tables.
+	 */
+	HandEvaluator STANDARD = HandEngine::Evaluate;
+
+	/**
+	 * @param cards hand mask
+	 * @param numberOfCards number of cards in the hand (1 to 7)
+	 * @return hand value
+	 */
+	int evaluate(long cards, int numberOfCards);
+
+	/**
+	 * @param cards hand mask
+	 * @return hand value
+	 */
+	default int evaluate(long cards) {
+		return evaluate(cards, HandEngine.BitCount(cards));
+	}
+
+	/**
+	 * @return table driven evaluator, built on first use
+	 * @see LookupHandEvaluator
+	 */
+	static HandEvaluator lookup() {
+		return LookupHandEvaluator.getInstance();
+	}
+}
@@ -0,0 +1,229 @@
+package pl.zimowski.karty;
+
+import java.util.function.LongConsumer;
+
+/**
+ * Numbers all ncard hands which contain the shared cards and none of the dead
+ * cards with consecutive indexes, from zero to {@link #size()} exclusive.
+ * Undealt cards are ranked colexicographically (combinatorial number system)
+ * over the live part of the deck, so a hand can be turned into its index and
+ * back without walking the space. This makes it possible to cut an exhaustive
+ * enumeration into equal index ranges processed by separate threads,
+ * processes or machines, and to checkpoint a long enumeration and resume it
+ * later from the index it stopped at.
+ * <p>
+ * Instances are immutable and may be shared between threads.
+ *
+ * @author Adam Zimowski
+ */
+public final class HandIndex {
+
+	/** binomial coefficients C(n, k) for all n up to deck size and k up to 7 */
+	private static final long[][] BINOMIAL = new long[HandEngine.NUMBER_OF_CARDS + 1][8];
+
+	static {
+		for(int n = 0; n <= HandEngine.NUMBER_OF_CARDS; n++) {
+			BINOMIAL[n][0] = 1;
+			for(int k = 1; k < 8 && k <= n; k++)
+				BINOMIAL[n][k] = BINOMIAL[n-1][k-1] + BINOMIAL[n-1][k];
+		}
+	}
+
+	private final long shared, dead;
+	private final int numberOfCards;
+
+	/** undealt cards, each hand picks this many of live cards */
+	private final int cards;
+
+	/** live cards in ascending order */
+	private final int[] live;
+
+	/** position of a card within live cards, -1 if not live */
+	private final int[] positions = new int[HandEngine.NUMBER_OF_CARDS];
+
+	private final long size;
+
+	/**
+	 * @param aShared cards that must be in the hand
+	 * @param aDead cards that must not be in the hand
+	 * @param aNumberOfCards total number of cards in the hand, including shared
+	 * @throws ArgumentOutOfRangeException if number of cards is not between
+	 * 	0 and 7 or is smaller than the number of shared cards
+	 */
+	public HandIndex(long aShared, long aDead, int aNumberOfCards) {
+
+		cards = aNumberOfCards - HandEngine.BitCount(aShared);
+		if(aNumberOfCards < 0 || aNumberOfCards > 7 || cards < 0)
+			throw new ArgumentOutOfRangeException("numberOfCards");
+
+		shared = aShared;
+		dead = aDead | aShared;
+		numberOfCards = aNumberOfCards;
+		live = HandEngine.liveCards(dead);
+
+		for(int card = 0; card < positions.length; card++)
+			positions[card] = -1;
+		for(int i = 0; i < live.length; i++)
+			positions[live[i]] = i;
+
+		size = BINOMIAL[live.length][cards];
+	}
+
+	/**
+	 * @return cards that are in every hand
+	 */
+	public long getShared() {
+		return shared;
+	}
+
+	/**
+	 * @return cards that are in no hand (including shared cards)
+	 */
+	public long getDead() {
+		return dead;
+	}
+
+	/**
+	 * @return total number of cards in each hand, including shared
+	 */
+	public int getNumberOfCards() {
+		return numberOfCards;
+	}
+
+	/**
+	 * @return number of hands, which is also the first index past the last hand
+	 */
+	public long size() {
+		return size;
+	}
+
+	/**
+	 * Computes index of a hand.
+	 *
+	 * @param aHand hand mask, including shared cards
+	 * @return index of the hand, between zero and {@link #size()} exclusive
+	 * @throws IllegalArgumentException if hand does not belong to this index,
+	 * 	that is, it misses a shared card, contains a dead card or has a wrong
+	 * 	number of cards
+	 */
+	public long rank(long aHand) {
+
+		if((aHand & shared) != shared || HandEngine.BitCount(aHand) != numberOfCards)
+			throw new IllegalArgumentException("hand");
+
+		long undealt = aHand & ~shared;
+		long index = 0;
+		for(int i = 1; undealt != 0; i++) {
+			int position = positions[Long.numberOfTrailingZeros(undealt)];
+			if(position < 0)
+				throw new IllegalArgumentException("hand");
+			index += BINOMIAL[position][i];
+			undealt &= undealt - 1;
+		}
+		return index;
+	}
+
+	/**
+	 * Computes hand at an index, inverse of {@link #rank(long)}.
+	 *
+	 * @param aIndex index of the hand
+	 * @return hand mask, including shared cards
+	 * @throws ArgumentOutOfRangeException if index is negative or not smaller
+	 * 	than {@link #size()}
+	 */
+	public long unrank(long aIndex) {
+
+		if(aIndex < 0 || aIndex >= size)
+			throw new ArgumentOutOfRangeException("index");
+
+		long hand = shared;
+		int position = live.length;
+		for(int i = cards; i > 0; i--) {
+			// largest position whose coefficient still fits into the index
+			do {
+				position--;
+			} while(BINOMIAL[position][i] > aIndex);
+			aIndex -= BINOMIAL[position][i];
+			hand |= HandEngine._cardMasksTable[live[position]];
+		}
+		return hand;
+	}
+
+	/**
+	 * Index where a part of the space starts when it is cut into equal
+	 * ranges; part {@code p} covers indexes from {@code start(p, parts)}
+	 * to {@code start(p + 1, parts)}.
+	 *
+	 * @param aPart zero based part, {@code aParts} returns {@link #size()}
+	 * @param aParts number of parts
+	 * @return first index of the part
+	 * @throws ArgumentOutOfRangeException if part is not between zero and
+	 * 	number of parts, or number of parts is not positive
+	 */
+	public long start(int aPart, int aParts) {
+
+		if(aParts <= 0)
+			throw new ArgumentOutOfRangeException("parts");
+		if(aPart < 0 || aPart > aParts)
+			throw new ArgumentOutOfRangeException("part");
+
+		return size * aPart / aParts;
+	}
+
+	/**
+	 * @return iterator over all hands in index order
+	 */
+	public IndexedHandIterator iterator() {
+		return new IndexedHandIterator(this, 0, size);
+	}
+
+	/**
+	 * Iterator over a range of hands in index order. Any two ranges which do
+	 * not overlap visit disjoint sets of hands.
+	 *
+	 * @param aFrom index of the first hand, inclusive
+	 * @param aTo index past the last hand, exclusive
+	 * @return iterator over hands with indexes from {@code aFrom} to
+	 * 	{@code aTo}
+	 * @throws ArgumentOutOfRangeException if range does not fit in the index
+	 */
+	public IndexedHandIterator iterator(long aFrom, long aTo) {
+
+		if(aFrom < 0 || aFrom > size)
+			throw new ArgumentOutOfRangeException("from");
+		if(aTo < aFrom || aTo > size)
+			throw new ArgumentOutOfRangeException("to");
+
+		return new IndexedHandIterator(this, aFrom, aTo);
+	}
+
+	/**
+	 * Calls back with every hand in a range, in index order.
+	 *
+	 * @param aFrom index of the first hand, inclusive
+	 * @param aTo index past the last hand, exclusive
+	 * @param aAction receives each hand mask
+	 * @throws ArgumentOutOfRangeException if range does not fit in the index
+	 */
+	public void forEach(long aFrom, long aTo, LongConsumer aAction) {
+
+		if(aAction == null)
+			throw new IllegalArgumentException("action");
+
+		IndexedHandIterator i = iterator(aFrom, aTo);
+		while(i.hasNext())
+			aAction.accept(i.nextLong());
+	}
+
+	int getCards() {
+		return cards;
+	}
+
+	int[] getLive() {
+		return live;
+	}
+
+	int getPosition(int aCard) {
+		return positions[aCard];
+	}
+}
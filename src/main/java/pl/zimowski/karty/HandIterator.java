@@ -3,8 +3,10 @@ package pl.zimowski.karty;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+import pl.zimowski.karty.tables.TwoCardTable;
 
 /**
  * NOTE: Functionally, this class duplicates features already available in
@@ -15,7 +17,7 @@ import java.util.NoSuchElementException;
 /**
  * @author  zima
  */
-public class HandIterator implements Iterator<Long> {
+public class HandIterator implements PrimitiveIterator.OfLong {
 
     private static final Logger log = LoggerFactory.getLogger(HandIterator.class);
 
@@ -50,7 +52,7 @@ public class HandIterator implements Iterator<Long> {
     }
 
     @Override
-    public Long next() {
+    public long nextLong() {
         ++_count;
 
         switch (_numberOfCards) {
@@ -73,7 +75,7 @@ public class HandIterator implements Iterator<Long> {
                 if (_i1 < 0) {
                     _i1 = 0;
                 }
-                return HandEngine._twoCardTable[_i1++];
+                return TwoCardTable.TABLE[_i1++];
 
             case 1:
                 if (_i1 < 0) {
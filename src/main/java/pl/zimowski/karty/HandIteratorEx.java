@@ -1,86 +1,84 @@
 package pl.zimowski.karty;
 
-import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
+ * Iterates all hands which contain the shared cards and none of the dead
+ * cards. Live cards are compacted into a dense array up front, so every step
+ * produces a valid hand and no candidate has to be rejected. Hands come in
+ * the same order as {@link HandEngine#forEachHand(long, long, int, java.util.function.LongConsumer)}.
+ *
  * @author zima
  */
-public class HandIteratorEx implements Iterator<Long> {
+public class HandIteratorEx implements PrimitiveIterator.OfLong {
 
 	private static final Logger log = LoggerFactory.getLogger(HandIteratorEx.class);
 
-    int _i1, _i2, _i3, _i4, _i5, _i6, _i7, length;
-    long _card1, _card2, _card3, _card4, _card5, _card6, _card7;
-    long _n2, _n3, _n4, _n5, _n6;
-    long shared, dead;
+	/** masks of live cards, ascending */
+	final long[] live;
 
-	boolean _hasNext = true;
-	int _numberOfCards;
+	/** indexes into live cards of dealt cards, descending */
+	final int[] positions;
+
+	/** hands[j] is shared cards plus the first j dealt cards */
+	final long[] hands;
+
+	final int cards;
 	long _count, _binomial;
 
+	/** position of the last dealt card and the hand without it */
+	int last;
+	long prefix;
+
+	/**
+	 * @param aShared Cards that must be in the hand.
+	 * @param aDead Cards that must not be in the hand.
+	 * @param aNumOfCards The total number of cards in the hand, including shared.
+	 * @throws ArgumentOutOfRangeException if number of cards is not between
+	 * 	0 and 7 or is smaller than the number of shared cards
+	 */
 	public HandIteratorEx(long aShared, long aDead, int aNumOfCards) {
 
-		_numberOfCards = aNumOfCards;
-		shared = aShared;
-		dead = aDead;
+		cards = aNumOfCards - HandEngine.BitCount(aShared);
+		if(aNumOfCards < 0 || aNumOfCards > 7 || cards < 0)
+			throw new ArgumentOutOfRangeException("numberOfCards");
 
-		dead |= shared;
-		_i1 = _i2 = _i3 = _i4 = _i5 = _i6 = _i7 = -2;
-		_count = 1;
+		live = HandEngine.liveMasks(aDead | aShared);
+		positions = new int[cards];
+		hands = new long[cards + 1];
+		hands[0] = aShared;
 
-		int sharedBits = HandEngine.BitCount(aShared);
-		int deadBits = HandEngine.BitCount(aDead);
-		int n = HandEngine.NUMBER_OF_CARDS - (sharedBits + deadBits);
-		int k = aNumOfCards - sharedBits;
-		_binomial = PokerMath.binomial(n, k);
-		if(log.isTraceEnabled()) log.trace("binomial: " + n + " choose " + k);
+		_binomial = PokerMath.binomial(live.length, cards);
+		if(log.isTraceEnabled()) log.trace("binomial: " + live.length + " choose " + cards);
 	}
 
 	@Override
     public boolean hasNext() {
-		return _count <= _binomial;
+		return _count < _binomial;
 	}
 
 	@Override
-    public Long next() {
+    public long nextLong() {
+
+		if(_count++ >= _binomial) {
+			_count--;
+			throw new NoSuchElementException();
+		}
+
+		// innermost loop, almost always just the last card steps down
+		if(last > 0)
+			return prefix | live[--last];
 
-		++_count;
+		if(_count == 1)
+			deal(0, live.length - 1);
+		else
+			carry();
 
-        switch (_numberOfCards - HandEngine.BitCount(shared))
-        {
-            case 7: return deckChoose7();
-            case 6: return deckChoose6();
-            case 5: return deckChoose5();
-            case 4: return deckChoose4();
-            case 3: return deckChoose3();
-            case 2:
-            	if(_i1 < 0) _i1 = 0;
-            	do {
-            		try { _card1 = HandEngine._twoCardTable[_i1++]; }
-            		catch(ArrayIndexOutOfBoundsException aioobe) {}
-            	}
-            	while((dead & _card1) != 0);
-                return _card1 | shared;
-            case 1:
-            	if(_i1 < 0) _i1 = 0;
-            	do {
-            		//try { _card1 = Hand.CardMasksTable[_i1++]; }
-            		//catch(ArrayIndexOutOfBoundsException aioobe) {}
-            		_card1 = HandEngine._cardMasksTable[_i1++];
-            	}
-            	while((dead & _card1) != 0);
-                return _card1 | shared;
-            case 0:
-            	_i1 = 0;
-                return shared;
-            default:
-            	_i1 = 0;
-                return 0L;
-        }
+		return hands[cards];
 	}
 
 	@Override
@@ -89,273 +87,29 @@ public class HandIteratorEx implements Iterator<Long> {
 		throw new UnsupportedOperationException();
 	}
 
-	private long deckChoose7() throws NoSuchElementException {
-    	if(_i1 < 0) _i1 = HandEngine.NUMBER_OF_CARDS - 1;
-        while(_i1 >= 0) {
-        	if(_i2 < 0) {
-	        	_card1 = HandEngine._cardMasksTable[_i1];
-	            if((dead & _card1) != 0) {
-	            	_i1--;
-	            	continue;
-	            }
-	            _i2 = _i1-- - 1;
-        	}
-            while(_i2 >= 0) {
-            	if(_i3 < 0) {
-	            	_card2 = HandEngine._cardMasksTable[_i2];
-	                if((dead & _card2) != 0) {
-	                	_i2--;
-	                	continue;
-	                }
-	                _n2 = _card1 | _card2;
-	                _i3 = _i2-- - 1;
-            	}
-                while(_i3 >= 0) {
-                	if(_i4 < 0) {
-	                	_card3 = HandEngine._cardMasksTable[_i3];
-	                    if((dead & _card3) != 0) {
-	                    	_i3--;
-	                    	continue;
-	                    }
-	                    _n3 = _n2 | _card3;
-	                    _i4 = _i3-- - 1;
-                	}
-                    while(_i4 >= 0) {
-                    	if(_i5 < 0) {
-	                    	_card4 = HandEngine._cardMasksTable[_i4];
-	                        if((dead & _card4) != 0) {
-	                        	_i4--;
-	                        	continue;
-	                        }
-	                        _n4 = _n3 | _card4;
-	                        _i5 = _i4-- - 1;
-                    	}
-                        while(_i5 >= 0) {
-                        	if(_i6 < 0) {
-	                        	_card5 = HandEngine._cardMasksTable[_i5];
-	                            if((dead & _card5) != 0) {
-	                            	_i5--;
-	                            	continue;
-	                            }
-	                            _n5 = _n4 | _card5;
-	                            _i6 = _i5-- - 1;
-                        	}
-                            while(_i6 >= 0) {
-                            	if(_i7 < 0) {
-	                            	_card6 = HandEngine._cardMasksTable[_i6];
-	                                if((dead & _card6) != 0) {
-	                                	_i6--;
-	                                	continue;
-	                                }
-	                                _n6 = _n5 | _card6;
-	                                _i7 = _i6-- - 1;
-                            	}
-                                while(_i7 >= 0) {
-                                    _card7 = HandEngine._cardMasksTable[_i7--];
-                                    if ((dead & _card7) != 0) continue;
-                                    return _n6 | _card7 | shared;
-                                } // 7
-                            } // 6
-                        } // 5
-                    } // 4
-                } // 3
-            } // 2
-        } // 1
-
-        throw new NoSuchElementException();
-	}
-
-	private long deckChoose6() throws NoSuchElementException {
-    	if(_i1 < 0) _i1 = HandEngine.NUMBER_OF_CARDS - 1;
-        while(_i1 >= 0) {
-        	if(_i2 < 0) {
-	        	_card1 = HandEngine._cardMasksTable[_i1];
-	            if((dead & _card1) != 0) {
-	            	_i1--;
-	            	continue;
-	            }
-	            _i2 = _i1-- - 1;
-        	}
-            while(_i2 >= 0) {
-            	if(_i3 < 0) {
-	            	_card2 = HandEngine._cardMasksTable[_i2];
-	                if((dead & _card2) != 0) {
-	                	_i2--;
-	                	continue;
-	                }
-	                _n2 = _card1 | _card2;
-	                _i3 = _i2-- - 1;
-            	}
-                while(_i3 >= 0) {
-                	if(_i4 < 0) {
-	                	_card3 = HandEngine._cardMasksTable[_i3];
-	                    if((dead & _card3) != 0) {
-	                    	_i3--;
-	                    	continue;
-	                    }
-	                    _n3 = _n2 | _card3;
-	                    _i4 = _i3-- - 1;
-                	}
-                    while(_i4 >= 0) {
-                    	if(_i5 < 0) {
-	                    	_card4 = HandEngine._cardMasksTable[_i4];
-	                        if((dead & _card4) != 0) {
-	                        	_i4--;
-	                        	continue;
-	                        }
-	                        _n4 = _n3 | _card4;
-	                        _i5 = _i4-- - 1;
-                    	}
-                        while(_i5 >= 0) {
-                        	if(_i6 < 0) {
-	                        	_card5 = HandEngine._cardMasksTable[_i5];
-	                            if((dead & _card5) != 0) {
-	                            	_i5--;
-	                            	continue;
-	                            }
-	                            _n5 = _n4 | _card5;
-	                            _i6 = _i5-- - 1;
-                        	}
-                            while(_i6 >= 0) {
-                                _card6 = HandEngine._cardMasksTable[_i6--];
-                                if((dead & _card6) != 0) continue;
-                                return _n5 | _card6 | shared;
-                            } // 6
-                        } // 5
-                    } // 4
-                } // 3
-            } // 2
-        } // 1
-
-        throw new NoSuchElementException();
+	/**
+	 * Last card reached the bottom: the last card before it which can still
+	 * go down does so, and all cards after it are dealt right below it.
+	 */
+	private void carry() {
+		final int[] p = positions;
+		int j = cards - 2;
+		while(p[j] == cards - 1 - j)
+			j--;
+		deal(j, p[j] - 1);
 	}
 
-	private long deckChoose5() throws NoSuchElementException {
-    	if(_i1 < 0) _i1 = HandEngine.NUMBER_OF_CARDS - 1;
-        while(_i1 >= 0) {
-        	if(_i2 < 0) {
-	        	_card1 = HandEngine._cardMasksTable[_i1];
-	            if((dead & _card1) != 0) {
-	            	_i1--;
-	            	continue;
-	            }
-	            _i2 = _i1-- - 1;
-        	}
-            while(_i2 >= 0) {
-            	if(_i3 < 0) {
-	            	_card2 = HandEngine._cardMasksTable[_i2];
-	                if((dead & _card2) != 0) {
-	                	_i2--;
-	                	continue;
-	                }
-	                _n2 = _card1 | _card2;
-	                _i3 = _i2-- - 1;
-            	}
-                while(_i3 >= 0) {
-                	if(_i4 < 0) {
-	                	_card3 = HandEngine._cardMasksTable[_i3];
-	                    if((dead & _card3) != 0) {
-	                    	_i3--;
-	                    	continue;
-	                    }
-	                    _n3 = _n2 | _card3;
-	                    _i4 = _i3-- - 1;
-                	}
-                    while(_i4 >= 0) {
-                    	if(_i5 < 0) {
-	                    	_card4 = HandEngine._cardMasksTable[_i4];
-	                        if((dead & _card4) != 0) {
-	                        	_i4--;
-	                        	continue;
-	                        }
-	                        _n4 = _n3 | _card4;
-	                        _i5 = _i4-- - 1;
-                    	}
-                        while(_i5 >= 0) {
-                            _card5 = HandEngine._cardMasksTable[_i5--];
-                            if((dead & _card5) != 0) continue;
-                            return _n4 | _card5 | shared;
-                        } // 5
-                    } // 4
-                } // 3
-            } // 2
-        } // 1
-
-        throw new NoSuchElementException();
-	}
-
-	private long deckChoose4() throws NoSuchElementException {
-    	if(_i1 < 0) _i1 = HandEngine.NUMBER_OF_CARDS - 1;
-        while(_i1 >= 0) {
-        	if(_i2 < 0) {
-	            _card1 = HandEngine._cardMasksTable[_i1];
-	            if((dead & _card1) != 0) {
-	            	_i1--;
-	            	continue;
-	            }
-	            _i2 = _i1-- - 1;
-        	}
-            while(_i2 >= 0) {
-            	if(_i3 < 0) {
-	            	_card2 = HandEngine._cardMasksTable[_i2];
-	                if((dead & _card2) != 0) {
-	                	_i2--;
-	                	continue;
-	                }
-	                _n2 = _card1 | _card2;
-	                _i3 = _i2-- - 1;
-            	}
-                while(_i3 >= 0) {
-                	if(_i4 < 0) {
-	                	_card3 = HandEngine._cardMasksTable[_i3];
-	                    if((dead & _card3) != 0) {
-	                    	_i3--;
-	                    	continue;
-	                    }
-	                    _n3 = _n2 | _card3;
-	                    _i4 = _i3-- - 1;
-                	}
-                    while(_i4 >= 0) {
-                        _card4 = HandEngine._cardMasksTable[_i4--];
-                        if((dead & _card4) != 0) continue;
-                        return _n3 | _card4 | shared;
-                    } // 4
-                } // 3
-            } // 2
-        } // 1
-
-        throw new NoSuchElementException();
-	}
-
-	private long deckChoose3() throws NoSuchElementException {
-    	if(_i1 < 0) _i1 = HandEngine.NUMBER_OF_CARDS - 1;
-        while(_i1 >= 0) {
-        	if(_i2 < 0) {
-	        	_card1 = HandEngine._cardMasksTable[_i1];
-	            if((dead & _card1) != 0) {
-	            	_i1--;
-	            	continue;
-	            }
-	            _i2 = _i1-- - 1;
-        	}
-            while(_i2 >= 0) {
-                if(_i3 < 0) {
-	                _card2 = HandEngine._cardMasksTable[_i2];
-	                if((dead & _card2) != 0) {
-	                	_i2--;
-	                	continue;
-	                }
-                	_n2 = _card1 | _card2;
-                	_i3 = _i2-- - 1;
-                }
-                while(_i3 >= 0) {
-                	_card3 = HandEngine._cardMasksTable[_i3--];
-                	if((dead & _card3) != 0) continue;
-                    return _n2 | _card3 | shared;
-                } // 3
-            } // 2
-        } // 1
-
-        throw new NoSuchElementException();
+	/**
+	 * Deals cards from j on, each one right below the previous one.
+	 */
+	private void deal(int j, int aTop) {
+		for(int position = aTop; j < cards; j++, position--) {
+			positions[j] = position;
+			hands[j + 1] = hands[j] | live[position];
+		}
+		if(cards > 0) {
+			last = positions[cards - 1];
+			prefix = hands[cards - 1];
+		}
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,84 @@
+package pl.zimowski.karty;
+
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fork/join task behind {@link HandEngine#HandOddsParallel(long[], long, long, long[], long[], long[], long[], int)}.
+ * A task owns a range of board indexes (see {@link HandIndex}) and halves it
+ * until it is small enough to be enumerated directly, so all leaves carry
+ * the same amount of work. Each task keeps its own tallies which are summed
+ * into the parent after join.
+ *
+ * @author Adam Zimowski
+ */
+final class HandOddsTask extends RecursiveAction {
+
+	private static final long serialVersionUID = -2609618434624355497L;
+
+	/** boards enumerated by a single task without splitting it further */
+	static final long LEAF_SIZE = 1 << 14;
+
+	private final long[] pocketmasks;
+	private final HandIndex boards;
+	private final long from, to;
+
+	final long[] wins, ties, losses;
+	long total;
+
+	/**
+	 * @param aPocketmasks pocket cards, one mask for each player
+	 * @param aBoard board cards
+	 * @param aDead dead cards, including all pocket cards
+	 */
+	HandOddsTask(long[] aPocketmasks, long aBoard, long aDead) {
+		this(aPocketmasks, new HandIndex(aBoard, aDead, 5));
+	}
+
+	private HandOddsTask(long[] aPocketmasks, HandIndex aBoards) {
+		this(aPocketmasks, aBoards, 0, aBoards.size());
+	}
+
+	private HandOddsTask(long[] aPocketmasks, HandIndex aBoards, long aFrom, long aTo) {
+		pocketmasks = aPocketmasks;
+		boards = aBoards;
+		from = aFrom;
+		to = aTo;
+		wins = new long[aPocketmasks.length];
+		ties = new long[aPocketmasks.length];
+		losses = new long[aPocketmasks.length];
+	}
+
+	@Override
+	protected void compute() {
+
+		if(to - from <= LEAF_SIZE) {
+			enumerate();
+			return;
+		}
+
+		long mid = (from + to) >>> 1;
+		HandOddsTask lower = new HandOddsTask(pocketmasks, boards, from, mid);
+		HandOddsTask upper = new HandOddsTask(pocketmasks, boards, mid, to);
+		invokeAll(lower, upper);
+
+		merge(lower);
+		merge(upper);
+	}
+
+	private void enumerate() {
+		final long[] pockethands = new long[pocketmasks.length];
+		IndexedHandIterator i = boards.iterator(from, to);
+		while(i.hasNext())
+			HandEngine.tallyHandOdds(pocketmasks, pockethands, i.nextLong(), wins, ties, losses);
+		total += to - from;
+	}
+
+	private void merge(HandOddsTask aTask) {
+		for(int i = 0; i < wins.length; i++) {
+			wins[i] += aTask.wins[i];
+			ties[i] += aTask.ties[i];
+			losses[i] += aTask.losses[i];
+		}
+		total += aTask.total;
+	}
+}
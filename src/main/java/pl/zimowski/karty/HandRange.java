@@ -0,0 +1,204 @@
+package pl.zimowski.karty;
+
+import java.util.Arrays;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import pl.zimowski.karty.tables.Pocket169Table;
+
+/**
+ * Weighted range of pocket hands: a weight for each of the 1326 pockets
+ * (indexed like {@link PreflopEquityTable#pocketIndex(long)}), zero for
+ * pockets out of the range. Ranges are usually parsed from the common
+ * notation, a comma separated list of:
+ * <ul>
+ * <li>pocket classes: {@code QQ}, {@code AKs}, {@code AKo}, {@code AK}
+ * (suited and offsuit)</li>
+ * <li>everything from a class up: {@code QQ+} (QQ, KK, AA), {@code ATo+}
+ * (ATo, AJo, AQo, AKo)</li>
+ * <li>spans: {@code 22-55}, {@code A2s-A5s}</li>
+ * <li>exact pockets: {@code AsKs}</li>
+ * </ul>
+ * Any item may be followed by {@code :weight}, e.g. {@code "QQ+, AKs:0.5"};
+ * default weight is 1. Later items override weights of earlier ones.
+ *
+ * @author Adam Zimowski
+ */
+public final class HandRange {
+
+	private static final String RANKS = "23456789TJQKA";
+
+	private static final Pattern CLASS = Pattern.compile(
+			"([2-9TJQKA])([2-9TJQKA])([so]?)(\\+?)(?:-([2-9TJQKA])([2-9TJQKA])([so]?))?");
+
+	private static final Pattern POCKET = Pattern.compile("[2-9TJQKA][cdhs][2-9TJQKA][cdhs]");
+
+	private final double[] weights = new double[PreflopEquityTable.POCKETS];
+
+	/**
+	 * Creates empty range.
+	 */
+	public HandRange() {
+	}
+
+	/**
+	 * @param notation range in the common notation
+	 * @return parsed range
+	 * @throws IllegalArgumentException if notation is not valid
+	 */
+	public static HandRange parse(String notation) {
+
+		HandRange range = new HandRange();
+		for(String item : notation.split(",")) {
+			item = item.trim();
+			if(item.isEmpty())
+				continue;
+
+			double weight = 1.0;
+			int colon = item.indexOf(':');
+			if(colon >= 0) {
+				try {
+					weight = Double.parseDouble(item.substring(colon + 1).trim());
+				}
+				catch(NumberFormatException e) {
+					throw new IllegalArgumentException("Bad weight: [" + item + "]", e);
+				}
+				if(!isWeight(weight))
+					throw new IllegalArgumentException("Bad weight: [" + item + "]");
+				item = item.substring(0, colon).trim();
+			}
+
+			if(POCKET.matcher(item).matches()) {
+				range.add(HandEngine.parseHand(item.substring(0, 2) + " " + item.substring(2)), weight);
+				continue;
+			}
+
+			Matcher m = CLASS.matcher(item);
+			if(!m.matches())
+				throw new IllegalArgumentException("Bad range item: [" + item + "]");
+			range.addClasses(item, m, weight);
+		}
+		return range;
+	}
+
+	private void addClasses(String item, Matcher m, double weight) {
+
+		int r1 = RANKS.indexOf(m.group(1).charAt(0)), r2 = RANKS.indexOf(m.group(2).charAt(0));
+		String suits = m.group(3);
+		boolean plus = !m.group(4).isEmpty(), span = m.group(5) != null;
+		if(plus && span)
+			throw new IllegalArgumentException("Bad range item: [" + item + "]");
+
+		if(r1 == r2) {
+			if(!suits.isEmpty())
+				throw new IllegalArgumentException("Bad range item: [" + item + "]");
+			int from = r1, to = r1;
+			if(plus)
+				to = RANKS.length() - 1;
+			else if(span) {
+				int r3 = RANKS.indexOf(m.group(5).charAt(0));
+				if(r3 != RANKS.indexOf(m.group(6).charAt(0)) || !m.group(7).isEmpty())
+					throw new IllegalArgumentException("Bad range item: [" + item + "]");
+				from = Math.min(r1, r3);
+				to = Math.max(r1, r3);
+			}
+			for(int r = from; r <= to; r++)
+				addClass(r, r, "", weight);
+			return;
+		}
+
+		int high = Math.max(r1, r2), low = Math.min(r1, r2);
+		int from = low, to = low;
+		if(plus)
+			to = high - 1;
+		else if(span) {
+			int r3 = RANKS.indexOf(m.group(5).charAt(0)), r4 = RANKS.indexOf(m.group(6).charAt(0));
+			if(Math.max(r3, r4) != high || r3 == r4 || !m.group(7).equals(suits))
+				throw new IllegalArgumentException("Bad range item: [" + item + "]");
+			from = Math.min(low, Math.min(r3, r4));
+			to = Math.max(low, Math.min(r3, r4));
+		}
+		for(int kicker = from; kicker <= to; kicker++) {
+			if(!suits.equals("o")) addClass(high, kicker, "s", weight);
+			if(!suits.equals("s")) addClass(high, kicker, "o", weight);
+		}
+	}
+
+	private void addClass(int high, int low, String suits, double weight) {
+		add(PocketHand169Enum.valueOf("Pocket" + RANKS.charAt(high) + RANKS.charAt(low) + suits), weight);
+	}
+
+	/**
+	 * @param pocket mask of two cards
+	 * @param weight weight of the pocket, zero to remove it
+	 * @return this range
+	 */
+	public HandRange add(long pocket, double weight) {
+		if(!isWeight(weight))
+			throw new IllegalArgumentException("weight must be a finite, non-negative number");
+		weights[PreflopEquityTable.pocketIndex(pocket)] = weight;
+		return this;
+	}
+
+	/**
+	 * @param pocketClass class of pockets
+	 * @param weight weight of each pocket of the class, zero to remove them
+	 * @return this range
+	 */
+	public HandRange add(PocketHand169Enum pocketClass, double weight) {
+		if(pocketClass == PocketHand169Enum.None)
+			throw new IllegalArgumentException("None is not a pocket class");
+		for(long pocket : Pocket169Table.TABLE[pocketClass.ordinal()])
+			add(pocket, weight);
+		return this;
+	}
+
+	/**
+	 * @return true if finite and not negative; NaN or infinity would carry
+	 * 	into every equity computed over the range
+	 */
+	private static boolean isWeight(double weight) {
+		return weight >= 0 && !Double.isInfinite(weight);
+	}
+
+	/**
+	 * @param pocket mask of two cards
+	 * @return weight of the pocket, zero if not in the range
+	 */
+	public double getWeight(long pocket) {
+		return weights[PreflopEquityTable.pocketIndex(pocket)];
+	}
+
+	/**
+	 * @param index pocket index
+	 * @return weight of the pocket, zero if not in the range
+	 */
+	double getWeight(int index) {
+		return weights[index];
+	}
+
+	/**
+	 * @return number of pockets in the range
+	 */
+	public int getComboCount() {
+		int count = 0;
+		for(double weight : weights) {
+			if(weight > 0) count++;
+		}
+		return count;
+	}
+
+	/**
+	 * @param dead cards that cannot be in a pocket
+	 * @return indexes of pockets in the range without any dead card
+	 */
+	int[] liveCombos(long dead) {
+		int[] combos = new int[PreflopEquityTable.POCKETS];
+		int n = 0;
+		for(int i = 0; i < weights.length; i++) {
+			if(weights[i] > 0 && (PreflopEquityTable.pocketMask(i) & dead) == 0)
+				combos[n++] = i;
+		}
+		return Arrays.copyOf(combos, n);
+	}
+}
@@ -0,0 +1,116 @@
+package pl.zimowski.karty;
+
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+
+/**
+ * Spliterator over a range of {@link HandIndex} hands. Splitting cuts the
+ * remaining index range in half, so both halves are known to hold exactly
+ * the same number of hands (give or take one) and a parallel stream divides
+ * work evenly no matter how many cards are shared or dead.
+ * <p>
+ * Hands come in ascending order of their masks, which is the natural order
+ * of colexicographic indexes.
+ *
+ * @author Adam Zimowski
+ */
+public final class HandSpliterator implements Spliterator.OfLong {
+
+	/** ranges smaller than this are not split any further */
+	static final long MIN_SPLIT = 1 << 10;
+
+	private final HandIndex hands;
+	private long from;
+	private final long to;
+
+	/** created on first advance, from then on tracks the position */
+	private IndexedHandIterator cursor;
+
+	/**
+	 * @param aHands hand space
+	 */
+	public HandSpliterator(HandIndex aHands) {
+		this(aHands, 0, aHands.size());
+	}
+
+	/**
+	 * @param aHands hand space
+	 * @param aFrom index of the first hand, inclusive
+	 * @param aTo index past the last hand, exclusive
+	 * @throws ArgumentOutOfRangeException if range does not fit in the index
+	 */
+	public HandSpliterator(HandIndex aHands, long aFrom, long aTo) {
+
+		if(aFrom < 0 || aFrom > aHands.size())
+			throw new ArgumentOutOfRangeException("from");
+		if(aTo < aFrom || aTo > aHands.size())
+			throw new ArgumentOutOfRangeException("to");
+
+		hands = aHands;
+		from = aFrom;
+		to = aTo;
+	}
+
+	@Override
+	public boolean tryAdvance(LongConsumer aAction) {
+
+		if(cursor == null)
+			cursor = hands.iterator(from, to);
+
+		if(!cursor.hasNext())
+			return false;
+
+		aAction.accept(cursor.nextLong());
+		return true;
+	}
+
+	@Override
+	public void forEachRemaining(LongConsumer aAction) {
+
+		if(cursor == null)
+			cursor = hands.iterator(from, to);
+
+		final IndexedHandIterator i = cursor;
+		while(i.hasNext())
+			aAction.accept(i.nextLong());
+	}
+
+	@Override
+	public HandSpliterator trySplit() {
+
+		long start = position();
+		if(to - start < MIN_SPLIT)
+			return null;
+
+		long mid = (start + to) >>> 1;
+		HandSpliterator prefix = new HandSpliterator(hands, start, mid);
+		from = mid;
+		cursor = null;
+		return prefix;
+	}
+
+	@Override
+	public long estimateSize() {
+		return to - position();
+	}
+
+	@Override
+	public long getExactSizeIfKnown() {
+		return estimateSize();
+	}
+
+	@Override
+	public int characteristics() {
+		return ORDERED | DISTINCT | SORTED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+	}
+
+	@Override
+	public Comparator<? super Long> getComparator() {
+		return null;
+	}
+
+	private long position() {
+		return cursor == null ? from : cursor.getIndex();
+	}
+}
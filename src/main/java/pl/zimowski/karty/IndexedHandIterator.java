@@ -0,0 +1,105 @@
+package pl.zimowski.karty;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Iterates a range of {@link HandIndex} hands in index order. The starting
+ * hand is computed directly from its index, after which every step moves to
+ * the colexicographic successor, so starting deep inside the space costs no
+ * more than starting at the beginning. {@link #getIndex()} tells where the
+ * iterator is, which is all that needs to be saved in order to resume an
+ * interrupted enumeration with {@link HandIndex#iterator(long, long)}.
+ * <p>
+ * Hands are not boxed as long as {@link #nextLong()} is used.
+ *
+ * @author Adam Zimowski
+ */
+public final class IndexedHandIterator implements PrimitiveIterator.OfLong {
+
+	private final long shared;
+	private final int[] live;
+
+	/** positions (within live cards) of undealt cards, ascending */
+	private final int[] positions;
+
+	private final long to;
+	private long index;
+	private long hand;
+
+	IndexedHandIterator(HandIndex aSpace, long aFrom, long aTo) {
+
+		shared = aSpace.getShared();
+		live = aSpace.getLive();
+		positions = new int[aSpace.getCards()];
+		to = aTo;
+		index = aFrom;
+
+		if(aFrom < aTo) {
+			hand = aSpace.unrank(aFrom);
+			long undealt = hand & ~shared;
+			for(int i = 0; i < positions.length; i++) {
+				positions[i] = aSpace.getPosition(Long.numberOfTrailingZeros(undealt));
+				undealt &= undealt - 1;
+			}
+		}
+	}
+
+	/**
+	 * @return index of the hand returned by the next call to
+	 * 	{@link #nextLong()}
+	 */
+	public long getIndex() {
+		return index;
+	}
+
+	@Override
+	public boolean hasNext() {
+		return index < to;
+	}
+
+	@Override
+	public long nextLong() {
+
+		if(index >= to)
+			throw new NoSuchElementException();
+
+		long result = hand;
+		if(++index < to)
+			advance();
+		return result;
+	}
+
+	/**
+	 * Moves to the colexicographic successor: the lowest card which can move
+	 * up by one does so, and all cards below it drop to the bottom.
+	 */
+	private void advance() {
+
+		final int[] p = positions;
+		final int[] cards = live;
+		final long[] table = HandEngine._cardMasksTable;
+		final int last = p.length - 1;
+
+		// cheapest and by far most common step, just the lowest card moves
+		int low = p[0];
+		if(last == 0 || low + 1 < p[1]) {
+			p[0] = low + 1;
+			hand ^= table[cards[low]] | table[cards[low + 1]];
+			return;
+		}
+
+		int i = 1;
+		while(i < last && p[i] + 1 == p[i + 1])
+			i++;
+
+		long h = hand;
+		for(int j = 0; j <= i; j++)
+			h &= ~table[cards[p[j]]];
+		p[i]++;
+		h |= table[cards[p[i]]];
+		for(int j = 0; j < i; j++)
+			h |= table[cards[p[j] = j]];
+		hand = h;
+	}
+}
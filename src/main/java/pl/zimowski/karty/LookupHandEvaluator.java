@@ -0,0 +1,227 @@
+package pl.zimowski.karty;
+
+/**
+ * Table driven evaluator for up to 7 cards, an alternative to the branchy
+ * {@link HandEngine#Evaluate(long, int)} with exactly the same results.
+ * <p>
+ * With 7 cards or less a flush is always the best hand there is, unless it
+ * is a straight flush, so a hand with five or more cards of one suit is
+ * valued by that suit alone out of an 8192 entry flush table. Any other hand
+ * is valued by its ranks only. Ranks are summed into a key holding a three
+ * bit count for each rank (one table lookup per suit) and the key is mapped
+ * onto its value with a perfect hash: the high bits of a multiplicative hash
+ * pick a bucket whose displacement moves all of its keys onto free slots.
+ * Tables take about 700KB and are built from the standard evaluator on first
+ * use.
+ * <p>
+ * No validation is done beyond the number of cards, which must match the
+ * mask like with the standard evaluator.
+ *
+ * @author Adam Zimowski
+ */
+public final class LookupHandEvaluator implements HandEvaluator {
+
+	private static final int SUIT_MASK = 0x1fff;
+
+	private static final long MULTIPLIER = 0x9e3779b97f4a7c15L;
+
+	private static final int BUCKET_BITS = 15;
+
+	private static final int BUCKET_SHIFT = 64 - BUCKET_BITS;
+
+	private static final int SLOT_BITS = 17;
+
+	private static final int SLOT_MASK = (1 << SLOT_BITS) - 1;
+
+	private static final int SLOT_SHIFT = 20;
+
+	/**
+	 * Rank counts of a single suit, 3 bits for each rank.
+	 */
+	private final long[] rankCounts = new long[SUIT_MASK + 1];
+
+	/**
+	 * Value of each suit holding five or more cards, zero otherwise.
+	 */
+	private final int[] flushes = new int[SUIT_MASK + 1];
+
+	private final int[] displacements = new int[1 << BUCKET_BITS];
+
+	private final int[] values = new int[1 << SLOT_BITS];
+
+	private LookupHandEvaluator() {
+
+		for(int suit = 0; suit <= SUIT_MASK; suit++) {
+			int bits = HandEngine.BitCount(suit);
+			for(int rank = 0; rank < 13; rank++) {
+				if((suit & (1 << rank)) != 0)
+					rankCounts[suit] += 1L << (3 * rank);
+			}
+			if(bits >= 5 && bits <= 7)
+				flushes[suit] = HandEngine.Evaluate(suit, bits);
+		}
+
+		// every multiset of 1 to 7 ranks, at most four of a kind
+		int size = countRankSets(0, 7);
+		long[] keys = new long[size];
+		int[] hands = new int[size];
+		collectRankSets(0, 0L, 0L, 0, keys, hands, new int[1]);
+
+		buildHash(keys, hands);
+	}
+
+	private static final class Holder {
+		static final LookupHandEvaluator INSTANCE = new LookupHandEvaluator();
+	}
+
+	/**
+	 * @return shared instance, built on first call
+	 */
+	public static LookupHandEvaluator getInstance() {
+		return Holder.INSTANCE;
+	}
+
+	@Override
+	public int evaluate(long cards, int numberOfCards) {
+
+		if(numberOfCards < 1 || numberOfCards > 7)
+			throw new ArgumentOutOfRangeException("numberOfCards");
+
+		int sc = (int)(cards >>> HandEngine.CLUB_OFFSET) & SUIT_MASK;
+		int sd = (int)(cards >>> HandEngine.DIAMOND_OFFSET) & SUIT_MASK;
+		int sh = (int)(cards >>> HandEngine.HEART_OFFSET) & SUIT_MASK;
+		int ss = (int)(cards >>> HandEngine.SPADE_OFFSET) & SUIT_MASK;
+
+		int flush = flushes[sc] | flushes[sd] | flushes[sh] | flushes[ss];
+		if(flush != 0)
+			return flush;
+
+		return rankValue(rankCounts[sc] + rankCounts[sd] + rankCounts[sh] + rankCounts[ss]);
+	}
+
+	/**
+	 * @param ranks ranks of a single suit
+	 * @return value of the flush (or straight flush) made of these ranks,
+	 * 	zero if there are fewer than 5 or more than 7 of them
+	 */
+	int flushValue(int ranks) {
+		return flushes[ranks];
+	}
+
+	/**
+	 * @param key count of each rank in a hand (1 to 7 cards) without a
+	 * 	flush, 3 bits per rank, lowest rank in the lowest bits
+	 * @return value of the hand
+	 */
+	int rankValue(long key) {
+		long h = key * MULTIPLIER;
+		return values[((int)(h >>> SLOT_SHIFT) ^ displacements[(int)(h >>> BUCKET_SHIFT)]) & SLOT_MASK];
+	}
+
+	/**
+	 * @return number of non empty rank multisets of ranks starting at the
+	 * 	given one, with at most the given number of cards
+	 */
+	private static int countRankSets(int rank, int cards) {
+		if(rank == 13)
+			return 1;
+		int count = 0;
+		for(int n = 0; n <= Math.min(4, cards); n++)
+			count += countRankSets(rank + 1, cards - n);
+		return rank == 0 ? count - 1 : count;
+	}
+
+	/**
+	 * Collects key and value of every rank multiset. Value comes from the
+	 * standard evaluator for a hand with these ranks, dealt round robin over
+	 * the suits so that no suit gets more than two cards.
+	 */
+	private static void collectRankSets(int rank, long key, long hand, int cards,
+			long[] keys, int[] hands, int[] next) {
+
+		if(rank == 13) {
+			if(cards > 0) {
+				keys[next[0]] = key;
+				hands[next[0]++] = HandEngine.Evaluate(hand, cards);
+			}
+			return;
+		}
+
+		long h = hand;
+		for(int n = 0; n <= 4 && cards + n <= 7; n++) {
+			if(n > 0)
+				h |= 1L << (rank + 13 * ((cards + n - 1) & 3));
+			collectRankSets(rank + 1, key + ((long)n << (3 * rank)), h, cards + n, keys, hands, next);
+		}
+	}
+
+	/**
+	 * Places keys into buckets and assigns each bucket, largest first, the
+	 * first displacement which moves all of its keys onto free slots.
+	 */
+	private void buildHash(long[] keys, int[] hands) {
+
+		int buckets = 1 << BUCKET_BITS;
+		int[] bucketSizes = new int[buckets];
+		for(long key : keys)
+			bucketSizes[(int)((key * MULTIPLIER) >>> BUCKET_SHIFT)]++;
+
+		// keys grouped by bucket
+		int[] bucketStart = new int[buckets + 1];
+		for(int b = 0; b < buckets; b++)
+			bucketStart[b + 1] = bucketStart[b] + bucketSizes[b];
+		int[] order = new int[keys.length];
+		int[] fill = bucketStart.clone();
+		for(int i = 0; i < keys.length; i++)
+			order[fill[(int)((keys[i] * MULTIPLIER) >>> BUCKET_SHIFT)]++] = i;
+
+		// counting sort of buckets by size, largest first
+		int maxSize = 0;
+		for(int size : bucketSizes)
+			maxSize = Math.max(maxSize, size);
+		int[] bySize = new int[buckets];
+		int n = 0;
+		for(int size = maxSize; size > 0; size--) {
+			for(int b = 0; b < buckets; b++) {
+				if(bucketSizes[b] == size)
+					bySize[n++] = b;
+			}
+		}
+
+		boolean[] taken = new boolean[values.length];
+		int[] slots = new int[maxSize];
+		for(int i = 0; i < n; i++) {
+			int b = bySize[i];
+			int from = bucketStart[b], size = bucketSizes[b];
+			int d = 0;
+			for(; d <= SLOT_MASK; d++) {
+				if(fits(keys, order, from, size, d, taken, slots))
+					break;
+			}
+			if(d > SLOT_MASK)
+				throw new IllegalStateException("no displacement for bucket " + b);
+
+			displacements[b] = d;
+			for(int k = 0; k < size; k++) {
+				taken[slots[k]] = true;
+				values[slots[k]] = hands[order[from + k]];
+			}
+		}
+	}
+
+	private static boolean fits(long[] keys, int[] order, int from, int size, int d,
+			boolean[] taken, int[] slots) {
+
+		for(int k = 0; k < size; k++) {
+			int slot = ((int)((keys[order[from + k]] * MULTIPLIER) >>> SLOT_SHIFT) ^ d) & SLOT_MASK;
+			if(taken[slot])
+				return false;
+			for(int j = 0; j < k; j++) {
+				if(slots[j] == slot)
+					return false;
+			}
+			slots[k] = slot;
+		}
+		return true;
+	}
+}
@@ -0,0 +1,292 @@
+package pl.zimowski.karty;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Monte Carlo estimate of each player's equity, the sampling counterpart of
+ * {@link HandEngine#HandOdds(long[], long, long, long[], long[], long[], long[])}.
+ * Random boards are dealt in batches until either the standard error of
+ * every player's equity drops to the requested tolerance or the trial/time
+ * budget runs out. Equity of a player is the average pot share, so a win
+ * counts as 1 and an n-way tie as 1/n.
+ * <p>
+ * With more than one thread, every worker deals from its own random stream
+ * (split off a common root) and keeps its own tallies; tallies are merged
+ * between batches, which is also when the stopping rule is checked. Given a
+ * seeded root generator and a stopping rule other than time, the estimate
+ * is reproducible bit for bit, regardless of thread scheduling.
+ *
+ * @author Adam Zimowski
+ */
+public final class MonteCarloOdds {
+
+	/**
+	 * Number of trials each worker runs between two checks of the stopping
+	 * rule. Also the minimum number of trials of any estimate.
+	 */
+	static final int BATCH = 2000;
+
+	/**
+	 * Two sided 95% quantile of the standard normal distribution.
+	 */
+	static final double Z95 = 1.959963984540054;
+
+	private final double[] equity;
+	private final double[] standardError;
+	private final long trials;
+	private final boolean converged;
+
+	private MonteCarloOdds(double[] aEquity, double[] aStandardError, long aTrials, boolean aConverged) {
+		equity = aEquity;
+		standardError = aStandardError;
+		trials = aTrials;
+		converged = aConverged;
+	}
+
+	/**
+	 * Estimates equity of each player. At least one of the three limits
+	 * (tolerance, trials, time) must be set.
+	 *
+	 * @param pocketmasks pocket cards, one mask for each player
+	 * @param boardmask the board cards (0 to 5)
+	 * @param deadmask the dead cards
+	 * @param tolerance stop once standard error of every player's equity is
+	 * 	at most this much; zero or less to ignore
+	 * @param maxTrials stop after (about) this many trials; zero or less to
+	 * 	ignore
+	 * @param maxMillis stop after (about) this many milliseconds; zero or
+	 * 	less to ignore
+	 * @param threads number of worker threads
+	 * @return equity estimate
+	 * @throws IllegalArgumentException if no limit is given or input is
+	 * 	inconsistent
+	 */
+	public static MonteCarloOdds estimate(long[] pocketmasks, long boardmask, long deadmask,
+			double tolerance, long maxTrials, long maxMillis, int threads) {
+		return estimate(pocketmasks, boardmask, deadmask, tolerance, maxTrials, maxMillis, threads,
+				CardRandom.splittable());
+	}
+
+	/**
+	 * Estimates equity of each player, drawing random boards from streams
+	 * split off the given generator.
+	 *
+	 * @param pocketmasks pocket cards, one mask for each player
+	 * @param boardmask the board cards (0 to 5)
+	 * @param deadmask the dead cards
+	 * @param tolerance stop once standard error of every player's equity is
+	 * 	at most this much; zero or less to ignore
+	 * @param maxTrials stop after (about) this many trials; zero or less to
+	 * 	ignore
+	 * @param maxMillis stop after (about) this many milliseconds; zero or
+	 * 	less to ignore
+	 * @param threads number of worker threads
+	 * @param rand root generator; pass a seeded one to replay an estimate
+	 * @return equity estimate
+	 * @throws IllegalArgumentException if no limit is given or input is
+	 * 	inconsistent
+	 */
+	public static MonteCarloOdds estimate(long[] pocketmasks, long boardmask, long deadmask,
+			double tolerance, long maxTrials, long maxMillis, int threads, CardRandom rand) {
+
+		if(tolerance <= 0 && maxTrials <= 0 && maxMillis <= 0)
+			throw new IllegalArgumentException("no stopping rule; set tolerance, trials or time");
+
+		if(pocketmasks.length == 0)
+			throw new IllegalArgumentException("pockets");
+
+		long dead = deadmask | boardmask;
+		for(long pocket : pocketmasks) {
+			if(HandEngine.BitCount(pocket) != 2)
+				throw new IllegalArgumentException("There must be two pocket cards.");
+			if((dead & pocket) != 0)
+				throw new IllegalArgumentException("Duplicate cards");
+			dead |= pocket;
+		}
+
+		int ncards = 5 - HandEngine.BitCount(boardmask);
+		if(ncards < 0)
+			throw new IllegalArgumentException("Board must have zero or more cards, but max 5");
+
+		int workerCount = Math.max(1, threads);
+		List<Worker> workers = new ArrayList<Worker>(workerCount);
+		for(int i = 0; i < workerCount; i++)
+			workers.add(new Worker(pocketmasks, boardmask, dead, ncards, rand.split()));
+
+		ExecutorService executor = workerCount > 1 ? Executors.newFixedThreadPool(workerCount) : null;
+		long start = System.currentTimeMillis();
+
+		int players = pocketmasks.length;
+		double[] equity = new double[players];
+		double[] error = new double[players];
+
+		try {
+			while(true) {
+				runBatch(workers, executor);
+
+				long trials = 0;
+				double[] sum = new double[players];
+				double[] sumSq = new double[players];
+				for(Worker worker : workers) {
+					trials += worker.trials;
+					for(int i = 0; i < players; i++) {
+						sum[i] += worker.sum[i];
+						sumSq[i] += worker.sumSq[i];
+					}
+				}
+
+				double worst = 0;
+				for(int i = 0; i < players; i++) {
+					equity[i] = sum[i] / trials;
+					double variance = Math.max(0, sumSq[i] / trials - equity[i] * equity[i]);
+					error[i] = Math.sqrt(variance / trials);
+					worst = Math.max(worst, error[i]);
+				}
+
+				// a complete board leaves nothing to sample
+				boolean converged = ncards == 0 || (tolerance > 0 && worst <= tolerance);
+				if(converged ||
+						(maxTrials > 0 && trials >= maxTrials) ||
+						(maxMillis > 0 && System.currentTimeMillis() - start >= maxMillis)) {
+					return new MonteCarloOdds(equity, error, trials, converged);
+				}
+			}
+		}
+		finally {
+			if(executor != null) executor.shutdownNow();
+		}
+	}
+
+	private static void runBatch(List<Worker> aWorkers, ExecutorService aExecutor) {
+
+		if(aExecutor == null) {
+			aWorkers.get(0).call();
+			return;
+		}
+
+		try {
+			for(Future<Void> future : aExecutor.invokeAll(aWorkers))
+				future.get();
+		}
+		catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("interrupted", e);
+		}
+		catch(ExecutionException e) {
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	/**
+	 * @return number of players
+	 */
+	public int getPlayers() {
+		return equity.length;
+	}
+
+	/**
+	 * @param aPlayer player index, same as in the input array
+	 * @return estimated equity (average pot share) of the player
+	 */
+	public double getEquity(int aPlayer) {
+		return equity[aPlayer];
+	}
+
+	/**
+	 * @param aPlayer player index, same as in the input array
+	 * @return standard error of the equity estimate
+	 */
+	public double getStandardError(int aPlayer) {
+		return standardError[aPlayer];
+	}
+
+	/**
+	 * @param aPlayer player index, same as in the input array
+	 * @return half width of the 95% confidence interval of the equity
+	 * 	estimate; the interval is equity +/- this value
+	 */
+	public double getMarginOfError(int aPlayer) {
+		return Z95 * standardError[aPlayer];
+	}
+
+	/**
+	 * @return number of boards sampled
+	 */
+	public long getTrials() {
+		return trials;
+	}
+
+	/**
+	 * @return true if estimation stopped because requested tolerance was
+	 * 	reached, false if it ran out of trial or time budget
+	 */
+	public boolean isConverged() {
+		return converged;
+	}
+
+	/**
+	 * Deals and scores batches of random boards with its own random stream
+	 * and its own (cumulative) tallies.
+	 */
+	private static final class Worker implements Callable<Void> {
+
+		final long[] pocketmasks;
+		final long[] pockethands;
+		final long board;
+		final int ncards;
+		final CardSampler sampler;
+		final CardRandom rand;
+
+		final double[] sum, sumSq;
+		long trials;
+
+		Worker(long[] aPocketmasks, long aBoard, long aDead, int aCards, CardRandom aRand) {
+			pocketmasks = aPocketmasks;
+			pockethands = new long[aPocketmasks.length];
+			board = aBoard;
+			sampler = new CardSampler(aDead);
+			ncards = aCards;
+			rand = aRand;
+			sum = new double[aPocketmasks.length];
+			sumSq = new double[aPocketmasks.length];
+		}
+
+		@Override
+		public Void call() {
+
+			for(int trial = 0; trial < BATCH; trial++) {
+				long boardhand = board | sampler.sample(ncards, rand);
+
+				long best = -1;
+				int bestcount = 0;
+				for(int i = 0; i < pocketmasks.length; i++) {
+					long value = HandEngine.Evaluate(pocketmasks[i] | boardhand, 7);
+					pockethands[i] = value;
+					if(value > best) {
+						best = value;
+						bestcount = 1;
+					}
+					else if(value == best)
+						bestcount++;
+				}
+
+				double share = 1.0 / bestcount;
+				for(int i = 0; i < pocketmasks.length; i++) {
+					if(pockethands[i] == best) {
+						sum[i] += share;
+						sumSq[i] += share * share;
+					}
+				}
+			}
+
+			trials += BATCH;
+			return null;
+		}
+	}
+}
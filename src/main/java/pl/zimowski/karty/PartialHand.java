@@ -0,0 +1,229 @@
+package pl.zimowski.karty;
+
+/**
+ * Incremental evaluation state for nested loops which complete the same
+ * pocket and board with many different cards, e.g. all turns and rivers on
+ * the flop:
+ * <pre>
+ *   PartialHand hand = new PartialHand(pocket | board);
+ *   for(...)
+ *       for(...)
+ *           int value = hand.evaluateWith(turn, river);
+ * </pre>
+ * The hand keeps count of each rank (the key of {@link LookupHandEvaluator})
+ * and its longest suit, both updated as cards are added or removed. Valuing
+ * the hand with one or two extra cards then only adds their rank counts to
+ * the key; suits are looked at only when the longest suit can make a flush.
+ * Hand values are those of {@link HandEngine#Evaluate(long, int)}.
+ * <p>
+ * Cards are indexes into the deck (0 to 51), same as bit numbers of a hand
+ * mask. Extra cards passed to the evaluate methods are expected to be
+ * distinct and not in the hand already; this is not checked.
+ *
+ * @author Adam Zimowski
+ */
+public final class PartialHand {
+
+	private static final int RANKS = 13;
+
+	private static final int[] SUIT = new int[HandEngine.NUMBER_OF_CARDS];
+
+	private static final int[] RANK_BIT = new int[HandEngine.NUMBER_OF_CARDS];
+
+	private static final long[] RANK_COUNT = new long[HandEngine.NUMBER_OF_CARDS];
+
+	static {
+		for(int card = 0; card < HandEngine.NUMBER_OF_CARDS; card++) {
+			SUIT[card] = card / RANKS;
+			RANK_BIT[card] = 1 << (card % RANKS);
+			RANK_COUNT[card] = 1L << (3 * (card % RANKS));
+		}
+	}
+
+	private final LookupHandEvaluator lookup = LookupHandEvaluator.getInstance();
+
+	private final int[] suits = new int[4];
+
+	private final int[] suitCounts = new int[4];
+
+	private long rankCounts;
+
+	private int count;
+
+	private int longSuit, longSuitCount;
+
+	/**
+	 * Creates empty hand.
+	 */
+	public PartialHand() {
+	}
+
+	/**
+	 * @param cards initial hand mask, at most 7 cards
+	 */
+	public PartialHand(long cards) {
+		if(HandEngine.BitCount(cards) > 7)
+			throw new ArgumentOutOfRangeException("cards");
+		for(int card = 0; card < HandEngine.NUMBER_OF_CARDS; card++) {
+			if((cards & HandEngine._cardMasksTable[card]) != 0)
+				add(card);
+		}
+	}
+
+	/**
+	 * @param card card index to add
+	 * @return this hand
+	 * @throws IllegalArgumentException if card is already in the hand
+	 * @throws ArgumentOutOfRangeException if hand would exceed 7 cards
+	 */
+	public PartialHand add(int card) {
+		if(contains(card))
+			throw new IllegalArgumentException("Duplicate card: " + card);
+		if(count == 7)
+			throw new ArgumentOutOfRangeException("card");
+		suits[SUIT[card]] |= RANK_BIT[card];
+		suitCounts[SUIT[card]]++;
+		rankCounts += RANK_COUNT[card];
+		count++;
+		updateLongSuit();
+		return this;
+	}
+
+	/**
+	 * @param card card index to remove
+	 * @return this hand
+	 * @throws IllegalArgumentException if card is not in the hand
+	 */
+	public PartialHand remove(int card) {
+		if(!contains(card))
+			throw new IllegalArgumentException("Missing card: " + card);
+		suits[SUIT[card]] &= ~RANK_BIT[card];
+		suitCounts[SUIT[card]]--;
+		rankCounts -= RANK_COUNT[card];
+		count--;
+		updateLongSuit();
+		return this;
+	}
+
+	/**
+	 * Swaps one card of the hand for another, e.g. to follow
+	 * {@link HandEngine#forEachHandRevolving(long, long, int, HandChangeConsumer)}.
+	 *
+	 * @param cardOut card index to remove
+	 * @param cardIn card index to add
+	 * @return this hand
+	 * @throws IllegalArgumentException if card to remove is not in the hand
+	 * 	or card to add already is
+	 */
+	public PartialHand replace(int cardOut, int cardIn) {
+		if(!contains(cardOut))
+			throw new IllegalArgumentException("Missing card: " + cardOut);
+		if(cardIn != cardOut && contains(cardIn))
+			throw new IllegalArgumentException("Duplicate card: " + cardIn);
+		suits[SUIT[cardOut]] &= ~RANK_BIT[cardOut];
+		suits[SUIT[cardIn]] |= RANK_BIT[cardIn];
+		suitCounts[SUIT[cardOut]]--;
+		suitCounts[SUIT[cardIn]]++;
+		rankCounts += RANK_COUNT[cardIn] - RANK_COUNT[cardOut];
+		updateLongSuit();
+		return this;
+	}
+
+	/**
+	 * @param card card index
+	 * @return true if card is in the hand
+	 */
+	public boolean contains(int card) {
+		return (suits[SUIT[card]] & RANK_BIT[card]) != 0;
+	}
+
+	/**
+	 * @return number of cards in the hand
+	 */
+	public int getCardCount() {
+		return count;
+	}
+
+	/**
+	 * @return hand mask
+	 */
+	public long getMask() {
+		return ((long)suits[0] << HandEngine.CLUB_OFFSET) |
+				((long)suits[1] << HandEngine.DIAMOND_OFFSET) |
+				((long)suits[2] << HandEngine.HEART_OFFSET) |
+				((long)suits[3] << HandEngine.SPADE_OFFSET);
+	}
+
+	/**
+	 * @return value of the hand
+	 */
+	public int evaluate() {
+		if(count == 0)
+			throw new ArgumentOutOfRangeException("numberOfCards");
+
+		if(longSuitCount >= 5)
+			return lookup.flushValue(suits[longSuit]);
+
+		return lookup.rankValue(rankCounts);
+	}
+
+	/**
+	 * @param card extra card index
+	 * @return value of the hand with the extra card
+	 */
+	public int evaluateWith(int card) {
+		if(count > 6)
+			throw new ArgumentOutOfRangeException("numberOfCards");
+
+		if(longSuitCount >= 4) {
+			int ranks = suits[longSuit];
+			if(SUIT[card] == longSuit) ranks |= RANK_BIT[card];
+			int flush = lookup.flushValue(ranks);
+			if(flush != 0)
+				return flush;
+		}
+
+		return lookup.rankValue(rankCounts + RANK_COUNT[card]);
+	}
+
+	/**
+	 * @param card1 first extra card index
+	 * @param card2 second extra card index
+	 * @return value of the hand with both extra cards
+	 */
+	public int evaluateWith(int card1, int card2) {
+		if(count > 5)
+			throw new ArgumentOutOfRangeException("numberOfCards");
+
+		if(longSuitCount >= 3) {
+			int ranks = suits[longSuit];
+			if(SUIT[card1] == longSuit) ranks |= RANK_BIT[card1];
+			if(SUIT[card2] == longSuit) ranks |= RANK_BIT[card2];
+			int flush = lookup.flushValue(ranks);
+			if(flush != 0)
+				return flush;
+		}
+
+		return lookup.rankValue(rankCounts + RANK_COUNT[card1] + RANK_COUNT[card2]);
+	}
+
+	/**
+	 * With 7 cards or less only one suit can be long enough to make (or
+	 * draw to) a flush, so the longest suit is all we need to track.
+	 */
+	private void updateLongSuit() {
+		longSuitCount = 0;
+		for(int suit = 0; suit < suits.length; suit++) {
+			int n = suitCounts[suit];
+			if(n > longSuitCount) {
+				longSuit = suit;
+				longSuitCount = n;
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		return HandEngine.MaskToString(getMask());
+	}
+}
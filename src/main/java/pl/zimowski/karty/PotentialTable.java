@@ -0,0 +1,233 @@
+package pl.zimowski.karty;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Hand strength and hand potential of every flop (or every turn) spot of a
+ * pocket, served straight out of a memory mapped file written by
+ * {@link PotentialTableGenerator}. Spots which only differ by a permutation
+ * of suits are stored once, under their {@link SuitIsomorphism canonical}
+ * form; a lookup canonicalizes the spot and binary searches its key. The
+ * file holds the same counts {@link HandEngine#HandPotential(long, long, double[], double[])}
+ * adds up, so values read are identical to computed ones. Instances are
+ * immutable and safe to share between threads.
+ * <p>
+ * File layout (big endian):
+ * <ul>
+ * <li>header: magic, version, number of board cards (3 or 4), number of
+ * spots, all ints</li>
+ * <li>keys of spots, ascending ints: pocket index (see
+ * {@link HandEngine#PocketIndex(long)}) times number of boards plus
+ * colexicographic index of the board</li>
+ * <li>opponent's pockets the spot is ahead of, shorts</li>
+ * <li>opponent's pockets the spot is tied with, shorts</li>
+ * <li>numerators of positive potential, ints</li>
+ * <li>numerators of negative potential, ints</li>
+ * </ul>
+ * Effective hand strength is derived from hand strength and positive
+ * potential.
+ *
+ * @author Adam Zimowski
+ */
+public final class PotentialTable {
+
+	static final int MAGIC = 0x4b504f54;
+
+	static final int VERSION = 1;
+
+	static final int HEADER = 4 * 4;
+
+	/** indexes of boards of 3 and 4 cards */
+	private static final HandIndex[] BOARDS = { null, null, null,
+			new HandIndex(0L, 0L, 3), new HandIndex(0L, 0L, 4) };
+
+	private final ByteBuffer table;
+
+	private final IntBuffer keys;
+
+	private final int boardCards;
+
+	private final int size;
+
+	/** opponent's pockets of every spot */
+	private final int opponents;
+
+	/** offsets of the columns */
+	private final int ahead, tied, ppot, npot;
+
+	private PotentialTable(ByteBuffer aTable, int aBoardCards, int aSize) {
+		table = aTable;
+		boardCards = aBoardCards;
+		size = aSize;
+		int live = HandEngine.NUMBER_OF_CARDS - 2 - aBoardCards;
+		opponents = live * (live - 1) / 2;
+		ahead = HEADER + 4 * aSize;
+		tied = ahead + 2 * aSize;
+		ppot = tied + 2 * aSize;
+		npot = ppot + 4 * aSize;
+
+		ByteBuffer view = aTable.duplicate();
+		view.position(HEADER);
+		view.limit(ahead);
+		keys = view.slice().asIntBuffer();
+	}
+
+	/**
+	 * Maps a table file into memory.
+	 *
+	 * @param file table written by {@link PotentialTableGenerator}
+	 * @return table
+	 * @throws IOException if file cannot be read or is not a valid table
+	 */
+	public static PotentialTable open(Path file) throws IOException {
+		try(FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			if(channel.size() < HEADER || channel.size() > Integer.MAX_VALUE)
+				throw new IOException("Not a potential table: " + file);
+			// the mapping stays valid after the channel is closed
+			return wrap(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), file);
+		}
+	}
+
+	static PotentialTable wrap(ByteBuffer aTable, Object aSource) throws IOException {
+		if(aTable.capacity() < HEADER || aTable.getInt(0) != MAGIC || aTable.getInt(4) != VERSION)
+			throw new IOException("Not a potential table: " + aSource);
+		int boardCards = aTable.getInt(8), size = aTable.getInt(12);
+		if((boardCards != 3 && boardCards != 4) || size < 0 || aTable.capacity() != HEADER + 16L * size)
+			throw new IOException("Not a potential table: " + aSource);
+		return new PotentialTable(aTable, boardCards, size);
+	}
+
+	/**
+	 * @return number of board cards of spots in the table
+	 */
+	public int getBoardCards() {
+		return boardCards;
+	}
+
+	/**
+	 * @return number of spots in the table
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Looks a spot up.
+	 *
+	 * @param pocket pocket cards
+	 * @param board board cards
+	 * @return spot of the table, -1 if the table does not have it: pocket
+	 * 	does not have 2 cards, board has a different number of cards than
+	 * 	the table or the two share a card
+	 */
+	public int find(long pocket, long board) {
+
+		if(HandEngine.BitCount(pocket) != 2 || HandEngine.BitCount(board) != boardCards || (pocket & board) != 0)
+			return -1;
+
+		long[] canonical = SuitIsomorphism.canonicalize(pocket, board);
+		int key = key(canonical[0], canonical[1]);
+
+		int low = 0, high = size - 1;
+		while(low <= high) {
+			int mid = (low + high) >>> 1;
+			int k = keys.get(mid);
+			if(k < key)
+				low = mid + 1;
+			else if(k > key)
+				high = mid - 1;
+			else
+				return mid;
+		}
+		return -1;
+	}
+
+	/**
+	 * Same as {@link HandEngine#getHS(long, long, int)}.
+	 *
+	 * @param state spot found by {@link #find(long, long)}
+	 * @param playerCount number of players at the table, including this one
+	 * @return hand strength
+	 */
+	public double getHS(int state, int playerCount) {
+		check(state);
+		double hs = (table.getShort(ahead + 2 * state) + (table.getShort(tied + 2 * state) * 0.5D)) / opponents;
+		if(playerCount > 2) hs = Math.pow(hs, playerCount);
+		return hs;
+	}
+
+	/**
+	 * Positive potential, same as {@link HandEngine#HandPotential(long, long, double[], double[])}.
+	 *
+	 * @param state spot found by {@link #find(long, long)}
+	 * @return positive potential
+	 */
+	public double getPPot(int state) {
+		check(state);
+		int tiedNow = table.getShort(tied + 2 * state), behindNow = opponents - table.getShort(ahead + 2 * state) - tiedNow;
+		double den1 = (mult() * (behindNow + (tiedNow / 2.0)));
+		return den1 > 0 ? table.getInt(ppot + 4 * state) / den1 : 0;
+	}
+
+	/**
+	 * Negative potential, same as {@link HandEngine#HandPotential(long, long, double[], double[])}.
+	 *
+	 * @param state spot found by {@link #find(long, long)}
+	 * @return negative potential
+	 */
+	public double getNPot(int state) {
+		check(state);
+		double den2 = (mult() * (table.getShort(ahead + 2 * state) + (table.getShort(tied + 2 * state) / 2.0)));
+		return den2 > 0 ? table.getInt(npot + 4 * state) / den2 : 0;
+	}
+
+	/**
+	 * Same as {@link HandEngine#getEHS(long, long, int)}.
+	 *
+	 * @param state spot found by {@link #find(long, long)}
+	 * @param playerCount number of players at the table, including this one
+	 * @return effective hand strength
+	 */
+	public double getEHS(int state, int playerCount) {
+		double hsPow = Math.pow(getHS(state, playerCount), playerCount);
+		return hsPow + ((1 - hsPow) * getPPot(state));
+	}
+
+	/**
+	 * @param pocket canonical pocket
+	 * @param board canonical board of 3 or 4 cards
+	 * @return key of the spot
+	 */
+	static int key(long pocket, long board) {
+		HandIndex boards = BOARDS[HandEngine.BitCount(board)];
+		return (int)(HandEngine.PocketIndex(pocket) * boards.size() + boards.rank(board));
+	}
+
+	/**
+	 * @return index of all boards of 3 or 4 cards; spots of a pocket have
+	 * 	keys from pocket index times its size on
+	 */
+	static HandIndex boards(int boardCards) {
+		if(boardCards != 3 && boardCards != 4)
+			throw new ArgumentOutOfRangeException("boardCards");
+		return BOARDS[boardCards];
+	}
+
+	private void check(int state) {
+		if(state < 0 || state >= size)
+			throw new ArgumentOutOfRangeException("state");
+	}
+
+	/**
+	 * @return multiplier of the potential denominators, as in
+	 * 	{@link HandEngine#HandPotential(long, long, double[], double[])}
+	 */
+	private double mult() {
+		return boardCards == 3 ? 990.0 : 45.0;
+	}
+}
@@ -0,0 +1,194 @@
+package pl.zimowski.karty;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Computes hand strength and hand potential of every flop (or every turn)
+ * spot and writes the {@link PotentialTable} file. Spots which only differ
+ * by a permutation of suits have the same results, so only the canonical
+ * spot of each class is computed (about 1.3 million of 25.4 million flops,
+ * 14 million of 305 million turns), in parallel. Run with:
+ * <pre>
+ *   java pl.zimowski.karty.PotentialTableGenerator flop.bin 3 [threads]
+ *   java pl.zimowski.karty.PotentialTableGenerator turn.bin 4 [threads]
+ * </pre>
+ * Flop table is about 20 MB and takes most of an hour on a single core, turn
+ * table is about 220 MB.
+ *
+ * @author Adam Zimowski
+ */
+public final class PotentialTableGenerator {
+
+	private static final Logger log = LoggerFactory.getLogger(PotentialTableGenerator.class);
+
+	/**
+	 * Number of spots computed by one task.
+	 */
+	private static final int CHUNK = 512;
+
+	private PotentialTableGenerator() {
+	}
+
+	public static void main(String[] args) throws IOException {
+
+		if(args.length < 2) {
+			System.err.println("usage: PotentialTableGenerator <file> <board cards: 3 or 4> [threads]");
+			System.exit(1);
+		}
+
+		int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+		generate(Paths.get(args[0]), Integer.parseInt(args[1]), threads);
+	}
+
+	/**
+	 * @param file table file to (over)write
+	 * @param boardCards 3 for flop spots, 4 for turn spots
+	 * @param threads number of worker threads
+	 * @throws IOException if file cannot be written
+	 * @throws ArgumentOutOfRangeException if number of board cards is not 3
+	 * 	or 4
+	 */
+	public static void generate(Path file, int boardCards, int threads) throws IOException {
+
+		long start = System.currentTimeMillis();
+		int[] keys = canonicalKeys(boardCards);
+		log.info("{} spots of {} board cards to compute", keys.length, boardCards);
+
+		short[] ahead = new short[keys.length], tied = new short[keys.length];
+		int[] ppot = new int[keys.length], npot = new int[keys.length];
+		compute(boardCards, keys, ahead, tied, ppot, npot, threads);
+		write(file, boardCards, keys, ahead, tied, ppot, npot);
+
+		log.info("potential table {} written in {} s", file, (System.currentTimeMillis() - start) / 1000);
+	}
+
+	/**
+	 * @param boardCards 3 or 4
+	 * @return keys (see {@link PotentialTable#key(long, long)}) of canonical
+	 * 	spots, ascending
+	 */
+	static int[] canonicalKeys(int boardCards) {
+
+		HandIndex boards = PotentialTable.boards(boardCards);
+		int[] keys = new int[1 << 16];
+		int n = 0;
+		for(int index = 0; index < PreflopEquityTable.POCKETS; index++) {
+			final long pocket = PreflopEquityTable.pocketMask(index);
+			if(SuitIsomorphism.canonicalize(pocket)[0] != pocket)
+				continue;
+
+			// with the pocket canonical, so is every board canonical under
+			// the permutations which keep the pocket
+			int[][] group = SuitPermutations.stabilizer(pocket);
+			HandIndex pocketBoards = new HandIndex(0L, pocket, boardCards);
+			for(IndexedHandIterator i = pocketBoards.iterator(); i.hasNext(); ) {
+				long board = i.nextLong();
+				if(SuitPermutations.weight(board, group) == 0)
+					continue;
+				if(n == keys.length)
+					keys = Arrays.copyOf(keys, n * 2);
+				keys[n++] = (int)(index * boards.size() + boards.rank(board));
+			}
+		}
+
+		keys = Arrays.copyOf(keys, n);
+		Arrays.sort(keys);
+		return keys;
+	}
+
+	/**
+	 * Fills in the counts of every spot.
+	 */
+	static void compute(int boardCards, final int[] keys, final short[] ahead, final short[] tied,
+			final int[] ppot, final int[] npot, int threads) {
+
+		final HandIndex boards = PotentialTable.boards(boardCards);
+		final AtomicInteger done = new AtomicInteger();
+		final int progress = Math.max(1, keys.length / 20 / CHUNK);
+		List<Callable<Void>> tasks = new ArrayList<Callable<Void>>();
+		for(int from = 0; from < keys.length; from += CHUNK) {
+			final int first = from, last = Math.min(from + CHUNK, keys.length);
+			tasks.add(() -> {
+				int[] HPTotal = new int[3];
+				int[][] HP = new int[3][3];
+				for(int s = first; s < last; s++) {
+					long pocket = PreflopEquityTable.pocketMask((int)(keys[s] / boards.size()));
+					long board = boards.unrank(keys[s] % boards.size());
+					Arrays.fill(HPTotal, 0);
+					for(int[] row : HP)
+						Arrays.fill(row, 0);
+					HandEngine.HandPotentialTally(pocket, board, HPTotal, HP);
+					ahead[s] = (short)HPTotal[2];
+					tied[s] = (short)HPTotal[1];
+					// numerators of HandPotential, with the same integer halves
+					ppot[s] = HP[0][2] + HP[0][1] / 2 + HP[1][2] / 2;
+					npot[s] = HP[2][0] + HP[2][1] / 2 + HP[1][0] / 2;
+				}
+				int chunks = done.incrementAndGet();
+				if(chunks % progress == 0)
+					log.info("{} of {} spots computed", Math.min((long)chunks * CHUNK, keys.length), keys.length);
+				return null;
+			});
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, threads));
+		try {
+			List<Future<Void>> futures = executor.invokeAll(tasks);
+			for(Future<Void> future : futures)
+				future.get();
+		}
+		catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("interrupted", e);
+		}
+		catch(ExecutionException e) {
+			throw new IllegalStateException(e.getCause());
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Writes table file, see {@link PotentialTable} for the layout.
+	 */
+	static void write(Path file, int boardCards, int[] keys, short[] ahead, short[] tied,
+			int[] ppot, int[] npot) throws IOException {
+
+		try(OutputStream os = Files.newOutputStream(file);
+				DataOutputStream out = new DataOutputStream(new BufferedOutputStream(os, 1 << 16))) {
+			out.writeInt(PotentialTable.MAGIC);
+			out.writeInt(PotentialTable.VERSION);
+			out.writeInt(boardCards);
+			out.writeInt(keys.length);
+			for(int key : keys)
+				out.writeInt(key);
+			for(short value : ahead)
+				out.writeShort(value);
+			for(short value : tied)
+				out.writeShort(value);
+			for(int value : ppot)
+				out.writeInt(value);
+			for(int value : npot)
+				out.writeInt(value);
+		}
+	}
+}
@@ -0,0 +1,260 @@
+package pl.zimowski.karty;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Computes every heads-up preflop matchup exhaustively and writes the
+ * {@link PreflopEquityTable} file. Matchups which only differ by a
+ * permutation of suits have the same outcome, and so do (with wins and
+ * losses swapped) both orders of a pair, so only one matchup of each such
+ * class (about 1 in 19) is played out, with all C(48,5) boards, in
+ * parallel. Run with:
+ * <pre>
+ *   java pl.zimowski.karty.PreflopEquityGenerator preflop.bin [threads]
+ * </pre>
+ *
+ * @author Adam Zimowski
+ */
+public final class PreflopEquityGenerator {
+
+	private static final Logger log = LoggerFactory.getLogger(PreflopEquityGenerator.class);
+
+	/**
+	 * Number of matchups computed by one task.
+	 */
+	private static final int CHUNK = 256;
+
+	private PreflopEquityGenerator() {
+	}
+
+	public static void main(String[] args) throws IOException {
+
+		if(args.length < 1) {
+			System.err.println("usage: PreflopEquityGenerator <file> [threads]");
+			System.exit(1);
+		}
+
+		int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+		generate(Paths.get(args[0]), threads);
+	}
+
+	/**
+	 * @param file table file to (over)write
+	 * @param threads number of worker threads
+	 * @throws IOException if file cannot be written
+	 */
+	public static void generate(Path file, int threads) throws IOException {
+
+		long start = System.currentTimeMillis();
+		int[] wins = new int[PreflopEquityTable.MATCHUPS];
+		int[] ties = new int[PreflopEquityTable.MATCHUPS];
+		compute(wins, ties, threads);
+		write(file, wins, ties);
+
+		log.info("preflop equity table {} written in {} s", file, (System.currentTimeMillis() - start) / 1000);
+	}
+
+	/**
+	 * Fills the lower triangle of the matchup matrix with wins (of the lower
+	 * index pocket) and ties.
+	 */
+	static void compute(int[] wins, int[] ties, int threads) {
+
+		// one representative for each suit isomorphic class of matchups, in
+		// either order; a representative in reverse order has wins and
+		// losses swapped
+		Map<Integer, Integer> representatives = new HashMap<Integer, Integer>();
+		List<int[]> matchups = new ArrayList<int[]>();
+		int[] classOf = new int[PreflopEquityTable.MATCHUPS];
+		boolean[] reversed = new boolean[PreflopEquityTable.MATCHUPS];
+		for(int hi = 1; hi < PreflopEquityTable.POCKETS; hi++) {
+			for(int lo = 0; lo < hi; lo++) {
+				int t = hi * (hi - 1) / 2 + lo;
+				long pocket1 = PreflopEquityTable.pocketMask(lo), pocket2 = PreflopEquityTable.pocketMask(hi);
+				if((pocket1 & pocket2) != 0) {
+					classOf[t] = -1;
+					continue;
+				}
+				int key = canonicalMatchup(pocket1, pocket2);
+				int reverseKey = canonicalMatchup(pocket2, pocket1);
+				reversed[t] = reverseKey < key;
+				key = Math.min(key, reverseKey);
+				Integer rep = representatives.get(key);
+				if(rep == null) {
+					rep = matchups.size();
+					representatives.put(key, rep);
+					matchups.add(new int[] { key / PreflopEquityTable.POCKETS, key % PreflopEquityTable.POCKETS });
+				}
+				classOf[t] = rep;
+			}
+		}
+
+		log.info("{} matchups, {} to compute", PreflopEquityTable.MATCHUPS, matchups.size());
+
+		final int[] repWins = new int[matchups.size()], repTies = new int[matchups.size()];
+		List<Callable<Void>> tasks = new ArrayList<Callable<Void>>();
+		for(int from = 0; from < matchups.size(); from += CHUNK) {
+			final int first = from, last = Math.min(from + CHUNK, matchups.size());
+			final List<int[]> chunk = matchups;
+			tasks.add(() -> {
+				int[] result = new int[2];
+				for(int i = first; i < last; i++) {
+					int[] m = chunk.get(i);
+					matchup(PreflopEquityTable.pocketMask(m[0]), PreflopEquityTable.pocketMask(m[1]), result);
+					repWins[i] = result[0];
+					repTies[i] = result[1];
+				}
+				return null;
+			});
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, threads));
+		try {
+			List<Future<Void>> futures = executor.invokeAll(tasks);
+			for(Future<Void> future : futures)
+				future.get();
+		}
+		catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("interrupted", e);
+		}
+		catch(ExecutionException e) {
+			throw new IllegalStateException(e.getCause());
+		}
+		finally {
+			executor.shutdownNow();
+		}
+
+		for(int t = 0; t < classOf.length; t++) {
+			if(classOf[t] >= 0) {
+				int rep = classOf[t];
+				ties[t] = repTies[rep];
+				wins[t] = reversed[t] ? PreflopEquityTable.BOARDS - repWins[rep] - repTies[rep] : repWins[rep];
+			}
+		}
+	}
+
+	/**
+	 * Key of the class of matchups equivalent to the given one under
+	 * permutations of suits: the smallest {@code index1 * 1326 + index2} of
+	 * any permutation of the (ordered) pair.
+	 */
+	static int canonicalMatchup(long pocket1, long pocket2) {
+		int best = Integer.MAX_VALUE;
+		for(int[] permutation : SuitPermutations.ALL) {
+			int key = PreflopEquityTable.pocketIndex(SuitPermutations.apply(pocket1, permutation)) *
+					PreflopEquityTable.POCKETS +
+					PreflopEquityTable.pocketIndex(SuitPermutations.apply(pocket2, permutation));
+			best = Math.min(best, key);
+		}
+		return best;
+	}
+
+	/**
+	 * Plays two pockets against each other on every board.
+	 *
+	 * @param pocket1 first pocket
+	 * @param pocket2 second pocket
+	 * @param result boards won by first pocket and boards tied
+	 */
+	static void matchup(long pocket1, long pocket2, int[] result) {
+
+		int[] live = HandEngine.liveCards(pocket1 | pocket2);
+		PartialHand hand1 = new PartialHand(pocket1), hand2 = new PartialHand(pocket2);
+		int n = live.length, wins = 0, ties = 0;
+
+		for(int i1 = 0; i1 < n; i1++) {
+			hand1.add(live[i1]);
+			hand2.add(live[i1]);
+			for(int i2 = i1 + 1; i2 < n; i2++) {
+				hand1.add(live[i2]);
+				hand2.add(live[i2]);
+				for(int i3 = i2 + 1; i3 < n; i3++) {
+					hand1.add(live[i3]);
+					hand2.add(live[i3]);
+					for(int i4 = i3 + 1; i4 < n; i4++) {
+						int c4 = live[i4];
+						for(int i5 = i4 + 1; i5 < n; i5++) {
+							int v1 = hand1.evaluateWith(c4, live[i5]);
+							int v2 = hand2.evaluateWith(c4, live[i5]);
+							if(v1 > v2)
+								wins++;
+							else if(v1 == v2)
+								ties++;
+						}
+					}
+					hand1.remove(live[i3]);
+					hand2.remove(live[i3]);
+				}
+				hand1.remove(live[i2]);
+				hand2.remove(live[i2]);
+			}
+			hand1.remove(live[i1]);
+			hand2.remove(live[i1]);
+		}
+
+		result[0] = wins;
+		result[1] = ties;
+	}
+
+	/**
+	 * Writes table file out of the matchup matrix; class equities are
+	 * derived from it.
+	 */
+	static void write(Path file, int[] wins, int[] ties) throws IOException {
+
+		final int classes = PreflopEquityTable.CLASSES;
+		double[] equity = new double[classes * classes];
+		int[] combos = new int[classes * classes];
+		int[] classOf = new int[PreflopEquityTable.POCKETS];
+		for(int i = 0; i < classOf.length; i++)
+			classOf[i] = HandEngine.PocketHand169Type(PreflopEquityTable.pocketMask(i)).ordinal();
+
+		for(int hi = 1; hi < PreflopEquityTable.POCKETS; hi++) {
+			for(int lo = 0; lo < hi; lo++) {
+				if((PreflopEquityTable.pocketMask(lo) & PreflopEquityTable.pocketMask(hi)) != 0)
+					continue;
+				int t = hi * (hi - 1) / 2 + lo;
+				double lowEquity = (wins[t] + ties[t] / 2.0) / PreflopEquityTable.BOARDS;
+				int lohi = classOf[lo] * classes + classOf[hi], hilo = classOf[hi] * classes + classOf[lo];
+				equity[lohi] += lowEquity;
+				combos[lohi]++;
+				equity[hilo] += 1 - lowEquity;
+				combos[hilo]++;
+			}
+		}
+
+		try(OutputStream os = Files.newOutputStream(file);
+				DataOutputStream out = new DataOutputStream(new BufferedOutputStream(os, 1 << 16))) {
+			out.writeInt(PreflopEquityTable.MAGIC);
+			out.writeInt(PreflopEquityTable.VERSION);
+			out.writeInt(PreflopEquityTable.POCKETS);
+			out.writeInt(PreflopEquityTable.CLASSES);
+			out.writeInt(PreflopEquityTable.BOARDS);
+			for(int i = 0; i < equity.length; i++)
+				out.writeDouble(equity[i] / combos[i]);
+			for(int t = 0; t < wins.length; t++) {
+				out.writeInt(wins[t]);
+				out.writeInt(ties[t]);
+			}
+		}
+	}
+}
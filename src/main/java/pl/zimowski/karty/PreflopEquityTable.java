@@ -0,0 +1,173 @@
+package pl.zimowski.karty;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Exact heads-up preflop results for every pair of pockets, served straight
+ * out of a memory mapped file written by {@link PreflopEquityGenerator}.
+ * Lookups are O(1) and the file is shared through the page cache by every
+ * JVM which maps it. Instances are immutable and safe to share between
+ * threads.
+ * <p>
+ * File layout (big endian):
+ * <ul>
+ * <li>header: magic, version, number of pockets (1326), number of pocket
+ * classes (169), number of boards of a matchup (C(48,5) = 1712304), all
+ * ints</li>
+ * <li>169 x 169 doubles, equity of a row class against a column class
+ * (in {@link PocketHand169Enum} order), averaged over all of their
+ * non-conflicting combinations</li>
+ * <li>lower triangle of the 1326 x 1326 matchup matrix; pair of pockets
+ * with indexes lo &lt; hi is stored at {@code hi*(hi-1)/2 + lo} as two ints,
+ * boards won and boards tied by the lo pocket. Conflicting pairs hold
+ * zeros.</li>
+ * </ul>
+ * Pocket index of cards {@code a < b} (card indexes 0 to 51) is
+ * {@code b*(b-1)/2 + a}.
+ *
+ * @author Adam Zimowski
+ */
+public final class PreflopEquityTable {
+
+	static final int MAGIC = 0x4b505245;
+
+	static final int VERSION = 1;
+
+	/**
+	 * Number of distinct pockets, C(52,2).
+	 */
+	public static final int POCKETS = 1326;
+
+	static final int CLASSES = 169;
+
+	/**
+	 * Number of boards dealt to a heads-up matchup, C(48,5).
+	 */
+	public static final int BOARDS = 1712304;
+
+	/**
+	 * Number of pairs of distinct pockets.
+	 */
+	static final int MATCHUPS = POCKETS * (POCKETS - 1) / 2;
+
+	static final int CLASS_OFFSET = 5 * 4;
+
+	static final int MATCHUP_OFFSET = CLASS_OFFSET + CLASSES * CLASSES * 8;
+
+	static final int SIZE = MATCHUP_OFFSET + MATCHUPS * 8;
+
+	private static final long[] POCKET_MASKS = new long[POCKETS];
+
+	static {
+		for(int b = 1; b < HandEngine.NUMBER_OF_CARDS; b++) {
+			for(int a = 0; a < b; a++)
+				POCKET_MASKS[b * (b - 1) / 2 + a] = HandEngine._cardMasksTable[a] | HandEngine._cardMasksTable[b];
+		}
+	}
+
+	private final ByteBuffer table;
+
+	private PreflopEquityTable(ByteBuffer aTable) {
+		table = aTable;
+	}
+
+	/**
+	 * Maps a table file into memory.
+	 *
+	 * @param file table written by {@link PreflopEquityGenerator}
+	 * @return table
+	 * @throws IOException if file cannot be read or is not a valid table
+	 */
+	public static PreflopEquityTable open(Path file) throws IOException {
+		try(FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			if(channel.size() != SIZE)
+				throw new IOException("Not a preflop equity table: " + file);
+			// the mapping stays valid after the channel is closed
+			return wrap(channel.map(FileChannel.MapMode.READ_ONLY, 0, SIZE), file);
+		}
+	}
+
+	static PreflopEquityTable wrap(ByteBuffer aTable, Object aSource) throws IOException {
+		if(aTable.capacity() != SIZE || aTable.getInt(0) != MAGIC || aTable.getInt(4) != VERSION ||
+				aTable.getInt(8) != POCKETS || aTable.getInt(12) != CLASSES || aTable.getInt(16) != BOARDS) {
+			throw new IOException("Not a preflop equity table: " + aSource);
+		}
+		return new PreflopEquityTable(aTable);
+	}
+
+	/**
+	 * @param pocket mask of two cards
+	 * @return index of the pocket, 0 to 1325
+	 * @see HandEngine#PocketIndex(long)
+	 */
+	public static int pocketIndex(long pocket) {
+		return HandEngine.PocketIndex(pocket);
+	}
+
+	/**
+	 * @param index pocket index, 0 to 1325
+	 * @return mask of the pocket
+	 */
+	public static long pocketMask(int index) {
+		if(index < 0 || index >= POCKETS)
+			throw new ArgumentOutOfRangeException("index");
+		return POCKET_MASKS[index];
+	}
+
+	/**
+	 * @return boards won by first pocket against second pocket
+	 */
+	public int getWins(long pocket1, long pocket2) {
+		int offset = offset(pocket1, pocket2);
+		int wins = table.getInt(offset);
+		return pocketIndex(pocket1) < pocketIndex(pocket2) ? wins : BOARDS - wins - table.getInt(offset + 4);
+	}
+
+	/**
+	 * @return boards tied between both pockets
+	 */
+	public int getTies(long pocket1, long pocket2) {
+		return table.getInt(offset(pocket1, pocket2) + 4);
+	}
+
+	/**
+	 * @return boards lost by first pocket against second pocket
+	 */
+	public int getLosses(long pocket1, long pocket2) {
+		return getWins(pocket2, pocket1);
+	}
+
+	/**
+	 * @return all-in equity (pot share) of first pocket against second
+	 * 	pocket, ties count as half a pot
+	 */
+	public double getEquity(long pocket1, long pocket2) {
+		int offset = offset(pocket1, pocket2);
+		int wins = table.getInt(offset), ties = table.getInt(offset + 4);
+		if(pocketIndex(pocket1) > pocketIndex(pocket2))
+			wins = BOARDS - wins - ties;
+		return (wins + ties / 2.0) / BOARDS;
+	}
+
+	/**
+	 * @return all-in equity of a pocket class against another, averaged
+	 * 	over all of their non-conflicting combinations
+	 */
+	public double getEquity(PocketHand169Enum class1, PocketHand169Enum class2) {
+		if(class1 == PocketHand169Enum.None || class2 == PocketHand169Enum.None)
+			throw new IllegalArgumentException("None is not a pocket class");
+		return table.getDouble(CLASS_OFFSET + (class1.ordinal() * CLASSES + class2.ordinal()) * 8);
+	}
+
+	private static int offset(long pocket1, long pocket2) {
+		if((pocket1 & pocket2) != 0)
+			throw new IllegalArgumentException("Duplicate cards");
+		int i1 = pocketIndex(pocket1), i2 = pocketIndex(pocket2);
+		int lo = Math.min(i1, i2), hi = Math.max(i1, i2);
+		return MATCHUP_OFFSET + (hi * (hi - 1) / 2 + lo) * 8;
+	}
+}
@@ -1,16 +1,20 @@
 package pl.zimowski.karty;
 
-import java.util.Iterator;
 import java.util.NoSuchElementException;
-import java.util.Random;
+import java.util.PrimitiveIterator;
 
-public class RandomHandIterator implements Iterator<Long> {
+public class RandomHandIterator implements PrimitiveIterator.OfLong {
 
 	private long shared, dead, deadmask;
 	private int ncards, trials, cardcount, loopCount;
-	private Random rand;
+	private CardRandom rand;
+	private CardSampler sampler;
 
 	public RandomHandIterator(long aShared, long aDead, int aCards, int aTrials) {
+		this(aShared, aDead, aCards, aTrials, CardRandom.splittable());
+	}
+
+	public RandomHandIterator(long aShared, long aDead, int aCards, int aTrials, CardRandom aRand) {
 
         if (aCards < 0 || aCards > 7)
             throw new ArgumentOutOfRangeException("aCards");
@@ -23,7 +27,8 @@ public class RandomHandIterator implements Iterator<Long> {
 	    deadmask = dead | shared;
 	    cardcount = ncards - HandEngine.BitCount(shared);
 
-	    rand = new Random();
+	    rand = aRand;
+	    sampler = new CardSampler(deadmask);
 	}
 
 	@Override
@@ -32,10 +37,10 @@ public class RandomHandIterator implements Iterator<Long> {
 	}
 
 	@Override
-    public Long next() {
+    public long nextLong() {
 		if(loopCount < trials) {
 			++loopCount;
-			return HandEngine.GetRandomHand(deadmask, cardcount, rand) | shared;
+			return sampler.sample(cardcount, rand) | shared;
 		}
         throw new NoSuchElementException();
 	}
@@ -0,0 +1,233 @@
+package pl.zimowski.karty;
+
+/**
+ * Equity of hand ranges against each other, with card removal: pockets of
+ * different players never share a card, and neither do they with the board
+ * or dead cards. Each combination of pockets counts with the product of
+ * their weights.
+ * <p>
+ * Exact equity enumerates every board once. On each board, every live pocket
+ * of every range is evaluated once, and those values are reused by all
+ * combinations of pockets the pocket takes part in, instead of playing each
+ * combination out with {@link HandEngine#HandOdds(long[], long, long, long[], long[], long[], long[])}.
+ * Work per board grows with the product of range sizes, so exact equity is
+ * meant for postflop spots or narrow ranges; sampled equity handles the rest.
+ *
+ * @author Adam Zimowski
+ */
+public final class RangeEquity {
+
+	private RangeEquity() {
+	}
+
+	/**
+	 * @param ranges range of each player
+	 * @param board the board cards (0 to 5)
+	 * @param dead the dead cards
+	 * @return exact equity (average pot share) of each player
+	 * @throws IllegalArgumentException if ranges cannot be dealt without
+	 * 	conflicting cards
+	 */
+	public static double[] exact(HandRange[] ranges, long board, long dead) {
+
+		final Spot spot = new Spot(ranges, board, dead);
+		final int players = ranges.length;
+		final double[] shares = new double[players];
+		final double[] total = new double[1];
+		final int[] values = new int[PreflopEquityTable.POCKETS];
+		final int[] best = new int[players];
+
+		HandEngine.forEachHand(board, dead, 5, boardhand -> {
+			// evaluate every live pocket once on this board
+			for(int i = 0; i < spot.pockets.length; i++) {
+				long pocket = spot.masks[i];
+				if((pocket & boardhand) == 0)
+					values[spot.pockets[i]] = HandEngine.Evaluate(pocket | boardhand, 7);
+			}
+			total[0] += showdowns(spot, values, 0, boardhand, 1.0, best, shares);
+		});
+
+		return normalize(shares, total[0]);
+	}
+
+	/**
+	 * @param ranges range of each player
+	 * @param board the board cards (0 to 5)
+	 * @param dead the dead cards
+	 * @param trials number of random deals
+	 * @param rand source of randomness; a seeded one replays the same deals
+	 * @return estimated equity (average pot share) of each player
+	 * @throws IllegalArgumentException if ranges cannot be dealt without
+	 * 	conflicting cards
+	 */
+	public static double[] sample(HandRange[] ranges, long board, long dead, long trials, CardRandom rand) {
+
+		if(trials <= 0)
+			throw new IllegalArgumentException("trials must be positive");
+
+		Spot spot = new Spot(ranges, board, dead);
+		int players = ranges.length;
+		int missing = 5 - HandEngine.BitCount(board);
+		double[] shares = new double[players];
+		long[] pockets = new long[players];
+		int[] values = new int[players];
+
+		// cumulative weights of each player's live pockets
+		double[][] cumulative = new double[players][];
+		for(int p = 0; p < players; p++) {
+			int[] combos = spot.combos[p];
+			cumulative[p] = new double[combos.length];
+			double sum = 0;
+			for(int c = 0; c < combos.length; c++)
+				cumulative[p][c] = sum += ranges[p].getWeight(combos[c]);
+		}
+
+		CardSampler sampler = new CardSampler(board | dead);
+		long dealt = 0, attempts = 0;
+		while(dealt < trials) {
+			// rejection keeps the combination distribution exact: product of
+			// weights, restricted to non-conflicting combinations
+			if(++attempts > 1000 * (dealt + 1000))
+				throw new IllegalArgumentException("Ranges conflict too much to be sampled");
+
+			long used = board | dead;
+			boolean conflict = false;
+			for(int p = 0; p < players && !conflict; p++) {
+				double[] cum = cumulative[p];
+				double r = rand.nextInt(1 << 30) / (double)(1 << 30) * cum[cum.length - 1];
+				int c = upperBound(cum, r);
+				long pocket = PreflopEquityTable.pocketMask(spot.combos[p][c]);
+				conflict = (pocket & used) != 0;
+				pockets[p] = pocket;
+				used |= pocket;
+			}
+			if(conflict)
+				continue;
+
+			sampler.reset(used);
+			long boardhand = board | sampler.sample(missing, rand);
+			int top = -1, count = 0;
+			for(int p = 0; p < players; p++) {
+				values[p] = HandEngine.Evaluate(pockets[p] | boardhand, 7);
+				if(values[p] > top) {
+					top = values[p];
+					count = 1;
+				}
+				else if(values[p] == top)
+					count++;
+			}
+			for(int p = 0; p < players; p++) {
+				if(values[p] == top) shares[p] += 1.0 / count;
+			}
+			dealt++;
+		}
+
+		return normalize(shares, dealt);
+	}
+
+	/**
+	 * Walks all combinations of pockets (one for each player from the given
+	 * one on) which conflict neither with each other nor with used cards,
+	 * and credits pot shares of each showdown with the combination weight.
+	 *
+	 * @return total weight of the combinations
+	 */
+	private static double showdowns(Spot spot, int[] values, int player, long used,
+			double weight, int[] best, double[] shares) {
+
+		int players = spot.combos.length;
+		if(player == players) {
+			int top = -1, count = 0;
+			for(int p = 0; p < players; p++) {
+				if(best[p] > top) {
+					top = best[p];
+					count = 1;
+				}
+				else if(best[p] == top)
+					count++;
+			}
+			for(int p = 0; p < players; p++) {
+				if(best[p] == top) shares[p] += weight / count;
+			}
+			return weight;
+		}
+
+		double total = 0;
+		int[] combos = spot.combos[player];
+		HandRange range = spot.ranges[player];
+		for(int combo : combos) {
+			long pocket = PreflopEquityTable.pocketMask(combo);
+			if((pocket & used) != 0)
+				continue;
+			best[player] = values[combo];
+			total += showdowns(spot, values, player + 1, used | pocket,
+					weight * range.getWeight(combo), best, shares);
+		}
+		return total;
+	}
+
+	private static int upperBound(double[] cumulative, double r) {
+		int lo = 0, hi = cumulative.length - 1;
+		while(lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if(cumulative[mid] > r) hi = mid;
+			else lo = mid + 1;
+		}
+		return lo;
+	}
+
+	private static double[] normalize(double[] shares, double total) {
+		if(total <= 0)
+			throw new IllegalArgumentException("Ranges cannot be dealt without conflicting cards");
+		for(int p = 0; p < shares.length; p++)
+			shares[p] /= total;
+		return shares;
+	}
+
+	/**
+	 * Live pockets of each player and the union of them all.
+	 */
+	private static final class Spot {
+
+		final HandRange[] ranges;
+		final int[][] combos;
+		final int[] pockets;
+		final long[] masks;
+
+		Spot(HandRange[] aRanges, long board, long dead) {
+
+			if(aRanges.length < 2)
+				throw new IllegalArgumentException("At least two ranges are needed");
+			if(HandEngine.BitCount(board) > 5)
+				throw new IllegalArgumentException("Board must have zero or more cards, but max 5");
+			if((board & dead) != 0)
+				throw new IllegalArgumentException("Duplicate cards");
+
+			ranges = aRanges;
+			combos = new int[aRanges.length][];
+			boolean[] seen = new boolean[PreflopEquityTable.POCKETS];
+			int n = 0;
+			for(int p = 0; p < aRanges.length; p++) {
+				combos[p] = aRanges[p].liveCombos(board | dead);
+				if(combos[p].length == 0)
+					throw new IllegalArgumentException("Range " + p + " has no live pockets");
+				for(int combo : combos[p]) {
+					if(!seen[combo]) {
+						seen[combo] = true;
+						n++;
+					}
+				}
+			}
+
+			pockets = new int[n];
+			masks = new long[n];
+			n = 0;
+			for(int i = 0; i < seen.length; i++) {
+				if(seen[i]) {
+					pockets[n] = i;
+					masks[n++] = PreflopEquityTable.pocketMask(i);
+				}
+			}
+		}
+	}
+}
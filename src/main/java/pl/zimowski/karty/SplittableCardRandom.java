@@ -0,0 +1,36 @@
+package pl.zimowski.karty;
+
+import java.util.SplittableRandom;
+
+/**
+ * {@link CardRandom} backed by the JDK's {@link SplittableRandom}. This is
+ * the default generator of the engine.
+ *
+ * @author Adam Zimowski
+ */
+public final class SplittableCardRandom implements CardRandom {
+
+	private final SplittableRandom rand;
+
+	public SplittableCardRandom() {
+		this(new SplittableRandom());
+	}
+
+	public SplittableCardRandom(long aSeed) {
+		this(new SplittableRandom(aSeed));
+	}
+
+	private SplittableCardRandom(SplittableRandom aRand) {
+		rand = aRand;
+	}
+
+	@Override
+	public int nextInt(int bound) {
+		return rand.nextInt(bound);
+	}
+
+	@Override
+	public CardRandom split() {
+		return new SplittableCardRandom(rand.split());
+	}
+}
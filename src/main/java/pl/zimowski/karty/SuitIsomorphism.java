@@ -0,0 +1,62 @@
+package pl.zimowski.karty;
+
+import java.util.Arrays;
+
+/**
+ * Canonical form of hands under permutation of suits. Odds, potentials and
+ * strengths do not change when suits are renamed consistently across all
+ * cards of a spot (AsKs on 2s7h9d is the same spot as AhKh on 2h7s9d), so
+ * the canonical form can key any cache of such results.
+ * <p>
+ * Masks are canonicalized together: the same permutation is applied to all
+ * of them, chosen so that the resulting sequence of masks is the smallest
+ * possible (first mask compared first). Order of masks is significant and
+ * kept, so results reported per player still line up.
+ *
+ * @author Adam Zimowski
+ */
+public final class SuitIsomorphism {
+
+	private SuitIsomorphism() {
+	}
+
+	/**
+	 * @param masks hand masks of a spot, e.g. pockets, board, dead cards
+	 * @return canonical masks, in the same order
+	 */
+	public static long[] canonicalize(long... masks) {
+
+		long[] best = masks.clone();
+		long[] candidate = new long[masks.length];
+
+		// identity comes first, already in best
+		for(int p = 1; p < SuitPermutations.ALL.length; p++) {
+			int[] permutation = SuitPermutations.ALL[p];
+			int cmp = 0;
+			for(int i = 0; i < masks.length; i++) {
+				candidate[i] = SuitPermutations.apply(masks[i], permutation);
+				if(cmp == 0) {
+					cmp = Long.compare(candidate[i], best[i]);
+					// larger already, rest cannot make it smaller
+					if(cmp > 0) break;
+				}
+			}
+			if(cmp < 0) {
+				long[] t = best;
+				best = candidate;
+				candidate = t;
+			}
+		}
+
+		return best;
+	}
+
+	/**
+	 * @param masks1 masks of a spot
+	 * @param masks2 masks of another spot
+	 * @return true if spots are the same up to a permutation of suits
+	 */
+	public static boolean isIsomorphic(long[] masks1, long[] masks2) {
+		return Arrays.equals(canonicalize(masks1), canonicalize(masks2));
+	}
+}
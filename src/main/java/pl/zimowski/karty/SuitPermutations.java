@@ -0,0 +1,119 @@
+package pl.zimowski.karty;
+
+import java.util.Arrays;
+
+/**
+ * The 24 permutations of the four suits, and their action on hand masks.
+ * Hands which map onto each other by a permutation of suits are
+ * strategically the same.
+ *
+ * @author Adam Zimowski
+ */
+final class SuitPermutations {
+
+	/**
+	 * Every permutation, as new suit of each suit (club, diamond, heart,
+	 * spade); identity comes first.
+	 */
+	static final int[][] ALL = new int[24][];
+
+	static {
+		int n = 0;
+		for(int c = 0; c < 4; c++)
+			for(int d = 0; d < 4; d++)
+				for(int h = 0; h < 4; h++)
+					for(int s = 0; s < 4; s++)
+						if(c != d && c != h && c != s && d != h && d != s && h != s)
+							ALL[n++] = new int[] { c, d, h, s };
+	}
+
+	private SuitPermutations() {
+	}
+
+	/**
+	 * @param mask hand mask
+	 * @param permutation new suit of each suit
+	 * @return hand mask with suits permuted
+	 */
+	static long apply(long mask, int[] permutation) {
+		long permuted = 0L;
+		for(int suit = 0; suit < 4; suit++)
+			permuted |= ((mask >>> (13 * suit)) & 0x1fffL) << (13 * permutation[suit]);
+		return permuted;
+	}
+
+	/**
+	 * @param masks hand masks, e.g. pockets, board and dead cards of a spot
+	 * @return permutations which map each mask onto itself, identity first
+	 */
+	static int[][] stabilizer(long... masks) {
+		return stabilizer(ALL, masks);
+	}
+
+	/**
+	 * @param group permutations to choose from, identity first
+	 * @param masks hand masks
+	 * @return permutations of the group which map each mask onto itself,
+	 * 	identity first
+	 */
+	static int[][] stabilizer(int[][] group, long... masks) {
+		int[][] result = new int[group.length][];
+		int n = 0;
+		next:
+		for(int[] permutation : group) {
+			for(long mask : masks) {
+				if(apply(mask, permutation) != mask)
+					continue next;
+			}
+			result[n++] = permutation;
+		}
+		return n == result.length ? result : Arrays.copyOf(result, n);
+	}
+
+	/**
+	 * Tells whether a hand is the canonical (smallest) member of its orbit
+	 * under a group of permutations and if so, how many hands the orbit has.
+	 * When all hands of an orbit give the same result, visiting only
+	 * canonical hands and counting each one this many times adds up to the
+	 * same totals as visiting every hand.
+	 *
+	 * @param mask hand mask
+	 * @param group permutations closed under composition, identity first
+	 * @return size of the orbit if hand is canonical, zero otherwise
+	 */
+	static int weight(long mask, int[][] group) {
+		if(group.length == 1)
+			return 1;
+		long c = mask & 0x1fffL, d = (mask >>> 13) & 0x1fffL;
+		long h = (mask >>> 26) & 0x1fffL, s = mask >>> 39;
+		int fixed = 1;
+		for(int p = 1; p < group.length; p++) {
+			int[] permutation = group[p];
+			long image = c << (13 * permutation[0]) | d << (13 * permutation[1]) |
+					h << (13 * permutation[2]) | s << (13 * permutation[3]);
+			if(image < mask)
+				return 0;
+			if(image == mask)
+				fixed++;
+		}
+		return group.length / fixed;
+	}
+
+	/**
+	 * @param group permutations taken from {@link #ALL}
+	 * @return bit set of indexes into {@link #ALL} of the permutations, which
+	 * 	identifies the group
+	 */
+	static int signature(int[][] group) {
+		int signature = 0;
+		for(int[] permutation : group) {
+			for(int p = 0; p < ALL.length; p++) {
+				if(ALL[p] == permutation) {
+					signature |= 1 << p;
+					break;
+				}
+			}
+		}
+		return signature;
+	}
+}
@@ -0,0 +1,18 @@
+package pl.zimowski.karty;
+
+/**
+ * Receives a hand which stands for a number of hands that are the same up
+ * to a permutation of suits.
+ *
+ * @author Adam Zimowski
+ * @see HandEngine#forEachCanonicalHand(long, long, long[], int, WeightedHandConsumer)
+ */
+@FunctionalInterface
+public interface WeightedHandConsumer {
+
+	/**
+	 * @param hand hand mask
+	 * @param weight number of hands this hand stands for, including itself
+	 */
+	void accept(long hand, int weight);
+}
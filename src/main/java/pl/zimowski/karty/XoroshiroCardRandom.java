@@ -0,0 +1,69 @@
+package pl.zimowski.karty;
+
+/**
+ * xoroshiro128++ generator of Blackman and Vigna. Small (two longs of state)
+ * and very fast; bounded values are produced with Lemire's multiply and
+ * shift method, which needs no division in the common case and is free of
+ * modulo bias.
+ *
+ * @author Adam Zimowski
+ */
+public final class XoroshiroCardRandom implements CardRandom {
+
+	private long s0, s1;
+
+	/**
+	 * @param aSeed any value; expanded into the full state with SplitMix64
+	 */
+	public XoroshiroCardRandom(long aSeed) {
+		s0 = mix(aSeed += 0x9e3779b97f4a7c15L);
+		s1 = mix(aSeed + 0x9e3779b97f4a7c15L);
+		// all zero state is the only invalid one
+		if((s0 | s1) == 0) s1 = 1;
+	}
+
+	/**
+	 * @return next 64 random bits
+	 */
+	public long nextLong() {
+		final long a = s0;
+		long b = s1;
+		final long result = Long.rotateLeft(a + b, 17) + a;
+		b ^= a;
+		s0 = Long.rotateLeft(a, 49) ^ b ^ (b << 21);
+		s1 = Long.rotateLeft(b, 28);
+		return result;
+	}
+
+	@Override
+	public int nextInt(int bound) {
+
+		if(bound <= 0)
+			throw new IllegalArgumentException("bound must be positive");
+
+		long m = (nextLong() >>> 32) * bound;
+		long low = m & 0xFFFFFFFFL;
+		if(low < bound) {
+			long threshold = (0x100000000L - bound) % bound;
+			while(low < threshold) {
+				m = (nextLong() >>> 32) * bound;
+				low = m & 0xFFFFFFFFL;
+			}
+		}
+		return (int)(m >>> 32);
+	}
+
+	@Override
+	public CardRandom split() {
+		return new XoroshiroCardRandom(nextLong());
+	}
+
+	/**
+	 * SplitMix64 finalizer.
+	 */
+	private static long mix(long z) {
+		z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+		z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+		return z ^ (z >>> 31);
+	}
+}
@@ -0,0 +1,256 @@
+package pl.zimowski.karty.io;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import pl.zimowski.karty.CardParser;
+
+/**
+ * Block of hand records read by {@link MappedHandReader}, together with the
+ * text produced for them by a {@link HandBatchOperation}. A record is one
+ * line of {@code pocket|board|dead} text; board and dead cards may be left
+ * out, several pockets may be given separated by commas. Records are kept
+ * as parallel arrays of masks so that a batch is allocated once and reused
+ * for the whole file.
+ * <p>
+ * A batch is filled by one thread and then handed over to another, it is
+ * not meant to be accessed by two threads at once.
+ *
+ * @author Adam Zimowski
+ */
+public final class HandBatch {
+
+	/** most pockets a record may hold */
+	public static final int MAX_PLAYERS = 10;
+
+	/**
+	 * Record error: same card appears in two fields or two pockets. Errors
+	 * reported by {@link CardParser} keep their own codes.
+	 */
+	public static final int CONFLICT = 5;
+
+	/** record error: more than three fields or more than {@link #MAX_PLAYERS} pockets */
+	public static final int BAD_FORMAT = 6;
+
+	/** record error: wrong number of cards for the operation */
+	public static final int CARD_COUNT = 7;
+
+	private final int capacity;
+	private int size;
+
+	private final long[] lines;
+	private final int[] errors;
+	private final int[] players;
+	private final long[] pockets;
+	private final long[] boards;
+	private final long[] deads;
+
+	/** text produced by the operation, ASCII */
+	private byte[] output;
+	private int outputLength;
+
+	/**
+	 * @param aCapacity most records the batch can hold
+	 * @throws IllegalArgumentException if capacity is not positive
+	 */
+	public HandBatch(int aCapacity) {
+
+		if(aCapacity <= 0)
+			throw new IllegalArgumentException("capacity");
+
+		capacity = aCapacity;
+		lines = new long[aCapacity];
+		errors = new int[aCapacity];
+		players = new int[aCapacity];
+		pockets = new long[aCapacity * MAX_PLAYERS];
+		boards = new long[aCapacity];
+		deads = new long[aCapacity];
+		output = new byte[aCapacity * 32];
+	}
+
+	/**
+	 * @return most records the batch can hold
+	 */
+	public int capacity() {
+		return capacity;
+	}
+
+	/**
+	 * @return number of records in the batch
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @param aRecord record within the batch
+	 * @return line number of the record in the file, starting at 1
+	 */
+	public long getLine(int aRecord) {
+		return lines[aRecord];
+	}
+
+	/**
+	 * @param aRecord record within the batch
+	 * @return 0 if the record was read without errors, otherwise one of
+	 * 	{@link CardParser} error codes, {@link #CONFLICT} or {@link #BAD_FORMAT};
+	 * 	masks of a record with an error are undefined
+	 */
+	public int getError(int aRecord) {
+		return errors[aRecord];
+	}
+
+	/**
+	 * @param aRecord record within the batch
+	 * @return number of pockets in the record
+	 */
+	public int getPlayers(int aRecord) {
+		return players[aRecord];
+	}
+
+	/**
+	 * @param aRecord record within the batch
+	 * @param aPlayer pocket within the record
+	 * @return pocket cards
+	 */
+	public long getPocket(int aRecord, int aPlayer) {
+		return pockets[aRecord * MAX_PLAYERS + aPlayer];
+	}
+
+	/**
+	 * @param aRecord record within the batch
+	 * @return board cards, 0 if none
+	 */
+	public long getBoard(int aRecord) {
+		return boards[aRecord];
+	}
+
+	/**
+	 * @param aRecord record within the batch
+	 * @return dead cards, 0 if none
+	 */
+	public long getDead(int aRecord) {
+		return deads[aRecord];
+	}
+
+	/**
+	 * Appends a number to the output of the batch as decimal ASCII text.
+	 *
+	 * @param aValue number to append
+	 * @return this batch
+	 */
+	public HandBatch append(long aValue) {
+
+		if(aValue < 0) {
+			if(aValue == Long.MIN_VALUE)
+				return append("-9223372036854775808");
+			append('-');
+			aValue = -aValue;
+		}
+
+		int digits = 1;
+		for(long v = aValue; v >= 10; v /= 10)
+			digits++;
+		ensureRemaining(digits);
+		int end = outputLength + digits;
+		for(int i = end - 1; i >= outputLength; i--) {
+			output[i] = (byte)('0' + aValue % 10);
+			aValue /= 10;
+		}
+		outputLength = end;
+		return this;
+	}
+
+	/**
+	 * Appends an ASCII character to the output of the batch.
+	 *
+	 * @param aChar character to append
+	 * @return this batch
+	 */
+	public HandBatch append(char aChar) {
+		ensureRemaining(1);
+		output[outputLength++] = (byte)aChar;
+		return this;
+	}
+
+	/**
+	 * Appends ASCII text to the output of the batch.
+	 *
+	 * @param aText text to append
+	 * @return this batch
+	 */
+	public HandBatch append(CharSequence aText) {
+		ensureRemaining(aText.length());
+		for(int i = 0; i < aText.length(); i++)
+			output[outputLength++] = (byte)aText.charAt(i);
+		return this;
+	}
+
+	/**
+	 * Appends ASCII text already converted to bytes to the output of the batch.
+	 *
+	 * @param aText text to append
+	 * @return this batch
+	 */
+	public HandBatch append(byte[] aText) {
+		ensureRemaining(aText.length);
+		System.arraycopy(aText, 0, output, outputLength, aText.length);
+		outputLength += aText.length;
+		return this;
+	}
+
+	/**
+	 * Empties the batch, both records and output.
+	 */
+	void clear() {
+		size = 0;
+		outputLength = 0;
+	}
+
+	/**
+	 * Adds a record which has been read without errors.
+	 *
+	 * @return index of the new record
+	 */
+	int add(long aLine, long[] aPockets, int aPlayers, long aBoard, long aDead) {
+		int record = size++;
+		lines[record] = aLine;
+		errors[record] = 0;
+		players[record] = aPlayers;
+		System.arraycopy(aPockets, 0, pockets, record * MAX_PLAYERS, aPlayers);
+		boards[record] = aBoard;
+		deads[record] = aDead;
+		return record;
+	}
+
+	/**
+	 * Adds a record which could not be read.
+	 *
+	 * @return index of the new record
+	 */
+	int addError(long aLine, int aError) {
+		int record = size++;
+		lines[record] = aLine;
+		errors[record] = aError;
+		players[record] = 0;
+		boards[record] = 0L;
+		deads[record] = 0L;
+		return record;
+	}
+
+	boolean isFull() {
+		return size == capacity;
+	}
+
+	/**
+	 * @return output of the batch, ready to be written
+	 */
+	ByteBuffer getOutput() {
+		return ByteBuffer.wrap(output, 0, outputLength);
+	}
+
+	private void ensureRemaining(int aBytes) {
+		if(output.length - outputLength < aBytes)
+			output = Arrays.copyOf(output, Math.max(output.length * 2, outputLength + aBytes));
+	}
+}
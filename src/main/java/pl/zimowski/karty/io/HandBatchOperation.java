@@ -0,0 +1,19 @@
+package pl.zimowski.karty.io;
+
+/**
+ * Computes results for every record of a {@link HandBatch} and appends them
+ * to the batch output, one line per record. Operations run on worker
+ * threads, each call gets its own batch.
+ *
+ * @author Adam Zimowski
+ * @see HandFileProcessor#EVALUATE
+ * @see HandFileProcessor#ODDS
+ */
+@FunctionalInterface
+public interface HandBatchOperation {
+
+	/**
+	 * @param batch records to process and output to append to
+	 */
+	void apply(HandBatch batch);
+}
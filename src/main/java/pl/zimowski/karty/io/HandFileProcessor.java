@@ -0,0 +1,224 @@
+package pl.zimowski.karty.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import pl.zimowski.karty.HandEngine;
+
+/**
+ * Runs an operation over every record of a hand file (see {@link HandBatch})
+ * and writes a result file. Records are read in batches by
+ * {@link MappedHandReader} on the calling thread, processed by a pool of
+ * workers and written in input order, a whole batch at a time. Only a few
+ * batches are in flight at once, so memory use does not depend on the size
+ * of the file. Each output line starts with the number of the input line it
+ * belongs to; records which could not be read produce
+ * {@code <line>\terror\t<code>}. Run with:
+ * <pre>
+ *   java pl.zimowski.karty.io.HandFileProcessor evaluate|odds hands.txt results.txt [threads]
+ * </pre>
+ *
+ * @author Adam Zimowski
+ */
+public final class HandFileProcessor {
+
+	private static final Logger log = LoggerFactory.getLogger(HandFileProcessor.class);
+
+	/** records in a batch */
+	static final int BATCH = 4096;
+
+	private static final byte[] ERROR = "\terror\t".getBytes(StandardCharsets.US_ASCII);
+
+	private static final byte[][] HAND_TYPES = new byte[HandEngine.HandTypes.values().length][];
+
+	static {
+		for(HandEngine.HandTypes type : HandEngine.HandTypes.values())
+			HAND_TYPES[type.ordinal()] = type.name().getBytes(StandardCharsets.US_ASCII);
+	}
+
+	/**
+	 * Evaluates each pocket together with the board; for each pocket writes
+	 * a tab, the hand value and its type. Dead cards are ignored.
+	 */
+	public static final HandBatchOperation EVALUATE = aBatch -> {
+		for(int r = 0; r < aBatch.size(); r++) {
+			aBatch.append(aBatch.getLine(r));
+			if(aBatch.getError(r) != 0) {
+				error(aBatch, aBatch.getError(r));
+				continue;
+			}
+			long board = aBatch.getBoard(r);
+			int players = aBatch.getPlayers(r);
+			int cards = HandEngine.BitCount(board);
+			boolean valid = true;
+			for(int p = 0; p < players; p++)
+				valid &= cards + HandEngine.BitCount(aBatch.getPocket(r, p)) <= 7;
+			if(!valid) {
+				error(aBatch, HandBatch.CARD_COUNT);
+				continue;
+			}
+			for(int p = 0; p < players; p++) {
+				int value = HandEngine.Evaluate(aBatch.getPocket(r, p) | board);
+				aBatch.append('\t').append(value).append('\t')
+					.append(HAND_TYPES[HandEngine.computeHandType(value)]);
+			}
+			aBatch.append('\n');
+		}
+	};
+
+	/**
+	 * Exact odds of every pocket against the others on all boards which
+	 * complete the given one, without the dead cards (see
+	 * {@link HandEngine#HandOddsWeighted(long[], long, long, long[], long[], long[], long[])}).
+	 * Writes a tab and the number of boards, then for each pocket a tab and
+	 * its wins, ties and losses separated by spaces. Pockets must have two
+	 * cards each, the board at most five.
+	 */
+	public static final HandBatchOperation ODDS = aBatch -> {
+		long[][] pockets = new long[HandBatch.MAX_PLAYERS + 1][];
+		long[] wins = new long[HandBatch.MAX_PLAYERS];
+		long[] ties = new long[HandBatch.MAX_PLAYERS];
+		long[] losses = new long[HandBatch.MAX_PLAYERS];
+		long[] total = new long[1];
+
+		for(int r = 0; r < aBatch.size(); r++) {
+			aBatch.append(aBatch.getLine(r));
+			if(aBatch.getError(r) != 0) {
+				error(aBatch, aBatch.getError(r));
+				continue;
+			}
+			int players = aBatch.getPlayers(r);
+			if(pockets[players] == null)
+				pockets[players] = new long[players];
+			long[] masks = pockets[players];
+			boolean valid = HandEngine.BitCount(aBatch.getBoard(r)) <= 5;
+			for(int p = 0; p < players; p++) {
+				masks[p] = aBatch.getPocket(r, p);
+				valid &= HandEngine.BitCount(masks[p]) == 2;
+			}
+			if(!valid) {
+				error(aBatch, HandBatch.CARD_COUNT);
+				continue;
+			}
+			HandEngine.HandOddsWeighted(masks, aBatch.getBoard(r), aBatch.getDead(r),
+					wins, ties, losses, total);
+			aBatch.append('\t').append(total[0]);
+			for(int p = 0; p < players; p++)
+				aBatch.append('\t').append(wins[p]).append(' ').append(ties[p]).append(' ').append(losses[p]);
+			aBatch.append('\n');
+		}
+	};
+
+	private HandFileProcessor() {
+	}
+
+	public static void main(String[] args) throws IOException {
+
+		if(args.length < 3 || !("evaluate".equals(args[0]) || "odds".equals(args[0]))) {
+			System.err.println("usage: HandFileProcessor evaluate|odds <input> <output> [threads]");
+			System.exit(1);
+		}
+
+		HandBatchOperation operation = "odds".equals(args[0]) ? ODDS : EVALUATE;
+		int threads = args.length > 3 ? Integer.parseInt(args[3]) : 0;
+		process(Paths.get(args[1]), Paths.get(args[2]), operation, threads);
+	}
+
+	/**
+	 * @param aInput hand file to read
+	 * @param aOutput result file to (over)write
+	 * @param aOperation what to compute for each record
+	 * @param aThreads number of worker threads, 0 for one per core
+	 * @return number of records processed, including records with errors
+	 * @throws IOException if a file cannot be read or written
+	 */
+	public static long process(Path aInput, Path aOutput, HandBatchOperation aOperation, int aThreads)
+			throws IOException {
+
+		if(aOperation == null)
+			throw new IllegalArgumentException("operation");
+		if(aThreads < 0)
+			throw new IllegalArgumentException("threads");
+
+		final int threads = aThreads == 0 ? Runtime.getRuntime().availableProcessors() : aThreads;
+		final int inFlight = 2 * threads;
+		long start = System.currentTimeMillis();
+		long records = 0;
+
+		ArrayDeque<HandBatch> free = new ArrayDeque<HandBatch>();
+		ArrayDeque<Future<HandBatch>> pending = new ArrayDeque<Future<HandBatch>>();
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+		try(MappedHandReader reader = new MappedHandReader(aInput);
+				FileChannel out = FileChannel.open(aOutput, StandardOpenOption.CREATE,
+						StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+
+			while(true) {
+				HandBatch batch = free.isEmpty() ? new HandBatch(BATCH) : free.poll();
+				if(!reader.read(batch))
+					break;
+
+				records += batch.size();
+				pending.add(executor.submit(() -> {
+					aOperation.apply(batch);
+					return batch;
+				}));
+
+				if(pending.size() >= inFlight)
+					free.add(write(out, pending.poll()));
+			}
+
+			while(!pending.isEmpty())
+				write(out, pending.poll());
+		}
+		finally {
+			executor.shutdownNow();
+		}
+
+		log.info("{} records from {} written to {} in {} ms", records, aInput, aOutput,
+				System.currentTimeMillis() - start);
+		return records;
+	}
+
+	/**
+	 * Waits for a batch to be processed and writes its output.
+	 *
+	 * @return the batch, free to be reused
+	 */
+	private static HandBatch write(FileChannel aOut, Future<HandBatch> aResult) throws IOException {
+
+		HandBatch batch;
+		try {
+			batch = aResult.get();
+		}
+		catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("interrupted", e);
+		}
+		catch(ExecutionException e) {
+			throw new IllegalStateException(e.getCause());
+		}
+
+		ByteBuffer output = batch.getOutput();
+		while(output.hasRemaining())
+			aOut.write(output);
+		return batch;
+	}
+
+	private static void error(HandBatch aBatch, int aCode) {
+		aBatch.append(ERROR).append(aCode).append('\n');
+	}
+}
@@ -0,0 +1,229 @@
+package pl.zimowski.karty.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import pl.zimowski.karty.ArgumentOutOfRangeException;
+import pl.zimowski.karty.HandIndex;
+import pl.zimowski.karty.io.HandRecordFormat.Column;
+
+/**
+ * Binary hand record file (see {@link HandRecordFormat}) mapped into memory.
+ * Columns of a block are handed out as buffer views over the mapping, so
+ * scanning records involves no copying and no parsing. Instances are
+ * immutable and safe to share between threads; each call creates a new
+ * view with its own position.
+ *
+ * @author Adam Zimowski
+ */
+public final class HandRecordFile {
+
+	/** most bytes mapped at once, rounded down to whole blocks */
+	static final long WINDOW = 1L << 30;
+
+	private final HandRecordFormat format;
+	private final long records;
+	private final int blocks;
+
+	private final MappedByteBuffer[] windows;
+	private final int blocksPerWindow;
+	private final long blockBytes;
+
+	private final HandIndex[] indexes = new HandIndex[Column.values().length];
+
+	private HandRecordFile(HandRecordFormat aFormat, long aRecords, MappedByteBuffer[] aWindows,
+			int aBlocksPerWindow) {
+
+		format = aFormat;
+		records = aRecords;
+		blocks = (int)((aRecords + aFormat.getBlockRecords() - 1) / aFormat.getBlockRecords());
+		windows = aWindows;
+		blocksPerWindow = aBlocksPerWindow;
+		blockBytes = aFormat.blockBytes(aFormat.getBlockRecords());
+
+		for(Column column : Column.values()) {
+			if(aFormat.getEncoding(column) > 0)
+				indexes[column.ordinal()] = new HandIndex(0L, 0L, aFormat.getEncoding(column));
+		}
+	}
+
+	/**
+	 * Maps a record file into memory.
+	 *
+	 * @param aFile file written by {@link HandRecordWriter}
+	 * @return record file
+	 * @throws IOException if file cannot be read or is not a valid record file
+	 */
+	public static HandRecordFile open(Path aFile) throws IOException {
+		return open(aFile, WINDOW);
+	}
+
+	static HandRecordFile open(Path aFile, long aWindow) throws IOException {
+
+		try(FileChannel channel = FileChannel.open(aFile, StandardOpenOption.READ)) {
+
+			ByteBuffer header = ByteBuffer.allocate(HandRecordFormat.HEADER).order(ByteOrder.LITTLE_ENDIAN);
+			while(header.hasRemaining() && channel.read(header, header.position()) > 0);
+			if(header.hasRemaining() || header.getInt(0) != HandRecordFormat.MAGIC ||
+					header.getInt(4) != HandRecordFormat.VERSION)
+				throw new IOException("Not a hand record file: " + aFile);
+
+			HandRecordFormat format;
+			try {
+				format = new HandRecordFormat(header.get(12), header.get(13), header.get(14),
+						header.get(15) != 0, header.getInt(8));
+			}
+			catch(IllegalArgumentException e) {
+				throw new IOException("Not a hand record file: " + aFile, e);
+			}
+
+			long records = header.getLong(16);
+			int blockRecords = format.getBlockRecords();
+			long fullBlocks = records / blockRecords;
+			int last = (int)(records % blockRecords);
+			long size = HandRecordFormat.HEADER + fullBlocks * format.blockBytes(blockRecords) +
+					(last > 0 ? format.blockBytes(last) : 0);
+			if(records < 0 || channel.size() != size)
+				throw new IOException("Truncated hand record file: " + aFile);
+
+			long blockBytes = format.blockBytes(blockRecords);
+			int blocksPerWindow = (int)Math.max(1, Math.min(Integer.MAX_VALUE, aWindow / blockBytes));
+			long blocks = fullBlocks + (last > 0 ? 1 : 0);
+			MappedByteBuffer[] windows = new MappedByteBuffer[(int)((blocks + blocksPerWindow - 1) / blocksPerWindow)];
+			for(int w = 0; w < windows.length; w++) {
+				long start = HandRecordFormat.HEADER + w * blocksPerWindow * blockBytes;
+				// the mapping stays valid after the channel is closed
+				windows[w] = channel.map(FileChannel.MapMode.READ_ONLY, start,
+						Math.min(blocksPerWindow * blockBytes, size - start));
+			}
+
+			return new HandRecordFile(format, records, windows, blocksPerWindow);
+		}
+	}
+
+	/**
+	 * @return what is stored and how
+	 */
+	public HandRecordFormat getFormat() {
+		return format;
+	}
+
+	/**
+	 * @return number of records
+	 */
+	public long size() {
+		return records;
+	}
+
+	/**
+	 * @return number of blocks
+	 */
+	public int getBlocks() {
+		return blocks;
+	}
+
+	/**
+	 * @param aBlock block, from 0 to {@link #getBlocks()} exclusive
+	 * @return number of records in the block
+	 * @throws ArgumentOutOfRangeException if there is no such block
+	 */
+	public int getBlockSize(int aBlock) {
+		if(aBlock < 0 || aBlock >= blocks)
+			throw new ArgumentOutOfRangeException("block");
+		int blockRecords = format.getBlockRecords();
+		return aBlock < blocks - 1 ? blockRecords : (int)(records - (long)aBlock * blockRecords);
+	}
+
+	/**
+	 * @param aBlock block, from 0 to {@link #getBlocks()} exclusive
+	 * @param aColumn column stored as masks
+	 * @return view of the card masks of the column in the block
+	 * @throws ArgumentOutOfRangeException if there is no such block
+	 * @throws IllegalArgumentException if the column is not stored as masks
+	 */
+	public LongBuffer getMasks(int aBlock, Column aColumn) {
+		if(format.getEncoding(aColumn) != HandRecordFormat.MASKS)
+			throw new IllegalArgumentException("column");
+		int size = getBlockSize(aBlock);
+		return view(aBlock, format.columnOffset(aColumn, size), 8L * size).asLongBuffer();
+	}
+
+	/**
+	 * @param aBlock block, from 0 to {@link #getBlocks()} exclusive
+	 * @param aColumn column stored as ranks
+	 * @return view of the colexicographic ranks of the column in the block,
+	 * 	over hands of {@link HandRecordFormat#getEncoding(Column)} cards
+	 * @throws ArgumentOutOfRangeException if there is no such block
+	 * @throws IllegalArgumentException if the column is not stored as ranks
+	 */
+	public IntBuffer getRanks(int aBlock, Column aColumn) {
+		if(format.getEncoding(aColumn) <= 0)
+			throw new IllegalArgumentException("column");
+		int size = getBlockSize(aBlock);
+		return view(aBlock, format.columnOffset(aColumn, size), 4L * size).asIntBuffer();
+	}
+
+	/**
+	 * @param aBlock block, from 0 to {@link #getBlocks()} exclusive
+	 * @return view of the values of pocket and board in the block
+	 * @throws ArgumentOutOfRangeException if there is no such block
+	 * @throws IllegalStateException if values are not stored
+	 */
+	public IntBuffer getValues(int aBlock) {
+		if(!format.hasValues())
+			throw new IllegalStateException("values are not stored");
+		int size = getBlockSize(aBlock);
+		return view(aBlock, format.valuesOffset(size), 4L * size).asIntBuffer();
+	}
+
+	/**
+	 * Random access to a column of a single record, whatever its encoding.
+	 *
+	 * @param aRecord record, from 0 to {@link #size()} exclusive
+	 * @param aColumn column
+	 * @return cards of the record, 0 if the column is not stored
+	 * @throws ArgumentOutOfRangeException if there is no such record
+	 */
+	public long getMask(long aRecord, Column aColumn) {
+
+		if(aRecord < 0 || aRecord >= records)
+			throw new ArgumentOutOfRangeException("record");
+
+		int encoding = format.getEncoding(aColumn);
+		if(encoding == HandRecordFormat.ABSENT)
+			return 0L;
+
+		int block = (int)(aRecord / format.getBlockRecords());
+		int i = (int)(aRecord % format.getBlockRecords());
+		if(encoding == HandRecordFormat.MASKS)
+			return getMasks(block, aColumn).get(i);
+		return indexes[aColumn.ordinal()].unrank(getRanks(block, aColumn).get(i));
+	}
+
+	/**
+	 * @param aRecord record, from 0 to {@link #size()} exclusive
+	 * @return value of pocket and board of the record
+	 * @throws ArgumentOutOfRangeException if there is no such record
+	 * @throws IllegalStateException if values are not stored
+	 */
+	public int getValue(long aRecord) {
+		if(aRecord < 0 || aRecord >= records)
+			throw new ArgumentOutOfRangeException("record");
+		return getValues((int)(aRecord / format.getBlockRecords())).get((int)(aRecord % format.getBlockRecords()));
+	}
+
+	private ByteBuffer view(int aBlock, long aOffset, long aLength) {
+		ByteBuffer view = windows[aBlock / blocksPerWindow].duplicate();
+		int start = (int)((aBlock % blocksPerWindow) * blockBytes + aOffset);
+		view.position(start);
+		view.limit((int)(start + aLength));
+		return view.slice().order(ByteOrder.LITTLE_ENDIAN);
+	}
+}
@@ -0,0 +1,146 @@
+package pl.zimowski.karty.io;
+
+import pl.zimowski.karty.ArgumentOutOfRangeException;
+
+/**
+ * Layout of a binary hand record file, written by {@link HandRecordWriter}
+ * and read by {@link HandRecordFile}. A record is a pocket, a board and dead
+ * cards; each of them is a column which is either stored as 52 bit card
+ * masks (longs), stored as colexicographic ranks of hands with a fixed number
+ * of cards (ints, see {@link pl.zimowski.karty.HandIndex}), or left out.
+ * Evaluated value of pocket and board may be stored as one more column.
+ * <p>
+ * File layout (little endian, so that columns can be viewed in place as
+ * {@code LongBuffer}/{@code IntBuffer} on common hardware):
+ * <ul>
+ * <li>header, 32 bytes: magic, version, records per block (ints), pocket,
+ * board and dead encoding, 1 if values are stored (bytes), number of
+ * records (long), 8 reserved bytes</li>
+ * <li>blocks of {@link #getBlockRecords()} records each, the last one
+ * possibly shorter. A block of n records holds pocket, board, dead and
+ * value columns in this order, each n entries long and padded to a multiple
+ * of 8 bytes; columns which are not stored take no space.</li>
+ * </ul>
+ * Instances are immutable.
+ *
+ * @author Adam Zimowski
+ */
+public final class HandRecordFormat {
+
+	/**
+	 * Columns of a record.
+	 */
+	public enum Column {
+		POCKET,
+		BOARD,
+		DEAD
+	}
+
+	/** column encoding: not stored, always 0 */
+	public static final int ABSENT = -1;
+
+	/** column encoding: card masks, any number of cards */
+	public static final int MASKS = 0;
+
+	static final int MAGIC = 0x4b485246;
+
+	static final int VERSION = 1;
+
+	static final int HEADER = 32;
+
+	/** records per block unless told otherwise */
+	static final int BLOCK_RECORDS = 1 << 16;
+
+	private final int[] encodings;
+	private final boolean values;
+	private final int blockRecords;
+
+	/**
+	 * @param aPocket pocket encoding: {@link #ABSENT}, {@link #MASKS} or number
+	 * 	of cards (1 to 7) in every pocket to store ranks
+	 * @param aBoard board encoding, same as pocket
+	 * @param aDead dead card encoding, same as pocket
+	 * @param aValues true to store value of pocket and board in each record
+	 * @throws ArgumentOutOfRangeException if an encoding is out of range
+	 * @throws IllegalArgumentException if values are asked for without pockets
+	 */
+	public HandRecordFormat(int aPocket, int aBoard, int aDead, boolean aValues) {
+		this(aPocket, aBoard, aDead, aValues, BLOCK_RECORDS);
+	}
+
+	HandRecordFormat(int aPocket, int aBoard, int aDead, boolean aValues, int aBlockRecords) {
+
+		encodings = new int[] {
+			encoding(aPocket, "pocket"), encoding(aBoard, "board"), encoding(aDead, "dead")
+		};
+		if(aValues && aPocket == ABSENT)
+			throw new IllegalArgumentException("values");
+		if(aBlockRecords <= 0)
+			throw new ArgumentOutOfRangeException("blockRecords");
+
+		values = aValues;
+		blockRecords = aBlockRecords;
+	}
+
+	/**
+	 * @param aColumn column
+	 * @return {@link #ABSENT}, {@link #MASKS} or number of cards of ranked hands
+	 */
+	public int getEncoding(Column aColumn) {
+		return encodings[aColumn.ordinal()];
+	}
+
+	/**
+	 * @return true if values of pocket and board are stored
+	 */
+	public boolean hasValues() {
+		return values;
+	}
+
+	/**
+	 * @return records in every block but the last
+	 */
+	public int getBlockRecords() {
+		return blockRecords;
+	}
+
+	/**
+	 * @return offset of a column within a block of the given size
+	 */
+	long columnOffset(Column aColumn, int aRecords) {
+		long offset = 0;
+		for(int c = 0; c < aColumn.ordinal(); c++)
+			offset += columnBytes(encodings[c], aRecords);
+		return offset;
+	}
+
+	/**
+	 * @return offset of the value column within a block of the given size
+	 */
+	long valuesOffset(int aRecords) {
+		return columnOffset(Column.DEAD, aRecords) + columnBytes(encodings[Column.DEAD.ordinal()], aRecords);
+	}
+
+	/**
+	 * @return bytes taken by a block of the given size
+	 */
+	long blockBytes(int aRecords) {
+		return valuesOffset(aRecords) + (values ? padded(4L * aRecords) : 0);
+	}
+
+	private static long columnBytes(int aEncoding, int aRecords) {
+		if(aEncoding == ABSENT)
+			return 0;
+		return aEncoding == MASKS ? 8L * aRecords : padded(4L * aRecords);
+	}
+
+	private static long padded(long aBytes) {
+		return (aBytes + 7) & ~7L;
+	}
+
+	private static int encoding(int aEncoding, String aName) {
+		if(aEncoding < ABSENT || aEncoding > 7)
+			throw new ArgumentOutOfRangeException(aName);
+		return aEncoding;
+	}
+}
@@ -0,0 +1,236 @@
+package pl.zimowski.karty.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import pl.zimowski.karty.HandEngine;
+import pl.zimowski.karty.HandIndex;
+import pl.zimowski.karty.io.HandRecordFormat.Column;
+
+/**
+ * Writes a binary hand record file (see {@link HandRecordFormat}). Records
+ * are collected a block at a time and each block goes to the file with a
+ * single write; the record count in the header is filled in on
+ * {@link #close()}. Can also be run to convert a text hand file (see
+ * {@link HandBatch}) into a binary one, pockets and boards stored as masks:
+ * <pre>
+ *   java pl.zimowski.karty.io.HandRecordWriter hands.txt hands.bin [values]
+ * </pre>
+ *
+ * @author Adam Zimowski
+ */
+public final class HandRecordWriter implements Closeable {
+
+	private static final Logger log = LoggerFactory.getLogger(HandRecordWriter.class);
+
+	private final HandRecordFormat format;
+	private final FileChannel channel;
+
+	/** ranks hands of columns stored as ranks, null for other columns */
+	private final HandIndex[] indexes = new HandIndex[Column.values().length];
+
+	/** block being collected, one array per column */
+	private final long[][] columns = new long[Column.values().length][];
+	private final int[] values;
+	private int size;
+
+	private final ByteBuffer block;
+	private long records;
+
+	/**
+	 * @param aFile file to (over)write
+	 * @param aFormat what is stored and how
+	 * @throws IOException if file cannot be created
+	 */
+	public HandRecordWriter(Path aFile, HandRecordFormat aFormat) throws IOException {
+
+		format = aFormat;
+		int blockRecords = aFormat.getBlockRecords();
+		for(Column column : Column.values()) {
+			int encoding = aFormat.getEncoding(column);
+			if(encoding != HandRecordFormat.ABSENT)
+				columns[column.ordinal()] = new long[blockRecords];
+			if(encoding > 0)
+				indexes[column.ordinal()] = new HandIndex(0L, 0L, encoding);
+		}
+		values = aFormat.hasValues() ? new int[blockRecords] : null;
+		block = ByteBuffer.allocateDirect((int)aFormat.blockBytes(blockRecords)).order(ByteOrder.LITTLE_ENDIAN);
+
+		channel = FileChannel.open(aFile, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+				StandardOpenOption.WRITE);
+		writeHeader();
+	}
+
+	/**
+	 * Adds a record.
+	 *
+	 * @param aPocket pocket cards
+	 * @param aBoard board cards
+	 * @param aDead dead cards
+	 * @throws IllegalArgumentException if a column which is not stored is not
+	 * 	empty, or a column stored as ranks has a wrong number of cards
+	 * @throws IOException if a block cannot be written
+	 */
+	public void write(long aPocket, long aBoard, long aDead) throws IOException {
+
+		check(Column.POCKET, aPocket);
+		check(Column.BOARD, aBoard);
+		check(Column.DEAD, aDead);
+
+		put(Column.POCKET, aPocket);
+		put(Column.BOARD, aBoard);
+		put(Column.DEAD, aDead);
+		if(values != null)
+			values[size] = HandEngine.Evaluate(aPocket | aBoard);
+
+		if(++size == format.getBlockRecords())
+			flush();
+	}
+
+	/**
+	 * @return number of records written so far
+	 */
+	public long getRecords() {
+		return records + size;
+	}
+
+	/**
+	 * Writes the last block and the record count.
+	 *
+	 * @throws IOException if file cannot be written
+	 */
+	@Override
+	public void close() throws IOException {
+		try {
+			if(size > 0)
+				flush();
+			ByteBuffer count = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN);
+			count.putLong(0, records);
+			writeFully(count, 16);
+		}
+		finally {
+			channel.close();
+		}
+	}
+
+	public static void main(String[] args) throws IOException {
+
+		if(args.length < 2) {
+			System.err.println("usage: HandRecordWriter <text input> <binary output> [values]");
+			System.exit(1);
+		}
+
+		convert(Paths.get(args[0]), Paths.get(args[1]), args.length > 2 && "values".equals(args[2]));
+	}
+
+	/**
+	 * Converts a text hand file into a binary one, all columns stored as
+	 * masks. Records which could not be read, have more than one pocket or
+	 * too many cards to be evaluated (when values are stored) are skipped.
+	 *
+	 * @param aText text hand file
+	 * @param aBinary binary file to (over)write
+	 * @param aValues true to store values
+	 * @return number of records written
+	 * @throws IOException if a file cannot be read or written
+	 */
+	public static long convert(Path aText, Path aBinary, boolean aValues) throws IOException {
+
+		HandRecordFormat format = new HandRecordFormat(HandRecordFormat.MASKS, HandRecordFormat.MASKS,
+				HandRecordFormat.MASKS, aValues);
+		HandBatch batch = new HandBatch(HandFileProcessor.BATCH);
+		long skipped = 0;
+
+		try(MappedHandReader reader = new MappedHandReader(aText);
+				HandRecordWriter writer = new HandRecordWriter(aBinary, format)) {
+			while(reader.read(batch)) {
+				for(int r = 0; r < batch.size(); r++) {
+					long pocket = batch.getPocket(r, 0);
+					if(batch.getError(r) != 0 || batch.getPlayers(r) != 1 ||
+							(aValues && HandEngine.BitCount(pocket | batch.getBoard(r)) > 7)) {
+						skipped++;
+						continue;
+					}
+					writer.write(pocket, batch.getBoard(r), batch.getDead(r));
+				}
+			}
+			if(skipped > 0)
+				log.warn("{} records of {} skipped", skipped, aText);
+			return writer.getRecords();
+		}
+	}
+
+	private void check(Column aColumn, long aCards) {
+		int encoding = format.getEncoding(aColumn);
+		if(encoding == HandRecordFormat.ABSENT ? aCards != 0 :
+				encoding > 0 && HandEngine.BitCount(aCards) != encoding) {
+			throw new IllegalArgumentException(aColumn.name().toLowerCase());
+		}
+	}
+
+	private void put(Column aColumn, long aCards) {
+		long[] column = columns[aColumn.ordinal()];
+		if(column != null) {
+			HandIndex index = indexes[aColumn.ordinal()];
+			column[size] = index == null ? aCards : index.rank(aCards);
+		}
+	}
+
+	private void flush() throws IOException {
+
+		block.clear();
+		for(Column column : Column.values()) {
+			long[] data = columns[column.ordinal()];
+			if(data == null)
+				continue;
+			block.position((int)format.columnOffset(column, size));
+			if(indexes[column.ordinal()] == null)
+				block.asLongBuffer().put(data, 0, size);
+			else {
+				for(int i = 0; i < size; i++)
+					block.putInt((int)data[i]);
+			}
+		}
+		if(values != null) {
+			block.position((int)format.valuesOffset(size));
+			for(int i = 0; i < size; i++)
+				block.putInt(values[i]);
+		}
+
+		block.position(0);
+		block.limit((int)format.blockBytes(size));
+		writeFully(block, HandRecordFormat.HEADER + records / format.getBlockRecords() *
+				format.blockBytes(format.getBlockRecords()));
+
+		records += size;
+		size = 0;
+	}
+
+	private void writeHeader() throws IOException {
+		ByteBuffer header = ByteBuffer.allocate(HandRecordFormat.HEADER).order(ByteOrder.LITTLE_ENDIAN);
+		header.putInt(HandRecordFormat.MAGIC);
+		header.putInt(HandRecordFormat.VERSION);
+		header.putInt(format.getBlockRecords());
+		for(Column column : Column.values())
+			header.put((byte)format.getEncoding(column));
+		header.put((byte)(format.hasValues() ? 1 : 0));
+		header.putLong(0L);
+		header.putLong(0L);
+		header.flip();
+		writeFully(header, 0);
+	}
+
+	private void writeFully(ByteBuffer aBuffer, long aPosition) throws IOException {
+		while(aBuffer.hasRemaining())
+			aPosition += channel.write(aBuffer, aPosition);
+	}
+}
@@ -0,0 +1,266 @@
+package pl.zimowski.karty.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import pl.zimowski.karty.CardParser;
+
+/**
+ * Reads {@code pocket|board|dead} hand records (see {@link HandBatch}) from
+ * a text file, one record per line. The file is memory mapped a window at a
+ * time, so there are no read calls and the file size is not limited by the
+ * 2 GB a single mapping can cover. Mapped bytes are moved in bulk into a
+ * small reusable buffer and cards are parsed from there; reading mapped
+ * memory a byte at a time costs several times as much as the copy. No
+ * strings are created. Blank lines are skipped, a trailing carriage return
+ * is ignored.
+ *
+ * @author Adam Zimowski
+ */
+public final class MappedHandReader implements Closeable {
+
+	/** bytes mapped at once by default */
+	static final int WINDOW = 1 << 28;
+
+	/** size of the buffer lines are parsed from by default, also the longest line */
+	static final int BUFFER = 1 << 16;
+
+	private final FileChannel channel;
+	private final long length;
+	private final int windowSize;
+
+	private MappedByteBuffer window;
+
+	/** file offset of the window */
+	private long windowStart;
+
+	/** bytes copied out of the window, from position up to limit not read yet */
+	private final byte[] buffer;
+	private int position, limit;
+
+	/** number of the last line read */
+	private long line;
+
+	/** number of field separators in the current line, -1 if more than two */
+	private int separators;
+
+	/** where the board and dead card fields of the current line start */
+	private int boardAt, deadAt;
+
+	private final long[] pockets = new long[HandBatch.MAX_PLAYERS];
+
+	/**
+	 * @param aFile text file of hand records
+	 * @throws IOException if file cannot be opened
+	 */
+	public MappedHandReader(Path aFile) throws IOException {
+		this(aFile, WINDOW, BUFFER);
+	}
+
+	/**
+	 * @param aFile text file of hand records
+	 * @param aWindowSize bytes mapped at once
+	 * @param aBufferSize size of the parse buffer, must be more than the
+	 * 	longest line
+	 * @throws IOException if file cannot be opened
+	 */
+	MappedHandReader(Path aFile, int aWindowSize, int aBufferSize) throws IOException {
+
+		if(aWindowSize <= 0)
+			throw new IllegalArgumentException("windowSize");
+		if(aBufferSize <= 0)
+			throw new IllegalArgumentException("bufferSize");
+
+		channel = FileChannel.open(aFile, StandardOpenOption.READ);
+		length = channel.size();
+		windowSize = aWindowSize;
+		buffer = new byte[aBufferSize];
+		map(0);
+	}
+
+	/**
+	 * Fills a batch with records which follow the ones read last time.
+	 *
+	 * @param aBatch batch to fill, its previous contents are discarded
+	 * @return false if there were no more records to read
+	 * @throws IOException if file cannot be read, or holds a line which does
+	 * 	not fit in the parse buffer
+	 */
+	public boolean read(HandBatch aBatch) throws IOException {
+
+		aBatch.clear();
+		while(!aBatch.isFull()) {
+
+			int end = lineEnd();
+			if(end < 0)
+				break;
+
+			int from = position;
+			position = end < limit ? end + 1 : end;
+			line++;
+
+			if(end > from && buffer[end - 1] == '\r')
+				end--;
+			if(separators < 0)
+				aBatch.addError(line, HandBatch.BAD_FORMAT);
+			else if(!isBlank(from, end))
+				parse(aBatch, from, end);
+		}
+
+		return aBatch.size() > 0;
+	}
+
+	/**
+	 * @return number of the last line read, starting at 1
+	 */
+	public long getLine() {
+		return line;
+	}
+
+	@Override
+	public void close() throws IOException {
+		window = null;
+		channel.close();
+	}
+
+	/**
+	 * Finds the end of the line which starts at the current position,
+	 * refilling the buffer if the line does not end within it. Field
+	 * separators are noted on the way, so the line is only scanned once.
+	 *
+	 * @return index of the new line character or buffer limit if the file
+	 * 	ends without one, -1 if there are no more lines
+	 */
+	private int lineEnd() throws IOException {
+
+		for(boolean exhausted = false;; exhausted = !fill()) {
+			final byte[] b = buffer;
+			final int end = limit;
+			separators = 0;
+			for(int i = position; i < end; i++) {
+				byte c = b[i];
+				if(c == '\n')
+					return i;
+				if(c == '|') {
+					if(separators == 0)
+						boardAt = i;
+					else if(separators == 1)
+						deadAt = i;
+					else
+						separators = -2;
+					separators++;
+				}
+			}
+
+			if(exhausted)
+				return position < limit ? limit : -1;
+			if(position == 0 && limit == buffer.length)
+				throw new IOException("line " + (line + 1) + " longer than " + buffer.length + " bytes");
+		}
+	}
+
+	/**
+	 * Moves bytes not read yet to the front of the buffer and copies as many
+	 * mapped bytes after them as fit, sliding the window when it runs out.
+	 *
+	 * @return false if the file has no more bytes
+	 */
+	private boolean fill() throws IOException {
+
+		int unread = limit - position;
+		System.arraycopy(buffer, position, buffer, 0, unread);
+		position = 0;
+		limit = unread;
+
+		while(limit < buffer.length) {
+			if(!window.hasRemaining()) {
+				long next = windowStart + window.limit();
+				if(next == length)
+					break;
+				map(next);
+			}
+			int bytes = Math.min(buffer.length - limit, window.remaining());
+			window.get(buffer, limit, bytes);
+			limit += bytes;
+		}
+
+		return limit > unread;
+	}
+
+	private void map(long aStart) throws IOException {
+		windowStart = aStart;
+		window = channel.map(FileChannel.MapMode.READ_ONLY, aStart, Math.min(windowSize, length - aStart));
+	}
+
+	private boolean isBlank(int aFrom, int aTo) {
+		for(int i = aFrom; i < aTo; i++) {
+			if(buffer[i] != ' ')
+				return false;
+		}
+		return true;
+	}
+
+	private void parse(HandBatch aBatch, int aFrom, int aTo) {
+
+		final byte[] b = buffer;
+
+		int board = separators > 0 ? boardAt : -1;
+		int dead = separators > 1 ? deadAt : -1;
+		int pocketEnd = board < 0 ? aTo : board;
+		int boardEnd = dead < 0 ? aTo : dead;
+
+		// pockets, separated by commas
+		int players = 0;
+		long cards = 0L;
+		for(int from = aFrom; from <= pocketEnd; ) {
+			int to = from;
+			while(to < pocketEnd && b[to] != ',')
+				to++;
+			if(players == HandBatch.MAX_PLAYERS) {
+				aBatch.addError(line, HandBatch.BAD_FORMAT);
+				return;
+			}
+			long pocket = CardParser.parse(b, from, to);
+			if(CardParser.isError(pocket)) {
+				aBatch.addError(line, CardParser.errorCode(pocket));
+				return;
+			}
+			if((cards & pocket) != 0) {
+				aBatch.addError(line, HandBatch.CONFLICT);
+				return;
+			}
+			cards |= pocket;
+			pockets[players++] = pocket;
+			from = to + 1;
+		}
+
+		long boardMask = board < 0 ? 0L : parseOptional(b, board + 1, boardEnd);
+		long deadMask = dead < 0 ? 0L : parseOptional(b, dead + 1, aTo);
+		if(CardParser.isError(boardMask)) {
+			aBatch.addError(line, CardParser.errorCode(boardMask));
+			return;
+		}
+		if(CardParser.isError(deadMask)) {
+			aBatch.addError(line, CardParser.errorCode(deadMask));
+			return;
+		}
+		if((cards & boardMask) != 0 || ((cards | boardMask) & deadMask) != 0) {
+			aBatch.addError(line, HandBatch.CONFLICT);
+			return;
+		}
+
+		aBatch.add(line, pockets, players, boardMask, deadMask);
+	}
+
+	/**
+	 * Board and dead cards may be left blank.
+	 */
+	private static long parseOptional(byte[] aText, int aFrom, int aTo) {
+		long mask = CardParser.parse(aText, aFrom, aTo);
+		return CardParser.errorCode(mask) == CardParser.NO_CARDS ? 0L : mask;
+	}
+}
@@ -1,827 +1,11 @@
 package pl.zimowski.karty.tables;
 
+/**
+ * Number of bits set in a 13 bit integer. Read from the table blob, see
+ * {@link TableGenerator}.
+ */
 public class BitsTable {
 
-    public static final short[] TABLE = new short[] {
-            0x00, 0x01, 0x01, 0x02, 0x01, 0x02, 0x02, 0x03, 0x01, 0x02,
-            0x02, 0x03, 0x02, 0x03, 0x03, 0x04, 0x01, 0x02, 0x02, 0x03,
-            0x02, 0x03, 0x03, 0x04, 0x02, 0x03, 0x03, 0x04, 0x03, 0x04,
-            0x04, 0x05, 0x01, 0x02, 0x02, 0x03, 0x02, 0x03, 0x03, 0x04,
-            0x02, 0x03, 0x03, 0x04, 0x03, 0x04, 0x04, 0x05, 0x02, 0x03,
-            0x03, 0x04, 0x03, 0x04, 0x04, 0x05, 0x03, 0x04, 0x04, 0x05,
-            0x04, 0x05, 0x05, 0x06, 0x01, 0x02, 0x02, 0x03, 0x02, 0x03,
-            0x03, 0x04, 0x02, 0x03, 0x03, 0x04, 0x03, 0x04, 0x04, 0x05,
-            0x02, 0x03, 0x03, 0x04, 0x03, 0x04, 0x04, 0x05, 0x03, 0x04,
-            0x04, 0x05, 0x04, 0x05, 0x05, 0x06, 0x02, 0x03, 0x03, 0x04,
-            0x03, 0x04, 0x04, 0x05, 0x03, 0x04, 0x04, 0x05, 0x04, 0x05,
-            0x05, 0x06, 0x03, 0x04, 0x04, 0x05, 0x04, 0x05, 0x05, 0x06,
-            0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x01, 0x02,
-            0x02, 0x03, 0x02, 0x03, 0x03, 0x04, 0x02, 0x03, 0x03, 0x04,
-            0x03, 0x04, 0x04, 0x05, 0x02, 0x03, 0x03, 0x04, 0x03, 0x04,
-            0x04, 0x05, 0x03, 0x04, 0x04, 0x05, 0x04, 0x05, 0x05, 0x06,
-            0x02, 0x03, 0x03, 0x04, 0x03, 0x04, 0x04, 0x05, 0x03, 0x04,
-            0x04, 0x05, 0x04, 0x05, 0x05, 0x06, 0x03, 0x04, 0x04, 0x05,
-            0x04, 0x05, 0x05, 0x06, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06,
-            0x06, 0x07, 0x02, 0x03, 0x03, 0x04, 0x03, 0x04, 0x04, 0x05,
-            0x03, 0x04, 0x04, 0x05, 0x04, 0x05, 0x05, 0x06, 0x03, 0x04,
-            0x04, 0x05, 0x04, 0x05, 0x05, 0x06, 0x04, 0x05, 0x05, 0x06,
-            0x05, 0x06, 0x06, 0x07, 0x03, 0x04, 0x04, 0x05, 0x04, 0x05,
-            0x05, 0x06, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07,
-            0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x05, 0x06,
-            0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x01, 0x02, 0x02, 0x03,
-            0x02, 0x03, 0x03, 0x04, 0x02, 0x03, 0x03, 0x04, 0x03, 0x04,
-            0x04, 0x05, 0x02, 0x03, 0x03, 0x04, 0x03, 0x04, 0x04, 0x05,
-            0x03, 0x04, 0x04, 0x05, 0x04, 0x05, 0x05, 0x06, 0x02, 0x03,
-            0x03, 0x04, 0x03, 0x04, 0x04, 0x05, 0x03, 0x04, 0x04, 0x05,
-            0x04, 0x05, 0x05, 0x06, 0x03, 0x04, 0x04, 0x05, 0x04, 0x05,
-            0x05, 0x06, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07,
-            0x02, 0x03, 0x03, 0x04, 0x03, 0x04, 0x04, 0x05, 0x03, 0x04,
-            0x04, 0x05, 0x04, 0x05, 0x05, 0x06, 0x03, 0x04, 0x04, 0x05,
-            0x04, 0x05, 0x05, 0x06, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06,
-            0x06, 0x07, 0x03, 0x04, 0x04, 0x05, 0x04, 0x05, 0x05, 0x06,
-            0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x04, 0x05,
-            0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x05, 0x06, 0x06, 0x07,
-            0x06, 0x07, 0x07, 0x08, 0x02, 0x03, 0x03, 0x04, 0x03, 0x04,
-            0x04, 0x05, 0x03, 0x04, 0x04, 0x05, 0x04, 0x05, 0x05, 0x06,
-            0x03, 0x04, 0x04, 0x05, 0x04, 0x05, 0x05, 0x06, 0x04, 0x05,
-            0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x03, 0x04, 0x04, 0x05,
-            0x04, 0x05, 0x05, 0x06, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06,
-            0x06, 0x07, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07,
-            0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x03, 0x04,
-            0x04, 0x05, 0x04, 0x05, 0x05, 0x06, 0x04, 0x05, 0x05, 0x06,
-            0x05, 0x06, 0x06, 0x07, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06,
-            0x06, 0x07, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08,
-            0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x05, 0x06,
-            0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x05, 0x06, 0x06, 0x07,
-            0x06, 0x07, 0x07, 0x08, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08,
-            0x08, 0x09, 0x01, 0x02, 0x02, 0x03, 0x02, 0x03, 0x03, 0x04,
-            0x02, 0x03, 0x03, 0x04, 0x03, 0x04, 0x04, 0x05, 0x02, 0x03,
-            0x03, 0x04, 0x03, 0x04, 0x04, 0x05, 0x03, 0x04, 0x04, 0x05,
-            0x04, 0x05, 0x05, 0x06, 0x02, 0x03, 0x03, 0x04, 0x03, 0x04,
-            0x04, 0x05, 0x03, 0x04, 0x04, 0x05, 0x04, 0x05, 0x05, 0x06,
-            0x03, 0x04, 0x04, 0x05, 0x04, 0x05, 0x05, 0x06, 0x04, 0x05,
-            0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x02, 0x03, 0x03, 0x04,
-            0x03, 0x04, 0x04, 0x05, 0x03, 0x04, 0x04, 0x05, 0x04, 0x05,
-            0x05, 0x06, 0x03, 0x04, 0x04, 0x05, 0x04, 0x05, 0x05, 0x06,
-            0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x03, 0x04,
-            0x04, 0x05, 0x04, 0x05, 0x05, 0x06, 0x04, 0x05, 0x05, 0x06,
-            0x05, 0x06, 0x06, 0x07, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06,
-            0x06, 0x07, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08,
-            0x02, 0x03, 0x03, 0x04, 0x03, 0x04, 0x04, 0x05, 0x03, 0x04,
-            0x04, 0x05, 0x04, 0x05, 0x05, 0x06, 0x03, 0x04, 0x04, 0x05,
-            0x04, 0x05, 0x05, 0x06, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06,
-            0x06, 0x07, 0x03, 0x04, 0x04, 0x05, 0x04, 0x05, 0x05, 0x06,
-            0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x04, 0x05,
-            0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x05, 0x06, 0x06, 0x07,
-            0x06, 0x07, 0x07, 0x08, 0x03, 0x04, 0x04, 0x05, 0x04, 0x05,
-            0x05, 0x06, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07,
-            0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x05, 0x06,
-            0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x04, 0x05, 0x05, 0x06,
-            0x05, 0x06, 0x06, 0x07, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07,
-            0x07, 0x08, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08,
-            0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x02, 0x03,
-            0x03, 0x04, 0x03, 0x04, 0x04, 0x05, 0x03, 0x04, 0x04, 0x05,
-            0x04, 0x05, 0x05, 0x06, 0x03, 0x04, 0x04, 0x05, 0x04, 0x05,
-            0x05, 0x06, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07,
-            0x03, 0x04, 0x04, 0x05, 0x04, 0x05, 0x05, 0x06, 0x04, 0x05,
-            0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x04, 0x05, 0x05, 0x06,
-            0x05, 0x06, 0x06, 0x07, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07,
-            0x07, 0x08, 0x03, 0x04, 0x04, 0x05, 0x04, 0x05, 0x05, 0x06,
-            0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x04, 0x05,
-            0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x05, 0x06, 0x06, 0x07,
-            0x06, 0x07, 0x07, 0x08, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06,
-            0x06, 0x07, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08,
-            0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x06, 0x07,
-            0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x03, 0x04, 0x04, 0x05,
-            0x04, 0x05, 0x05, 0x06, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06,
-            0x06, 0x07, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07,
-            0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x04, 0x05,
-            0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x05, 0x06, 0x06, 0x07,
-            0x06, 0x07, 0x07, 0x08, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07,
-            0x07, 0x08, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09,
-            0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x05, 0x06,
-            0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x05, 0x06, 0x06, 0x07,
-            0x06, 0x07, 0x07, 0x08, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08,
-            0x08, 0x09, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08,
-            0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x06, 0x07,
-            0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x07, 0x08, 0x08, 0x09,
-            0x08, 0x09, 0x09, 0x0a, 0x01, 0x02, 0x02, 0x03, 0x02, 0x03,
-            0x03, 0x04, 0x02, 0x03, 0x03, 0x04, 0x03, 0x04, 0x04, 0x05,
-            0x02, 0x03, 0x03, 0x04, 0x03, 0x04, 0x04, 0x05, 0x03, 0x04,
-            0x04, 0x05, 0x04, 0x05, 0x05, 0x06, 0x02, 0x03, 0x03, 0x04,
-            0x03, 0x04, 0x04, 0x05, 0x03, 0x04, 0x04, 0x05, 0x04, 0x05,
-            0x05, 0x06, 0x03, 0x04, 0x04, 0x05, 0x04, 0x05, 0x05, 0x06,
-            0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x02, 0x03,
-            0x03, 0x04, 0x03, 0x04, 0x04, 0x05, 0x03, 0x04, 0x04, 0x05,
-            0x04, 0x05, 0x05, 0x06, 0x03, 0x04, 0x04, 0x05, 0x04, 0x05,
-            0x05, 0x06, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07,
-            0x03, 0x04, 0x04, 0x05, 0x04, 0x05, 0x05, 0x06, 0x04, 0x05,
-            0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x04, 0x05, 0x05, 0x06,
-            0x05, 0x06, 0x06, 0x07, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07,
-            0x07, 0x08, 0x02, 0x03, 0x03, 0x04, 0x03, 0x04, 0x04, 0x05,
-            0x03, 0x04, 0x04, 0x05, 0x04, 0x05, 0x05, 0x06, 0x03, 0x04,
-            0x04, 0x05, 0x04, 0x05, 0x05, 0x06, 0x04, 0x05, 0x05, 0x06,
-            0x05, 0x06, 0x06, 0x07, 0x03, 0x04, 0x04, 0x05, 0x04, 0x05,
-            0x05, 0x06, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07,
-            0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x05, 0x06,
-            0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x03, 0x04, 0x04, 0x05,
-            0x04, 0x05, 0x05, 0x06, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06,
-            0x06, 0x07, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07,
-            0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x04, 0x05,
-            0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x05, 0x06, 0x06, 0x07,
-            0x06, 0x07, 0x07, 0x08, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07,
-            0x07, 0x08, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09,
-            0x02, 0x03, 0x03, 0x04, 0x03, 0x04, 0x04, 0x05, 0x03, 0x04,
-            0x04, 0x05, 0x04, 0x05, 0x05, 0x06, 0x03, 0x04, 0x04, 0x05,
-            0x04, 0x05, 0x05, 0x06, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06,
-            0x06, 0x07, 0x03, 0x04, 0x04, 0x05, 0x04, 0x05, 0x05, 0x06,
-            0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x04, 0x05,
-            0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x05, 0x06, 0x06, 0x07,
-            0x06, 0x07, 0x07, 0x08, 0x03, 0x04, 0x04, 0x05, 0x04, 0x05,
-            0x05, 0x06, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07,
-            0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x05, 0x06,
-            0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x04, 0x05, 0x05, 0x06,
-            0x05, 0x06, 0x06, 0x07, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07,
-            0x07, 0x08, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08,
-            0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x03, 0x04,
-            0x04, 0x05, 0x04, 0x05, 0x05, 0x06, 0x04, 0x05, 0x05, 0x06,
-            0x05, 0x06, 0x06, 0x07, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06,
-            0x06, 0x07, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08,
-            0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x05, 0x06,
-            0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x05, 0x06, 0x06, 0x07,
-            0x06, 0x07, 0x07, 0x08, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08,
-            0x08, 0x09, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07,
-            0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x05, 0x06,
-            0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x06, 0x07, 0x07, 0x08,
-            0x07, 0x08, 0x08, 0x09, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07,
-            0x07, 0x08, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09,
-            0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x07, 0x08,
-            0x08, 0x09, 0x08, 0x09, 0x09, 0x0a, 0x02, 0x03, 0x03, 0x04,
-            0x03, 0x04, 0x04, 0x05, 0x03, 0x04, 0x04, 0x05, 0x04, 0x05,
-            0x05, 0x06, 0x03, 0x04, 0x04, 0x05, 0x04, 0x05, 0x05, 0x06,
-            0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x03, 0x04,
-            0x04, 0x05, 0x04, 0x05, 0x05, 0x06, 0x04, 0x05, 0x05, 0x06,
-            0x05, 0x06, 0x06, 0x07, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06,
-            0x06, 0x07, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08,
-            0x03, 0x04, 0x04, 0x05, 0x04, 0x05, 0x05, 0x06, 0x04, 0x05,
-            0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x04, 0x05, 0x05, 0x06,
-            0x05, 0x06, 0x06, 0x07, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07,
-            0x07, 0x08, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07,
-            0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x05, 0x06,
-            0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x06, 0x07, 0x07, 0x08,
-            0x07, 0x08, 0x08, 0x09, 0x03, 0x04, 0x04, 0x05, 0x04, 0x05,
-            0x05, 0x06, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07,
-            0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x05, 0x06,
-            0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x04, 0x05, 0x05, 0x06,
-            0x05, 0x06, 0x06, 0x07, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07,
-            0x07, 0x08, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08,
-            0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x04, 0x05,
-            0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x05, 0x06, 0x06, 0x07,
-            0x06, 0x07, 0x07, 0x08, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07,
-            0x07, 0x08, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09,
-            0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x06, 0x07,
-            0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x06, 0x07, 0x07, 0x08,
-            0x07, 0x08, 0x08, 0x09, 0x07, 0x08, 0x08, 0x09, 0x08, 0x09,
-            0x09, 0x0a, 0x03, 0x04, 0x04, 0x05, 0x04, 0x05, 0x05, 0x06,
-            0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x04, 0x05,
-            0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x05, 0x06, 0x06, 0x07,
-            0x06, 0x07, 0x07, 0x08, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06,
-            0x06, 0x07, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08,
-            0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x06, 0x07,
-            0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x04, 0x05, 0x05, 0x06,
-            0x05, 0x06, 0x06, 0x07, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07,
-            0x07, 0x08, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08,
-            0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x05, 0x06,
-            0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x06, 0x07, 0x07, 0x08,
-            0x07, 0x08, 0x08, 0x09, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08,
-            0x08, 0x09, 0x07, 0x08, 0x08, 0x09, 0x08, 0x09, 0x09, 0x0a,
-            0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x05, 0x06,
-            0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x05, 0x06, 0x06, 0x07,
-            0x06, 0x07, 0x07, 0x08, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08,
-            0x08, 0x09, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08,
-            0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x06, 0x07,
-            0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x07, 0x08, 0x08, 0x09,
-            0x08, 0x09, 0x09, 0x0a, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07,
-            0x07, 0x08, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09,
-            0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x07, 0x08,
-            0x08, 0x09, 0x08, 0x09, 0x09, 0x0a, 0x06, 0x07, 0x07, 0x08,
-            0x07, 0x08, 0x08, 0x09, 0x07, 0x08, 0x08, 0x09, 0x08, 0x09,
-            0x09, 0x0a, 0x07, 0x08, 0x08, 0x09, 0x08, 0x09, 0x09, 0x0a,
-            0x08, 0x09, 0x09, 0x0a, 0x09, 0x0a, 0x0a, 0x0b, 0x01, 0x02,
-            0x02, 0x03, 0x02, 0x03, 0x03, 0x04, 0x02, 0x03, 0x03, 0x04,
-            0x03, 0x04, 0x04, 0x05, 0x02, 0x03, 0x03, 0x04, 0x03, 0x04,
-            0x04, 0x05, 0x03, 0x04, 0x04, 0x05, 0x04, 0x05, 0x05, 0x06,
-            0x02, 0x03, 0x03, 0x04, 0x03, 0x04, 0x04, 0x05, 0x03, 0x04,
-            0x04, 0x05, 0x04, 0x05, 0x05, 0x06, 0x03, 0x04, 0x04, 0x05,
-            0x04, 0x05, 0x05, 0x06, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06,
-            0x06, 0x07, 0x02, 0x03, 0x03, 0x04, 0x03, 0x04, 0x04, 0x05,
-            0x03, 0x04, 0x04, 0x05, 0x04, 0x05, 0x05, 0x06, 0x03, 0x04,
-            0x04, 0x05, 0x04, 0x05, 0x05, 0x06, 0x04, 0x05, 0x05, 0x06,
-            0x05, 0x06, 0x06, 0x07, 0x03, 0x04, 0x04, 0x05, 0x04, 0x05,
-            0x05, 0x06, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07,
-            0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x05, 0x06,
-            0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x02, 0x03, 0x03, 0x04,
-            0x03, 0x04, 0x04, 0x05, 0x03, 0x04, 0x04, 0x05, 0x04, 0x05,
-            0x05, 0x06, 0x03, 0x04, 0x04, 0x05, 0x04, 0x05, 0x05, 0x06,
-            0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x03, 0x04,
-            0x04, 0x05, 0x04, 0x05, 0x05, 0x06, 0x04, 0x05, 0x05, 0x06,
-            0x05, 0x06, 0x06, 0x07, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06,
-            0x06, 0x07, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08,
-            0x03, 0x04, 0x04, 0x05, 0x04, 0x05, 0x05, 0x06, 0x04, 0x05,
-            0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x04, 0x05, 0x05, 0x06,
-            0x05, 0x06, 0x06, 0x07, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07,
-            0x07, 0x08, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07,
-            0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x05, 0x06,
-            0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x06, 0x07, 0x07, 0x08,
-            0x07, 0x08, 0x08, 0x09, 0x02, 0x03, 0x03, 0x04, 0x03, 0x04,
-            0x04, 0x05, 0x03, 0x04, 0x04, 0x05, 0x04, 0x05, 0x05, 0x06,
-            0x03, 0x04, 0x04, 0x05, 0x04, 0x05, 0x05, 0x06, 0x04, 0x05,
-            0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x03, 0x04, 0x04, 0x05,
-            0x04, 0x05, 0x05, 0x06, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06,
-            0x06, 0x07, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07,
-            0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x03, 0x04,
-            0x04, 0x05, 0x04, 0x05, 0x05, 0x06, 0x04, 0x05, 0x05, 0x06,
-            0x05, 0x06, 0x06, 0x07, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06,
-            0x06, 0x07, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08,
-            0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x05, 0x06,
-            0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x05, 0x06, 0x06, 0x07,
-            0x06, 0x07, 0x07, 0x08, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08,
-            0x08, 0x09, 0x03, 0x04, 0x04, 0x05, 0x04, 0x05, 0x05, 0x06,
-            0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x04, 0x05,
-            0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x05, 0x06, 0x06, 0x07,
-            0x06, 0x07, 0x07, 0x08, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06,
-            0x06, 0x07, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08,
-            0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x06, 0x07,
-            0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x04, 0x05, 0x05, 0x06,
-            0x05, 0x06, 0x06, 0x07, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07,
-            0x07, 0x08, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08,
-            0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x05, 0x06,
-            0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x06, 0x07, 0x07, 0x08,
-            0x07, 0x08, 0x08, 0x09, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08,
-            0x08, 0x09, 0x07, 0x08, 0x08, 0x09, 0x08, 0x09, 0x09, 0x0a,
-            0x02, 0x03, 0x03, 0x04, 0x03, 0x04, 0x04, 0x05, 0x03, 0x04,
-            0x04, 0x05, 0x04, 0x05, 0x05, 0x06, 0x03, 0x04, 0x04, 0x05,
-            0x04, 0x05, 0x05, 0x06, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06,
-            0x06, 0x07, 0x03, 0x04, 0x04, 0x05, 0x04, 0x05, 0x05, 0x06,
-            0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x04, 0x05,
-            0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x05, 0x06, 0x06, 0x07,
-            0x06, 0x07, 0x07, 0x08, 0x03, 0x04, 0x04, 0x05, 0x04, 0x05,
-            0x05, 0x06, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07,
-            0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x05, 0x06,
-            0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x04, 0x05, 0x05, 0x06,
-            0x05, 0x06, 0x06, 0x07, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07,
-            0x07, 0x08, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08,
-            0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x03, 0x04,
-            0x04, 0x05, 0x04, 0x05, 0x05, 0x06, 0x04, 0x05, 0x05, 0x06,
-            0x05, 0x06, 0x06, 0x07, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06,
-            0x06, 0x07, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08,
-            0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x05, 0x06,
-            0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x05, 0x06, 0x06, 0x07,
-            0x06, 0x07, 0x07, 0x08, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08,
-            0x08, 0x09, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07,
-            0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x05, 0x06,
-            0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x06, 0x07, 0x07, 0x08,
-            0x07, 0x08, 0x08, 0x09, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07,
-            0x07, 0x08, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09,
-            0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x07, 0x08,
-            0x08, 0x09, 0x08, 0x09, 0x09, 0x0a, 0x03, 0x04, 0x04, 0x05,
-            0x04, 0x05, 0x05, 0x06, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06,
-            0x06, 0x07, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07,
-            0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x04, 0x05,
-            0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x05, 0x06, 0x06, 0x07,
-            0x06, 0x07, 0x07, 0x08, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07,
-            0x07, 0x08, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09,
-            0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x05, 0x06,
-            0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x05, 0x06, 0x06, 0x07,
-            0x06, 0x07, 0x07, 0x08, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08,
-            0x08, 0x09, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08,
-            0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x06, 0x07,
-            0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x07, 0x08, 0x08, 0x09,
-            0x08, 0x09, 0x09, 0x0a, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06,
-            0x06, 0x07, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08,
-            0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x06, 0x07,
-            0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x05, 0x06, 0x06, 0x07,
-            0x06, 0x07, 0x07, 0x08, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08,
-            0x08, 0x09, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09,
-            0x07, 0x08, 0x08, 0x09, 0x08, 0x09, 0x09, 0x0a, 0x05, 0x06,
-            0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x06, 0x07, 0x07, 0x08,
-            0x07, 0x08, 0x08, 0x09, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08,
-            0x08, 0x09, 0x07, 0x08, 0x08, 0x09, 0x08, 0x09, 0x09, 0x0a,
-            0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x07, 0x08,
-            0x08, 0x09, 0x08, 0x09, 0x09, 0x0a, 0x07, 0x08, 0x08, 0x09,
-            0x08, 0x09, 0x09, 0x0a, 0x08, 0x09, 0x09, 0x0a, 0x09, 0x0a,
-            0x0a, 0x0b, 0x02, 0x03, 0x03, 0x04, 0x03, 0x04, 0x04, 0x05,
-            0x03, 0x04, 0x04, 0x05, 0x04, 0x05, 0x05, 0x06, 0x03, 0x04,
-            0x04, 0x05, 0x04, 0x05, 0x05, 0x06, 0x04, 0x05, 0x05, 0x06,
-            0x05, 0x06, 0x06, 0x07, 0x03, 0x04, 0x04, 0x05, 0x04, 0x05,
-            0x05, 0x06, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07,
-            0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x05, 0x06,
-            0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x03, 0x04, 0x04, 0x05,
-            0x04, 0x05, 0x05, 0x06, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06,
-            0x06, 0x07, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07,
-            0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x04, 0x05,
-            0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x05, 0x06, 0x06, 0x07,
-            0x06, 0x07, 0x07, 0x08, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07,
-            0x07, 0x08, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09,
-            0x03, 0x04, 0x04, 0x05, 0x04, 0x05, 0x05, 0x06, 0x04, 0x05,
-            0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x04, 0x05, 0x05, 0x06,
-            0x05, 0x06, 0x06, 0x07, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07,
-            0x07, 0x08, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07,
-            0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x05, 0x06,
-            0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x06, 0x07, 0x07, 0x08,
-            0x07, 0x08, 0x08, 0x09, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06,
-            0x06, 0x07, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08,
-            0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x06, 0x07,
-            0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x05, 0x06, 0x06, 0x07,
-            0x06, 0x07, 0x07, 0x08, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08,
-            0x08, 0x09, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09,
-            0x07, 0x08, 0x08, 0x09, 0x08, 0x09, 0x09, 0x0a, 0x03, 0x04,
-            0x04, 0x05, 0x04, 0x05, 0x05, 0x06, 0x04, 0x05, 0x05, 0x06,
-            0x05, 0x06, 0x06, 0x07, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06,
-            0x06, 0x07, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08,
-            0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x05, 0x06,
-            0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x05, 0x06, 0x06, 0x07,
-            0x06, 0x07, 0x07, 0x08, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08,
-            0x08, 0x09, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07,
-            0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x05, 0x06,
-            0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x06, 0x07, 0x07, 0x08,
-            0x07, 0x08, 0x08, 0x09, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07,
-            0x07, 0x08, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09,
-            0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x07, 0x08,
-            0x08, 0x09, 0x08, 0x09, 0x09, 0x0a, 0x04, 0x05, 0x05, 0x06,
-            0x05, 0x06, 0x06, 0x07, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07,
-            0x07, 0x08, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08,
-            0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x05, 0x06,
-            0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x06, 0x07, 0x07, 0x08,
-            0x07, 0x08, 0x08, 0x09, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08,
-            0x08, 0x09, 0x07, 0x08, 0x08, 0x09, 0x08, 0x09, 0x09, 0x0a,
-            0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x06, 0x07,
-            0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x06, 0x07, 0x07, 0x08,
-            0x07, 0x08, 0x08, 0x09, 0x07, 0x08, 0x08, 0x09, 0x08, 0x09,
-            0x09, 0x0a, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09,
-            0x07, 0x08, 0x08, 0x09, 0x08, 0x09, 0x09, 0x0a, 0x07, 0x08,
-            0x08, 0x09, 0x08, 0x09, 0x09, 0x0a, 0x08, 0x09, 0x09, 0x0a,
-            0x09, 0x0a, 0x0a, 0x0b, 0x03, 0x04, 0x04, 0x05, 0x04, 0x05,
-            0x05, 0x06, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07,
-            0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x05, 0x06,
-            0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x04, 0x05, 0x05, 0x06,
-            0x05, 0x06, 0x06, 0x07, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07,
-            0x07, 0x08, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08,
-            0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x04, 0x05,
-            0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x05, 0x06, 0x06, 0x07,
-            0x06, 0x07, 0x07, 0x08, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07,
-            0x07, 0x08, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09,
-            0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x06, 0x07,
-            0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x06, 0x07, 0x07, 0x08,
-            0x07, 0x08, 0x08, 0x09, 0x07, 0x08, 0x08, 0x09, 0x08, 0x09,
-            0x09, 0x0a, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07,
-            0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x05, 0x06,
-            0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x06, 0x07, 0x07, 0x08,
-            0x07, 0x08, 0x08, 0x09, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07,
-            0x07, 0x08, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09,
-            0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x07, 0x08,
-            0x08, 0x09, 0x08, 0x09, 0x09, 0x0a, 0x05, 0x06, 0x06, 0x07,
-            0x06, 0x07, 0x07, 0x08, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08,
-            0x08, 0x09, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09,
-            0x07, 0x08, 0x08, 0x09, 0x08, 0x09, 0x09, 0x0a, 0x06, 0x07,
-            0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x07, 0x08, 0x08, 0x09,
-            0x08, 0x09, 0x09, 0x0a, 0x07, 0x08, 0x08, 0x09, 0x08, 0x09,
-            0x09, 0x0a, 0x08, 0x09, 0x09, 0x0a, 0x09, 0x0a, 0x0a, 0x0b,
-            0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x05, 0x06,
-            0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x05, 0x06, 0x06, 0x07,
-            0x06, 0x07, 0x07, 0x08, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08,
-            0x08, 0x09, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08,
-            0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x06, 0x07,
-            0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x07, 0x08, 0x08, 0x09,
-            0x08, 0x09, 0x09, 0x0a, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07,
-            0x07, 0x08, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09,
-            0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x07, 0x08,
-            0x08, 0x09, 0x08, 0x09, 0x09, 0x0a, 0x06, 0x07, 0x07, 0x08,
-            0x07, 0x08, 0x08, 0x09, 0x07, 0x08, 0x08, 0x09, 0x08, 0x09,
-            0x09, 0x0a, 0x07, 0x08, 0x08, 0x09, 0x08, 0x09, 0x09, 0x0a,
-            0x08, 0x09, 0x09, 0x0a, 0x09, 0x0a, 0x0a, 0x0b, 0x05, 0x06,
-            0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x06, 0x07, 0x07, 0x08,
-            0x07, 0x08, 0x08, 0x09, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08,
-            0x08, 0x09, 0x07, 0x08, 0x08, 0x09, 0x08, 0x09, 0x09, 0x0a,
-            0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x07, 0x08,
-            0x08, 0x09, 0x08, 0x09, 0x09, 0x0a, 0x07, 0x08, 0x08, 0x09,
-            0x08, 0x09, 0x09, 0x0a, 0x08, 0x09, 0x09, 0x0a, 0x09, 0x0a,
-            0x0a, 0x0b, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09,
-            0x07, 0x08, 0x08, 0x09, 0x08, 0x09, 0x09, 0x0a, 0x07, 0x08,
-            0x08, 0x09, 0x08, 0x09, 0x09, 0x0a, 0x08, 0x09, 0x09, 0x0a,
-            0x09, 0x0a, 0x0a, 0x0b, 0x07, 0x08, 0x08, 0x09, 0x08, 0x09,
-            0x09, 0x0a, 0x08, 0x09, 0x09, 0x0a, 0x09, 0x0a, 0x0a, 0x0b,
-            0x08, 0x09, 0x09, 0x0a, 0x09, 0x0a, 0x0a, 0x0b, 0x09, 0x0a,
-            0x0a, 0x0b, 0x0a, 0x0b, 0x0b, 0x0c, 0x01, 0x02, 0x02, 0x03,
-            0x02, 0x03, 0x03, 0x04, 0x02, 0x03, 0x03, 0x04, 0x03, 0x04,
-            0x04, 0x05, 0x02, 0x03, 0x03, 0x04, 0x03, 0x04, 0x04, 0x05,
-            0x03, 0x04, 0x04, 0x05, 0x04, 0x05, 0x05, 0x06, 0x02, 0x03,
-            0x03, 0x04, 0x03, 0x04, 0x04, 0x05, 0x03, 0x04, 0x04, 0x05,
-            0x04, 0x05, 0x05, 0x06, 0x03, 0x04, 0x04, 0x05, 0x04, 0x05,
-            0x05, 0x06, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07,
-            0x02, 0x03, 0x03, 0x04, 0x03, 0x04, 0x04, 0x05, 0x03, 0x04,
-            0x04, 0x05, 0x04, 0x05, 0x05, 0x06, 0x03, 0x04, 0x04, 0x05,
-            0x04, 0x05, 0x05, 0x06, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06,
-            0x06, 0x07, 0x03, 0x04, 0x04, 0x05, 0x04, 0x05, 0x05, 0x06,
-            0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x04, 0x05,
-            0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x05, 0x06, 0x06, 0x07,
-            0x06, 0x07, 0x07, 0x08, 0x02, 0x03, 0x03, 0x04, 0x03, 0x04,
-            0x04, 0x05, 0x03, 0x04, 0x04, 0x05, 0x04, 0x05, 0x05, 0x06,
-            0x03, 0x04, 0x04, 0x05, 0x04, 0x05, 0x05, 0x06, 0x04, 0x05,
-            0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x03, 0x04, 0x04, 0x05,
-            0x04, 0x05, 0x05, 0x06, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06,
-            0x06, 0x07, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07,
-            0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x03, 0x04,
-            0x04, 0x05, 0x04, 0x05, 0x05, 0x06, 0x04, 0x05, 0x05, 0x06,
-            0x05, 0x06, 0x06, 0x07, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06,
-            0x06, 0x07, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08,
-            0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x05, 0x06,
-            0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x05, 0x06, 0x06, 0x07,
-            0x06, 0x07, 0x07, 0x08, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08,
-            0x08, 0x09, 0x02, 0x03, 0x03, 0x04, 0x03, 0x04, 0x04, 0x05,
-            0x03, 0x04, 0x04, 0x05, 0x04, 0x05, 0x05, 0x06, 0x03, 0x04,
-            0x04, 0x05, 0x04, 0x05, 0x05, 0x06, 0x04, 0x05, 0x05, 0x06,
-            0x05, 0x06, 0x06, 0x07, 0x03, 0x04, 0x04, 0x05, 0x04, 0x05,
-            0x05, 0x06, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07,
-            0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x05, 0x06,
-            0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x03, 0x04, 0x04, 0x05,
-            0x04, 0x05, 0x05, 0x06, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06,
-            0x06, 0x07, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07,
-            0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x04, 0x05,
-            0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x05, 0x06, 0x06, 0x07,
-            0x06, 0x07, 0x07, 0x08, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07,
-            0x07, 0x08, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09,
-            0x03, 0x04, 0x04, 0x05, 0x04, 0x05, 0x05, 0x06, 0x04, 0x05,
-            0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x04, 0x05, 0x05, 0x06,
-            0x05, 0x06, 0x06, 0x07, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07,
-            0x07, 0x08, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07,
-            0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x05, 0x06,
-            0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x06, 0x07, 0x07, 0x08,
-            0x07, 0x08, 0x08, 0x09, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06,
-            0x06, 0x07, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08,
-            0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x06, 0x07,
-            0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x05, 0x06, 0x06, 0x07,
-            0x06, 0x07, 0x07, 0x08, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08,
-            0x08, 0x09, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09,
-            0x07, 0x08, 0x08, 0x09, 0x08, 0x09, 0x09, 0x0a, 0x02, 0x03,
-            0x03, 0x04, 0x03, 0x04, 0x04, 0x05, 0x03, 0x04, 0x04, 0x05,
-            0x04, 0x05, 0x05, 0x06, 0x03, 0x04, 0x04, 0x05, 0x04, 0x05,
-            0x05, 0x06, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07,
-            0x03, 0x04, 0x04, 0x05, 0x04, 0x05, 0x05, 0x06, 0x04, 0x05,
-            0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x04, 0x05, 0x05, 0x06,
-            0x05, 0x06, 0x06, 0x07, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07,
-            0x07, 0x08, 0x03, 0x04, 0x04, 0x05, 0x04, 0x05, 0x05, 0x06,
-            0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x04, 0x05,
-            0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x05, 0x06, 0x06, 0x07,
-            0x06, 0x07, 0x07, 0x08, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06,
-            0x06, 0x07, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08,
-            0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x06, 0x07,
-            0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x03, 0x04, 0x04, 0x05,
-            0x04, 0x05, 0x05, 0x06, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06,
-            0x06, 0x07, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07,
-            0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x04, 0x05,
-            0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x05, 0x06, 0x06, 0x07,
-            0x06, 0x07, 0x07, 0x08, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07,
-            0x07, 0x08, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09,
-            0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x05, 0x06,
-            0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x05, 0x06, 0x06, 0x07,
-            0x06, 0x07, 0x07, 0x08, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08,
-            0x08, 0x09, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08,
-            0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x06, 0x07,
-            0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x07, 0x08, 0x08, 0x09,
-            0x08, 0x09, 0x09, 0x0a, 0x03, 0x04, 0x04, 0x05, 0x04, 0x05,
-            0x05, 0x06, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07,
-            0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x05, 0x06,
-            0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x04, 0x05, 0x05, 0x06,
-            0x05, 0x06, 0x06, 0x07, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07,
-            0x07, 0x08, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08,
-            0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x04, 0x05,
-            0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x05, 0x06, 0x06, 0x07,
-            0x06, 0x07, 0x07, 0x08, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07,
-            0x07, 0x08, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09,
-            0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x06, 0x07,
-            0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x06, 0x07, 0x07, 0x08,
-            0x07, 0x08, 0x08, 0x09, 0x07, 0x08, 0x08, 0x09, 0x08, 0x09,
-            0x09, 0x0a, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07,
-            0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x05, 0x06,
-            0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x06, 0x07, 0x07, 0x08,
-            0x07, 0x08, 0x08, 0x09, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07,
-            0x07, 0x08, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09,
-            0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x07, 0x08,
-            0x08, 0x09, 0x08, 0x09, 0x09, 0x0a, 0x05, 0x06, 0x06, 0x07,
-            0x06, 0x07, 0x07, 0x08, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08,
-            0x08, 0x09, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09,
-            0x07, 0x08, 0x08, 0x09, 0x08, 0x09, 0x09, 0x0a, 0x06, 0x07,
-            0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x07, 0x08, 0x08, 0x09,
-            0x08, 0x09, 0x09, 0x0a, 0x07, 0x08, 0x08, 0x09, 0x08, 0x09,
-            0x09, 0x0a, 0x08, 0x09, 0x09, 0x0a, 0x09, 0x0a, 0x0a, 0x0b,
-            0x02, 0x03, 0x03, 0x04, 0x03, 0x04, 0x04, 0x05, 0x03, 0x04,
-            0x04, 0x05, 0x04, 0x05, 0x05, 0x06, 0x03, 0x04, 0x04, 0x05,
-            0x04, 0x05, 0x05, 0x06, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06,
-            0x06, 0x07, 0x03, 0x04, 0x04, 0x05, 0x04, 0x05, 0x05, 0x06,
-            0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x04, 0x05,
-            0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x05, 0x06, 0x06, 0x07,
-            0x06, 0x07, 0x07, 0x08, 0x03, 0x04, 0x04, 0x05, 0x04, 0x05,
-            0x05, 0x06, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07,
-            0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x05, 0x06,
-            0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x04, 0x05, 0x05, 0x06,
-            0x05, 0x06, 0x06, 0x07, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07,
-            0x07, 0x08, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08,
-            0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x03, 0x04,
-            0x04, 0x05, 0x04, 0x05, 0x05, 0x06, 0x04, 0x05, 0x05, 0x06,
-            0x05, 0x06, 0x06, 0x07, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06,
-            0x06, 0x07, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08,
-            0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x05, 0x06,
-            0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x05, 0x06, 0x06, 0x07,
-            0x06, 0x07, 0x07, 0x08, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08,
-            0x08, 0x09, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07,
-            0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x05, 0x06,
-            0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x06, 0x07, 0x07, 0x08,
-            0x07, 0x08, 0x08, 0x09, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07,
-            0x07, 0x08, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09,
-            0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x07, 0x08,
-            0x08, 0x09, 0x08, 0x09, 0x09, 0x0a, 0x03, 0x04, 0x04, 0x05,
-            0x04, 0x05, 0x05, 0x06, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06,
-            0x06, 0x07, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07,
-            0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x04, 0x05,
-            0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x05, 0x06, 0x06, 0x07,
-            0x06, 0x07, 0x07, 0x08, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07,
-            0x07, 0x08, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09,
-            0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x05, 0x06,
-            0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x05, 0x06, 0x06, 0x07,
-            0x06, 0x07, 0x07, 0x08, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08,
-            0x08, 0x09, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08,
-            0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x06, 0x07,
-            0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x07, 0x08, 0x08, 0x09,
-            0x08, 0x09, 0x09, 0x0a, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06,
-            0x06, 0x07, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08,
-            0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x06, 0x07,
-            0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x05, 0x06, 0x06, 0x07,
-            0x06, 0x07, 0x07, 0x08, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08,
-            0x08, 0x09, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09,
-            0x07, 0x08, 0x08, 0x09, 0x08, 0x09, 0x09, 0x0a, 0x05, 0x06,
-            0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x06, 0x07, 0x07, 0x08,
-            0x07, 0x08, 0x08, 0x09, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08,
-            0x08, 0x09, 0x07, 0x08, 0x08, 0x09, 0x08, 0x09, 0x09, 0x0a,
-            0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x07, 0x08,
-            0x08, 0x09, 0x08, 0x09, 0x09, 0x0a, 0x07, 0x08, 0x08, 0x09,
-            0x08, 0x09, 0x09, 0x0a, 0x08, 0x09, 0x09, 0x0a, 0x09, 0x0a,
-            0x0a, 0x0b, 0x03, 0x04, 0x04, 0x05, 0x04, 0x05, 0x05, 0x06,
-            0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x04, 0x05,
-            0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x05, 0x06, 0x06, 0x07,
-            0x06, 0x07, 0x07, 0x08, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06,
-            0x06, 0x07, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08,
-            0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x06, 0x07,
-            0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x04, 0x05, 0x05, 0x06,
-            0x05, 0x06, 0x06, 0x07, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07,
-            0x07, 0x08, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08,
-            0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x05, 0x06,
-            0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x06, 0x07, 0x07, 0x08,
-            0x07, 0x08, 0x08, 0x09, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08,
-            0x08, 0x09, 0x07, 0x08, 0x08, 0x09, 0x08, 0x09, 0x09, 0x0a,
-            0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x05, 0x06,
-            0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x05, 0x06, 0x06, 0x07,
-            0x06, 0x07, 0x07, 0x08, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08,
-            0x08, 0x09, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08,
-            0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x06, 0x07,
-            0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x07, 0x08, 0x08, 0x09,
-            0x08, 0x09, 0x09, 0x0a, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07,
-            0x07, 0x08, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09,
-            0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x07, 0x08,
-            0x08, 0x09, 0x08, 0x09, 0x09, 0x0a, 0x06, 0x07, 0x07, 0x08,
-            0x07, 0x08, 0x08, 0x09, 0x07, 0x08, 0x08, 0x09, 0x08, 0x09,
-            0x09, 0x0a, 0x07, 0x08, 0x08, 0x09, 0x08, 0x09, 0x09, 0x0a,
-            0x08, 0x09, 0x09, 0x0a, 0x09, 0x0a, 0x0a, 0x0b, 0x04, 0x05,
-            0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x05, 0x06, 0x06, 0x07,
-            0x06, 0x07, 0x07, 0x08, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07,
-            0x07, 0x08, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09,
-            0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x06, 0x07,
-            0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x06, 0x07, 0x07, 0x08,
-            0x07, 0x08, 0x08, 0x09, 0x07, 0x08, 0x08, 0x09, 0x08, 0x09,
-            0x09, 0x0a, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08,
-            0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x06, 0x07,
-            0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x07, 0x08, 0x08, 0x09,
-            0x08, 0x09, 0x09, 0x0a, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08,
-            0x08, 0x09, 0x07, 0x08, 0x08, 0x09, 0x08, 0x09, 0x09, 0x0a,
-            0x07, 0x08, 0x08, 0x09, 0x08, 0x09, 0x09, 0x0a, 0x08, 0x09,
-            0x09, 0x0a, 0x09, 0x0a, 0x0a, 0x0b, 0x05, 0x06, 0x06, 0x07,
-            0x06, 0x07, 0x07, 0x08, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08,
-            0x08, 0x09, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09,
-            0x07, 0x08, 0x08, 0x09, 0x08, 0x09, 0x09, 0x0a, 0x06, 0x07,
-            0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x07, 0x08, 0x08, 0x09,
-            0x08, 0x09, 0x09, 0x0a, 0x07, 0x08, 0x08, 0x09, 0x08, 0x09,
-            0x09, 0x0a, 0x08, 0x09, 0x09, 0x0a, 0x09, 0x0a, 0x0a, 0x0b,
-            0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x07, 0x08,
-            0x08, 0x09, 0x08, 0x09, 0x09, 0x0a, 0x07, 0x08, 0x08, 0x09,
-            0x08, 0x09, 0x09, 0x0a, 0x08, 0x09, 0x09, 0x0a, 0x09, 0x0a,
-            0x0a, 0x0b, 0x07, 0x08, 0x08, 0x09, 0x08, 0x09, 0x09, 0x0a,
-            0x08, 0x09, 0x09, 0x0a, 0x09, 0x0a, 0x0a, 0x0b, 0x08, 0x09,
-            0x09, 0x0a, 0x09, 0x0a, 0x0a, 0x0b, 0x09, 0x0a, 0x0a, 0x0b,
-            0x0a, 0x0b, 0x0b, 0x0c, 0x02, 0x03, 0x03, 0x04, 0x03, 0x04,
-            0x04, 0x05, 0x03, 0x04, 0x04, 0x05, 0x04, 0x05, 0x05, 0x06,
-            0x03, 0x04, 0x04, 0x05, 0x04, 0x05, 0x05, 0x06, 0x04, 0x05,
-            0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x03, 0x04, 0x04, 0x05,
-            0x04, 0x05, 0x05, 0x06, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06,
-            0x06, 0x07, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07,
-            0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x03, 0x04,
-            0x04, 0x05, 0x04, 0x05, 0x05, 0x06, 0x04, 0x05, 0x05, 0x06,
-            0x05, 0x06, 0x06, 0x07, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06,
-            0x06, 0x07, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08,
-            0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x05, 0x06,
-            0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x05, 0x06, 0x06, 0x07,
-            0x06, 0x07, 0x07, 0x08, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08,
-            0x08, 0x09, 0x03, 0x04, 0x04, 0x05, 0x04, 0x05, 0x05, 0x06,
-            0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x04, 0x05,
-            0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x05, 0x06, 0x06, 0x07,
-            0x06, 0x07, 0x07, 0x08, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06,
-            0x06, 0x07, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08,
-            0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x06, 0x07,
-            0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x04, 0x05, 0x05, 0x06,
-            0x05, 0x06, 0x06, 0x07, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07,
-            0x07, 0x08, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08,
-            0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x05, 0x06,
-            0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x06, 0x07, 0x07, 0x08,
-            0x07, 0x08, 0x08, 0x09, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08,
-            0x08, 0x09, 0x07, 0x08, 0x08, 0x09, 0x08, 0x09, 0x09, 0x0a,
-            0x03, 0x04, 0x04, 0x05, 0x04, 0x05, 0x05, 0x06, 0x04, 0x05,
-            0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x04, 0x05, 0x05, 0x06,
-            0x05, 0x06, 0x06, 0x07, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07,
-            0x07, 0x08, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07,
-            0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x05, 0x06,
-            0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x06, 0x07, 0x07, 0x08,
-            0x07, 0x08, 0x08, 0x09, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06,
-            0x06, 0x07, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08,
-            0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x06, 0x07,
-            0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x05, 0x06, 0x06, 0x07,
-            0x06, 0x07, 0x07, 0x08, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08,
-            0x08, 0x09, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09,
-            0x07, 0x08, 0x08, 0x09, 0x08, 0x09, 0x09, 0x0a, 0x04, 0x05,
-            0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x05, 0x06, 0x06, 0x07,
-            0x06, 0x07, 0x07, 0x08, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07,
-            0x07, 0x08, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09,
-            0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x06, 0x07,
-            0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x06, 0x07, 0x07, 0x08,
-            0x07, 0x08, 0x08, 0x09, 0x07, 0x08, 0x08, 0x09, 0x08, 0x09,
-            0x09, 0x0a, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08,
-            0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x06, 0x07,
-            0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x07, 0x08, 0x08, 0x09,
-            0x08, 0x09, 0x09, 0x0a, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08,
-            0x08, 0x09, 0x07, 0x08, 0x08, 0x09, 0x08, 0x09, 0x09, 0x0a,
-            0x07, 0x08, 0x08, 0x09, 0x08, 0x09, 0x09, 0x0a, 0x08, 0x09,
-            0x09, 0x0a, 0x09, 0x0a, 0x0a, 0x0b, 0x03, 0x04, 0x04, 0x05,
-            0x04, 0x05, 0x05, 0x06, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06,
-            0x06, 0x07, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07,
-            0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x04, 0x05,
-            0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x05, 0x06, 0x06, 0x07,
-            0x06, 0x07, 0x07, 0x08, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07,
-            0x07, 0x08, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09,
-            0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x05, 0x06,
-            0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x05, 0x06, 0x06, 0x07,
-            0x06, 0x07, 0x07, 0x08, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08,
-            0x08, 0x09, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08,
-            0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x06, 0x07,
-            0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x07, 0x08, 0x08, 0x09,
-            0x08, 0x09, 0x09, 0x0a, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06,
-            0x06, 0x07, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08,
-            0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x06, 0x07,
-            0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x05, 0x06, 0x06, 0x07,
-            0x06, 0x07, 0x07, 0x08, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08,
-            0x08, 0x09, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09,
-            0x07, 0x08, 0x08, 0x09, 0x08, 0x09, 0x09, 0x0a, 0x05, 0x06,
-            0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x06, 0x07, 0x07, 0x08,
-            0x07, 0x08, 0x08, 0x09, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08,
-            0x08, 0x09, 0x07, 0x08, 0x08, 0x09, 0x08, 0x09, 0x09, 0x0a,
-            0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x07, 0x08,
-            0x08, 0x09, 0x08, 0x09, 0x09, 0x0a, 0x07, 0x08, 0x08, 0x09,
-            0x08, 0x09, 0x09, 0x0a, 0x08, 0x09, 0x09, 0x0a, 0x09, 0x0a,
-            0x0a, 0x0b, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07,
-            0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x05, 0x06,
-            0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x06, 0x07, 0x07, 0x08,
-            0x07, 0x08, 0x08, 0x09, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07,
-            0x07, 0x08, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09,
-            0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x07, 0x08,
-            0x08, 0x09, 0x08, 0x09, 0x09, 0x0a, 0x05, 0x06, 0x06, 0x07,
-            0x06, 0x07, 0x07, 0x08, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08,
-            0x08, 0x09, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09,
-            0x07, 0x08, 0x08, 0x09, 0x08, 0x09, 0x09, 0x0a, 0x06, 0x07,
-            0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x07, 0x08, 0x08, 0x09,
-            0x08, 0x09, 0x09, 0x0a, 0x07, 0x08, 0x08, 0x09, 0x08, 0x09,
-            0x09, 0x0a, 0x08, 0x09, 0x09, 0x0a, 0x09, 0x0a, 0x0a, 0x0b,
-            0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x06, 0x07,
-            0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x06, 0x07, 0x07, 0x08,
-            0x07, 0x08, 0x08, 0x09, 0x07, 0x08, 0x08, 0x09, 0x08, 0x09,
-            0x09, 0x0a, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09,
-            0x07, 0x08, 0x08, 0x09, 0x08, 0x09, 0x09, 0x0a, 0x07, 0x08,
-            0x08, 0x09, 0x08, 0x09, 0x09, 0x0a, 0x08, 0x09, 0x09, 0x0a,
-            0x09, 0x0a, 0x0a, 0x0b, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08,
-            0x08, 0x09, 0x07, 0x08, 0x08, 0x09, 0x08, 0x09, 0x09, 0x0a,
-            0x07, 0x08, 0x08, 0x09, 0x08, 0x09, 0x09, 0x0a, 0x08, 0x09,
-            0x09, 0x0a, 0x09, 0x0a, 0x0a, 0x0b, 0x07, 0x08, 0x08, 0x09,
-            0x08, 0x09, 0x09, 0x0a, 0x08, 0x09, 0x09, 0x0a, 0x09, 0x0a,
-            0x0a, 0x0b, 0x08, 0x09, 0x09, 0x0a, 0x09, 0x0a, 0x0a, 0x0b,
-            0x09, 0x0a, 0x0a, 0x0b, 0x0a, 0x0b, 0x0b, 0x0c, 0x03, 0x04,
-            0x04, 0x05, 0x04, 0x05, 0x05, 0x06, 0x04, 0x05, 0x05, 0x06,
-            0x05, 0x06, 0x06, 0x07, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06,
-            0x06, 0x07, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08,
-            0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x05, 0x06,
-            0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x05, 0x06, 0x06, 0x07,
-            0x06, 0x07, 0x07, 0x08, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08,
-            0x08, 0x09, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07,
-            0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x05, 0x06,
-            0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x06, 0x07, 0x07, 0x08,
-            0x07, 0x08, 0x08, 0x09, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07,
-            0x07, 0x08, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09,
-            0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x07, 0x08,
-            0x08, 0x09, 0x08, 0x09, 0x09, 0x0a, 0x04, 0x05, 0x05, 0x06,
-            0x05, 0x06, 0x06, 0x07, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07,
-            0x07, 0x08, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08,
-            0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x05, 0x06,
-            0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x06, 0x07, 0x07, 0x08,
-            0x07, 0x08, 0x08, 0x09, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08,
-            0x08, 0x09, 0x07, 0x08, 0x08, 0x09, 0x08, 0x09, 0x09, 0x0a,
-            0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x06, 0x07,
-            0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x06, 0x07, 0x07, 0x08,
-            0x07, 0x08, 0x08, 0x09, 0x07, 0x08, 0x08, 0x09, 0x08, 0x09,
-            0x09, 0x0a, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09,
-            0x07, 0x08, 0x08, 0x09, 0x08, 0x09, 0x09, 0x0a, 0x07, 0x08,
-            0x08, 0x09, 0x08, 0x09, 0x09, 0x0a, 0x08, 0x09, 0x09, 0x0a,
-            0x09, 0x0a, 0x0a, 0x0b, 0x04, 0x05, 0x05, 0x06, 0x05, 0x06,
-            0x06, 0x07, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08,
-            0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x06, 0x07,
-            0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x05, 0x06, 0x06, 0x07,
-            0x06, 0x07, 0x07, 0x08, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08,
-            0x08, 0x09, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09,
-            0x07, 0x08, 0x08, 0x09, 0x08, 0x09, 0x09, 0x0a, 0x05, 0x06,
-            0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x06, 0x07, 0x07, 0x08,
-            0x07, 0x08, 0x08, 0x09, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08,
-            0x08, 0x09, 0x07, 0x08, 0x08, 0x09, 0x08, 0x09, 0x09, 0x0a,
-            0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x07, 0x08,
-            0x08, 0x09, 0x08, 0x09, 0x09, 0x0a, 0x07, 0x08, 0x08, 0x09,
-            0x08, 0x09, 0x09, 0x0a, 0x08, 0x09, 0x09, 0x0a, 0x09, 0x0a,
-            0x0a, 0x0b, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08,
-            0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x06, 0x07,
-            0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x07, 0x08, 0x08, 0x09,
-            0x08, 0x09, 0x09, 0x0a, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08,
-            0x08, 0x09, 0x07, 0x08, 0x08, 0x09, 0x08, 0x09, 0x09, 0x0a,
-            0x07, 0x08, 0x08, 0x09, 0x08, 0x09, 0x09, 0x0a, 0x08, 0x09,
-            0x09, 0x0a, 0x09, 0x0a, 0x0a, 0x0b, 0x06, 0x07, 0x07, 0x08,
-            0x07, 0x08, 0x08, 0x09, 0x07, 0x08, 0x08, 0x09, 0x08, 0x09,
-            0x09, 0x0a, 0x07, 0x08, 0x08, 0x09, 0x08, 0x09, 0x09, 0x0a,
-            0x08, 0x09, 0x09, 0x0a, 0x09, 0x0a, 0x0a, 0x0b, 0x07, 0x08,
-            0x08, 0x09, 0x08, 0x09, 0x09, 0x0a, 0x08, 0x09, 0x09, 0x0a,
-            0x09, 0x0a, 0x0a, 0x0b, 0x08, 0x09, 0x09, 0x0a, 0x09, 0x0a,
-            0x0a, 0x0b, 0x09, 0x0a, 0x0a, 0x0b, 0x0a, 0x0b, 0x0b, 0x0c,
-            0x04, 0x05, 0x05, 0x06, 0x05, 0x06, 0x06, 0x07, 0x05, 0x06,
-            0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x05, 0x06, 0x06, 0x07,
-            0x06, 0x07, 0x07, 0x08, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08,
-            0x08, 0x09, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07, 0x07, 0x08,
-            0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x06, 0x07,
-            0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x07, 0x08, 0x08, 0x09,
-            0x08, 0x09, 0x09, 0x0a, 0x05, 0x06, 0x06, 0x07, 0x06, 0x07,
-            0x07, 0x08, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09,
-            0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x07, 0x08,
-            0x08, 0x09, 0x08, 0x09, 0x09, 0x0a, 0x06, 0x07, 0x07, 0x08,
-            0x07, 0x08, 0x08, 0x09, 0x07, 0x08, 0x08, 0x09, 0x08, 0x09,
-            0x09, 0x0a, 0x07, 0x08, 0x08, 0x09, 0x08, 0x09, 0x09, 0x0a,
-            0x08, 0x09, 0x09, 0x0a, 0x09, 0x0a, 0x0a, 0x0b, 0x05, 0x06,
-            0x06, 0x07, 0x06, 0x07, 0x07, 0x08, 0x06, 0x07, 0x07, 0x08,
-            0x07, 0x08, 0x08, 0x09, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08,
-            0x08, 0x09, 0x07, 0x08, 0x08, 0x09, 0x08, 0x09, 0x09, 0x0a,
-            0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x07, 0x08,
-            0x08, 0x09, 0x08, 0x09, 0x09, 0x0a, 0x07, 0x08, 0x08, 0x09,
-            0x08, 0x09, 0x09, 0x0a, 0x08, 0x09, 0x09, 0x0a, 0x09, 0x0a,
-            0x0a, 0x0b, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09,
-            0x07, 0x08, 0x08, 0x09, 0x08, 0x09, 0x09, 0x0a, 0x07, 0x08,
-            0x08, 0x09, 0x08, 0x09, 0x09, 0x0a, 0x08, 0x09, 0x09, 0x0a,
-            0x09, 0x0a, 0x0a, 0x0b, 0x07, 0x08, 0x08, 0x09, 0x08, 0x09,
-            0x09, 0x0a, 0x08, 0x09, 0x09, 0x0a, 0x09, 0x0a, 0x0a, 0x0b,
-            0x08, 0x09, 0x09, 0x0a, 0x09, 0x0a, 0x0a, 0x0b, 0x09, 0x0a,
-            0x0a, 0x0b, 0x0a, 0x0b, 0x0b, 0x0c, 0x05, 0x06, 0x06, 0x07,
-            0x06, 0x07, 0x07, 0x08, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08,
-            0x08, 0x09, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09,
-            0x07, 0x08, 0x08, 0x09, 0x08, 0x09, 0x09, 0x0a, 0x06, 0x07,
-            0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x07, 0x08, 0x08, 0x09,
-            0x08, 0x09, 0x09, 0x0a, 0x07, 0x08, 0x08, 0x09, 0x08, 0x09,
-            0x09, 0x0a, 0x08, 0x09, 0x09, 0x0a, 0x09, 0x0a, 0x0a, 0x0b,
-            0x06, 0x07, 0x07, 0x08, 0x07, 0x08, 0x08, 0x09, 0x07, 0x08,
-            0x08, 0x09, 0x08, 0x09, 0x09, 0x0a, 0x07, 0x08, 0x08, 0x09,
-            0x08, 0x09, 0x09, 0x0a, 0x08, 0x09, 0x09, 0x0a, 0x09, 0x0a,
-            0x0a, 0x0b, 0x07, 0x08, 0x08, 0x09, 0x08, 0x09, 0x09, 0x0a,
-            0x08, 0x09, 0x09, 0x0a, 0x09, 0x0a, 0x0a, 0x0b, 0x08, 0x09,
-            0x09, 0x0a, 0x09, 0x0a, 0x0a, 0x0b, 0x09, 0x0a, 0x0a, 0x0b,
-            0x0a, 0x0b, 0x0b, 0x0c, 0x06, 0x07, 0x07, 0x08, 0x07, 0x08,
-            0x08, 0x09, 0x07, 0x08, 0x08, 0x09, 0x08, 0x09, 0x09, 0x0a,
-            0x07, 0x08, 0x08, 0x09, 0x08, 0x09, 0x09, 0x0a, 0x08, 0x09,
-            0x09, 0x0a, 0x09, 0x0a, 0x0a, 0x0b, 0x07, 0x08, 0x08, 0x09,
-            0x08, 0x09, 0x09, 0x0a, 0x08, 0x09, 0x09, 0x0a, 0x09, 0x0a,
-            0x0a, 0x0b, 0x08, 0x09, 0x09, 0x0a, 0x09, 0x0a, 0x0a, 0x0b,
-            0x09, 0x0a, 0x0a, 0x0b, 0x0a, 0x0b, 0x0b, 0x0c, 0x07, 0x08,
-            0x08, 0x09, 0x08, 0x09, 0x09, 0x0a, 0x08, 0x09, 0x09, 0x0a,
-            0x09, 0x0a, 0x0a, 0x0b, 0x08, 0x09, 0x09, 0x0a, 0x09, 0x0a,
-            0x0a, 0x0b, 0x09, 0x0a, 0x0a, 0x0b, 0x0a, 0x0b, 0x0b, 0x0c,
-            0x08, 0x09, 0x09, 0x0a, 0x09, 0x0a, 0x0a, 0x0b, 0x09, 0x0a,
-            0x0a, 0x0b, 0x0a, 0x0b, 0x0b, 0x0c, 0x09, 0x0a, 0x0a, 0x0b,
-            0x0a, 0x0b, 0x0b, 0x0c, 0x0a, 0x0b, 0x0b, 0x0c, 0x0b, 0x0c,
-            0x0c, 0x0d
-    };
+    public static final short[] TABLE = TableBlob.isLoaded()
+            ? TableBlob.shorts(TableBlob.BITS) : TableGenerator.bits();
 }
@@ -0,0 +1,13 @@
+package pl.zimowski.karty.tables;
+
+/**
+ * Ordinal of the {@link pl.zimowski.karty.PocketHand169Enum} of each of the
+ * 1326 pockets as an unsigned byte, indexed by
+ * {@link pl.zimowski.karty.HandEngine#PocketIndex(long)}. Read from the table
+ * blob, see {@link TableGenerator}.
+ */
+public class PocketClassTable {
+
+    public static final byte[] TABLE = TableBlob.isLoaded()
+            ? TableBlob.bytes(TableBlob.POCKET_CLASSES) : TableGenerator.pocketClasses();
+}
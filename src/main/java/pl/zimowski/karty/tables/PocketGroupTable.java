@@ -0,0 +1,27 @@
+package pl.zimowski.karty.tables;
+
+/**
+ * Ordinal of the {@link pl.zimowski.karty.GroupTypeEnum} (Sklansky style
+ * grouping) of each of the 169 pocket classes, indexed by ordinal of
+ * {@link pl.zimowski.karty.PocketHand169Enum}: pairs first, then suited and
+ * offsuit hands by their high card. Every pocket of a class belongs to the
+ * same group, so this is the 1326 masks of PocketHands._PocketGroupings
+ * folded by class.
+ */
+public class PocketGroupTable {
+
+    public static final byte[] TABLE = {
+            0, 0, 0, 0, 1, 2, 3, 4, 5, 5, 6, 6, 6,
+            0, 1, 1, 2, 1, 3, 2, 5, 4, 7, 4, 8, 4, 8, 4, 8, 4, 8, 4, 8, 4, 8, 4, 8,
+            1, 3, 2, 4, 3, 5, 5, 7, 6, 8, 6, 8, 6, 8, 6, 8, 6, 8, 6, 8, 6, 8,
+            2, 4, 3, 5, 4, 7, 6, 8, 8, 8, 8, 8, 8, 8, 8, 8, 8, 8, 8, 8,
+            2, 4, 3, 6, 5, 7, 7, 8, 8, 8, 8, 8, 8, 8, 8, 8, 8, 8,
+            3, 6, 4, 7, 8, 8, 8, 8, 8, 8, 8, 8, 8, 8, 8, 8,
+            3, 6, 4, 8, 7, 8, 8, 8, 8, 8, 8, 8, 8, 8,
+            4, 7, 5, 8, 7, 8, 8, 8, 8, 8, 8, 8,
+            4, 7, 6, 8, 8, 8, 8, 8, 8, 8,
+            4, 7, 6, 8, 8, 8, 8, 8,
+            5, 7, 7, 8, 8, 8,
+            6, 8, 7, 8,
+            7, 8    };
+}
@@ -0,0 +1,35 @@
+package pl.zimowski.karty.tables;
+
+/**
+ * Everything the evaluator needs to know about a 13 bit rank mask, packed
+ * into a single int so that a mask costs one load (and at most one cache
+ * line) instead of one per table:
+ * <ul>
+ * <li>bits 0-19: top five ranks, one per nibble, highest in bits 16-19;
+ * bits 16-19 are therefore the top card</li>
+ * <li>bits 20-23: top card of a straight (3 for the wheel), 0 if none</li>
+ * <li>bits 24-27: number of bits set</li>
+ * <li>bit 28: set if five or more bits are set</li>
+ * <li>bit 29: set if there is a straight</li>
+ * </ul>
+ * The flags are there so that entries of the four suits can be or'ed
+ * together to find out whether there is a flush or a straight flush. Read
+ * from the table blob, see {@link TableGenerator}.
+ */
+public class RankMaskTable {
+
+    public static final int TOP_FIVE_MASK = 0x000FFFFF;
+
+    public static final int TOP_CARD_SHIFT = 16;
+
+    public static final int STRAIGHT_SHIFT = 20;
+
+    public static final int COUNT_SHIFT = 24;
+
+    public static final int FIVE_FLAG = 1 << 28;
+
+    public static final int STRAIGHT_FLAG = 1 << 29;
+
+    public static final int[] TABLE = TableBlob.isLoaded()
+            ? TableBlob.ints(TableBlob.RANK_MASKS) : TableGenerator.rankMasks();
+}
@@ -0,0 +1,180 @@
+package pl.zimowski.karty.tables;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.LongBuffer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Single binary resource holding the large lookup tables, written by
+ * {@link TableGenerator} at build time. Decoding a table is a bulk copy, far
+ * cheaper than running the static initializer of an array literal in the
+ * interpreter, and each table class decodes its own table the first time it
+ * is used. The resource is read into memory once, through the class loader,
+ * whether it is a plain file or sits in a jar.
+ * <p>
+ * Layout (little endian): magic, version, number of tables, reserved int,
+ * then offset and length (ints) of every table, each starting at a multiple
+ * of 8 bytes. A table is either an array of values, or the number of rows,
+ * the length of every row and, from the next multiple of 8 bytes, values of
+ * all rows.
+ *
+ * @author Adam Zimowski
+ */
+final class TableBlob {
+
+	private static final Logger log = LoggerFactory.getLogger(TableBlob.class);
+
+	static final String RESOURCE = "tables.bin";
+
+	static final int MAGIC = 0x4b54424c;
+
+	static final int VERSION = 1;
+
+	static final int HEADER = 16;
+
+	static final int BITS = 0;
+	static final int RANK_MASKS = 1;
+	static final int TWO_CARDS = 2;
+	static final int POCKET_169 = 3;
+	static final int PLAYER_ODDS = 4;
+	static final int OPPONENT_ODDS = 5;
+	static final int POCKET_CLASSES = 6;
+
+	static final int TABLES = 7;
+
+	/** the blob, null if it is missing or not valid */
+	private static final ByteBuffer BLOB = open(TableBlob.class.getResource(RESOURCE));
+
+	private TableBlob() {
+	}
+
+	/**
+	 * @return true if tables can be read from the blob, false if they have
+	 * 	to be computed
+	 */
+	static boolean isLoaded() {
+		return BLOB != null;
+	}
+
+	static byte[] bytes(int aTable) {
+		ByteBuffer table = table(aTable);
+		byte[] values = new byte[table.remaining()];
+		table.get(values);
+		return values;
+	}
+
+	static short[] shorts(int aTable) {
+		ByteBuffer table = table(aTable);
+		short[] values = new short[table.remaining() / 2];
+		table.asShortBuffer().get(values);
+		return values;
+	}
+
+	static int[] ints(int aTable) {
+		ByteBuffer table = table(aTable);
+		int[] values = new int[table.remaining() / 4];
+		table.asIntBuffer().get(values);
+		return values;
+	}
+
+	static long[] longs(int aTable) {
+		ByteBuffer table = table(aTable);
+		long[] values = new long[table.remaining() / 8];
+		table.asLongBuffer().get(values);
+		return values;
+	}
+
+	static long[][] longRows(int aTable) {
+		ByteBuffer table = table(aTable);
+		int rows = table.getInt(0);
+		long[][] values = new long[rows][];
+		((Buffer)table).position(rowsData(rows));
+		LongBuffer data = table.asLongBuffer();
+		for(int r = 0; r < rows; r++) {
+			values[r] = new long[table.getInt(4 + r * 4)];
+			data.get(values[r]);
+		}
+		return values;
+	}
+
+	static double[][] doubleRows(int aTable) {
+		ByteBuffer table = table(aTable);
+		int rows = table.getInt(0);
+		double[][] values = new double[rows][];
+		((Buffer)table).position(rowsData(rows));
+		DoubleBuffer data = table.asDoubleBuffer();
+		for(int r = 0; r < rows; r++) {
+			values[r] = new double[table.getInt(4 + r * 4)];
+			data.get(values[r]);
+		}
+		return values;
+	}
+
+	/**
+	 * @return offset of the values of a table of rows
+	 */
+	static int rowsData(int aRows) {
+		return ((1 + aRows) * 4 + 7) & ~7;
+	}
+
+	/**
+	 * @return view of a table, position 0 and limit at its end
+	 */
+	private static ByteBuffer table(int aTable) {
+		ByteBuffer table = BLOB.duplicate();
+		int offset = BLOB.getInt(HEADER + aTable * 8);
+		// through Buffer, as ByteBuffer only overrides these from Java 9 on;
+		// every table decodes through here, so this must link on Java 8
+		Buffer window = table;
+		window.position(offset);
+		window.limit(offset + BLOB.getInt(HEADER + aTable * 8 + 4));
+		return table.slice().order(ByteOrder.LITTLE_ENDIAN);
+	}
+
+	/**
+	 * @param aUrl location of the blob, may be null
+	 * @return the blob, null if it is missing or not valid
+	 */
+	static ByteBuffer open(URL aUrl) {
+
+		if(aUrl == null) {
+			log.debug("{} not found, tables will be computed", RESOURCE);
+			return null;
+		}
+
+		try {
+			ByteBuffer blob = ByteBuffer.wrap(read(aUrl));
+			blob.order(ByteOrder.LITTLE_ENDIAN);
+
+			if(blob.capacity() < HEADER + TABLES * 8 || blob.getInt(0) != MAGIC ||
+					blob.getInt(4) != VERSION || blob.getInt(8) != TABLES) {
+				log.warn("{} is not a valid table blob, tables will be computed", aUrl);
+				return null;
+			}
+			return blob;
+		}
+		catch(IOException e) {
+			log.warn("cannot read {}, tables will be computed: {}", aUrl, e.toString());
+			return null;
+		}
+	}
+
+	private static byte[] read(URL aUrl) throws IOException {
+		try(InputStream in = aUrl.openStream()) {
+			ByteArrayOutputStream out = new ByteArrayOutputStream(1 << 16);
+			byte[] buffer = new byte[1 << 14];
+			for(int n = in.read(buffer); n >= 0; n = in.read(buffer))
+				out.write(buffer, 0, n);
+			return out.toByteArray();
+		}
+	}
+}
@@ -0,0 +1,285 @@
+package pl.zimowski.karty.tables;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+import pl.zimowski.karty.PocketHand169Enum;
+
+/**
+ * Computes the lookup tables which used to be Java array literals and writes
+ * them into the table blob read by {@link TableBlob}. Runs at build time
+ * (process-classes phase), so the blob ends up next to the classes:
+ * <pre>
+ *   java pl.zimowski.karty.tables.TableGenerator target/classes/pl/zimowski/karty/tables/tables.bin
+ * </pre>
+ * Table classes fall back to the methods below when the blob is missing,
+ * e.g. when classes were compiled by an IDE rather than the build.
+ *
+ * @author Adam Zimowski
+ */
+public final class TableGenerator {
+
+	private static final String RANK_CHARS = "23456789TJQKA";
+
+	private TableGenerator() {
+	}
+
+	public static void main(String[] args) throws IOException {
+
+		if(args.length != 1) {
+			System.err.println("usage: TableGenerator <output file>");
+			System.exit(1);
+		}
+
+		write(Paths.get(args[0]));
+	}
+
+	/**
+	 * Writes the table blob.
+	 *
+	 * @param aFile file to (over)write
+	 * @throws IOException if file cannot be written
+	 */
+	public static void write(Path aFile) throws IOException {
+
+		ByteBuffer[] tables = new ByteBuffer[TableBlob.TABLES];
+		tables[TableBlob.BITS] = encode(bits());
+		tables[TableBlob.RANK_MASKS] = encode(rankMasks());
+		tables[TableBlob.TWO_CARDS] = encode(twoCards());
+		tables[TableBlob.POCKET_169] = encode(pocket169());
+		tables[TableBlob.PLAYER_ODDS] = encode(PlayerOddsTable.Precalculated.TABLE);
+		tables[TableBlob.OPPONENT_ODDS] = encode(OpponentOddsTable.Precalculated.TABLE);
+		tables[TableBlob.POCKET_CLASSES] = encode(pocketClasses());
+
+		int offset = TableBlob.HEADER + TableBlob.TABLES * 8;
+		ByteBuffer header = buffer(offset);
+		header.putInt(TableBlob.MAGIC);
+		header.putInt(TableBlob.VERSION);
+		header.putInt(TableBlob.TABLES);
+		header.putInt(0);
+		for(ByteBuffer table : tables) {
+			// length without the padding, which is written nevertheless
+			header.putInt(offset);
+			header.putInt(table.limit());
+			offset += table.capacity();
+			table.limit(table.capacity());
+		}
+		header.flip();
+
+		if(aFile.getParent() != null)
+			Files.createDirectories(aFile.getParent());
+		try(FileChannel channel = FileChannel.open(aFile, StandardOpenOption.CREATE,
+				StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+			writeFully(channel, header);
+			for(ByteBuffer table : tables)
+				writeFully(channel, table);
+		}
+	}
+
+	/**
+	 * @return number of bits set in every 13 bit rank mask
+	 */
+	public static short[] bits() {
+		short[] table = new short[8192];
+		for(int mask = 0; mask < table.length; mask++)
+			table[mask] = (short)Integer.bitCount(mask);
+		return table;
+	}
+
+	/**
+	 * @return packed rank mask entries, see {@link RankMaskTable}
+	 */
+	public static int[] rankMasks() {
+		int[] table = new int[8192];
+		for(int mask = 0; mask < table.length; mask++) {
+			int count = Integer.bitCount(mask);
+			int straight = straightTop(mask);
+			table[mask] = topFiveCards(mask)
+					| straight << RankMaskTable.STRAIGHT_SHIFT
+					| count << RankMaskTable.COUNT_SHIFT
+					| (count >= 5 ? RankMaskTable.FIVE_FLAG : 0)
+					| (straight != 0 ? RankMaskTable.STRAIGHT_FLAG : 0);
+		}
+		return table;
+	}
+
+	/**
+	 * @return masks of the 1326 pockets, high card first, both cards
+	 * 	descending
+	 */
+	public static long[] twoCards() {
+		long[] table = new long[1326];
+		int i = 0;
+		for(int a = 51; a > 0; a--) {
+			for(int b = a - 1; b >= 0; b--)
+				table[i++] = 1L << a | 1L << b;
+		}
+		return table;
+	}
+
+	/**
+	 * @return masks of the pockets of every {@link PocketHand169Enum} but
+	 * 	None, in the order of {@link #twoCards()}
+	 */
+	public static long[][] pocket169() {
+
+		// all but None
+		int classes = PocketHand169Enum.None.ordinal();
+		long[] pockets = twoCards();
+		int[] counts = new int[classes];
+		int[] classOf = new int[pockets.length];
+		for(int i = 0; i < pockets.length; i++) {
+			classOf[i] = pocketClass(pockets[i]).ordinal();
+			counts[classOf[i]]++;
+		}
+
+		long[][] table = new long[classes][];
+		for(int c = 0; c < classes; c++)
+			table[c] = new long[counts[c]];
+		int[] filled = new int[classes];
+		for(int i = 0; i < pockets.length; i++)
+			table[classOf[i]][filled[classOf[i]]++] = pockets[i];
+		return table;
+	}
+
+	/**
+	 * @return ordinal of the {@link PocketHand169Enum} of every pocket, by
+	 * 	colexicographic pocket index (see
+	 * 	{@link pl.zimowski.karty.HandEngine#PocketIndex(long)})
+	 */
+	public static byte[] pocketClasses() {
+		byte[] table = new byte[1326];
+		int i = 0;
+		for(int b = 1; b < 52; b++) {
+			for(int a = 0; a < b; a++)
+				table[i++] = (byte)pocketClass(1L << b | 1L << a).ordinal();
+		}
+		return table;
+	}
+
+	/**
+	 * @return top card of a straight (3 for the wheel), 0 if none
+	 */
+	private static int straightTop(int aMask) {
+		// ace plays low as well as high
+		int ranks = aMask << 1 | aMask >>> 12 & 1;
+		for(int top = 13; top >= 4; top--) {
+			int straight = 0x1f << (top - 4);
+			if((ranks & straight) == straight)
+				return top - 1;
+		}
+		return 0;
+	}
+
+	/**
+	 * @return top five ranks, one per nibble, highest in bits 16-19
+	 */
+	private static int topFiveCards(int aMask) {
+		int value = 0;
+		int shift = 16;
+		for(int rank = 12; rank >= 0 && shift >= 0; rank--) {
+			if((aMask & 1 << rank) != 0) {
+				value |= rank << shift;
+				shift -= 4;
+			}
+		}
+		return value;
+	}
+
+	private static PocketHand169Enum pocketClass(long aPocket) {
+		int hi = 63 - Long.numberOfLeadingZeros(aPocket);
+		int lo = Long.numberOfTrailingZeros(aPocket);
+		int hiRank = hi % 13, loRank = lo % 13;
+		StringBuilder name = new StringBuilder("Pocket")
+				.append(RANK_CHARS.charAt(Math.max(hiRank, loRank)))
+				.append(RANK_CHARS.charAt(Math.min(hiRank, loRank)));
+		if(hiRank != loRank)
+			name.append(hi / 13 == lo / 13 ? 's' : 'o');
+		return PocketHand169Enum.valueOf(name.toString());
+	}
+
+	private static ByteBuffer encode(byte[] aTable) {
+		ByteBuffer buffer = buffer(aTable.length);
+		buffer.put(aTable);
+		buffer.flip();
+		return buffer;
+	}
+
+	private static ByteBuffer encode(short[] aTable) {
+		ByteBuffer buffer = buffer(aTable.length * 2);
+		buffer.asShortBuffer().put(aTable);
+		return buffer;
+	}
+
+	private static ByteBuffer encode(int[] aTable) {
+		ByteBuffer buffer = buffer(aTable.length * 4);
+		buffer.asIntBuffer().put(aTable);
+		return buffer;
+	}
+
+	private static ByteBuffer encode(long[] aTable) {
+		ByteBuffer buffer = buffer(aTable.length * 8);
+		buffer.asLongBuffer().put(aTable);
+		return buffer;
+	}
+
+	private static ByteBuffer encode(long[][] aTable) {
+		int size = 0;
+		for(long[] row : aTable)
+			size += row.length;
+		ByteBuffer buffer = rows(aTable.length, size * 8);
+		for(long[] row : aTable)
+			buffer.putInt(row.length);
+		buffer.position(TableBlob.rowsData(aTable.length));
+		for(long[] row : aTable) {
+			for(long value : row)
+				buffer.putLong(value);
+		}
+		buffer.clear();
+		return buffer;
+	}
+
+	private static ByteBuffer encode(double[][] aTable) {
+		int size = 0;
+		for(double[] row : aTable)
+			size += row.length;
+		ByteBuffer buffer = rows(aTable.length, size * 8);
+		for(double[] row : aTable)
+			buffer.putInt(row.length);
+		buffer.position(TableBlob.rowsData(aTable.length));
+		for(double[] row : aTable) {
+			for(double value : row)
+				buffer.putDouble(value);
+		}
+		buffer.clear();
+		return buffer;
+	}
+
+	/**
+	 * Rows are stored as the number of rows, length of every row and all
+	 * values, starting at an offset which is a multiple of 8.
+	 */
+	private static ByteBuffer rows(int aRows, int aDataBytes) {
+		ByteBuffer buffer = buffer(TableBlob.rowsData(aRows) + aDataBytes);
+		buffer.putInt(aRows);
+		return buffer;
+	}
+
+	/**
+	 * @return little endian buffer padded to a multiple of 8 bytes
+	 */
+	private static ByteBuffer buffer(int aBytes) {
+		return ByteBuffer.allocate((aBytes + 7) & ~7).order(ByteOrder.LITTLE_ENDIAN);
+	}
+
+	private static void writeFully(FileChannel aChannel, ByteBuffer aBuffer) throws IOException {
+		while(aBuffer.hasRemaining())
+			aChannel.write(aBuffer);
+	}
+}
@@ -1,273 +1,11 @@
 package pl.zimowski.karty.tables;
 
+/**
+ * Masks of the 1326 two card hands. Read from the table blob, see
+ * {@link TableGenerator}.
+ */
 public class TwoCardTable {
 
-    public static final long[] TABLE = new long[] {
-            0xc000000000000L, 0xa000000000000L, 0x9000000000000L, 0x8800000000000L, 0x8400000000000L,
-            0x8200000000000L, 0x8100000000000L, 0x8080000000000L, 0x8040000000000L, 0x8020000000000L,
-            0x8010000000000L, 0x8008000000000L, 0x8004000000000L, 0x8002000000000L, 0x8001000000000L,
-            0x8000800000000L, 0x8000400000000L, 0x8000200000000L, 0x8000100000000L, 0x8000080000000L,
-            0x8000040000000L, 0x8000020000000L, 0x8000010000000L, 0x8000008000000L, 0x8000004000000L,
-            0x8000002000000L, 0x8000001000000L, 0x8000000800000L, 0x8000000400000L, 0x8000000200000L,
-            0x8000000100000L, 0x8000000080000L, 0x8000000040000L, 0x8000000020000L, 0x8000000010000L,
-            0x8000000008000L, 0x8000000004000L, 0x8000000002000L, 0x8000000001000L, 0x8000000000800L,
-            0x8000000000400L, 0x8000000000200L, 0x8000000000100L, 0x8000000000080L, 0x8000000000040L,
-            0x8000000000020L, 0x8000000000010L, 0x8000000000008L, 0x8000000000004L, 0x8000000000002L,
-            0x8000000000001L, 0x6000000000000L, 0x5000000000000L, 0x4800000000000L, 0x4400000000000L,
-            0x4200000000000L, 0x4100000000000L, 0x4080000000000L, 0x4040000000000L, 0x4020000000000L,
-            0x4010000000000L, 0x4008000000000L, 0x4004000000000L, 0x4002000000000L, 0x4001000000000L,
-            0x4000800000000L, 0x4000400000000L, 0x4000200000000L, 0x4000100000000L, 0x4000080000000L,
-            0x4000040000000L, 0x4000020000000L, 0x4000010000000L, 0x4000008000000L, 0x4000004000000L,
-            0x4000002000000L, 0x4000001000000L, 0x4000000800000L, 0x4000000400000L, 0x4000000200000L,
-            0x4000000100000L, 0x4000000080000L, 0x4000000040000L, 0x4000000020000L, 0x4000000010000L,
-            0x4000000008000L, 0x4000000004000L, 0x4000000002000L, 0x4000000001000L, 0x4000000000800L,
-            0x4000000000400L, 0x4000000000200L, 0x4000000000100L, 0x4000000000080L, 0x4000000000040L,
-            0x4000000000020L, 0x4000000000010L, 0x4000000000008L, 0x4000000000004L, 0x4000000000002L,
-            0x4000000000001L, 0x3000000000000L, 0x2800000000000L, 0x2400000000000L, 0x2200000000000L,
-            0x2100000000000L, 0x2080000000000L, 0x2040000000000L, 0x2020000000000L, 0x2010000000000L,
-            0x2008000000000L, 0x2004000000000L, 0x2002000000000L, 0x2001000000000L, 0x2000800000000L,
-            0x2000400000000L, 0x2000200000000L, 0x2000100000000L, 0x2000080000000L, 0x2000040000000L,
-            0x2000020000000L, 0x2000010000000L, 0x2000008000000L, 0x2000004000000L, 0x2000002000000L,
-            0x2000001000000L, 0x2000000800000L, 0x2000000400000L, 0x2000000200000L, 0x2000000100000L,
-            0x2000000080000L, 0x2000000040000L, 0x2000000020000L, 0x2000000010000L, 0x2000000008000L,
-            0x2000000004000L, 0x2000000002000L, 0x2000000001000L, 0x2000000000800L, 0x2000000000400L,
-            0x2000000000200L, 0x2000000000100L, 0x2000000000080L, 0x2000000000040L, 0x2000000000020L,
-            0x2000000000010L, 0x2000000000008L, 0x2000000000004L, 0x2000000000002L, 0x2000000000001L,
-            0x1800000000000L, 0x1400000000000L, 0x1200000000000L, 0x1100000000000L, 0x1080000000000L,
-            0x1040000000000L, 0x1020000000000L, 0x1010000000000L, 0x1008000000000L, 0x1004000000000L,
-            0x1002000000000L, 0x1001000000000L, 0x1000800000000L, 0x1000400000000L, 0x1000200000000L,
-            0x1000100000000L, 0x1000080000000L, 0x1000040000000L, 0x1000020000000L, 0x1000010000000L,
-            0x1000008000000L, 0x1000004000000L, 0x1000002000000L, 0x1000001000000L, 0x1000000800000L,
-            0x1000000400000L, 0x1000000200000L, 0x1000000100000L, 0x1000000080000L, 0x1000000040000L,
-            0x1000000020000L, 0x1000000010000L, 0x1000000008000L, 0x1000000004000L, 0x1000000002000L,
-            0x1000000001000L, 0x1000000000800L, 0x1000000000400L, 0x1000000000200L, 0x1000000000100L,
-            0x1000000000080L, 0x1000000000040L, 0x1000000000020L, 0x1000000000010L, 0x1000000000008L,
-            0x1000000000004L, 0x1000000000002L, 0x1000000000001L, 0xc00000000000L, 0xa00000000000L,
-            0x900000000000L, 0x880000000000L, 0x840000000000L, 0x820000000000L, 0x810000000000L,
-            0x808000000000L, 0x804000000000L, 0x802000000000L, 0x801000000000L, 0x800800000000L,
-            0x800400000000L, 0x800200000000L, 0x800100000000L, 0x800080000000L, 0x800040000000L,
-            0x800020000000L, 0x800010000000L, 0x800008000000L, 0x800004000000L, 0x800002000000L,
-            0x800001000000L, 0x800000800000L, 0x800000400000L, 0x800000200000L, 0x800000100000L,
-            0x800000080000L, 0x800000040000L, 0x800000020000L, 0x800000010000L, 0x800000008000L,
-            0x800000004000L, 0x800000002000L, 0x800000001000L, 0x800000000800L, 0x800000000400L,
-            0x800000000200L, 0x800000000100L, 0x800000000080L, 0x800000000040L, 0x800000000020L,
-            0x800000000010L, 0x800000000008L, 0x800000000004L, 0x800000000002L, 0x800000000001L,
-            0x600000000000L, 0x500000000000L, 0x480000000000L, 0x440000000000L, 0x420000000000L,
-            0x410000000000L, 0x408000000000L, 0x404000000000L, 0x402000000000L, 0x401000000000L,
-            0x400800000000L, 0x400400000000L, 0x400200000000L, 0x400100000000L, 0x400080000000L,
-            0x400040000000L, 0x400020000000L, 0x400010000000L, 0x400008000000L, 0x400004000000L,
-            0x400002000000L, 0x400001000000L, 0x400000800000L, 0x400000400000L, 0x400000200000L,
-            0x400000100000L, 0x400000080000L, 0x400000040000L, 0x400000020000L, 0x400000010000L,
-            0x400000008000L, 0x400000004000L, 0x400000002000L, 0x400000001000L, 0x400000000800L,
-            0x400000000400L, 0x400000000200L, 0x400000000100L, 0x400000000080L, 0x400000000040L,
-            0x400000000020L, 0x400000000010L, 0x400000000008L, 0x400000000004L, 0x400000000002L,
-            0x400000000001L, 0x300000000000L, 0x280000000000L, 0x240000000000L, 0x220000000000L,
-            0x210000000000L, 0x208000000000L, 0x204000000000L, 0x202000000000L, 0x201000000000L,
-            0x200800000000L, 0x200400000000L, 0x200200000000L, 0x200100000000L, 0x200080000000L,
-            0x200040000000L, 0x200020000000L, 0x200010000000L, 0x200008000000L, 0x200004000000L,
-            0x200002000000L, 0x200001000000L, 0x200000800000L, 0x200000400000L, 0x200000200000L,
-            0x200000100000L, 0x200000080000L, 0x200000040000L, 0x200000020000L, 0x200000010000L,
-            0x200000008000L, 0x200000004000L, 0x200000002000L, 0x200000001000L, 0x200000000800L,
-            0x200000000400L, 0x200000000200L, 0x200000000100L, 0x200000000080L, 0x200000000040L,
-            0x200000000020L, 0x200000000010L, 0x200000000008L, 0x200000000004L, 0x200000000002L,
-            0x200000000001L, 0x180000000000L, 0x140000000000L, 0x120000000000L, 0x110000000000L,
-            0x108000000000L, 0x104000000000L, 0x102000000000L, 0x101000000000L, 0x100800000000L,
-            0x100400000000L, 0x100200000000L, 0x100100000000L, 0x100080000000L, 0x100040000000L,
-            0x100020000000L, 0x100010000000L, 0x100008000000L, 0x100004000000L, 0x100002000000L,
-            0x100001000000L, 0x100000800000L, 0x100000400000L, 0x100000200000L, 0x100000100000L,
-            0x100000080000L, 0x100000040000L, 0x100000020000L, 0x100000010000L, 0x100000008000L,
-            0x100000004000L, 0x100000002000L, 0x100000001000L, 0x100000000800L, 0x100000000400L,
-            0x100000000200L, 0x100000000100L, 0x100000000080L, 0x100000000040L, 0x100000000020L,
-            0x100000000010L, 0x100000000008L, 0x100000000004L, 0x100000000002L, 0x100000000001L,
-            0xc0000000000L, 0xa0000000000L, 0x90000000000L, 0x88000000000L, 0x84000000000L,
-            0x82000000000L, 0x81000000000L, 0x80800000000L, 0x80400000000L, 0x80200000000L,
-            0x80100000000L, 0x80080000000L, 0x80040000000L, 0x80020000000L, 0x80010000000L,
-            0x80008000000L, 0x80004000000L, 0x80002000000L, 0x80001000000L, 0x80000800000L,
-            0x80000400000L, 0x80000200000L, 0x80000100000L, 0x80000080000L, 0x80000040000L,
-            0x80000020000L, 0x80000010000L, 0x80000008000L, 0x80000004000L, 0x80000002000L,
-            0x80000001000L, 0x80000000800L, 0x80000000400L, 0x80000000200L, 0x80000000100L,
-            0x80000000080L, 0x80000000040L, 0x80000000020L, 0x80000000010L, 0x80000000008L,
-            0x80000000004L, 0x80000000002L, 0x80000000001L, 0x60000000000L, 0x50000000000L,
-            0x48000000000L, 0x44000000000L, 0x42000000000L, 0x41000000000L, 0x40800000000L,
-            0x40400000000L, 0x40200000000L, 0x40100000000L, 0x40080000000L, 0x40040000000L,
-            0x40020000000L, 0x40010000000L, 0x40008000000L, 0x40004000000L, 0x40002000000L,
-            0x40001000000L, 0x40000800000L, 0x40000400000L, 0x40000200000L, 0x40000100000L,
-            0x40000080000L, 0x40000040000L, 0x40000020000L, 0x40000010000L, 0x40000008000L,
-            0x40000004000L, 0x40000002000L, 0x40000001000L, 0x40000000800L, 0x40000000400L,
-            0x40000000200L, 0x40000000100L, 0x40000000080L, 0x40000000040L, 0x40000000020L,
-            0x40000000010L, 0x40000000008L, 0x40000000004L, 0x40000000002L, 0x40000000001L,
-            0x30000000000L, 0x28000000000L, 0x24000000000L, 0x22000000000L, 0x21000000000L,
-            0x20800000000L, 0x20400000000L, 0x20200000000L, 0x20100000000L, 0x20080000000L,
-            0x20040000000L, 0x20020000000L, 0x20010000000L, 0x20008000000L, 0x20004000000L,
-            0x20002000000L, 0x20001000000L, 0x20000800000L, 0x20000400000L, 0x20000200000L,
-            0x20000100000L, 0x20000080000L, 0x20000040000L, 0x20000020000L, 0x20000010000L,
-            0x20000008000L, 0x20000004000L, 0x20000002000L, 0x20000001000L, 0x20000000800L,
-            0x20000000400L, 0x20000000200L, 0x20000000100L, 0x20000000080L, 0x20000000040L,
-            0x20000000020L, 0x20000000010L, 0x20000000008L, 0x20000000004L, 0x20000000002L,
-            0x20000000001L, 0x18000000000L, 0x14000000000L, 0x12000000000L, 0x11000000000L,
-            0x10800000000L, 0x10400000000L, 0x10200000000L, 0x10100000000L, 0x10080000000L,
-            0x10040000000L, 0x10020000000L, 0x10010000000L, 0x10008000000L, 0x10004000000L,
-            0x10002000000L, 0x10001000000L, 0x10000800000L, 0x10000400000L, 0x10000200000L,
-            0x10000100000L, 0x10000080000L, 0x10000040000L, 0x10000020000L, 0x10000010000L,
-            0x10000008000L, 0x10000004000L, 0x10000002000L, 0x10000001000L, 0x10000000800L,
-            0x10000000400L, 0x10000000200L, 0x10000000100L, 0x10000000080L, 0x10000000040L,
-            0x10000000020L, 0x10000000010L, 0x10000000008L, 0x10000000004L, 0x10000000002L,
-            0x10000000001L, 0xc000000000L, 0xa000000000L, 0x9000000000L, 0x8800000000L,
-            0x8400000000L, 0x8200000000L, 0x8100000000L, 0x8080000000L, 0x8040000000L,
-            0x8020000000L, 0x8010000000L, 0x8008000000L, 0x8004000000L, 0x8002000000L,
-            0x8001000000L, 0x8000800000L, 0x8000400000L, 0x8000200000L, 0x8000100000L,
-            0x8000080000L, 0x8000040000L, 0x8000020000L, 0x8000010000L, 0x8000008000L,
-            0x8000004000L, 0x8000002000L, 0x8000001000L, 0x8000000800L, 0x8000000400L,
-            0x8000000200L, 0x8000000100L, 0x8000000080L, 0x8000000040L, 0x8000000020L,
-            0x8000000010L, 0x8000000008L, 0x8000000004L, 0x8000000002L, 0x8000000001L,
-            0x6000000000L, 0x5000000000L, 0x4800000000L, 0x4400000000L, 0x4200000000L,
-            0x4100000000L, 0x4080000000L, 0x4040000000L, 0x4020000000L, 0x4010000000L,
-            0x4008000000L, 0x4004000000L, 0x4002000000L, 0x4001000000L, 0x4000800000L,
-            0x4000400000L, 0x4000200000L, 0x4000100000L, 0x4000080000L, 0x4000040000L,
-            0x4000020000L, 0x4000010000L, 0x4000008000L, 0x4000004000L, 0x4000002000L,
-            0x4000001000L, 0x4000000800L, 0x4000000400L, 0x4000000200L, 0x4000000100L,
-            0x4000000080L, 0x4000000040L, 0x4000000020L, 0x4000000010L, 0x4000000008L,
-            0x4000000004L, 0x4000000002L, 0x4000000001L, 0x3000000000L, 0x2800000000L,
-            0x2400000000L, 0x2200000000L, 0x2100000000L, 0x2080000000L, 0x2040000000L,
-            0x2020000000L, 0x2010000000L, 0x2008000000L, 0x2004000000L, 0x2002000000L,
-            0x2001000000L, 0x2000800000L, 0x2000400000L, 0x2000200000L, 0x2000100000L,
-            0x2000080000L, 0x2000040000L, 0x2000020000L, 0x2000010000L, 0x2000008000L,
-            0x2000004000L, 0x2000002000L, 0x2000001000L, 0x2000000800L, 0x2000000400L,
-            0x2000000200L, 0x2000000100L, 0x2000000080L, 0x2000000040L, 0x2000000020L,
-            0x2000000010L, 0x2000000008L, 0x2000000004L, 0x2000000002L, 0x2000000001L,
-            0x1800000000L, 0x1400000000L, 0x1200000000L, 0x1100000000L, 0x1080000000L,
-            0x1040000000L, 0x1020000000L, 0x1010000000L, 0x1008000000L, 0x1004000000L,
-            0x1002000000L, 0x1001000000L, 0x1000800000L, 0x1000400000L, 0x1000200000L,
-            0x1000100000L, 0x1000080000L, 0x1000040000L, 0x1000020000L, 0x1000010000L,
-            0x1000008000L, 0x1000004000L, 0x1000002000L, 0x1000001000L, 0x1000000800L,
-            0x1000000400L, 0x1000000200L, 0x1000000100L, 0x1000000080L, 0x1000000040L,
-            0x1000000020L, 0x1000000010L, 0x1000000008L, 0x1000000004L, 0x1000000002L,
-            0x1000000001L, 0xc00000000L, 0xa00000000L, 0x900000000L, 0x880000000L,
-            0x840000000L, 0x820000000L, 0x810000000L, 0x808000000L, 0x804000000L,
-            0x802000000L, 0x801000000L, 0x800800000L, 0x800400000L, 0x800200000L,
-            0x800100000L, 0x800080000L, 0x800040000L, 0x800020000L, 0x800010000L,
-            0x800008000L, 0x800004000L, 0x800002000L, 0x800001000L, 0x800000800L,
-            0x800000400L, 0x800000200L, 0x800000100L, 0x800000080L, 0x800000040L,
-            0x800000020L, 0x800000010L, 0x800000008L, 0x800000004L, 0x800000002L,
-            0x800000001L, 0x600000000L, 0x500000000L, 0x480000000L, 0x440000000L,
-            0x420000000L, 0x410000000L, 0x408000000L, 0x404000000L, 0x402000000L,
-            0x401000000L, 0x400800000L, 0x400400000L, 0x400200000L, 0x400100000L,
-            0x400080000L, 0x400040000L, 0x400020000L, 0x400010000L, 0x400008000L,
-            0x400004000L, 0x400002000L, 0x400001000L, 0x400000800L, 0x400000400L,
-            0x400000200L, 0x400000100L, 0x400000080L, 0x400000040L, 0x400000020L,
-            0x400000010L, 0x400000008L, 0x400000004L, 0x400000002L, 0x400000001L,
-            0x300000000L, 0x280000000L, 0x240000000L, 0x220000000L, 0x210000000L,
-            0x208000000L, 0x204000000L, 0x202000000L, 0x201000000L, 0x200800000L,
-            0x200400000L, 0x200200000L, 0x200100000L, 0x200080000L, 0x200040000L,
-            0x200020000L, 0x200010000L, 0x200008000L, 0x200004000L, 0x200002000L,
-            0x200001000L, 0x200000800L, 0x200000400L, 0x200000200L, 0x200000100L,
-            0x200000080L, 0x200000040L, 0x200000020L, 0x200000010L, 0x200000008L,
-            0x200000004L, 0x200000002L, 0x200000001L, 0x180000000L, 0x140000000L,
-            0x120000000L, 0x110000000L, 0x108000000L, 0x104000000L, 0x102000000L,
-            0x101000000L, 0x100800000L, 0x100400000L, 0x100200000L, 0x100100000L,
-            0x100080000L, 0x100040000L, 0x100020000L, 0x100010000L, 0x100008000L,
-            0x100004000L, 0x100002000L, 0x100001000L, 0x100000800L, 0x100000400L,
-            0x100000200L, 0x100000100L, 0x100000080L, 0x100000040L, 0x100000020L,
-            0x100000010L, 0x100000008L, 0x100000004L, 0x100000002L, 0x100000001L,
-            0xc0000000L, 0xa0000000L, 0x90000000L, 0x88000000L, 0x84000000L,
-            0x82000000L, 0x81000000L, 0x80800000L, 0x80400000L, 0x80200000L,
-            0x80100000L, 0x80080000L, 0x80040000L, 0x80020000L, 0x80010000L,
-            0x80008000L, 0x80004000L, 0x80002000L, 0x80001000L, 0x80000800L,
-            0x80000400L, 0x80000200L, 0x80000100L, 0x80000080L, 0x80000040L,
-            0x80000020L, 0x80000010L, 0x80000008L, 0x80000004L, 0x80000002L,
-            0x80000001L, 0x60000000L, 0x50000000L, 0x48000000L, 0x44000000L,
-            0x42000000L, 0x41000000L, 0x40800000L, 0x40400000L, 0x40200000L,
-            0x40100000L, 0x40080000L, 0x40040000L, 0x40020000L, 0x40010000L,
-            0x40008000L, 0x40004000L, 0x40002000L, 0x40001000L, 0x40000800L,
-            0x40000400L, 0x40000200L, 0x40000100L, 0x40000080L, 0x40000040L,
-            0x40000020L, 0x40000010L, 0x40000008L, 0x40000004L, 0x40000002L,
-            0x40000001L, 0x30000000L, 0x28000000L, 0x24000000L, 0x22000000L,
-            0x21000000L, 0x20800000L, 0x20400000L, 0x20200000L, 0x20100000L,
-            0x20080000L, 0x20040000L, 0x20020000L, 0x20010000L, 0x20008000L,
-            0x20004000L, 0x20002000L, 0x20001000L, 0x20000800L, 0x20000400L,
-            0x20000200L, 0x20000100L, 0x20000080L, 0x20000040L, 0x20000020L,
-            0x20000010L, 0x20000008L, 0x20000004L, 0x20000002L, 0x20000001L,
-            0x18000000L, 0x14000000L, 0x12000000L, 0x11000000L, 0x10800000L,
-            0x10400000L, 0x10200000L, 0x10100000L, 0x10080000L, 0x10040000L,
-            0x10020000L, 0x10010000L, 0x10008000L, 0x10004000L, 0x10002000L,
-            0x10001000L, 0x10000800L, 0x10000400L, 0x10000200L, 0x10000100L,
-            0x10000080L, 0x10000040L, 0x10000020L, 0x10000010L, 0x10000008L,
-            0x10000004L, 0x10000002L, 0x10000001L, 0xc000000L, 0xa000000L,
-            0x9000000L, 0x8800000L, 0x8400000L, 0x8200000L, 0x8100000L,
-            0x8080000L, 0x8040000L, 0x8020000L, 0x8010000L, 0x8008000L,
-            0x8004000L, 0x8002000L, 0x8001000L, 0x8000800L, 0x8000400L,
-            0x8000200L, 0x8000100L, 0x8000080L, 0x8000040L, 0x8000020L,
-            0x8000010L, 0x8000008L, 0x8000004L, 0x8000002L, 0x8000001L,
-            0x6000000L, 0x5000000L, 0x4800000L, 0x4400000L, 0x4200000L,
-            0x4100000L, 0x4080000L, 0x4040000L, 0x4020000L, 0x4010000L,
-            0x4008000L, 0x4004000L, 0x4002000L, 0x4001000L, 0x4000800L,
-            0x4000400L, 0x4000200L, 0x4000100L, 0x4000080L, 0x4000040L,
-            0x4000020L, 0x4000010L, 0x4000008L, 0x4000004L, 0x4000002L,
-            0x4000001L, 0x3000000L, 0x2800000L, 0x2400000L, 0x2200000L,
-            0x2100000L, 0x2080000L, 0x2040000L, 0x2020000L, 0x2010000L,
-            0x2008000L, 0x2004000L, 0x2002000L, 0x2001000L, 0x2000800L,
-            0x2000400L, 0x2000200L, 0x2000100L, 0x2000080L, 0x2000040L,
-            0x2000020L, 0x2000010L, 0x2000008L, 0x2000004L, 0x2000002L,
-            0x2000001L, 0x1800000L, 0x1400000L, 0x1200000L, 0x1100000L,
-            0x1080000L, 0x1040000L, 0x1020000L, 0x1010000L, 0x1008000L,
-            0x1004000L, 0x1002000L, 0x1001000L, 0x1000800L, 0x1000400L,
-            0x1000200L, 0x1000100L, 0x1000080L, 0x1000040L, 0x1000020L,
-            0x1000010L, 0x1000008L, 0x1000004L, 0x1000002L, 0x1000001L,
-            0xc00000L, 0xa00000L, 0x900000L, 0x880000L, 0x840000L,
-            0x820000L, 0x810000L, 0x808000L, 0x804000L, 0x802000L,
-            0x801000L, 0x800800L, 0x800400L, 0x800200L, 0x800100L,
-            0x800080L, 0x800040L, 0x800020L, 0x800010L, 0x800008L,
-            0x800004L, 0x800002L, 0x800001L, 0x600000L, 0x500000L,
-            0x480000L, 0x440000L, 0x420000L, 0x410000L, 0x408000L,
-            0x404000L, 0x402000L, 0x401000L, 0x400800L, 0x400400L,
-            0x400200L, 0x400100L, 0x400080L, 0x400040L, 0x400020L,
-            0x400010L, 0x400008L, 0x400004L, 0x400002L, 0x400001L,
-            0x300000L, 0x280000L, 0x240000L, 0x220000L, 0x210000L,
-            0x208000L, 0x204000L, 0x202000L, 0x201000L, 0x200800L,
-            0x200400L, 0x200200L, 0x200100L, 0x200080L, 0x200040L,
-            0x200020L, 0x200010L, 0x200008L, 0x200004L, 0x200002L,
-            0x200001L, 0x180000L, 0x140000L, 0x120000L, 0x110000L,
-            0x108000L, 0x104000L, 0x102000L, 0x101000L, 0x100800L,
-            0x100400L, 0x100200L, 0x100100L, 0x100080L, 0x100040L,
-            0x100020L, 0x100010L, 0x100008L, 0x100004L, 0x100002L,
-            0x100001L, 0xc0000L, 0xa0000L, 0x90000L, 0x88000L,
-            0x84000L, 0x82000L, 0x81000L, 0x80800L, 0x80400L,
-            0x80200L, 0x80100L, 0x80080L, 0x80040L, 0x80020L,
-            0x80010L, 0x80008L, 0x80004L, 0x80002L, 0x80001L,
-            0x60000L, 0x50000L, 0x48000L, 0x44000L, 0x42000L,
-            0x41000L, 0x40800L, 0x40400L, 0x40200L, 0x40100L,
-            0x40080L, 0x40040L, 0x40020L, 0x40010L, 0x40008L,
-            0x40004L, 0x40002L, 0x40001L, 0x30000L, 0x28000L,
-            0x24000L, 0x22000L, 0x21000L, 0x20800L, 0x20400L,
-            0x20200L, 0x20100L, 0x20080L, 0x20040L, 0x20020L,
-            0x20010L, 0x20008L, 0x20004L, 0x20002L, 0x20001L,
-            0x18000L, 0x14000L, 0x12000L, 0x11000L, 0x10800L,
-            0x10400L, 0x10200L, 0x10100L, 0x10080L, 0x10040L,
-            0x10020L, 0x10010L, 0x10008L, 0x10004L, 0x10002L,
-            0x10001L, 0xc000L, 0xa000L, 0x9000L, 0x8800L,
-            0x8400L, 0x8200L, 0x8100L, 0x8080L, 0x8040L,
-            0x8020L, 0x8010L, 0x8008L, 0x8004L, 0x8002L,
-            0x8001L, 0x6000L, 0x5000L, 0x4800L, 0x4400L,
-            0x4200L, 0x4100L, 0x4080L, 0x4040L, 0x4020L,
-            0x4010L, 0x4008L, 0x4004L, 0x4002L, 0x4001L,
-            0x3000L, 0x2800L, 0x2400L, 0x2200L, 0x2100L,
-            0x2080L, 0x2040L, 0x2020L, 0x2010L, 0x2008L,
-            0x2004L, 0x2002L, 0x2001L, 0x1800L, 0x1400L,
-            0x1200L, 0x1100L, 0x1080L, 0x1040L, 0x1020L,
-            0x1010L, 0x1008L, 0x1004L, 0x1002L, 0x1001L,
-            0xc00L, 0xa00L, 0x900L, 0x880L, 0x840L,
-            0x820L, 0x810L, 0x808L, 0x804L, 0x802L,
-            0x801L, 0x600L, 0x500L, 0x480L, 0x440L,
-            0x420L, 0x410L, 0x408L, 0x404L, 0x402L,
-            0x401L, 0x300L, 0x280L, 0x240L, 0x220L,
-            0x210L, 0x208L, 0x204L, 0x202L, 0x201L,
-            0x180L, 0x140L, 0x120L, 0x110L, 0x108L,
-            0x104L, 0x102L, 0x101L, 0xc0L, 0xa0L,
-            0x90L, 0x88L, 0x84L, 0x82L, 0x81L,
-            0x60L, 0x50L, 0x48L, 0x44L, 0x42L,
-            0x41L, 0x30L, 0x28L, 0x24L, 0x22L,
-            0x21L, 0x18L, 0x14L, 0x12L, 0x11L,
-            0xcL, 0xaL, 0x9L, 0x6L, 0x5L,
-            0x3L
-    };
+    public static final long[] TABLE = TableBlob.isLoaded()
+            ? TableBlob.longs(TableBlob.TWO_CARDS) : TableGenerator.twoCards();
 }
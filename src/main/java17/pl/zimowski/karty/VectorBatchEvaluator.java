@@ -0,0 +1,306 @@
+package pl.zimowski.karty;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+import pl.zimowski.karty.HandEngine.HandTypes;
+import pl.zimowski.karty.tables.RankMaskTable;
+
+/**
+ * {@link HandEngine#Evaluate(long, int)} worked out for a vector of hands at
+ * a time. Rather than branch on the kind of hand, every lane classifies its
+ * hand by lane masks into a kind, the ranks which rank it (primary) and the
+ * ranks its kickers come from, and picks top cards out of those once, the
+ * same for every kind. What the scalar evaluator looks up in
+ * {@link RankMaskTable} is computed in the lanes instead (bit counts, top
+ * cards, straights): gathers out of the table cost more than the arithmetic,
+ * and crash C2 of JDK 17 on AVX-512. Hands which do not fill a whole vector
+ * are left to the scalar evaluator.
+ * <p>
+ * On JDK 17 this is still slower than the scalar evaluator, which is why
+ * {@link BatchEvaluator} only uses it when asked to. The work is split into
+ * three loops over a block of hands, passing lanes on in small arrays: C2
+ * stops inlining into a method once its graph is big enough, and vectors
+ * passed to or returned from a call which is not inlined are boxed. Even so
+ * a few helpers are left out, so some boxing remains.
+ * <p>
+ * Compiled with JDK 17 or later into {@code META-INF/versions/17}, where
+ * Java 8 does not look, and only ever instantiated by {@link BatchEvaluator}
+ * once it is known to link.
+ *
+ * @author Adam Zimowski
+ */
+final class VectorBatchEvaluator extends BatchEvaluator {
+
+	private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+	/** hands evaluated at a time, each loop over all of them in turn */
+	private static final int BLOCK = 1024;
+
+	private static final int STRAIGHT_FLUSH = HandTypes.StraightFlush.ordinal() << 24;
+	private static final int FOUR_OF_A_KIND = HandTypes.FourOfAKind.ordinal() << 24;
+	private static final int FULL_HOUSE = HandTypes.FullHouse.ordinal() << 24;
+	private static final int FLUSH = HandTypes.Flush.ordinal() << 24;
+	private static final int STRAIGHT = HandTypes.Straight.ordinal() << 24;
+	private static final int TRIPS = HandTypes.Trips.ordinal() << 24;
+	private static final int TWO_PAIR = HandTypes.TwoPair.ordinal() << 24;
+	private static final int PAIR = HandTypes.Pair.ordinal() << 24;
+
+	/** kickers kept of the top five for each kind, in nibbles */
+	private static final int ALL_KICKERS = 0xfffff;
+	private static final int THREE_KICKERS = 0xfff00;
+	private static final int TWO_KICKERS = 0xff000;
+	private static final int ONE_KICKER = 0xf0000;
+
+	@Override
+	void evaluate(long[] aMasks, int[] aValues, int aCount) {
+
+		int block = Math.min(aCount, BLOCK);
+		int[] clubs = new int[block], diamonds = new int[block], hearts = new int[block], spades = new int[block];
+		Lanes lanes = new Lanes(block);
+		for(int from = 0; from < aCount; from += BLOCK) {
+			int count = Math.min(BLOCK, aCount - from);
+			for(int i = 0; i < count; i++) {
+				long mask = aMasks[from + i];
+				clubs[i] = (int)(mask >>> HandEngine.CLUB_OFFSET) & SUIT_MASK;
+				diamonds[i] = (int)(mask >>> HandEngine.DIAMOND_OFFSET) & SUIT_MASK;
+				hearts[i] = (int)(mask >>> HandEngine.HEART_OFFSET) & SUIT_MASK;
+				spades[i] = (int)(mask >>> HandEngine.SPADE_OFFSET) & SUIT_MASK;
+			}
+			evaluateBlock(clubs, diamonds, hearts, spades, 0, aValues, from, count, lanes);
+		}
+	}
+
+	@Override
+	void evaluate(int[] aClubs, int[] aDiamonds, int[] aHearts, int[] aSpades, int[] aValues, int aCount) {
+
+		Lanes lanes = new Lanes(Math.min(aCount, BLOCK));
+		for(int from = 0; from < aCount; from += BLOCK) {
+			int count = Math.min(BLOCK, aCount - from);
+			evaluateBlock(aClubs, aDiamonds, aHearts, aSpades, from, aValues, from, count, lanes);
+		}
+	}
+
+	/**
+	 * Hand by hand state passed on from one loop to the next.
+	 */
+	private static final class Lanes {
+
+		/** hand type and whatever is already known of the value */
+		final int[] base;
+
+		/** ranks the top card (and second, of two pair) comes from */
+		final int[] primary;
+
+		/** ranks the kickers come from */
+		final int[] kickers;
+
+		/** one of the kicker masks */
+		final int[] keep;
+
+		Lanes(int aSize) {
+			base = new int[aSize];
+			primary = new int[aSize];
+			kickers = new int[aSize];
+			keep = new int[aSize];
+		}
+	}
+
+	/**
+	 * @param aFrom first hand of the rank masks
+	 * @param aTo first hand value written
+	 * @param aCount number of hands, at most {@link #BLOCK}
+	 */
+	private static void evaluateBlock(int[] aClubs, int[] aDiamonds, int[] aHearts, int[] aSpades, int aFrom,
+			int[] aValues, int aTo, int aCount, Lanes aLanes) {
+
+		int bound = SPECIES.loopBound(aCount);
+		classify(aClubs, aDiamonds, aHearts, aSpades, aFrom, bound, aLanes);
+		primary(bound, aLanes);
+		kickers(aValues, aTo, bound, aLanes);
+
+		// the rest, fewer than fill a vector
+		for(int i = bound; i < aCount; i++) {
+			long mask = mask(aClubs[aFrom + i], aDiamonds[aFrom + i], aHearts[aFrom + i], aSpades[aFrom + i]);
+			aValues[aTo + i] = HandEngine.Evaluate(mask, Long.bitCount(mask));
+		}
+	}
+
+	/**
+	 * Kind of each hand, see {@link HandEngine#Evaluate(long, int)} for the
+	 * meaning of the masks. Blends go from the lowest kind up, so that the
+	 * best kind a hand makes is the one left.
+	 */
+	private static void classify(int[] aClubs, int[] aDiamonds, int[] aHearts, int[] aSpades, int aFrom,
+			int aBound, Lanes aLanes) {
+
+		IntVector zero = IntVector.zero(SPECIES);
+		for(int i = 0; i < aBound; i += SPECIES.length()) {
+
+			IntVector c = IntVector.fromArray(SPECIES, aClubs, aFrom + i).and(SUIT_MASK);
+			IntVector d = IntVector.fromArray(SPECIES, aDiamonds, aFrom + i).and(SUIT_MASK);
+			IntVector h = IntVector.fromArray(SPECIES, aHearts, aFrom + i).and(SUIT_MASK);
+			IntVector s = IntVector.fromArray(SPECIES, aSpades, aFrom + i).and(SUIT_MASK);
+
+			IntVector ranks = c.or(d).or(h).or(s);
+			IntVector nc = bitCount(c), nd = bitCount(d), nh = bitCount(h), ns = bitCount(s);
+			IntVector cards = nc.add(nd).add(nh).add(ns);
+			// 1 to 7 cards: neither cards - 1 nor 7 - cards negative
+			IntVector n = cards.sub(1);
+			if(n.or(IntVector.broadcast(SPECIES, 6).sub(n)).compare(VectorOperators.LT, 0).anyTrue())
+				throw new ArgumentOutOfRangeException("numberOfCards");
+			IntVector dups = cards.sub(bitCount(ranks));
+
+			// only one suit can hold five of seven cards
+			IntVector flush = zero.blend(c, nc.compare(VectorOperators.GE, 5))
+					.blend(d, nd.compare(VectorOperators.GE, 5))
+					.blend(h, nh.compare(VectorOperators.GE, 5))
+					.blend(s, ns.compare(VectorOperators.GE, 5));
+			IntVector straight = straights(ranks), straightFlush = straights(flush);
+
+			IntVector two = ranks.lanewise(VectorOperators.XOR, c.lanewise(VectorOperators.XOR, d)
+					.lanewise(VectorOperators.XOR, h).lanewise(VectorOperators.XOR, s));
+			IntVector three = c.and(d).or(h.and(s)).and(c.and(h).or(d.and(s)));
+			IntVector four = c.and(d).and(h).and(s);
+
+			VectorMask<Integer> pair = dups.compare(VectorOperators.EQ, 1);
+			VectorMask<Integer> trips = dups.compare(VectorOperators.EQ, 2);
+			VectorMask<Integer> twoPair = zero.blend(two, trips).compare(VectorOperators.NE, 0);
+			// three or more duplicates: with no trips among them, pairs only
+			VectorMask<Integer> many = dups.compare(VectorOperators.GE, 3);
+			VectorMask<Integer> madeStraight = straight.compare(VectorOperators.NE, 0);
+			VectorMask<Integer> madeFlush = flush.compare(VectorOperators.NE, 0);
+			VectorMask<Integer> fullHouse = zero.blend(bitCount(two).sub(dups), many).compare(VectorOperators.NE, 0);
+			VectorMask<Integer> quads = four.compare(VectorOperators.NE, 0);
+			VectorMask<Integer> madeStraightFlush = straightFlush.compare(VectorOperators.NE, 0);
+
+			// straights rank by their lowest card, top card is 3 above
+			zero.blend(PAIR, pair).blend(TRIPS, trips).blend(TWO_PAIR, twoPair).blend(TWO_PAIR, many)
+					.blend(STRAIGHT + (3 << 16), madeStraight).blend(FLUSH, madeFlush)
+					.blend(FULL_HOUSE, fullHouse).blend(FOUR_OF_A_KIND, quads)
+					.blend(STRAIGHT_FLUSH + (3 << 16), madeStraightFlush)
+					.intoArray(aLanes.base, i);
+			zero.blend(two, pair).blend(three, trips).blend(two, twoPair).blend(two, many)
+					.blend(straight, madeStraight).blend(zero, madeFlush).blend(three, fullHouse)
+					.blend(four, quads).blend(straightFlush, madeStraightFlush)
+					.intoArray(aLanes.primary, i);
+			// full house: the pair is the top of what is left of two and three
+			ranks.blend(flush, madeFlush).blend(two.or(three), fullHouse).blend(ranks, quads)
+					.intoArray(aLanes.kickers, i);
+			IntVector.broadcast(SPECIES, ALL_KICKERS).blend(THREE_KICKERS, pair).blend(TWO_KICKERS, trips)
+					.blend(ONE_KICKER, twoPair).blend(ONE_KICKER, many).blend(0, madeStraight)
+					.blend(ALL_KICKERS, madeFlush).blend(ONE_KICKER, fullHouse).blend(ONE_KICKER, quads)
+					.blend(0, madeStraightFlush)
+					.intoArray(aLanes.keep, i);
+		}
+	}
+
+	/**
+	 * Top card of each hand, and second of two pair, added to its base;
+	 * both are taken out of the kickers.
+	 */
+	private static void primary(int aBound, Lanes aLanes) {
+
+		IntVector zero = IntVector.zero(SPECIES);
+		for(int i = 0; i < aBound; i += SPECIES.length()) {
+			IntVector base = IntVector.fromArray(SPECIES, aLanes.base, i);
+			IntVector primary = IntVector.fromArray(SPECIES, aLanes.primary, i);
+			IntVector top = topCard(primary), topBit = topBit(primary);
+			IntVector rest = zero.blend(primary.lanewise(VectorOperators.XOR, topBit),
+					base.compare(VectorOperators.EQ, TWO_PAIR));
+			base.add(top.lanewise(VectorOperators.LSHL, 16)).add(topCard(rest).lanewise(VectorOperators.LSHL, 12))
+					.intoArray(aLanes.base, i);
+			IntVector.fromArray(SPECIES, aLanes.kickers, i).and(topBit.or(topBit(rest)).not())
+					.intoArray(aLanes.kickers, i);
+		}
+	}
+
+	/**
+	 * Top five kickers of each hand, as many kept as its kind has and moved
+	 * below its top cards, added to its base.
+	 */
+	private static void kickers(int[] aValues, int aTo, int aBound, Lanes aLanes) {
+
+		for(int i = 0; i < aBound; i += SPECIES.length()) {
+			IntVector k = IntVector.fromArray(SPECIES, aLanes.kickers, i);
+			IntVector cards = topCard(k).lanewise(VectorOperators.LSHL, 16);
+			k = k.lanewise(VectorOperators.XOR, topBit(k));
+			cards = cards.or(topCard(k).lanewise(VectorOperators.LSHL, 12));
+			k = k.lanewise(VectorOperators.XOR, topBit(k));
+			cards = cards.or(topCard(k).lanewise(VectorOperators.LSHL, 8));
+			k = k.lanewise(VectorOperators.XOR, topBit(k));
+			cards = cards.or(topCard(k).lanewise(VectorOperators.LSHL, 4));
+			k = k.lanewise(VectorOperators.XOR, topBit(k));
+			cards = cards.or(topCard(k));
+
+			IntVector keep = IntVector.fromArray(SPECIES, aLanes.keep, i);
+			IntVector base = IntVector.fromArray(SPECIES, aLanes.base, i);
+			cards = cards.and(keep);
+			IntVector below = cards.lanewise(VectorOperators.LSHR, 4);
+			// one card below the top, two below top and second of two pair
+			cards = cards.blend(below, keep.compare(VectorOperators.EQ, THREE_KICKERS))
+					.blend(below, keep.compare(VectorOperators.EQ, TWO_KICKERS))
+					.blend(below.blend(cards.lanewise(VectorOperators.LSHR, 8),
+							base.and(0xff000000).compare(VectorOperators.EQ, TWO_PAIR)),
+							keep.compare(VectorOperators.EQ, ONE_KICKER));
+			base.add(cards).intoArray(aValues, aTo + i);
+		}
+	}
+
+	/**
+	 * @return number of bits set in each lane, of 13 bit masks
+	 */
+	private static IntVector bitCount(IntVector aMasks) {
+		IntVector x = aMasks.sub(aMasks.lanewise(VectorOperators.LSHR, 1).and(0x5555));
+		x = x.and(0x3333).add(x.lanewise(VectorOperators.LSHR, 2).and(0x3333));
+		x = x.add(x.lanewise(VectorOperators.LSHR, 4)).and(0x0f0f);
+		return x.add(x.lanewise(VectorOperators.LSHR, 8)).and(0x1f);
+	}
+
+	/**
+	 * @return index of the highest bit set in each lane, 0 if none; binary
+	 * 	search by constant shifts, as variable shifts and conversions to
+	 * 	float cost more in the lanes
+	 */
+	private static IntVector topCard(IntVector aMasks) {
+		IntVector x = aMasks, top = IntVector.zero(SPECIES);
+		VectorMask<Integer> m = x.compare(VectorOperators.GT, 0xff);
+		top = top.blend(8, m);
+		x = x.blend(x.lanewise(VectorOperators.LSHR, 8), m);
+		m = x.compare(VectorOperators.GT, 0xf);
+		top = top.blend(top.add(4), m);
+		x = x.blend(x.lanewise(VectorOperators.LSHR, 4), m);
+		m = x.compare(VectorOperators.GT, 0x3);
+		top = top.blend(top.add(2), m);
+		x = x.blend(x.lanewise(VectorOperators.LSHR, 2), m);
+		return top.blend(top.add(1), x.compare(VectorOperators.GT, 0x1));
+	}
+
+	/**
+	 * @return highest bit set in each lane, 0 if none
+	 */
+	private static IntVector topBit(IntVector aMasks) {
+		IntVector s = aMasks.or(aMasks.lanewise(VectorOperators.LSHR, 1));
+		s = s.or(s.lanewise(VectorOperators.LSHR, 2));
+		s = s.or(s.lanewise(VectorOperators.LSHR, 4));
+		s = s.or(s.lanewise(VectorOperators.LSHR, 8));
+		return s.lanewise(VectorOperators.XOR, s.lanewise(VectorOperators.LSHR, 1));
+	}
+
+	/**
+	 * @return bits of each lane which are the lowest of five in a row, with
+	 * 	the ace below the deuce as well; top card of the highest straight is
+	 * 	the highest such bit plus 3
+	 */
+	private static IntVector straights(IntVector aMasks) {
+		IntVector r = aMasks.lanewise(VectorOperators.LSHL, 1).or(aMasks.lanewise(VectorOperators.LSHR, 12));
+		return r.and(r.lanewise(VectorOperators.LSHR, 1)).and(r.lanewise(VectorOperators.LSHR, 2))
+				.and(r.lanewise(VectorOperators.LSHR, 3)).and(r.lanewise(VectorOperators.LSHR, 4));
+	}
+
+	@Override
+	public String toString() {
+		return "vector (" + SPECIES + ")";
+	}
+}
@@ -0,0 +1,121 @@
+package pl.zimowski.karty;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+public class BatchEvaluatorTest {
+
+    @Test
+    public void batchShouldMatchEvaluate() {
+        Random rand = new Random(17);
+        for (int cards = 1; cards <= 7; cards++) {
+            // not a multiple of any vector length, so some hands are left over
+            long[] masks = new long[1000 + cards];
+            for (int i = 0; i < masks.length; i++) {
+                while (HandEngine.BitCount(masks[i]) < cards)
+                    masks[i] |= 1L << rand.nextInt(HandEngine.NUMBER_OF_CARDS);
+            }
+            assertBatch(masks);
+        }
+    }
+
+    @Test
+    public void batchShouldMatchEvaluateOnEveryKindOfHand() {
+        String[] hands = {
+            "As Ks Qs Js Ts 2c 2d", "5d 4d 3d 2d Ad Ah As", "9h 8h 7h 6h 5h 4h 3h",
+            "Ac Ad Ah As Kc Kd Kh", "2c 2d 2h 2s 3c", "Ac Ad Ah Kc Kd Ks 2c",
+            "Ac Ad Ah Kc Kd Qs Qc", "7c 7d 7h 2s 2c 3d 3h", "Ac Kc 9c 5c 2c Ad Ah",
+            "Ac Kc 9c 5c 2c 3c Ad", "Ac Kc 9c 5c 2c Ad Kd", "Ad Kc Qh Js Tc 9d 8h",
+            "5c 4d 3h 2s Ac Ad Ah", "5c 4d 3h 2s Ac 5d 4h", "Ac Ad Kh Ks Qc Qd Js",
+            "Ac Ad Kh Ks Qc Jd 9s", "Ac Ad Ah Kh Qs 2c 3d", "Ac Ad Kh Qs Jc 9d 8h",
+            "Ac Kd Qh Js 9c 8d 7h", "2c 3d 4h 5s 7c 8d 9h", "2c", "As Ah", "7c 7d 7h 7s",
+        };
+        long[] masks = new long[hands.length];
+        for (int i = 0; i < hands.length; i++)
+            masks[i] = HandEngine.parseHand(hands[i]);
+        assertBatch(masks);
+    }
+
+    @Test
+    public void batchShouldMatchEvaluateOnEveryFiveCardHand() {
+        HandIndex index = new HandIndex(0L, 0L, 5);
+        long[] masks = new long[(int)index.size()];
+        IndexedHandIterator hands = index.iterator();
+        for (int i = 0; hands.hasNext(); i++)
+            masks[i] = hands.nextLong();
+
+        int[] values = new int[masks.length];
+        HandEngine.evaluateBatch(masks, values, masks.length);
+        for (int i = 0; i < masks.length; i++)
+            assertEquals(HandEngine.MaskToString(masks[i]), HandEngine.Evaluate(masks[i], 5), values[i]);
+    }
+
+    @Test
+    public void batchShouldOnlyTouchGivenHands() {
+        long[] masks = { HandEngine.parseHand("As Ks"), HandEngine.parseHand("2c 2d"), 0L };
+        int[] values = { -1, -1, -1, -1 };
+        HandEngine.evaluateBatch(masks, values, 2);
+        assertArrayEquals(new int[] { HandEngine.Evaluate(masks[0]), HandEngine.Evaluate(masks[1]), -1, -1 }, values);
+        HandEngine.evaluateBatch(new long[0], new int[0], 0);
+    }
+
+    @Test(expected = ArgumentOutOfRangeException.class)
+    public void batchShouldRejectCountBeyondArrays() {
+        HandEngine.evaluateBatch(new long[4], new int[3], 4);
+    }
+
+    @Test(expected = ArgumentOutOfRangeException.class)
+    public void batchShouldRejectHandsWithoutCards() {
+        HandEngine.evaluateBatch(new int[64], new int[64], new int[64], new int[64], new int[64], 64);
+    }
+
+    /**
+     * When built with the vector profile, asked for and the module is there,
+     * as it is for the tests of the versioned classes, the vector evaluator
+     * must have been picked.
+     */
+    @Test
+    public void vectorEvaluatorShouldBeUsedWhenAvailable() {
+        if (BatchEvaluator.class.getResource("VectorBatchEvaluator.class") == null)
+            return;
+        if (!Boolean.getBoolean("karty.vector"))
+            return;
+        try {
+            Class.forName("jdk.incubator.vector.IntVector");
+        }
+        catch (ClassNotFoundException e) {
+            return;
+        }
+        assertNotSame(BatchEvaluator.SCALAR, BatchEvaluator.getInstance());
+    }
+
+    private static void assertBatch(long[] masks) {
+        int n = masks.length;
+        int[] expected = new int[n];
+        for (int i = 0; i < n; i++)
+            expected[i] = HandEngine.Evaluate(masks[i], HandEngine.BitCount(masks[i]));
+
+        int[] values = new int[n];
+        HandEngine.evaluateBatch(masks, values, n);
+        assertArrayEquals(expected, values);
+        BatchEvaluator.SCALAR.evaluate(masks, values = new int[n], n);
+        assertArrayEquals(expected, values);
+
+        int[] clubs = new int[n], diamonds = new int[n], hearts = new int[n], spades = new int[n];
+        for (int i = 0; i < n; i++) {
+            clubs[i] = (int)(masks[i] >>> HandEngine.CLUB_OFFSET) & 0x1fff;
+            diamonds[i] = (int)(masks[i] >>> HandEngine.DIAMOND_OFFSET) & 0x1fff;
+            hearts[i] = (int)(masks[i] >>> HandEngine.HEART_OFFSET) & 0x1fff;
+            spades[i] = (int)(masks[i] >>> HandEngine.SPADE_OFFSET) & 0x1fff;
+        }
+        HandEngine.evaluateBatch(clubs, diamonds, hearts, spades, values = new int[n], n);
+        assertArrayEquals(expected, values);
+        BatchEvaluator.SCALAR.evaluate(clubs, diamonds, hearts, spades, values = new int[n], n);
+        assertArrayEquals(expected, values);
+    }
+}
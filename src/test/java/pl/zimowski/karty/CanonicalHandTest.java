@@ -0,0 +1,131 @@
+package pl.zimowski.karty;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class CanonicalHandTest {
+
+    @Test
+    public void weightsShouldAddUpToAllHands() {
+        long[] pockets = {HandEngine.parseHand("As Ah"), HandEngine.parseHand("Ks Kh")};
+        final long[] sum = new long[2];
+        HandEngine.forEachCanonicalHand(0L, 0L, pockets, 5, (hand, weight) -> {
+            sum[0] += weight;
+            sum[1]++;
+        });
+        assertEquals(PokerMath.binomial(48, 5), sum[0]);
+        // spades and hearts swap as well as clubs and diamonds
+        assertTrue(sum[1] * 3 < sum[0]);
+    }
+
+    @Test
+    public void orbitsShouldCoverAllHandsOnce() {
+        assertOrbitsCoverAllHands(HandEngine.parseHand("Qs Js"), 0L, new long[] {HandEngine.parseHand("As Ks")}, 4);
+        assertOrbitsCoverAllHands(0L, HandEngine.parseHand("2c"),
+            new long[] {HandEngine.parseHand("As Ah"), HandEngine.parseHand("Ks Kh")}, 3);
+        assertOrbitsCoverAllHands(0L, 0L, new long[0], 2);
+    }
+
+    @Test
+    public void handOddsWeightedShouldMatchHandOdds() {
+        assertSameOdds(new String[] {"As Ks", "7s 2s"}, "", "");
+        assertSameOdds(new String[] {"As Ah", "Ks Kh"}, "", "2c");
+        assertSameOdds(new String[] {"As Ks", "Qd Qh", "Tc 9c"}, "Qs Jh 2c", "");
+        assertSameOdds(new String[] {"Ah Kh", "Qs Qd"}, "2h 7h", "");
+        assertSameOdds(new String[] {"7s 7c", "Ah 4d"}, "Kd 7h 2s 3c 5h", "");
+    }
+
+    @Test
+    public void handPlayerOpponentOddsWeightedShouldMatch() {
+        assertSamePlayerOpponentOdds("As Ks", "Qs Js 2s");
+        assertSamePlayerOpponentOdds("As Ks", "Qs Jh 2c");
+        assertSamePlayerOpponentOdds("7h 7d", "7s 2s");
+        assertSamePlayerOpponentOdds("As Ks", "Qs Js 2s 3s");
+        assertSamePlayerOpponentOdds("Ac Kc", "Qd Jd 2h 3h 4s");
+        assertSamePlayerOpponentOdds("Ac Kc", "");
+    }
+
+    @Test
+    public void handPotentialWeightedShouldMatch() {
+        assertSamePotential("As Ks", "Qs Js 2s");
+        assertSamePotential("Ah Kd", "Qs Js 2c");
+        assertSamePotential("9h 9d", "9s 4s 4c");
+        assertSamePotential("As Ks", "Qs Js 2s 3s");
+        assertSamePotential("Ah Kd", "Qs Js 2c 7h 7d");
+    }
+
+    private void assertOrbitsCoverAllHands(long shared, long dead, long[] pockets, int cards) {
+        long[] known = new long[pockets.length + 2];
+        known[0] = shared;
+        known[1] = dead;
+        long allDead = dead;
+        for (int i = 0; i < pockets.length; i++) {
+            known[i + 2] = pockets[i];
+            allDead |= pockets[i];
+        }
+        final int[][] group = SuitPermutations.stabilizer(known);
+
+        final Set<Long> expected = new HashSet<>();
+        HandEngine.forEachHand(shared, allDead, cards, expected::add);
+
+        final Set<Long> actual = new HashSet<>();
+        HandEngine.forEachCanonicalHand(shared, dead, pockets, cards, (hand, weight) -> {
+            Set<Long> orbit = new HashSet<>();
+            for (int[] permutation : group) {
+                orbit.add(SuitPermutations.apply(hand, permutation));
+            }
+            assertEquals(orbit.size(), weight);
+            for (long member : orbit) {
+                assertTrue(actual.add(member));
+            }
+        });
+        assertEquals(expected, actual);
+    }
+
+    private void assertSameOdds(String[] pockets, String board, String dead) {
+        int n = pockets.length;
+        long[] wins = new long[n], ties = new long[n], losses = new long[n], total = new long[1];
+        HandEngine.HandOdds(pockets, board, dead, wins, ties, losses, total);
+
+        long[] wwins = new long[n], wties = new long[n], wlosses = new long[n], wtotal = new long[1];
+        HandEngine.HandOddsWeighted(pockets, board, dead, wwins, wties, wlosses, wtotal);
+
+        assertArrayEquals(wins, wwins);
+        assertArrayEquals(ties, wties);
+        assertArrayEquals(losses, wlosses);
+        assertArrayEquals(total, wtotal);
+    }
+
+    private void assertSamePlayerOpponentOdds(String pocket, String board) {
+        long p = HandEngine.parseHand(pocket), b = board.isEmpty() ? 0L : HandEngine.parseHand(board);
+        double[] player = new double[9], opponent = new double[9];
+        double[] wplayer = new double[9], wopponent = new double[9];
+        long[] count = new long[1], wcount = new long[1];
+
+        HandEngine.HandPlayerOpponentOdds(p, b, player, opponent);
+        HandEngine.HandPlayerOpponentOddsWeighted(p, b, wplayer, wopponent);
+        assertArrayEquals(player, wplayer, 0.0);
+        assertArrayEquals(opponent, wopponent, 0.0);
+
+        HandEngine.HandPlayerOpponentOdds(p, b, player, opponent, count);
+        HandEngine.HandPlayerOpponentOddsWeighted(p, b, wplayer, wopponent, wcount);
+        assertArrayEquals(count, wcount);
+    }
+
+    private void assertSamePotential(String pocket, String board) {
+        long p = HandEngine.parseHand(pocket), b = HandEngine.parseHand(board);
+        double[] ppot = new double[1], npot = new double[1];
+        double[] wppot = new double[1], wnpot = new double[1];
+
+        HandEngine.HandPotential(p, b, ppot, npot);
+        HandEngine.HandPotentialWeighted(p, b, wppot, wnpot);
+        assertEquals(ppot[0], wppot[0], 0.0);
+        assertEquals(npot[0], wnpot[0], 0.0);
+    }
+}
@@ -0,0 +1,146 @@
+package pl.zimowski.karty;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class CardParserTest {
+
+    @Test
+    public void shouldParseAllAcceptedForms() {
+        long expected = HandEngine._cardMasksTable[Rank.Ace.ordinal() + 13 * Suit.Spades.ordinal()]
+                | HandEngine._cardMasksTable[Rank.Ten.ordinal() + 13 * Suit.Hearts.ordinal()]
+                | HandEngine._cardMasksTable[Rank.Two.ordinal() + 13 * Suit.Clubs.ordinal()];
+
+        assertEquals(expected, CardParser.parse("As Th 2c"));
+        assertEquals(expected, CardParser.parse("as 10h 2C"));
+        assertEquals(expected, CardParser.parse("  AsTh2c  "));
+        assertEquals(expected, CardParser.parse(new StringBuilder("aS tH 2c")));
+    }
+
+    @Test
+    public void shouldReportErrorCodeAndOffset() {
+        assertError(CardParser.BAD_RANK, 3, CardParser.parse("As Xh"));
+        assertError(CardParser.BAD_RANK, 3, CardParser.parse("As 1h"));
+        assertError(CardParser.BAD_RANK, 0, CardParser.parse("1"));
+        assertError(CardParser.BAD_SUIT, 4, CardParser.parse("As Kx"));
+        assertError(CardParser.BAD_SUIT, 4, CardParser.parse("As K"));
+        assertError(CardParser.BAD_SUIT, 1, CardParser.parse("A s"));
+        assertError(CardParser.DUPLICATE_CARD, 6, CardParser.parse("As Kd as"));
+        assertError(CardParser.NO_CARDS, 0, CardParser.parse(""));
+        assertError(CardParser.NO_CARDS, 0, CardParser.parse("   "));
+        assertError(CardParser.BAD_RANK, 0, CardParser.parse("\u00c1s"));
+    }
+
+    @Test
+    public void masksShouldNotLookLikeErrors() {
+        assertFalse(CardParser.isError(CardParser.parse(HandEngine.MaskToString(0xFFFFFFFFFFFFFL))));
+        assertEquals(0, CardParser.errorCode(1L));
+        assertEquals(-1, CardParser.errorOffset(1L));
+    }
+
+    @Test
+    public void slicesShouldMatchWholeText() {
+        String text = "xx As Kd 10c|Qh Qh";
+        char[] chars = text.toCharArray();
+        ByteBuffer bytes = ByteBuffer.wrap(text.getBytes(StandardCharsets.US_ASCII));
+        long expected = CardParser.parse("As Kd 10c");
+
+        assertEquals(expected, CardParser.parse(text, 2, 12));
+        assertEquals(expected, CardParser.parse(chars, 2, 12));
+        assertEquals(expected, CardParser.parse(bytes, 2, 12));
+
+        bytes.position(2).limit(12);
+        assertEquals(expected, CardParser.parse(bytes));
+        assertEquals(2, bytes.position());
+
+        bytes.limit(18);
+        assertError(CardParser.DUPLICATE_CARD, 16, CardParser.parse(bytes, 13, 18));
+        assertError(CardParser.DUPLICATE_CARD, 16, CardParser.parse(chars, 13, 18));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void sliceOutsideTextShouldThrow() {
+        CardParser.parse("As", 0, 3);
+    }
+
+    /**
+     * Random text built from card characters must be accepted or refused
+     * exactly as the card by card parser refuses it.
+     */
+    @Test
+    public void shouldAgreeWithNextCard() {
+        Random rand = new Random(16);
+        String alphabet = "23456789TJQKAtjqka10cdhsCDHS  x";
+        StringBuilder text = new StringBuilder();
+        for (int n = 0; n < 200000; n++) {
+            text.setLength(0);
+            int length = rand.nextInt(12);
+            for (int i = 0; i < length; i++) {
+                text.append(alphabet.charAt(rand.nextInt(alphabet.length())));
+            }
+            String hand = text.toString();
+            long expected = nextCardParse(hand);
+            long actual = CardParser.parse(hand);
+            assertEquals(hand, expected >= 0, !CardParser.isError(actual));
+            if (expected >= 0) {
+                assertEquals(hand, expected, actual);
+                assertEquals(hand, expected, CardParser.parse(hand.toCharArray(), 0, hand.length()));
+                assertEquals(hand, expected, HandEngine.parseHand(hand));
+            }
+            assertEquals(hand, expected >= 0, HandEngine.validateHand(hand));
+        }
+    }
+
+    @Test
+    public void pocketAndBoardShouldParseSeparately() {
+        IntegerRef cards = new IntegerRef();
+        assertEquals(HandEngine.parseHand("As Ks Qs Jh 2c"), HandEngine.parseHand("As Ks", "Qs Jh 2c", cards));
+        assertEquals(5, cards.get());
+        assertEquals(HandEngine.parseHand("As Ks"), HandEngine.parseHand("As Ks", "  ", cards));
+        assertEquals(2, cards.get());
+        assertTrue(HandEngine.validateHand("As Ks", "Qs Jh 2c"));
+        assertFalse(HandEngine.validateHand("As Ks", "Qs Jh As"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void pocketAndBoardSharingCardShouldThrow() {
+        HandEngine.parseHand("As Ks", "Ks Qs Jh", null);
+    }
+
+    private static void assertError(int code, int offset, long result) {
+        assertTrue(CardParser.isError(result));
+        assertEquals(code, CardParser.errorCode(result));
+        assertEquals(offset, CardParser.errorOffset(result));
+    }
+
+    /**
+     * Card by card parse the way hands were parsed before the single pass
+     * parser, -1 if the text is refused.
+     */
+    private static long nextCardParse(String hand) {
+        long mask = 0L;
+        int cards = 0;
+        int card;
+        IntegerRef index = new IntegerRef(0);
+        try {
+            for (card = HandEngine.nextCard(hand, index); card >= 0; card = HandEngine.nextCard(hand, index)) {
+                if ((mask & (1L << card)) != 0) {
+                    return -1;
+                }
+                mask |= 1L << card;
+                cards++;
+            }
+        }
+        catch (IllegalArgumentException e) {
+            return -1;
+        }
+        return card == -1 && cards > 0 && index.get() >= hand.length() ? mask : -1;
+    }
+}
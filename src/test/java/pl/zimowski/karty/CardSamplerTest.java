@@ -0,0 +1,93 @@
+package pl.zimowski.karty;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Iterator;
+
+import org.junit.Test;
+
+public class CardSamplerTest {
+
+    @Test
+    public void shouldDealOnlyLiveCards() {
+        long dead = HandEngine.parseHand("As Ks Qd Qh 7c 6c 2d");
+        CardSampler sampler = new CardSampler(dead);
+        CardRandom rand = CardRandom.xoroshiro(7L);
+        assertEquals(45, sampler.getLiveCount());
+        for (int i = 0; i < 10000; i++) {
+            long mask = sampler.sample(5, rand);
+            assertEquals(5, HandEngine.BitCount(mask));
+            assertEquals(0L, mask & dead);
+        }
+        assertEquals(45, HandEngine.BitCount(sampler.sample(45, rand)));
+    }
+
+    @Test
+    public void resetShouldDealAsNewSampler() {
+        long first = HandEngine.parseHand("As Ks"), second = HandEngine.parseHand("Qd Qh 7c");
+        CardSampler sampler = new CardSampler(first);
+        CardRandom rand = CardRandom.xoroshiro(3L), replay = CardRandom.xoroshiro(3L);
+        sampler.sample(9, rand);
+        new CardSampler(first).sample(9, replay);
+
+        sampler.reset(second);
+        assertEquals(49, sampler.getLiveCount());
+        CardSampler fresh = new CardSampler(second);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(fresh.sample(5, replay), sampler.sample(5, rand));
+        }
+    }
+
+    @Test
+    public void shouldDealEveryCardEvenly() {
+        long dead = HandEngine.parseHand("Ah Kh");
+        CardSampler sampler = new CardSampler(dead);
+        for (CardRandom rand : new CardRandom[] {CardRandom.splittable(1L), CardRandom.xoroshiro(1L)}) {
+            int[] counts = new int[HandEngine.NUMBER_OF_CARDS];
+            int trials = 50000;
+            for (int i = 0; i < trials; i++) {
+                long mask = sampler.sample(3, rand);
+                for (int card = 0; card < counts.length; card++) {
+                    if ((mask & HandEngine.lookupMaskByIndex(card)) != 0) counts[card]++;
+                }
+            }
+            double expected = trials * 3 / 50.0;
+            for (int card = 0; card < counts.length; card++) {
+                if ((dead & HandEngine.lookupMaskByIndex(card)) != 0) {
+                    assertEquals(0, counts[card]);
+                }
+                else {
+                    // about six standard deviations
+                    assertEquals(expected, counts[card], 0.1 * expected);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void sameSeedShouldReplaySameHands() {
+        Iterable<Long> hands = HandEngine.RandomHands(0L, 0L, 7, 1000, 99L);
+        Iterator<Long> first = hands.iterator();
+        Iterator<Long> second = hands.iterator();
+        while (first.hasNext()) {
+            assertEquals(first.next(), second.next());
+        }
+    }
+
+    @Test
+    public void splitShouldBeDeterministic() {
+        CardRandom a = CardRandom.xoroshiro(5L).split();
+        CardRandom b = CardRandom.xoroshiro(5L).split();
+        for (int i = 0; i < 1000; i++) {
+            int value = a.nextInt(52);
+            assertEquals(value, b.nextInt(52));
+            assertTrue(value >= 0 && value < 52);
+        }
+    }
+
+    @Test(expected = ArgumentOutOfRangeException.class)
+    public void shouldRejectTooManyCards() {
+        new CardSampler(HandEngine.parseHand("As Ks")).sample(51, CardRandom.splittable(1L));
+    }
+}
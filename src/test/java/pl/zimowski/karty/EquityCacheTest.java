@@ -0,0 +1,115 @@
+package pl.zimowski.karty;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+public class EquityCacheTest {
+
+    private static long mask(String cards) {
+        return HandEngine.parseHand(cards);
+    }
+
+    @Test
+    public void suitPermutedSpotsShouldBeIsomorphic() {
+        assertTrue(SuitIsomorphism.isIsomorphic(
+            new long[] {mask("As Ks"), mask("2s 7h 9d")},
+            new long[] {mask("Ah Kh"), mask("2h 7s 9d")}));
+        assertFalse(SuitIsomorphism.isIsomorphic(
+            new long[] {mask("As Ks"), mask("2s 7h 9d")},
+            new long[] {mask("Ah Kh"), mask("2s 7s 9d")}));
+        // order of masks matters
+        assertFalse(SuitIsomorphism.isIsomorphic(
+            new long[] {mask("As Ks"), mask("Qd Qh")},
+            new long[] {mask("Qd Qh"), mask("As Ks")}));
+    }
+
+    @Test
+    public void shouldComputeIsomorphicSpotOnce() {
+        EquityCache cache = new EquityCache(16);
+
+        long[] pockets1 = {mask("As Ks"), mask("Qd Qh")};
+        long[] pockets2 = {mask("Ah Kh"), mask("Qd Qs")};
+        long[] wins1 = new long[2], ties1 = new long[2], losses1 = new long[2], total1 = new long[1];
+        long[] wins2 = new long[2], ties2 = new long[2], losses2 = new long[2], total2 = new long[1];
+        cache.HandOdds(pockets1, mask("2s 7h 9d"), 0L, wins1, ties1, losses1, total1);
+        cache.HandOdds(pockets2, mask("2h 7s 9d"), 0L, wins2, ties2, losses2, total2);
+
+        assertEquals(1, cache.getMisses());
+        assertEquals(1, cache.getHits());
+        assertArrayEquals(wins1, wins2);
+        assertArrayEquals(ties1, ties2);
+        assertArrayEquals(losses1, losses2);
+        assertEquals(total1[0], total2[0]);
+
+        long[] wins = new long[2], ties = new long[2], losses = new long[2], total = new long[1];
+        HandEngine.HandOdds(pockets2, mask("2h 7s 9d"), 0L, wins, ties, losses, total);
+        assertArrayEquals(wins, wins2);
+        assertEquals(total[0], total2[0]);
+    }
+
+    @Test
+    public void shouldCacheEachQueryTypeSeparately() {
+        EquityCache cache = new EquityCache(16);
+        long pocket = mask("Ah Kd"), board = mask("Qs Jh 2c 7d");
+
+        double hs = cache.getHS(pocket, board, 2);
+        double ehs = cache.getEHS(pocket, board, 2);
+        assertEquals(HandEngine.getHS(pocket, board, 2), hs, 0);
+        assertEquals(HandEngine.getEHS(pocket, board, 2), ehs, 0);
+        assertEquals(hs, cache.getHS(mask("As Kh"), mask("Qd Js 2c 7h"), 2), 0);
+        assertEquals(HandEngine.getHS(pocket, board, 3), cache.getHS(pocket, board, 3), 0);
+
+        double[] ppot = new double[1], npot = new double[1];
+        cache.HandPotential(pocket, board, ppot, npot);
+        double[] player = new double[9], opponent = new double[9];
+        cache.HandPlayerOpponentOdds(pocket, board, player, opponent);
+        double[] player2 = new double[9], opponent2 = new double[9];
+        HandEngine.HandPlayerOpponentOdds(pocket, board, player2, opponent2);
+        assertArrayEquals(player2, player, 0);
+        assertArrayEquals(opponent2, opponent, 0);
+
+        assertEquals(1, cache.getHits());
+        assertEquals(5, cache.getMisses());
+        assertEquals(5, cache.size());
+    }
+
+    @Test
+    public void cachedOddsShouldNotDependOnFirstCallersArrays() {
+        EquityCache cache = new EquityCache(16);
+        long pocket = mask("Ah Kd"), board = mask("Qs Jh 2c 7d");
+
+        double[] player = new double[9], opponent = new double[9];
+        cache.HandPlayerOpponentOdds(pocket, board, player, opponent);
+
+        double[] larger = new double[12], largerOpponent = new double[12];
+        cache.HandPlayerOpponentOdds(pocket, board, larger, largerOpponent);
+        assertEquals(1, cache.getHits());
+        assertArrayEquals(player, Arrays.copyOf(larger, 9), 0);
+        assertArrayEquals(opponent, Arrays.copyOf(largerOpponent, 9), 0);
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsed() {
+        EquityCache cache = new EquityCache(2);
+        long board = mask("Qs Jh 2c 7d 8h");
+        cache.getHS(mask("Ah Kd"), board, 2);
+        cache.getHS(mask("Ah Qd"), board, 2);
+        cache.getHS(mask("Ah Kd"), board, 2);
+        cache.getHS(mask("Ah Jd"), board, 2);
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getHits());
+
+        // AhKd was used recently and stays, AhQd was evicted
+        cache.getHS(mask("Ah Kd"), board, 2);
+        assertEquals(2, cache.getHits());
+        cache.getHS(mask("Ah Qd"), board, 2);
+        assertEquals(2, cache.getHits());
+        assertEquals(4, cache.getMisses());
+    }
+}
@@ -1,5 +1,8 @@
 package pl.zimowski.karty;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
 import org.junit.Test;
 
 import org.slf4j.Logger;
@@ -87,6 +90,43 @@ public class EvaluateTest {
         }
     }
 
+    /**
+     * Hash of the values of all hands in colex order, and the number of hands
+     * of each type, as produced by the evaluator before the rank mask table.
+     */
+    @Test
+    public void evaluateShouldMatchChecksumOfAllHands() {
+        assertChecksum(5, 0x408150a2945810aaL,
+                1302540, 1098240, 123552, 54912, 10200, 5108, 3744, 624, 40);
+        assertChecksum(6, 0xfef065d11fd02874L,
+                6612900, 9730740, 2532816, 732160, 361620, 205792, 165984, 14664, 1844);
+        assertChecksum(7, 0xaee9b9b3b0699348L,
+                23294460, 58627800, 31433400, 6461620, 6180020, 4047644, 3473184, 224848, 41584);
+    }
+
+    private void assertChecksum(int aCards, long aHash, long... aTypes) {
+        long[] state = new long[1];
+        long[] values = new long[aTypes.length];
+        long[] types = new long[aTypes.length];
+        checksum(0L, 0, aCards, state, values, types);
+        assertEquals(aHash, state[0]);
+        assertArrayEquals(aTypes, values);
+        assertArrayEquals(aTypes, types);
+    }
+
+    private void checksum(long aMask, int aFrom, int aLeft, long[] aHash, long[] aValues, long[] aTypes) {
+        if (aLeft == 0) {
+            int cards = HandEngine.BitCount(aMask);
+            int value = HandEngine.Evaluate(aMask, cards);
+            aHash[0] = aHash[0] * 31 + value;
+            aValues[HandEngine.computeHandType(value)]++;
+            aTypes[HandEngine.EvaluateType(aMask, cards).ordinal()]++;
+            return;
+        }
+        for (int card = aFrom; card <= 52 - aLeft; card++)
+            checksum(aMask | 1L << card, card + 1, aLeft - 1, aHash, aValues, aTypes);
+    }
+
     private String[] deal(int aCards, int aPlayers) {
         int count = 0;
         long board = 0;
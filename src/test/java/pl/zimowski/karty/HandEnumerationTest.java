@@ -0,0 +1,154 @@
+package pl.zimowski.karty;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+
+import org.junit.Test;
+
+public class HandEnumerationTest {
+
+    private static final long POCKET = HandEngine.parseHand("As Ks");
+    private static final long FLOP = HandEngine.parseHand("Qs Jh 2c");
+
+    @Test
+    public void forEachHandShouldVisitSameHandsAsIterator() {
+        assertSameHands(0L, 0L, 2);
+        assertSameHands(0L, POCKET, 1);
+        assertSameHands(0L, POCKET | FLOP, 2);
+        assertSameHands(FLOP, POCKET, 5);
+        assertSameHands(0L, POCKET | FLOP, 3);
+        assertSameHands(FLOP, 0L, 3);
+    }
+
+    @Test
+    public void forEachHandShouldCountAllHands() {
+        final long[] count = new long[1];
+        HandEngine.forEachHand(5, mask -> count[0]++);
+        assertEquals(PokerMath.binomial(52, 5), count[0]);
+
+        count[0] = 0;
+        HandEngine.forEachHand(0L, POCKET, 5, mask -> count[0]++);
+        assertEquals(PokerMath.binomial(50, 5), count[0]);
+    }
+
+    @Test
+    public void iteratorShouldFollowForEachHandOrder() {
+        // nine pockets and a flop leave 31 live cards
+        long dead = HandEngine.parseHand("As Ks Qd Qh Tc 9c 8s 8d 7h 6h 5c 5d 4s 3s 2h 2d Jc Js");
+        assertSameOrder(FLOP, dead, 5);
+        assertSameOrder(0L, dead | FLOP, 2);
+        assertSameOrder(0L, dead | FLOP, 1);
+        assertSameOrder(FLOP, 0L, 3);
+        assertSameOrder(0L, POCKET, 4);
+    }
+
+    @Test
+    public void revolvingDoorShouldVisitSameHandsSwappingOneCard() {
+        assertRevolvingDoor(0L, 0L, 5);
+        // seven cards around a pocket, with most of the deck dead
+        assertRevolvingDoor(POCKET, HandEngine.parseHand("Qd Qh Tc 9c 8s 8d 7h 6h 5c 5d 4s 3s 2h 2d Jc Js Qs Jh"), 7);
+        assertRevolvingDoor(FLOP, POCKET, 5);
+        assertRevolvingDoor(0L, POCKET | FLOP, 4);
+        assertRevolvingDoor(0L, POCKET, 1);
+        assertRevolvingDoor(FLOP, 0L, 3);
+        assertRevolvingDoor(0L, ~0L << 3 & ((1L << 52) - 1), 3);
+    }
+
+    @Test
+    public void partialHandShouldFollowRevolvingDoor() {
+        final PartialHand hand = new PartialHand();
+        HandEngine.forEachHandRevolving(POCKET, 0L, 7, (mask, in, out) -> {
+            if (in < 0) {
+                for (int card = 0; card < 52; card++) {
+                    if ((mask & (1L << card)) != 0) {
+                        hand.add(card);
+                    }
+                }
+            }
+            else {
+                hand.replace(out, in);
+            }
+            assertEquals(mask, hand.getMask());
+            assertEquals(HandEngine.Evaluate(mask, 7), hand.evaluate());
+        });
+    }
+
+    @Test(expected = ArgumentOutOfRangeException.class)
+    public void forEachHandShouldRejectTooManySharedCards() {
+        HandEngine.forEachHand(FLOP, 0L, 2, mask -> { });
+    }
+
+    private void assertSameHands(long shared, long dead, int cards) {
+        int size = (int) PokerMath.binomial(
+            52 - HandEngine.BitCount(shared | dead), cards - HandEngine.BitCount(shared));
+
+        long[] expected = new long[size];
+        PrimitiveIterator.OfLong i = HandEngine.handIterator(shared, dead, cards);
+        int n = 0;
+        while (i.hasNext()) {
+            expected[n++] = i.nextLong();
+        }
+        assertEquals(size, n);
+
+        final long[] actual = new long[size];
+        final int[] m = new int[1];
+        HandEngine.forEachHand(shared, dead, cards, mask -> actual[m[0]++] = mask);
+        assertEquals(size, m[0]);
+
+        Arrays.sort(expected);
+        Arrays.sort(actual);
+        assertArrayEquals(expected, actual);
+    }
+
+    private void assertSameOrder(long shared, long dead, int cards) {
+        final long[] expected = new long[(int) PokerMath.binomial(
+            52 - HandEngine.BitCount(shared | dead), cards - HandEngine.BitCount(shared))];
+        final int[] n = new int[1];
+        HandEngine.forEachHand(shared, dead, cards, mask -> expected[n[0]++] = mask);
+        assertEquals(expected.length, n[0]);
+
+        PrimitiveIterator.OfLong i = HandEngine.handIterator(shared, dead, cards);
+        for (long mask : expected) {
+            assertEquals(mask, i.nextLong());
+        }
+        assertFalse(i.hasNext());
+    }
+
+    private void assertRevolvingDoor(long shared, long dead, int cards) {
+        int size = (int) PokerMath.binomial(
+            52 - HandEngine.BitCount(shared | dead), cards - HandEngine.BitCount(shared));
+
+        final long[] expected = new long[size];
+        final int[] n = new int[1];
+        HandEngine.forEachHand(shared, dead, cards, mask -> expected[n[0]++] = mask);
+        assertEquals(size, n[0]);
+
+        final long[] actual = new long[size];
+        final int[] m = new int[1];
+        HandEngine.forEachHandRevolving(shared, dead, cards, (mask, in, out) -> {
+            if (m[0] == 0) {
+                assertEquals(-1, in);
+                assertEquals(-1, out);
+            }
+            else {
+                long previous = actual[m[0] - 1];
+                assertEquals(previous & ~(1L << out) | (1L << in), mask);
+                assertTrue((previous & (1L << out)) != 0);
+                assertTrue((previous & (1L << in)) == 0);
+            }
+            assertTrue(m[0] < size);
+            actual[m[0]++] = mask;
+        });
+        assertEquals(size, m[0]);
+
+        // as many hands as there are, all of them, so none repeated
+        Arrays.sort(expected);
+        Arrays.sort(actual);
+        assertArrayEquals(expected, actual);
+    }
+}
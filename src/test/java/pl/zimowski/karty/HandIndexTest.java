@@ -0,0 +1,133 @@
+package pl.zimowski.karty;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.Test;
+
+public class HandIndexTest {
+
+    private static final long POCKET = HandEngine.parseHand("As Ks");
+    private static final long FLOP = HandEngine.parseHand("Qs Jh 2c");
+
+    @Test
+    public void sizeShouldMatchBinomial() {
+        assertEquals(PokerMath.binomial(52, 7), new HandIndex(0L, 0L, 7).size());
+        assertEquals(PokerMath.binomial(47, 2), new HandIndex(FLOP, POCKET, 5).size());
+        assertEquals(1, new HandIndex(FLOP, 0L, 3).size());
+        assertEquals(1, new HandIndex(0L, 0L, 0).size());
+    }
+
+    @Test
+    public void rankShouldInvertUnrank() {
+        assertRoundTrip(new HandIndex(0L, 0L, 2));
+        assertRoundTrip(new HandIndex(0L, POCKET | FLOP, 2));
+        assertRoundTrip(new HandIndex(FLOP, POCKET, 5));
+        assertRoundTrip(new HandIndex(FLOP, 0L, 3));
+        assertRoundTrip(new HandIndex(POCKET, FLOP, 4));
+    }
+
+    @Test
+    public void indexOrderShouldBeReverseOfForEachHand() {
+        assertReverseOfForEachHand(FLOP, POCKET, 5);
+        assertReverseOfForEachHand(0L, POCKET | FLOP, 3);
+        assertReverseOfForEachHand(0L, 0L, 1);
+    }
+
+    @Test
+    public void shouldResumeFromAnyIndex() {
+        HandIndex index = new HandIndex(0L, POCKET, 4);
+        long[] all = toArray(index.iterator());
+
+        IndexedHandIterator i = index.iterator(0, index.size());
+        for (int n = 0; n < 12345; n++) {
+            i.nextLong();
+        }
+        long checkpoint = i.getIndex();
+        assertEquals(12345, checkpoint);
+
+        long[] rest = toArray(index.iterator(checkpoint, index.size()));
+        assertEquals(all.length - checkpoint, rest.length);
+        for (int n = 0; n < rest.length; n++) {
+            assertEquals(all[(int) checkpoint + n], rest[n]);
+        }
+    }
+
+    @Test
+    public void equalPartsShouldCoverIndex() {
+        HandIndex index = new HandIndex(FLOP, POCKET, 5);
+        final List<Long> hands = new ArrayList<>();
+        int parts = 7;
+        for (int p = 0; p < parts; p++) {
+            long from = index.start(p, parts), to = index.start(p + 1, parts);
+            assertEquals(index.size() / parts, to - from, 1);
+            index.forEach(from, to, hands::add);
+        }
+        assertEquals(index.size(), hands.size());
+        assertEquals(index.size(), new HashSet<>(hands).size());
+    }
+
+    @Test
+    public void emptyRangeShouldHaveNoHands() {
+        HandIndex index = new HandIndex(FLOP, POCKET, 5);
+        assertFalse(index.iterator(10, 10).hasNext());
+        assertFalse(index.iterator(index.size(), index.size()).hasNext());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rankShouldRejectDeadCard() {
+        new HandIndex(FLOP, POCKET, 5).rank(FLOP | POCKET);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rankShouldRejectMissingSharedCard() {
+        new HandIndex(FLOP, 0L, 4).rank(HandEngine.parseHand("Qs Jh 3c 4c"));
+    }
+
+    @Test(expected = ArgumentOutOfRangeException.class)
+    public void unrankShouldRejectIndexPastEnd() {
+        HandIndex index = new HandIndex(FLOP, POCKET, 5);
+        index.unrank(index.size());
+    }
+
+    private void assertRoundTrip(HandIndex index) {
+        IndexedHandIterator i = index.iterator();
+        for (long n = 0; n < index.size(); n++) {
+            long hand = i.nextLong();
+            assertEquals(hand, index.unrank(n));
+            assertEquals(n, index.rank(hand));
+        }
+        assertFalse(i.hasNext());
+    }
+
+    private void assertReverseOfForEachHand(long shared, long dead, int cards) {
+        final List<Long> expected = new ArrayList<>();
+        HandEngine.forEachHand(shared, dead, cards, expected::add);
+        Collections.reverse(expected);
+
+        long[] actual = toArray(new HandIndex(shared, dead, cards).iterator());
+        long[] reversed = new long[expected.size()];
+        for (int n = 0; n < reversed.length; n++) {
+            reversed[n] = expected.get(n);
+        }
+        assertArrayEquals(reversed, actual);
+    }
+
+    private long[] toArray(IndexedHandIterator i) {
+        List<Long> hands = new ArrayList<>();
+        while (i.hasNext()) {
+            hands.add(i.nextLong());
+        }
+        long[] result = new long[hands.size()];
+        for (int n = 0; n < result.length; n++) {
+            result[n] = hands.get(n);
+        }
+        return result;
+    }
+}
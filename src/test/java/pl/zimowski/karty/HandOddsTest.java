@@ -0,0 +1,71 @@
+package pl.zimowski.karty;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class HandOddsTest {
+
+    @Test
+    public void shouldEnumerateAllBoardsHeadsUp() {
+        long[] wins = new long[2], ties = new long[2], losses = new long[2], total = new long[1];
+        HandEngine.HandOdds(new String[] {"As Ks", "Qd Qh"}, "", "", wins, ties, losses, total);
+
+        assertEquals(PokerMath.binomial(48, 5), total[0]);
+        assertEquals(wins[0], losses[1]);
+        assertEquals(wins[1], losses[0]);
+        assertEquals(ties[0], ties[1]);
+        assertEquals(total[0], wins[0] + ties[0] + losses[0]);
+    }
+
+    @Test
+    public void parallelShouldMatchSerial() {
+        assertParallelMatchesSerial(new String[] {"As Ks", "Qd Qh"}, "", "2c");
+        assertParallelMatchesSerial(new String[] {"As Ks", "Qd Qh", "Tc 9c"}, "Qs Jh 2c", "");
+        assertParallelMatchesSerial(new String[] {"7s 7c", "Ah 4d"}, "Kd 7h 2s 3c", "");
+        assertParallelMatchesSerial(new String[] {"7s 7c", "Ah 4d"}, "Kd 7h 2s 3c 5h", "");
+    }
+
+    @Test
+    public void indexRangesShouldSumUpToFullEnumeration() {
+        long[] pockets = {HandEngine.parseHand("As Ks"), HandEngine.parseHand("Qd Qh")};
+        long board = HandEngine.parseHand("Qs Jh"), dead = HandEngine.parseHand("2c");
+        long[] wins = new long[2], ties = new long[2], losses = new long[2], total = new long[1];
+        HandEngine.HandOdds(pockets, board, dead, wins, ties, losses, total);
+
+        HandIndex index = new HandIndex(board, dead | pockets[0] | pockets[1], 5);
+        long[] swins = new long[2], sties = new long[2], slosses = new long[2], stotal = new long[1];
+        int parts = 5;
+        for (int p = 0; p < parts; p++) {
+            long[] pwins = new long[2], pties = new long[2], plosses = new long[2], ptotal = new long[1];
+            HandEngine.HandOdds(pockets, board, dead, index.start(p, parts), index.start(p + 1, parts),
+                pwins, pties, plosses, ptotal);
+            for (int i = 0; i < 2; i++) {
+                swins[i] += pwins[i];
+                sties[i] += pties[i];
+                slosses[i] += plosses[i];
+            }
+            stotal[0] += ptotal[0];
+        }
+        assertArrayEquals(wins, swins);
+        assertArrayEquals(ties, sties);
+        assertArrayEquals(losses, slosses);
+        assertArrayEquals(total, stotal);
+    }
+
+    private void assertParallelMatchesSerial(String[] pockets, String board, String dead) {
+        int n = pockets.length;
+        long[] wins = new long[n], ties = new long[n], losses = new long[n], total = new long[1];
+        HandEngine.HandOdds(pockets, board, dead, wins, ties, losses, total);
+
+        for (int parallelism : new int[] {0, 1, 3}) {
+            long[] pwins = new long[n], pties = new long[n], plosses = new long[n], ptotal = new long[1];
+            HandEngine.HandOddsParallel(pockets, board, dead, pwins, pties, plosses, ptotal, parallelism);
+            assertArrayEquals(wins, pwins);
+            assertArrayEquals(ties, pties);
+            assertArrayEquals(losses, plosses);
+            assertArrayEquals(total, ptotal);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package pl.zimowski.karty;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Spliterator;
+
+import org.junit.Test;
+
+public class HandSpliteratorTest {
+
+    private static final long POCKET = HandEngine.parseHand("As Ks");
+    private static final long FLOP = HandEngine.parseHand("Qs Jh 2c");
+
+    @Test
+    public void streamShouldVisitSameHandsAsForEachHand() {
+        assertSameHands(0L, 0L, 2);
+        assertSameHands(FLOP, POCKET, 5);
+        assertSameHands(0L, POCKET | FLOP, 4);
+        assertSameHands(FLOP, 0L, 3);
+    }
+
+    @Test
+    public void streamShouldBeSorted() {
+        long[] hands = HandEngine.handStream(0L, POCKET, 3).toArray();
+        long[] sorted = hands.clone();
+        Arrays.sort(sorted);
+        assertArrayEquals(sorted, hands);
+    }
+
+    @Test
+    public void parallelStreamShouldMatchSequential() {
+        long[] sequential = HandEngine.handStream(0L, POCKET, 5).toArray();
+        long[] parallel = HandEngine.handStream(0L, POCKET, 5).parallel().toArray();
+        assertArrayEquals(sequential, parallel);
+
+        assertEquals(PokerMath.binomial(50, 5), HandEngine.handStream(0L, POCKET, 5).parallel().count());
+        assertEquals(
+            HandEngine.handStream(0L, POCKET, 5).map(h -> HandEngine.Evaluate(h, 5)).sum(),
+            HandEngine.handStream(0L, POCKET, 5).parallel().map(h -> HandEngine.Evaluate(h, 5)).sum());
+    }
+
+    @Test
+    public void splitShouldHalveExactSize() {
+        HandSpliterator s = new HandSpliterator(new HandIndex(0L, POCKET, 4));
+        assertTrue(s.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+        long size = s.getExactSizeIfKnown();
+        assertEquals(PokerMath.binomial(50, 4), size);
+
+        s.tryAdvance((long h) -> { });
+        Spliterator.OfLong prefix = s.trySplit();
+        assertNotNull(prefix);
+        assertEquals(size - 1, prefix.getExactSizeIfKnown() + s.getExactSizeIfKnown());
+        assertEquals(prefix.getExactSizeIfKnown(), s.getExactSizeIfKnown(), 1);
+    }
+
+    @Test
+    public void smallRangeShouldNotSplit() {
+        assertNull(new HandSpliterator(new HandIndex(FLOP, POCKET, 4)).trySplit());
+    }
+
+    private void assertSameHands(long shared, long dead, int cards) {
+        final long[] expected = new long[(int) new HandIndex(shared, dead, cards).size()];
+        final int[] n = new int[1];
+        HandEngine.forEachHand(shared, dead, cards, mask -> expected[n[0]++] = mask);
+        Arrays.sort(expected);
+
+        assertArrayEquals(expected, HandEngine.handStream(shared, dead, cards).toArray());
+        assertArrayEquals(expected, HandEngine.handStream(shared, dead, cards).parallel().toArray());
+    }
+}
@@ -0,0 +1,39 @@
+package pl.zimowski.karty;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class LookupHandEvaluatorTest {
+
+    private final HandEvaluator lookup = HandEvaluator.lookup();
+
+    @Test
+    public void shouldMatchStandardEvaluatorOnAllHands() {
+        for (int cards = 1; cards <= 7; cards++) {
+            final int n = cards;
+            final long[] mismatches = new long[1];
+            final long[] count = new long[1];
+            HandEngine.forEachHand(n, mask -> {
+                count[0]++;
+                if (lookup.evaluate(mask, n) != HandEngine.Evaluate(mask, n)) {
+                    mismatches[0]++;
+                }
+            });
+            assertEquals("hands of " + n, PokerMath.binomial(52, n), count[0]);
+            assertEquals("mismatches in hands of " + n, 0L, mismatches[0]);
+        }
+    }
+
+    @Test
+    public void shouldCountCardsWhenNotGiven() {
+        long mask = HandEngine.parseHand("As Ks Qs Js Ts 2c 2d");
+        assertEquals(HandEngine.Evaluate(mask), lookup.evaluate(mask));
+        assertEquals(HandEngine.Evaluate(mask), HandEvaluator.STANDARD.evaluate(mask));
+    }
+
+    @Test(expected = ArgumentOutOfRangeException.class)
+    public void shouldRejectTooManyCards() {
+        lookup.evaluate(HandEngine.parseHand("As Ks Qs Js Ts 2c 2d 3d"), 8);
+    }
+}
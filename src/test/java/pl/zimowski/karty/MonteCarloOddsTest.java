@@ -0,0 +1,76 @@
+package pl.zimowski.karty;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class MonteCarloOddsTest {
+
+    private static final String[] POCKETS = {"As Ks", "Qd Qh", "7c 6c"};
+    private static final String BOARD = "Qs Jh 2c";
+
+    @Test
+    public void shouldConvergeToExhaustiveEquity() {
+        assertCloseToExhaustive(HandEngine.HandOddsMonteCarlo(POCKETS, BOARD, "", 0.004, 0, 0, 1));
+    }
+
+    @Test
+    public void shouldConvergeWithMultipleThreads() {
+        assertCloseToExhaustive(HandEngine.HandOddsMonteCarlo(POCKETS, BOARD, "", 0.004, 0, 0, 3));
+    }
+
+    @Test
+    public void shouldStopOnTrialBudget() {
+        MonteCarloOdds odds = HandEngine.HandOddsMonteCarlo(POCKETS, "", "", 0.00001, 10000, 0, 2);
+        assertFalse(odds.isConverged());
+        assertTrue(odds.getTrials() >= 10000);
+        assertTrue(odds.getTrials() < 10000 + 2 * MonteCarloOdds.BATCH);
+    }
+
+    @Test
+    public void completeBoardShouldNeedNoSampling() {
+        MonteCarloOdds odds = HandEngine.HandOddsMonteCarlo(
+            new String[] {"As Ks", "Ad Kd"}, "Qs Jh 2c 7d 8h", "", 0.01, 0, 0, 1);
+        assertTrue(odds.isConverged());
+        assertEquals(0.5, odds.getEquity(0), 0);
+        assertEquals(0.0, odds.getMarginOfError(0), 0);
+    }
+
+    @Test
+    public void sameSeedShouldReplaySameEstimate() {
+        for (int threads : new int[] {1, 3}) {
+            MonteCarloOdds first = HandEngine.HandOddsMonteCarlo(POCKETS, BOARD, "", 0, 8000, 0, threads, 42L);
+            MonteCarloOdds second = HandEngine.HandOddsMonteCarlo(POCKETS, BOARD, "", 0, 8000, 0, threads, 42L);
+            assertEquals(first.getTrials(), second.getTrials());
+            for (int i = 0; i < POCKETS.length; i++) {
+                assertEquals(first.getEquity(i), second.getEquity(i), 0);
+                assertEquals(first.getStandardError(i), second.getStandardError(i), 0);
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRequireStoppingRule() {
+        HandEngine.HandOddsMonteCarlo(POCKETS, BOARD, "", 0, 0, 0, 1);
+    }
+
+    private void assertCloseToExhaustive(MonteCarloOdds odds) {
+        int n = POCKETS.length;
+        long[] wins = new long[n], ties = new long[n], losses = new long[n], total = new long[1];
+        HandEngine.HandOdds(POCKETS, BOARD, "", wins, ties, losses, total);
+
+        assertTrue(odds.isConverged());
+        double sum = 0;
+        for (int i = 0; i < n; i++) {
+            assertTrue(odds.getStandardError(i) <= 0.004);
+            // ties on this board are at most two way, which makes the
+            // exhaustive equity exact
+            double exact = (wins[i] + ties[i] / 2.0) / total[0];
+            assertEquals(exact, odds.getEquity(i), 5 * odds.getStandardError(i));
+            sum += odds.getEquity(i);
+        }
+        assertEquals(1.0, sum, 1e-9);
+    }
+}
@@ -0,0 +1,40 @@
+package pl.zimowski.karty;
+
+import static org.junit.Assert.assertEquals;
+
+import java.net.URL;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+/**
+ * The whole suite runs once against the Java 8 classes and once more against
+ * the versioned classes of every release the build is able to compile (see
+ * surefire executions in the pom), so that each variant is held to the same
+ * results. This makes sure a run tests the variant it claims to.
+ */
+public class MultiReleaseTest {
+
+    private static final Pattern VERSIONED = Pattern.compile("META-INF/versions/(\\d+)/");
+
+    private static final int RELEASE = Integer.getInteger("karty.release", 8);
+
+    @Test
+    public void vectorEvaluatorShouldBeThereFromRelease17() {
+        URL vector = BatchEvaluator.class.getResource("VectorBatchEvaluator.class");
+        assertEquals(RELEASE >= 17, vector != null);
+    }
+
+    @Test
+    public void vectorEvaluatorShouldBeThatOfRelease17() {
+        URL vector = BatchEvaluator.class.getResource("VectorBatchEvaluator.class");
+        if (vector != null)
+            assertEquals(17, release(vector));
+    }
+
+    private static int release(URL url) {
+        Matcher m = VERSIONED.matcher(url.toString());
+        return m.find() ? Integer.parseInt(m.group(1)) : 8;
+    }
+}
@@ -0,0 +1,61 @@
+package pl.zimowski.karty;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class PartialHandTest {
+
+    @Test
+    public void shouldMatchEvaluateWithOneAndTwoExtraCards() {
+        CardRandom rand = CardRandom.xoroshiro(11L);
+        for (int base = 0; base <= 5; base++) {
+            for (int trial = 0; trial < 2000; trial++) {
+                CardSampler sampler = new CardSampler(0L);
+                long mask = sampler.sample(base, rand);
+                PartialHand hand = new PartialHand(mask);
+                int[] live = HandEngine.liveCards(mask);
+                for (int i = 0; i < live.length; i++) {
+                    long one = mask | HandEngine.lookupMaskByIndex(live[i]);
+                    assertEquals(HandEngine.Evaluate(one, base + 1), hand.evaluateWith(live[i]));
+                    int j = (i + 1 + rand.nextInt(live.length - 1)) % live.length;
+                    long two = one | HandEngine.lookupMaskByIndex(live[j]);
+                    assertEquals(HandEngine.Evaluate(two, base + 2), hand.evaluateWith(live[i], live[j]));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void shouldMatchEvaluateOnFlushBoards() {
+        long mask = HandEngine.parseHand("As Ks Qs 2s 3s 4d");
+        PartialHand hand = new PartialHand(mask);
+        for (int card : HandEngine.liveCards(mask)) {
+            long hand7 = mask | HandEngine.lookupMaskByIndex(card);
+            assertEquals(HandEngine.Evaluate(hand7, 7), hand.evaluateWith(card));
+        }
+        assertEquals(HandEngine.Evaluate(mask, 6), hand.evaluate());
+    }
+
+    @Test
+    public void shouldAddAndRemoveCards() {
+        long mask = HandEngine.parseHand("Ah Kd 7c");
+        PartialHand hand = new PartialHand(mask);
+        int card = Long.numberOfTrailingZeros(HandEngine.parseHand("7h"));
+        hand.add(card);
+        assertTrue(hand.contains(card));
+        assertEquals(4, hand.getCardCount());
+        assertEquals(HandEngine.Evaluate(mask | HandEngine.lookupMaskByIndex(card)), hand.evaluate());
+        hand.remove(card);
+        assertFalse(hand.contains(card));
+        assertEquals(mask, hand.getMask());
+        assertEquals(HandEngine.Evaluate(mask), hand.evaluate());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectDuplicateCard() {
+        new PartialHand(HandEngine.lookupMaskByIndex(5)).add(5);
+    }
+}
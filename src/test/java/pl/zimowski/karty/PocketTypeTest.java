@@ -0,0 +1,121 @@
+package pl.zimowski.karty;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+import pl.zimowski.karty.tables.Pocket169Table;
+import pl.zimowski.karty.tables.TwoCardTable;
+
+public class PocketTypeTest {
+
+    @Test
+    public void pocketIndexShouldBeDense() {
+        boolean[] seen = new boolean[1326];
+        for (long pocket : TwoCardTable.TABLE) {
+            int index = HandEngine.PocketIndex(pocket);
+            assertEquals(false, seen[index]);
+            seen[index] = true;
+            assertEquals(pocket, PreflopEquityTable.pocketMask(index));
+        }
+        assertEquals(0, HandEngine.PocketIndex(HandEngine.parseHand("2c 3c")));
+        assertEquals(1325, HandEngine.PocketIndex(HandEngine.parseHand("Ks As")));
+    }
+
+    @Test
+    public void pocketTypeShouldMatchPocketClasses() {
+        PocketHand169Enum[] classes = PocketHand169Enum.values();
+        for (int c = 0; c < Pocket169Table.TABLE.length; c++) {
+            for (long pocket : Pocket169Table.TABLE[c])
+                assertSame(classes[c], HandEngine.PocketHand169Type(pocket));
+        }
+        assertSame(PocketHand169Enum.PocketAKs, HandEngine.PocketHand169Type(HandEngine.parseHand("Ah Kh")));
+        assertSame(PocketHand169Enum.Pocket72o, HandEngine.PocketHand169Type(HandEngine.parseHand("7d 2c")));
+    }
+
+    @Test
+    public void groupTypeShouldMatchPocketGroupings() {
+        // pockets in each group of PocketHands._PocketGroupings
+        int[] expected = {28, 30, 34, 50, 98, 64, 98, 132, 792};
+        int[] counts = new int[GroupTypeEnum.values().length];
+        for (long pocket : TwoCardTable.TABLE)
+            counts[HandEngine.GroupType(pocket).ordinal()]++;
+        for (int g = 0; g < expected.length; g++)
+            assertEquals(GroupTypeEnum.values()[g].name(), expected[g], counts[g]);
+
+        assertSame(GroupTypeEnum.Group1, HandEngine.GroupType(HandEngine.parseHand("As Ad")));
+        assertSame(GroupTypeEnum.Group1, HandEngine.GroupType(HandEngine.parseHand("Ac Kc")));
+        assertSame(GroupTypeEnum.Group2, HandEngine.GroupType(HandEngine.parseHand("Ac Kd")));
+        assertSame(GroupTypeEnum.None, HandEngine.GroupType(HandEngine.parseHand("7c 2d")));
+    }
+
+    @Test(expected = ArgumentOutOfRangeException.class)
+    public void pocketTypeShouldRequireTwoCards() {
+        HandEngine.PocketHand169Type(HandEngine.parseHand("As Ks Qs"));
+    }
+
+    @Test(expected = ArgumentOutOfRangeException.class)
+    public void groupTypeShouldRequireTwoCards() {
+        HandEngine.GroupType(HandEngine.parseHand("As"));
+    }
+
+    /**
+     * Threads are released together so, when this test runs first, they
+     * race on the very first lookup as well.
+     */
+    @Test
+    public void concurrentLookupsShouldAgree() throws Exception {
+        final long[] pockets = TwoCardTable.TABLE;
+        final PocketHand169Enum[] expected = new PocketHand169Enum[pockets.length];
+        for (int c = 0; c < Pocket169Table.TABLE.length; c++) {
+            for (long pocket : Pocket169Table.TABLE[c]) {
+                for (int i = 0; i < pockets.length; i++) {
+                    if (pockets[i] == pocket)
+                        expected[i] = PocketHand169Enum.values()[c];
+                }
+            }
+        }
+
+        int threads = 8;
+        final CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                final int offset = t * 97;
+                results.add(executor.submit(new Callable<Integer>() {
+                    @Override
+                    public Integer call() throws Exception {
+                        start.await();
+                        int wrong = 0;
+                        for (int round = 0; round < 200; round++) {
+                            for (int n = 0; n < pockets.length; n++) {
+                                int i = (n + offset) % pockets.length;
+                                if (HandEngine.PocketHand169Type(pockets[i]) != expected[i])
+                                    wrong++;
+                                if (HandEngine.GroupType(pockets[i]) == null)
+                                    wrong++;
+                            }
+                        }
+                        return wrong;
+                    }
+                }));
+            }
+            start.countDown();
+            for (Future<Integer> result : results)
+                assertEquals(0, result.get().intValue());
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+}
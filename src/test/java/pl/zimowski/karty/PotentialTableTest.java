@@ -0,0 +1,158 @@
+package pl.zimowski.karty;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+public class PotentialTableTest {
+
+    @Test
+    public void canonicalFlopsShouldCoverEveryFlop() {
+        int[] keys = PotentialTableGenerator.canonicalKeys(3);
+        assertEquals(1286792, keys.length);
+        for (int k = 1; k < keys.length; k++)
+            assertTrue(keys[k - 1] < keys[k]);
+
+        long pocket = HandEngine.parseHand("Ah Kd"), board = HandEngine.parseHand("Qs Js 2c");
+        long[] canonical = SuitIsomorphism.canonicalize(pocket, board);
+        assertTrue(Arrays.binarySearch(keys, PotentialTable.key(canonical[0], canonical[1])) >= 0);
+    }
+
+    @Test
+    public void tableShouldMatchComputedSpots() throws IOException {
+        String[][] spots = {
+            { "Ah Kd", "Qs Js 2c" },
+            { "7c 2d", "Ah Kd Qs" },
+            { "9h 8h", "7h 6c 2h" },
+            { "As Ad", "Ac Ks Kd" },
+            { "5c 5d", "5h 5s Kd 2c" },
+            { "Jc Tc", "9c 8d 2s 3h" },
+        };
+
+        Path flopFile = Files.createTempFile("potential", ".bin");
+        Path turnFile = Files.createTempFile("potential", ".bin");
+        try {
+            write(flopFile, 3, spots);
+            PotentialTable flop = PotentialTable.open(flopFile);
+            write(turnFile, 4, spots);
+            PotentialTable turn = PotentialTable.open(turnFile);
+            assertEquals(3, flop.getBoardCards());
+            assertEquals(4, flop.size());
+            assertEquals(4, turn.getBoardCards());
+            assertEquals(2, turn.size());
+
+            for (String[] spot : spots) {
+                long pocket = HandEngine.parseHand(spot[0]), board = HandEngine.parseHand(spot[1]);
+                PotentialTable table = HandEngine.BitCount(board) == 3 ? flop : turn;
+                // every suit permutation of a spot is the same state
+                for (int[] permutation : SuitPermutations.ALL)
+                    assertSameSpot(table, SuitPermutations.apply(pocket, permutation),
+                        SuitPermutations.apply(board, permutation));
+            }
+
+            assertEquals(-1, flop.find(HandEngine.parseHand("Ah Kd"), HandEngine.parseHand("Qs Js 3c")));
+            assertEquals(-1, flop.find(HandEngine.parseHand("Ah Kd"), HandEngine.parseHand("Qs Js 2c 3c")));
+            assertEquals(-1, flop.find(HandEngine.parseHand("Ah"), HandEngine.parseHand("Qs Js 2c")));
+            assertEquals(-1, flop.find(HandEngine.parseHand("Ah Kd"), HandEngine.parseHand("Ah Js 2c")));
+        }
+        finally {
+            Files.delete(flopFile);
+            Files.delete(turnFile);
+        }
+    }
+
+    @Test
+    public void engineShouldReadSpotsOutOfTable() throws IOException {
+        long pocket = HandEngine.parseHand("Ah Kd"), board = HandEngine.parseHand("Qs Js 2c");
+        long[] canonical = SuitIsomorphism.canonicalize(pocket, board);
+
+        // made up counts, which cannot be confused with computed ones
+        int opponents = 47 * 46 / 2;
+        Path file = Files.createTempFile("potential", ".bin");
+        try {
+            PotentialTableGenerator.write(file, 3, new int[] { PotentialTable.key(canonical[0], canonical[1]) },
+                new short[] { (short)(opponents / 2) }, new short[] { 0 }, new int[] { 99000 }, new int[] { 0 });
+            PotentialTable table = PotentialTable.open(file);
+
+            double[] ppot = new double[1], npot = new double[1];
+            HandEngine.usePotentialTable(table);
+            try {
+                HandEngine.HandPotential(pocket, board, ppot, npot);
+                assertEquals(table.getPPot(0), ppot[0], 0);
+                assertEquals(0.0, npot[0], 0);
+                assertEquals(table.getHS(0, 2), HandEngine.getHS(pocket, board, 2), 0);
+                assertEquals(table.getEHS(0, 3), HandEngine.getEHS(pocket, board, 3), 0);
+                assertEquals(0.5, HandEngine.getHS(pocket, board, 2), 1e-3);
+
+                // spots the table does not have are computed
+                long other = HandEngine.parseHand("Qs Js 3c");
+                HandEngine.clearPotentialTables();
+                double hs = HandEngine.getHS(pocket, other, 2);
+                HandEngine.usePotentialTable(table);
+                assertEquals(hs, HandEngine.getHS(pocket, other, 2), 0);
+            }
+            finally {
+                HandEngine.clearPotentialTables();
+            }
+
+            assertTrue(HandEngine.getHS(pocket, board, 2) != table.getHS(0, 2));
+        }
+        finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void shouldRejectForeignFile() throws IOException {
+        Path file = Files.createTempFile("potential", ".bin");
+        try {
+            Files.write(file, new byte[64]);
+            PotentialTable.open(file);
+        }
+        finally {
+            Files.delete(file);
+        }
+    }
+
+    private static void assertSameSpot(PotentialTable table, long pocket, long board) {
+        int state = table.find(pocket, board);
+        assertTrue(state >= 0);
+
+        double[] ppot = new double[1], npot = new double[1];
+        HandEngine.HandPotential(pocket, board, ppot, npot);
+        assertEquals(ppot[0], table.getPPot(state), 0);
+        assertEquals(npot[0], table.getNPot(state), 0);
+        for (int players = 2; players <= 4; players++) {
+            assertEquals(HandEngine.getHS(pocket, board, players), table.getHS(state, players), 0);
+            assertEquals(HandEngine.getEHS(pocket, board, players), table.getEHS(state, players), 0);
+        }
+    }
+
+    /**
+     * Writes a table of the spots with the given number of board cards.
+     */
+    private static void write(Path file, int boardCards, String[][] spots) throws IOException {
+        int[] keys = new int[spots.length];
+        int n = 0;
+        for (String[] spot : spots) {
+            long pocket = HandEngine.parseHand(spot[0]), board = HandEngine.parseHand(spot[1]);
+            if (HandEngine.BitCount(board) != boardCards)
+                continue;
+            long[] canonical = SuitIsomorphism.canonicalize(pocket, board);
+            keys[n++] = PotentialTable.key(canonical[0], canonical[1]);
+        }
+        keys = Arrays.copyOf(keys, n);
+        Arrays.sort(keys);
+
+        short[] ahead = new short[n], tied = new short[n];
+        int[] ppot = new int[n], npot = new int[n];
+        PotentialTableGenerator.compute(boardCards, keys, ahead, tied, ppot, npot, 2);
+        PotentialTableGenerator.write(file, boardCards, keys, ahead, tied, ppot, npot);
+    }
+}
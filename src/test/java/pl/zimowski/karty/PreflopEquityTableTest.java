@@ -0,0 +1,92 @@
+package pl.zimowski.karty;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Test;
+
+public class PreflopEquityTableTest {
+
+    @Test
+    public void pocketIndexShouldRoundTrip() {
+        for (int i = 0; i < PreflopEquityTable.POCKETS; i++) {
+            long mask = PreflopEquityTable.pocketMask(i);
+            assertEquals(2, HandEngine.BitCount(mask));
+            assertEquals(i, PreflopEquityTable.pocketIndex(mask));
+        }
+    }
+
+    @Test
+    public void matchupShouldAgreeWithHandOdds() {
+        String[][] spots = {{"As Ks", "Qd Qh"}, {"7c 6c", "7d 6d"}, {"Ah Ad", "Kh Kd"}};
+        for (String[] spot : spots) {
+            long[] wins = new long[2], ties = new long[2], losses = new long[2], total = new long[1];
+            HandEngine.HandOdds(spot, "", "", wins, ties, losses, total);
+            int[] result = new int[2];
+            PreflopEquityGenerator.matchup(HandEngine.parseHand(spot[0]), HandEngine.parseHand(spot[1]), result);
+            assertEquals(PreflopEquityTable.BOARDS, total[0]);
+            assertEquals(wins[0], result[0]);
+            assertEquals(ties[0], result[1]);
+        }
+    }
+
+    @Test
+    public void suitPermutedMatchupsShouldShareCanonicalKey() {
+        long pocket1 = HandEngine.parseHand("As Kd"), pocket2 = HandEngine.parseHand("Qs Qh");
+        int key = PreflopEquityGenerator.canonicalMatchup(pocket1, pocket2);
+        for (int[] permutation : SuitPermutations.ALL) {
+            assertEquals(key, PreflopEquityGenerator.canonicalMatchup(
+                SuitPermutations.apply(pocket1, permutation), SuitPermutations.apply(pocket2, permutation)));
+        }
+        assertTrue(key != PreflopEquityGenerator.canonicalMatchup(pocket2, pocket1));
+    }
+
+    @Test
+    public void shouldServeWrittenMatchupsFromMappedFile() throws IOException {
+        int[] wins = new int[PreflopEquityTable.MATCHUPS], ties = new int[PreflopEquityTable.MATCHUPS];
+        for (int t = 0; t < wins.length; t++) {
+            wins[t] = t % 1000003;
+            ties[t] = t % 7919;
+        }
+
+        Path file = Files.createTempFile("preflop", ".bin");
+        try {
+            PreflopEquityGenerator.write(file, wins, ties);
+            PreflopEquityTable table = PreflopEquityTable.open(file);
+
+            long lo = HandEngine.parseHand("2c 3c"), hi = HandEngine.parseHand("As Ks");
+            int i = PreflopEquityTable.pocketIndex(lo), j = PreflopEquityTable.pocketIndex(hi);
+            assertTrue(i < j);
+            int t = j * (j - 1) / 2 + i;
+            assertEquals(wins[t], table.getWins(lo, hi));
+            assertEquals(ties[t], table.getTies(lo, hi));
+            assertEquals(ties[t], table.getTies(hi, lo));
+            assertEquals(PreflopEquityTable.BOARDS - wins[t] - ties[t], table.getWins(hi, lo));
+            assertEquals(table.getWins(hi, lo), table.getLosses(lo, hi));
+            assertEquals(1.0, table.getEquity(lo, hi) + table.getEquity(hi, lo), 1e-12);
+
+            double classEquity = table.getEquity(PocketHand169Enum.PocketAA, PocketHand169Enum.PocketKK);
+            assertTrue(classEquity > 0 && classEquity < 1);
+            assertEquals(1.0, classEquity
+                + table.getEquity(PocketHand169Enum.PocketKK, PocketHand169Enum.PocketAA), 1e-9);
+        }
+        finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void shouldRejectForeignFile() throws IOException {
+        Path file = Files.createTempFile("preflop", ".bin");
+        try {
+            PreflopEquityTable.open(file);
+        }
+        finally {
+            Files.delete(file);
+        }
+    }
+}
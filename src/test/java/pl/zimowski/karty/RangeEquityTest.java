@@ -0,0 +1,106 @@
+package pl.zimowski.karty;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+public class RangeEquityTest {
+
+    @Test
+    public void shouldParseNotation() {
+        assertEquals(18, HandRange.parse("QQ+").getComboCount());
+        assertEquals(4, HandRange.parse("AKs").getComboCount());
+        assertEquals(16, HandRange.parse("AK").getComboCount());
+        assertEquals(48, HandRange.parse("ATo+").getComboCount());
+        assertEquals(18, HandRange.parse("22-44").getComboCount());
+        assertEquals(16, HandRange.parse("A2s-A5s").getComboCount());
+        assertEquals(1, HandRange.parse("AsKs").getComboCount());
+        assertEquals(18 + 4 + 48, HandRange.parse("QQ+, AKs, ATo+").getComboCount());
+
+        HandRange range = HandRange.parse("QQ+, AKs:0.5");
+        assertEquals(0.5, range.getWeight(HandEngine.parseHand("Ah Kh")), 0);
+        assertEquals(1.0, range.getWeight(HandEngine.parseHand("Qh Qc")), 0);
+        assertEquals(0.0, range.getWeight(HandEngine.parseHand("Ah Kd")), 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectBadNotation() {
+        HandRange.parse("AKx");
+    }
+
+    @Test
+    public void shouldRejectWeightsThatAreNotFinite() {
+        for (String notation : new String[] {"AKs:NaN", "AKs:Infinity", "AKs:-1"}) {
+            try {
+                HandRange.parse(notation);
+                fail(notation);
+            }
+            catch (IllegalArgumentException e) {
+                // expected
+            }
+        }
+        for (double weight : new double[] {Double.NaN, Double.POSITIVE_INFINITY, -0.5}) {
+            try {
+                new HandRange().add(HandEngine.parseHand("As Ks"), weight);
+                fail(String.valueOf(weight));
+            }
+            catch (IllegalArgumentException e) {
+                // expected
+            }
+        }
+    }
+
+    @Test
+    public void singleCombosShouldMatchHandOdds() {
+        String[] pockets = {"As Ks", "Qd Qh"};
+        long[] wins = new long[2], ties = new long[2], losses = new long[2], total = new long[1];
+        HandEngine.HandOdds(pockets, "Qs Jh 2c", "", wins, ties, losses, total);
+
+        double[] equity = RangeEquity.exact(new HandRange[] {
+            HandRange.parse("AsKs"), HandRange.parse("QdQh")}, HandEngine.parseHand("Qs Jh 2c"), 0L);
+        for (int i = 0; i < 2; i++) {
+            assertEquals((wins[i] + ties[i] / 2.0) / total[0], equity[i], 1e-12);
+        }
+    }
+
+    @Test
+    public void exactShouldMatchWeightedPairwiseHandOdds() {
+        HandRange hero = HandRange.parse("QQ+, AKs:0.5");
+        HandRange villain = HandRange.parse("JJ, AQo+");
+        long board = HandEngine.parseHand("Qs Jh 2c");
+
+        double weighted = 0, weights = 0;
+        for (int i = 0; i < PreflopEquityTable.POCKETS; i++) {
+            long p1 = PreflopEquityTable.pocketMask(i);
+            if (hero.getWeight(p1) == 0 || (p1 & board) != 0) continue;
+            for (int j = 0; j < PreflopEquityTable.POCKETS; j++) {
+                long p2 = PreflopEquityTable.pocketMask(j);
+                if (villain.getWeight(p2) == 0 || ((p1 | board) & p2) != 0) continue;
+                long[] wins = new long[2], ties = new long[2], losses = new long[2], total = new long[1];
+                HandEngine.HandOdds(new long[] {p1, p2}, board, 0L, wins, ties, losses, total);
+                double w = hero.getWeight(p1) * villain.getWeight(p2);
+                weighted += w * (wins[0] + ties[0] / 2.0) / total[0];
+                weights += w;
+            }
+        }
+
+        double[] equity = RangeEquity.exact(new HandRange[] {hero, villain}, board, 0L);
+        assertEquals(weighted / weights, equity[0], 1e-9);
+        assertEquals(1.0, equity[0] + equity[1], 1e-9);
+    }
+
+    @Test
+    public void sampledShouldApproachExactAndReplayWithSeed() {
+        HandRange[] ranges = {HandRange.parse("QQ+, AKs"), HandRange.parse("JJ, AQo+"), HandRange.parse("T9s")};
+        long board = HandEngine.parseHand("Qs Jh 2c");
+
+        double[] exact = RangeEquity.exact(ranges, board, 0L);
+        double[] sampled = RangeEquity.sample(ranges, board, 0L, 100000, CardRandom.splittable(5L));
+        for (int i = 0; i < ranges.length; i++) {
+            assertEquals(exact[i], sampled[i], 0.01);
+        }
+        assertArrayEquals(sampled, RangeEquity.sample(ranges, board, 0L, 100000, CardRandom.splittable(5L)), 0);
+    }
+}
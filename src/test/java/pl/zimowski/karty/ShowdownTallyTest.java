@@ -0,0 +1,69 @@
+package pl.zimowski.karty;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+public class ShowdownTallyTest {
+
+    @Test
+    public void handStrengthShouldMatchPlayingEveryOpponent() {
+        for (String board : new String[] {"Qs Js 2c", "Qs Js 2c 7h", "Qs Js 2c 7h 7d", "As Ks Qs Js Ts"}) {
+            long b = HandEngine.parseHand(board);
+            ShowdownTally tally = new ShowdownTally(b);
+            for (long pocket : pockets(b)) {
+                assertEquals(board, HandEngine.getHS(pocket, b, 2), tally.getHS(pocket, 2), 0.0);
+                assertEquals(board, HandEngine.getHS(pocket, b, 4), tally.getHS(pocket, 4), 0.0);
+            }
+        }
+    }
+
+    @Test
+    public void countsShouldLeaveOutHoldingsOfPocketCards() {
+        long board = HandEngine.parseHand("Qs Js 2c 7h 7d");
+        ShowdownTally tally = new ShowdownTally(board);
+        assertEquals(990, tally.countOpponents());
+
+        // quads beat every holding
+        long pocket = HandEngine.parseHand("7s 7c");
+        assertEquals(990, tally.countBeaten(pocket));
+        assertEquals(0, tally.countTied(pocket));
+
+        pocket = HandEngine.parseHand("3h 4h");
+        int beaten = 0, tied = 0;
+        int mine = HandEngine.Evaluate(pocket | board);
+        for (long opponent : pockets(board | pocket)) {
+            int theirs = HandEngine.Evaluate(opponent | board);
+            beaten += mine > theirs ? 1 : 0;
+            tied += mine == theirs ? 1 : 0;
+        }
+        assertEquals(beaten, tally.countBeaten(pocket));
+        assertEquals(tied, tally.countTied(pocket));
+        assertEquals(HandEngine.Evaluate(pocket | board), tally.getValue(pocket));
+    }
+
+    @Test(expected = ArgumentOutOfRangeException.class)
+    public void boardShouldHaveThreeToFiveCards() {
+        new ShowdownTally(HandEngine.parseHand("Qs Js"));
+    }
+
+    @Test(expected = ArgumentOutOfRangeException.class)
+    public void pocketShouldNotBeOnBoard() {
+        new ShowdownTally(HandEngine.parseHand("Qs Js 2c")).getValue(HandEngine.parseHand("Qs 2d"));
+    }
+
+    private static long[] pockets(long dead) {
+        long[] pockets = new long[1326];
+        int n = 0;
+        for (int b = 1; b < 52; b++) {
+            for (int a = 0; a < b; a++) {
+                long pocket = 1L << a | 1L << b;
+                if ((pocket & dead) == 0)
+                    pockets[n++] = pocket;
+            }
+        }
+        return Arrays.copyOf(pockets, n);
+    }
+}
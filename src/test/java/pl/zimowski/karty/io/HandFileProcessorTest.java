@@ -0,0 +1,177 @@
+package pl.zimowski.karty.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import pl.zimowski.karty.CardParser;
+import pl.zimowski.karty.HandEngine;
+
+public class HandFileProcessorTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void readerShouldParseFieldsAndReportErrors() throws IOException {
+        Path file = write("As Ks|Qs Jh 2c|Td\r\n"
+                + "\n"
+                + "As Ks,Qd Qh\n"
+                + "As Ks|Qs Jh 2c|Td|\n"
+                + "As Ks|As Jh 2c\n"
+                + "As Kx\n"
+                + "As Ks||Qd\n"
+                + "Ac Ad");
+
+        HandBatch batch = new HandBatch(16);
+        try (MappedHandReader reader = new MappedHandReader(file, 7, 24)) {
+            assertTrue(reader.read(batch));
+            assertFalse(reader.read(new HandBatch(16)));
+        }
+
+        assertEquals(7, batch.size());
+
+        assertEquals(1, batch.getLine(0));
+        assertEquals(0, batch.getError(0));
+        assertEquals(1, batch.getPlayers(0));
+        assertEquals(HandEngine.parseHand("As Ks"), batch.getPocket(0, 0));
+        assertEquals(HandEngine.parseHand("Qs Jh 2c"), batch.getBoard(0));
+        assertEquals(HandEngine.parseHand("Td"), batch.getDead(0));
+
+        assertEquals(3, batch.getLine(1));
+        assertEquals(2, batch.getPlayers(1));
+        assertEquals(HandEngine.parseHand("Qd Qh"), batch.getPocket(1, 1));
+        assertEquals(0L, batch.getBoard(1));
+
+        assertEquals(HandBatch.BAD_FORMAT, batch.getError(2));
+        assertEquals(HandBatch.CONFLICT, batch.getError(3));
+        assertEquals(CardParser.BAD_SUIT, batch.getError(4));
+
+        assertEquals(0, batch.getError(5));
+        assertEquals(0L, batch.getBoard(5));
+        assertEquals(HandEngine.parseHand("Qd"), batch.getDead(5));
+
+        assertEquals(8, batch.getLine(6));
+        assertEquals(HandEngine.parseHand("Ac Ad"), batch.getPocket(6, 0));
+    }
+
+    @Test
+    public void smallWindowAndBufferShouldReadSameRecords() throws IOException {
+        List<String> lines = randomLines(5000, new Random(17));
+        Path file = write(String.join("\n", lines) + "\n");
+
+        List<Long> expected = readAll(new MappedHandReader(file));
+        List<Long> actual = readAll(new MappedHandReader(file, 100, 40));
+        assertEquals(lines.size() * 2, expected.size());
+        assertEquals(expected, actual);
+    }
+
+    @Test(expected = IOException.class)
+    public void lineLongerThanBufferShouldFail() throws IOException {
+        Path file = write("As\nAs Ks Qs Jh Th 9h\n");
+        try (MappedHandReader reader = new MappedHandReader(file, 1024, 8)) {
+            reader.read(new HandBatch(4));
+        }
+    }
+
+    @Test
+    public void evaluateShouldMatchStringEvaluation() throws IOException {
+        List<String> lines = randomLines(10000, new Random(18));
+        lines.add("As Ks|Qs Jh 2c 7d 9s 8c");
+        Path input = write(String.join("\n", lines));
+        Path output = folder.newFile().toPath();
+
+        assertEquals(lines.size(), HandFileProcessor.process(input, output, HandFileProcessor.EVALUATE, 3));
+
+        List<String> results = Files.readAllLines(output, StandardCharsets.US_ASCII);
+        assertEquals(lines.size(), results.size());
+        for (int i = 0; i < lines.size() - 1; i++) {
+            String[] fields = lines.get(i).split("\\|");
+            int value = HandEngine.Evaluate(fields[0] + " " + fields[1]);
+            String expected = (i + 1) + "\t" + value + "\t" + HandEngine.HandTypes.values()[HandEngine.computeHandType(value)];
+            assertEquals(expected, results.get(i));
+        }
+        assertEquals(lines.size() + "\terror\t" + HandBatch.CARD_COUNT, results.get(lines.size() - 1));
+    }
+
+    @Test
+    public void oddsShouldMatchHandOdds() throws IOException {
+        Path input = write("As Ks,Qd Qh|Qs Jh 2c\nAs Ks,Qd Qh,Tc 9c|Qs Jh 2c|8c\nAs Ks Qs\n");
+        Path output = folder.newFile().toPath();
+
+        HandFileProcessor.process(input, output, HandFileProcessor.ODDS, 1);
+
+        List<String> results = Files.readAllLines(output, StandardCharsets.US_ASCII);
+        assertEquals(3, results.size());
+        assertEquals(odds(1, new String[] {"As Ks", "Qd Qh"}, "Qs Jh 2c", ""), results.get(0));
+        assertEquals(odds(2, new String[] {"As Ks", "Qd Qh", "Tc 9c"}, "Qs Jh 2c", "8c"), results.get(1));
+        assertEquals("3\terror\t" + HandBatch.CARD_COUNT, results.get(2));
+    }
+
+    private Path write(String text) throws IOException {
+        Path file = folder.newFile().toPath();
+        Files.write(file, text.getBytes(StandardCharsets.US_ASCII));
+        return file;
+    }
+
+    /**
+     * Random seven card hands split into a pocket and a board.
+     */
+    private static List<String> randomLines(int count, Random rand) {
+        List<String> lines = new ArrayList<String>();
+        for (int i = 0; i < count; i++) {
+            long pocket = 0L, board = 0L;
+            while (HandEngine.BitCount(pocket) < 2) {
+                pocket |= HandEngine.lookupMaskByIndex(rand.nextInt(HandEngine.NUMBER_OF_CARDS));
+            }
+            while (HandEngine.BitCount(board) < 5) {
+                board |= HandEngine.lookupMaskByIndex(rand.nextInt(HandEngine.NUMBER_OF_CARDS)) & ~pocket;
+            }
+            lines.add(HandEngine.MaskToString(pocket) + "|" + HandEngine.MaskToString(board));
+        }
+        return lines;
+    }
+
+    /**
+     * Line, pocket and board of every record.
+     */
+    private static List<Long> readAll(MappedHandReader reader) throws IOException {
+        List<Long> records = new ArrayList<Long>();
+        HandBatch batch = new HandBatch(1000);
+        try {
+            while (reader.read(batch)) {
+                for (int i = 0; i < batch.size(); i++) {
+                    records.add(batch.getLine(i) << 52 | batch.getPocket(i, 0));
+                    records.add(batch.getBoard(i));
+                }
+            }
+        }
+        finally {
+            reader.close();
+        }
+        return records;
+    }
+
+    private static String odds(int line, String[] pockets, String board, String dead) {
+        long[] wins = new long[pockets.length], ties = new long[pockets.length], losses = new long[pockets.length];
+        long[] total = new long[1];
+        HandEngine.HandOdds(pockets, board, dead, wins, ties, losses, total);
+        StringBuilder expected = new StringBuilder().append(line).append('\t').append(total[0]);
+        for (int p = 0; p < pockets.length; p++) {
+            expected.append('\t').append(wins[p]).append(' ').append(ties[p]).append(' ').append(losses[p]);
+        }
+        return expected.toString();
+    }
+}
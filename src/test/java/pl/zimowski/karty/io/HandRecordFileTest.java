@@ -0,0 +1,171 @@
+package pl.zimowski.karty.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import pl.zimowski.karty.HandEngine;
+import pl.zimowski.karty.io.HandRecordFormat.Column;
+
+public class HandRecordFileTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static final int RECORDS = 2500;
+
+    @Test
+    public void masksShouldRoundTripThroughBlocks() throws IOException {
+        long[][] hands = hands(RECORDS, new Random(17));
+        HandRecordFormat format = new HandRecordFormat(HandRecordFormat.MASKS, HandRecordFormat.MASKS,
+                HandRecordFormat.MASKS, true, 1000);
+        HandRecordFile file = HandRecordFile.open(write(format, hands));
+
+        assertEquals(RECORDS, file.size());
+        assertEquals(3, file.getBlocks());
+        assertEquals(1000, file.getBlockSize(0));
+        assertEquals(500, file.getBlockSize(2));
+
+        int r = 0;
+        for (int b = 0; b < file.getBlocks(); b++) {
+            LongBuffer pockets = file.getMasks(b, Column.POCKET);
+            LongBuffer boards = file.getMasks(b, Column.BOARD);
+            LongBuffer deads = file.getMasks(b, Column.DEAD);
+            IntBuffer values = file.getValues(b);
+            assertEquals(file.getBlockSize(b), pockets.remaining());
+            while (pockets.hasRemaining()) {
+                assertEquals(hands[r][0], pockets.get());
+                assertEquals(hands[r][1], boards.get());
+                assertEquals(hands[r][2], deads.get());
+                assertEquals(HandEngine.Evaluate(hands[r][0] | hands[r][1]), values.get());
+                r++;
+            }
+        }
+        assertEquals(RECORDS, r);
+    }
+
+    @Test
+    public void ranksShouldRoundTripAndTakeLessSpace() throws IOException {
+        long[][] hands = hands(RECORDS, new Random(18));
+        for (long[] hand : hands)
+            hand[2] = 0L;
+        Path masks = write(new HandRecordFormat(HandRecordFormat.MASKS, HandRecordFormat.MASKS,
+                HandRecordFormat.ABSENT, false, 1000), hands);
+        Path ranks = write(new HandRecordFormat(2, 5, HandRecordFormat.ABSENT, false, 1000), hands);
+        assertEquals(Files.size(masks) - HandRecordFormat.HEADER, 2 * (Files.size(ranks) - HandRecordFormat.HEADER));
+
+        HandRecordFile file = HandRecordFile.open(ranks);
+        assertEquals(2, file.getFormat().getEncoding(Column.POCKET));
+        assertEquals(HandRecordFormat.ABSENT, file.getFormat().getEncoding(Column.DEAD));
+        assertEquals(file.getBlockSize(1), file.getRanks(1, Column.BOARD).remaining());
+
+        for (int r = 0; r < RECORDS; r += 7) {
+            assertEquals(hands[r][0], file.getMask(r, Column.POCKET));
+            assertEquals(hands[r][1], file.getMask(r, Column.BOARD));
+            assertEquals(0L, file.getMask(r, Column.DEAD));
+        }
+    }
+
+    @Test
+    public void writerShouldRejectRecordsNotMatchingFormat() throws IOException {
+        HandRecordFormat format = new HandRecordFormat(2, HandRecordFormat.MASKS, HandRecordFormat.ABSENT, false);
+        try (HandRecordWriter writer = new HandRecordWriter(folder.newFile().toPath(), format)) {
+            try {
+                writer.write(HandEngine.parseHand("As Ks Qs"), 0L, 0L);
+                fail();
+            } catch (IllegalArgumentException e) {
+                assertEquals("pocket", e.getMessage());
+            }
+            try {
+                writer.write(HandEngine.parseHand("As Ks"), 0L, HandEngine.parseHand("2c"));
+                fail();
+            } catch (IllegalArgumentException e) {
+                assertEquals("dead", e.getMessage());
+            }
+            assertEquals(0, writer.getRecords());
+        }
+    }
+
+    @Test
+    public void readerShouldRejectOtherFiles() throws IOException {
+        Path text = folder.newFile().toPath();
+        Files.write(text, "As Ks|Qs Jh 2c|Td\nAs Ks|Qs Jh 2c|Td\nAs Ks|Qs Jh 2c|Td\n"
+                .getBytes(StandardCharsets.US_ASCII));
+        expectFailure(text);
+
+        Path binary = write(new HandRecordFormat(HandRecordFormat.MASKS, HandRecordFormat.MASKS,
+                HandRecordFormat.MASKS, false), hands(10, new Random(19)));
+        byte[] bytes = Files.readAllBytes(binary);
+        Files.write(binary, Arrays.copyOf(bytes, bytes.length - 8));
+        expectFailure(binary);
+    }
+
+    @Test
+    public void convertShouldKeepSinglePocketRecords() throws IOException {
+        Path text = folder.newFile().toPath();
+        Files.write(text, ("As Ks|Qs Jh 2c|Td\n"
+                + "As Ks,Qd Qh|2c 3c 4c\n"
+                + "As Kx\n"
+                + "7h 7d|2c 3c 4c 5c 6c\n").getBytes(StandardCharsets.US_ASCII));
+        Path binary = folder.newFile().toPath();
+
+        assertEquals(2, HandRecordWriter.convert(text, binary, true));
+
+        HandRecordFile file = HandRecordFile.open(binary);
+        assertEquals(2, file.size());
+        assertEquals(HandEngine.parseHand("Td"), file.getMask(0, Column.DEAD));
+        assertEquals(HandEngine.parseHand("7h 7d"), file.getMask(1, Column.POCKET));
+        assertEquals(HandEngine.Evaluate(HandEngine.parseHand("7h 7d 2c 3c 4c 5c 6c")), file.getValue(1));
+    }
+
+    private void expectFailure(Path aFile) {
+        try {
+            HandRecordFile.open(aFile);
+            fail();
+        } catch (IOException e) {
+            // expected
+        }
+    }
+
+    private Path write(HandRecordFormat aFormat, long[][] aHands) throws IOException {
+        Path path = folder.newFile().toPath();
+        try (HandRecordWriter writer = new HandRecordWriter(path, aFormat)) {
+            for (long[] hand : aHands)
+                writer.write(hand[0], hand[1], hand[2]);
+        }
+        return path;
+    }
+
+    /**
+     * @return pocket of 2, board of 5 and dead of 0 to 2 cards
+     */
+    private static long[][] hands(int aCount, Random aRandom) {
+        long[][] hands = new long[aCount][3];
+        for (long[] hand : hands) {
+            long used = 0L;
+            int[] sizes = { 2, 5, aRandom.nextInt(3) };
+            for (int c = 0; c < 3; c++) {
+                while (HandEngine.BitCount(hand[c]) < sizes[c]) {
+                    long card = 1L << aRandom.nextInt(52);
+                    if ((used & card) == 0) {
+                        used |= card;
+                        hand[c] |= card;
+                    }
+                }
+            }
+        }
+        return hands;
+    }
+}
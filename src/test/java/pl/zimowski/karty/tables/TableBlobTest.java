@@ -0,0 +1,112 @@
+package pl.zimowski.karty.tables;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.jar.JarOutputStream;
+import java.util.zip.ZipEntry;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import pl.zimowski.karty.PocketHand169Enum;
+
+public class TableBlobTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void tablesShouldBeReadFromBuildBlob() {
+        assertTrue(TableBlob.isLoaded());
+
+        assertArrayEquals(TableGenerator.bits(), BitsTable.TABLE);
+        assertArrayEquals(TableGenerator.rankMasks(), RankMaskTable.TABLE);
+        assertArrayEquals(TableGenerator.twoCards(), TwoCardTable.TABLE);
+        assertArrayEquals(TableGenerator.pocket169(), Pocket169Table.TABLE);
+        assertArrayEquals(TableGenerator.pocketClasses(), PocketClassTable.TABLE);
+        assertArrayEquals(PlayerOddsTable.Precalculated.TABLE, PlayerOddsTable.TABLE);
+        assertArrayEquals(OpponentOddsTable.Precalculated.TABLE, OpponentOddsTable.TABLE);
+    }
+
+    @Test
+    public void rankMasksShouldDescribeRanks() {
+        int broadway = 0x1f00, wheel = 0x100f, trash = 0x0a53;
+
+        assertEquals(12, straightTop(broadway));
+        assertEquals(3, straightTop(wheel));
+        assertEquals(0, straightTop(trash));
+        assertEquals(0, RankMaskTable.TABLE[trash] & RankMaskTable.STRAIGHT_FLAG);
+
+        assertEquals(0xcba98, RankMaskTable.TABLE[broadway] & RankMaskTable.TOP_FIVE_MASK);
+        assertEquals(0xc3210, RankMaskTable.TABLE[wheel] & RankMaskTable.TOP_FIVE_MASK);
+        assertEquals(0xb9641, RankMaskTable.TABLE[trash] & RankMaskTable.TOP_FIVE_MASK);
+
+        for (int mask = 0; mask < 8192; mask++) {
+            int info = RankMaskTable.TABLE[mask];
+            int count = Integer.bitCount(mask);
+            assertEquals(count, (info >> RankMaskTable.COUNT_SHIFT) & 0xf);
+            assertEquals(count >= 5, (info & RankMaskTable.FIVE_FLAG) != 0);
+            assertEquals(mask == 0 ? 0 : 31 - Integer.numberOfLeadingZeros(mask),
+                    (info >> RankMaskTable.TOP_CARD_SHIFT) & 0xf);
+        }
+    }
+
+    @Test
+    public void pocketClassesShouldCoverEveryPocketOnce() {
+        assertEquals(PocketHand169Enum.None.ordinal(), Pocket169Table.TABLE.length);
+        Set<Long> pockets = new HashSet<>();
+        for (int c = 0; c < Pocket169Table.TABLE.length; c++) {
+            String name = PocketHand169Enum.values()[c].name();
+            int expected = name.endsWith("s") ? 4 : name.endsWith("o") ? 12 : 6;
+            assertEquals(name, expected, Pocket169Table.TABLE[c].length);
+            for (long pocket : Pocket169Table.TABLE[c])
+                assertTrue(pockets.add(pocket));
+        }
+        assertEquals(1326, pockets.size());
+    }
+
+    @Test
+    public void blobShouldBeReadFromJar() throws IOException {
+        Path file = folder.newFile("tables.bin").toPath();
+        TableGenerator.write(file);
+
+        Path jar = folder.newFile("tables.jar").toPath();
+        try (OutputStream out = Files.newOutputStream(jar); JarOutputStream zip = new JarOutputStream(out)) {
+            zip.putNextEntry(new ZipEntry("tables.bin"));
+            zip.write(Files.readAllBytes(file));
+            zip.closeEntry();
+        }
+
+        ByteBuffer plain = TableBlob.open(file.toUri().toURL());
+        ByteBuffer packed = TableBlob.open(new URL("jar:" + jar.toUri() + "!/tables.bin"));
+        assertNotNull(plain);
+        assertNotNull(packed);
+        assertEquals(plain, packed);
+    }
+
+    @Test
+    public void invalidBlobShouldBeIgnored() throws IOException {
+        Path file = folder.newFile("tables.bin").toPath();
+        Files.write(file, new byte[256]);
+
+        assertNull(TableBlob.open(file.toUri().toURL()));
+        assertNull(TableBlob.open(null));
+    }
+
+    private static int straightTop(int aMask) {
+        return (RankMaskTable.TABLE[aMask] >> RankMaskTable.STRAIGHT_SHIFT) & 0xf;
+    }
+}